@@ -54,6 +54,7 @@ import org.apache.zeppelin.interpreter.KerberosInterpreter;
 import org.apache.zeppelin.interpreter.ResultMessages;
 import org.apache.zeppelin.interpreter.thrift.InterpreterCompletion;
 import org.apache.zeppelin.jdbc.security.JDBCSecurityImpl;
+import org.apache.zeppelin.scheduler.JobQueue;
 import org.apache.zeppelin.scheduler.Scheduler;
 import org.apache.zeppelin.scheduler.SchedulerFactory;
 import org.apache.zeppelin.user.UserCredentials;
@@ -840,9 +841,13 @@ public class JDBCInterpreter extends KerberosInterpreter {
   @Override
   public Scheduler getScheduler() {
     String schedulerName = JDBCInterpreter.class.getName() + this.hashCode();
+    Scheduler scheduler = SchedulerFactory.singleton().getScheduler(schedulerName);
+    if (scheduler != null) {
+      return scheduler;
+    }
     return isConcurrentExecution() ?
             SchedulerFactory.singleton().createOrGetParallelScheduler(schedulerName,
-                getMaxConcurrentConnection())
+                getMaxConcurrentConnection(), JobQueue.create(getProperties()))
             : SchedulerFactory.singleton().createOrGetFIFOScheduler(schedulerName);
   }
 
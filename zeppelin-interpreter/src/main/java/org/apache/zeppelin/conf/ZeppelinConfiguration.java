@@ -472,6 +472,10 @@ public class ZeppelinConfiguration extends XMLConfiguration {
     return getRelativeDir(String.format("%s/notebook-authorization.json", getConfDir()));
   }
 
+  public String getNotebookSyncCheckpointPath() {
+    return getRelativeDir(String.format("%s/notebook-sync.json", getConfDir()));
+  }
+
   public Boolean credentialsPersist() {
     return getBoolean(ConfVars.ZEPPELIN_CREDENTIALS_PERSIST);
   }
@@ -550,6 +554,18 @@ public class ZeppelinConfiguration extends XMLConfiguration {
     return getString(ConfVars.ZEPPELIN_WEBSOCKET_MAX_TEXT_MESSAGE_SIZE);
   }
 
+  public boolean isWebsocketCompressionEnabled() {
+    return getBoolean(ConfVars.ZEPPELIN_WEBSOCKET_COMPRESSION);
+  }
+
+  public int getWebsocketOutboundQueueSize() {
+    return getInt(ConfVars.ZEPPELIN_WEBSOCKET_OUTBOUND_QUEUE_SIZE);
+  }
+
+  public String getWebsocketSlowConsumerPolicy() {
+    return getString(ConfVars.ZEPPELIN_WEBSOCKET_SLOW_CONSUMER_POLICY);
+  }
+
   public String getJettyName() {
     return getString(ConfVars.ZEPPELIN_SERVER_JETTY_NAME);
   }
@@ -685,8 +701,21 @@ public class ZeppelinConfiguration extends XMLConfiguration {
         + "livy,alluxio,file,psql,flink,python,ignite,lens,cassandra,geode,kylin,elasticsearch,"
         + "scalding,jdbc,hbase,bigquery,beam,pig,scio,groovy,neo4j"),
     ZEPPELIN_INTERPRETER_OUTPUT_LIMIT("zeppelin.interpreter.output.limit", 1024 * 100),
+    ZEPPELIN_INTERPRETER_RESOURCE_REQUEST_TIMEOUT(
+        "zeppelin.interpreter.resource.request.timeout", 0),
+    ZEPPELIN_INTERPRETER_RESOURCE_TRANSFER_CHUNK_SIZE(
+        "zeppelin.interpreter.resource.transfer.chunkSize", 4 * 1024 * 1024),
+    ZEPPELIN_INTERPRETER_RESOURCE_TRANSFER_SPILL_THRESHOLD(
+        "zeppelin.interpreter.resource.transfer.spillThreshold", 64L * 1024 * 1024),
+    ZEPPELIN_INTERPRETER_RESOURCE_TRANSFER_COMPRESS(
+        "zeppelin.interpreter.resource.transfer.compress", false),
     ZEPPELIN_ENCODING("zeppelin.encoding", "UTF-8"),
     ZEPPELIN_NOTEBOOK_DIR("zeppelin.notebook.dir", "notebook"),
+    ZEPPELIN_NOTEBOOK_LOAD_THREADS("zeppelin.notebook.load.threads", 8),
+    ZEPPELIN_NOTEBOOK_CACHE_MAX_BYTES("zeppelin.notebook.cache.maxBytes", 0L),
+    ZEPPELIN_NOTEBOOK_STORAGE_SPLIT_RESULTS("zeppelin.notebook.storage.splitResults", false),
+    ZEPPELIN_NOTEBOOK_PERSIST_MODE("zeppelin.notebook.persist.mode", "sync"),
+    ZEPPELIN_NOTEBOOK_SYNC_THREADS("zeppelin.notebook.sync.threads", 8),
     ZEPPELIN_RECOVERY_DIR("zeppelin.recovery.dir", "recovery"),
     ZEPPELIN_RECOVERY_STORAGE_CLASS("zeppelin.recovery.storage.class",
         "org.apache.zeppelin.interpreter.recovery.NullRecoveryStorage"),
@@ -703,6 +732,9 @@ public class ZeppelinConfiguration extends XMLConfiguration {
     ZEPPELIN_NOTEBOOK_S3_KMS_KEY_REGION("zeppelin.notebook.s3.kmsKeyRegion", null),
     ZEPPELIN_NOTEBOOK_S3_SSE("zeppelin.notebook.s3.sse", false),
     ZEPPELIN_NOTEBOOK_S3_SIGNEROVERRIDE("zeppelin.notebook.s3.signerOverride", null),
+    ZEPPELIN_NOTEBOOK_S3_CACHE_DIR("zeppelin.notebook.s3.cacheDir", "s3-cache"),
+    ZEPPELIN_NOTEBOOK_S3_MULTIPART_THRESHOLD("zeppelin.notebook.s3.multipartThreshold",
+        16L * 1024 * 1024),
     ZEPPELIN_NOTEBOOK_AZURE_CONNECTION_STRING("zeppelin.notebook.azure.connectionString", null),
     ZEPPELIN_NOTEBOOK_AZURE_SHARE("zeppelin.notebook.azure.share", "zeppelin"),
     ZEPPELIN_NOTEBOOK_AZURE_USER("zeppelin.notebook.azure.user", "user"),
@@ -712,9 +744,16 @@ public class ZeppelinConfiguration extends XMLConfiguration {
     ZEPPELIN_NOTEBOOK_MONGO_AUTOIMPORT("zeppelin.notebook.mongo.autoimport", false),
     ZEPPELIN_NOTEBOOK_STORAGE("zeppelin.notebook.storage",
         "org.apache.zeppelin.notebook.repo.GitNotebookRepo"),
+    // checkpoints of GitNotebookRepo requested within this many ms go into a single commit
+    ZEPPELIN_NOTEBOOK_GIT_CHECKPOINT_WINDOW("zeppelin.notebook.git.checkpointWindow", 50),
     ZEPPELIN_NOTEBOOK_ONE_WAY_SYNC("zeppelin.notebook.one.way.sync", false),
     // whether by default note is public or private
     ZEPPELIN_NOTEBOOK_PUBLIC("zeppelin.notebook.public", true),
+    // permission changes appended to notebook-authorization.json.journal before it's compacted
+    ZEPPELIN_NOTEBOOK_AUTHORIZATION_JOURNAL_SIZE("zeppelin.notebook.authorization.journalSize",
+        1000),
+    // notes of a flow, or paragraphs of a note with dependencies, run at the same time
+    ZEPPELIN_NOTEBOOK_DAG_PARALLELISM("zeppelin.notebook.dag.parallelism", 4),
     ZEPPELIN_INTERPRETER_REMOTE_RUNNER("zeppelin.interpreter.remoterunner",
         System.getProperty("os.name")
                 .startsWith("Windows") ? "bin/interpreter.cmd" : "bin/interpreter.sh"),
@@ -736,11 +775,17 @@ public class ZeppelinConfiguration extends XMLConfiguration {
     ZEPPELIN_CREDENTIALS_PERSIST("zeppelin.credentials.persist", true),
     ZEPPELIN_CREDENTIALS_ENCRYPT_KEY("zeppelin.credentials.encryptKey", null),
     ZEPPELIN_WEBSOCKET_MAX_TEXT_MESSAGE_SIZE("zeppelin.websocket.max.text.message.size", "1024000"),
+    ZEPPELIN_WEBSOCKET_COMPRESSION("zeppelin.websocket.compression", true),
+    ZEPPELIN_WEBSOCKET_OUTBOUND_QUEUE_SIZE("zeppelin.websocket.outbound.queue.size", 1000),
+    ZEPPELIN_WEBSOCKET_SLOW_CONSUMER_POLICY("zeppelin.websocket.slow.consumer.policy",
+        "disconnect"),
     ZEPPELIN_USE_JDBC_ALIAS("zeppelin.use.jdbc.alias", true),
     ZEPPELIN_WEB_SECURITY_CLASSNAME("zeppelin.web.security.classname",
         "org.apache.zeppelin.web.DefaultWebSecurity"),
     ZEPPELIN_SEARCH_SERVICE_CLASSNAME("zeppelin.search.service.classname",
         "org.apache.zeppelin.search.LuceneSearch"),
+    ZEPPELIN_SEARCH_USE_DISK("zeppelin.search.use.disk", true),
+    ZEPPELIN_SEARCH_INDEX_PATH("zeppelin.search.index.path", "search-index"),
     ZEPPELIN_SERVER_DEFAULT_DIR_ALLOWED("zeppelin.server.default.dir.allowed", false),
     ZEPPELIN_SERVER_XFRAME_OPTIONS("zeppelin.server.xframe.options", "SAMEORIGIN"),
     ZEPPELIN_SERVER_JETTY_NAME("zeppelin.server.jetty.name", null),
@@ -183,85 +183,95 @@ public class InterpreterOutput extends OutputStream {
 
   @Override
   public void write(int b) throws IOException {
-    InterpreterResultMessageOutput out;
     if (truncated) {
       return;
     }
 
     synchronized (resultMessageOutputs) {
-      currentOut = getCurrentOutput();
+      writeByte(b);
+    }
+  }
 
-      if (++size > limit) {
-        if (b == NEW_LINE_CHAR && currentOut != null) {
-          InterpreterResult.Type type = currentOut.getType();
-          if (type == InterpreterResult.Type.TEXT || type == InterpreterResult.Type.TABLE) {
-            setType(InterpreterResult.Type.HTML);
-            getCurrentOutput().write(ResultMessages.getExceedsLimitSizeMessage(limit,
-                "ZEPPELIN_INTERPRETER_OUTPUT_LIMIT").getData().getBytes());
-            truncated = true;
-            return;
-          }
-        }
-      }
+  /**
+   * Runs a single byte through the display system state machine.
+   * Caller must hold the resultMessageOutputs lock.
+   */
+  private void writeByte(int b) throws IOException {
+    InterpreterResultMessageOutput out;
+    if (truncated) {
+      return;
+    }
 
-      if (startOfTheNewLine) {
-        if (b == '%') {
-          startOfTheNewLine = false;
-          firstCharIsPercentSign = true;
-          buffer.write(b);
-          previousChar = b;
+    if (++size > limit) {
+      if (b == NEW_LINE_CHAR && currentOut != null) {
+        InterpreterResult.Type type = currentOut.getType();
+        if (type == InterpreterResult.Type.TEXT || type == InterpreterResult.Type.TABLE) {
+          setType(InterpreterResult.Type.HTML);
+          getCurrentOutput().write(ResultMessages.getExceedsLimitSizeMessage(limit,
+              "ZEPPELIN_INTERPRETER_OUTPUT_LIMIT").getData().getBytes());
+          truncated = true;
           return;
-        } else if (b != NEW_LINE_CHAR) {
-          startOfTheNewLine = false;
         }
       }
+    }
 
-      if (b == NEW_LINE_CHAR) {
-        if (currentOut != null && currentOut.getType() == InterpreterResult.Type.TABLE) {
-          if (previousChar == NEW_LINE_CHAR) {
-            startOfTheNewLine = true;
-            return;
-          }
-        } else {
+    if (startOfTheNewLine) {
+      if (b == '%') {
+        startOfTheNewLine = false;
+        firstCharIsPercentSign = true;
+        buffer.write(b);
+        previousChar = b;
+        return;
+      } else if (b != NEW_LINE_CHAR) {
+        startOfTheNewLine = false;
+      }
+    }
+
+    if (b == NEW_LINE_CHAR) {
+      if (currentOut != null && currentOut.getType() == InterpreterResult.Type.TABLE) {
+        if (previousChar == NEW_LINE_CHAR) {
           startOfTheNewLine = true;
+          return;
         }
+      } else {
+        startOfTheNewLine = true;
       }
+    }
 
-      boolean flushBuffer = false;
-      if (firstCharIsPercentSign) {
-        if (b == ' ' || b == NEW_LINE_CHAR || b == '\t') {
-          firstCharIsPercentSign = false;
-          String displaySystem = buffer.toString();
-          for (InterpreterResult.Type type : InterpreterResult.Type.values()) {
-            if (displaySystem.equals('%' + type.name().toLowerCase())) {
-              // new type detected
-              setType(type);
-              previousChar = b;
-              return;
-            }
+    boolean flushBuffer = false;
+    if (firstCharIsPercentSign) {
+      if (b == ' ' || b == NEW_LINE_CHAR || b == '\t') {
+        firstCharIsPercentSign = false;
+        String displaySystem = buffer.toString();
+        for (InterpreterResult.Type type : InterpreterResult.Type.values()) {
+          if (displaySystem.equals('%' + type.name().toLowerCase())) {
+            // new type detected
+            setType(type);
+            previousChar = b;
+            return;
           }
-          // not a defined display system, probably a spell type.
-          logger.info("Found unknown displaySystem:[" + displaySystem + "] - We will consider it is a SPELL and will return SPELL as result type.");
-          setType(InterpreterResult.Type.SPELL);
-          buffer.write(displaySystem.getBytes());
-          flushBuffer = true;
-          previousChar = b;
-        } else {
-          buffer.write(b);
-          previousChar = b;
-          return;
         }
+        // not a defined display system, probably a spell type.
+        logger.info("Found unknown displaySystem:[" + displaySystem + "] - We will consider it is a SPELL and will return SPELL as result type.");
+        setType(InterpreterResult.Type.SPELL);
+        buffer.write(displaySystem.getBytes());
+        flushBuffer = true;
+        previousChar = b;
+      } else {
+        buffer.write(b);
+        previousChar = b;
+        return;
       }
+    }
 
-      out = getCurrentOutputForWriting();
+    out = getCurrentOutputForWriting();
 
-      if (flushBuffer) {
-        out.write(buffer.toByteArray());
-        buffer.reset();
-      }
-      out.write(b);
-      previousChar = b;
+    if (flushBuffer) {
+      out.write(buffer.toByteArray());
+      buffer.reset();
     }
+    out.write(b);
+    previousChar = b;
   }
 
   private InterpreterResultMessageOutput getCurrentOutputForWriting() throws IOException {
@@ -281,10 +291,62 @@ public class InterpreterOutput extends OutputStream {
     write(b, 0, b.length);
   }
 
+  /**
+   * Bulk write. Bytes that can not change the display system state (anything except
+   * the first byte of a line, a '%' display system marker, and newlines that may trigger
+   * truncation or TABLE blank line handling) are copied to the current output in runs,
+   * the rest goes through the same per-byte state machine as write(int).
+   * The resultMessageOutputs lock is taken once per call.
+   */
   @Override
   public void write(byte [] b, int off, int len) throws IOException {
-    for (int i = off; i < len; i++) {
-      write(b[i]);
+    if (truncated) {
+      return;
+    }
+
+    synchronized (resultMessageOutputs) {
+      int end = off + len;
+      int i = off;
+      while (i < end && !truncated) {
+        if (currentOut == null || firstCharIsPercentSign
+            || (startOfTheNewLine && (b[i] == '%' || b[i] == NEW_LINE_CHAR))) {
+          writeByte(b[i++]);
+          continue;
+        }
+
+        // collect run of plain bytes, including a terminating newline if it is plain as well
+        int runEnd = i;
+        while (runEnd < end && b[runEnd] != NEW_LINE_CHAR) {
+          runEnd++;
+        }
+        boolean endsWithNewLine = false;
+        if (runEnd < end) {
+          InterpreterResult.Type type = currentOut.getType();
+          int previous = runEnd > i ? b[runEnd - 1] : previousChar;
+          boolean exceedsLimit = size + (runEnd - i) + 1 > limit &&
+              (type == InterpreterResult.Type.TEXT || type == InterpreterResult.Type.TABLE);
+          boolean tableBlankLine = type == InterpreterResult.Type.TABLE &&
+              previous == NEW_LINE_CHAR;
+          if (!exceedsLimit && !tableBlankLine) {
+            runEnd++;
+            endsWithNewLine = true;
+          }
+        }
+
+        int runLength = runEnd - i;
+        if (runLength == 0) {
+          writeByte(b[i++]);
+          continue;
+        }
+
+        size += runLength;
+        // a single newline does not start a new line for display system detection in TABLE
+        startOfTheNewLine = endsWithNewLine &&
+            currentOut.getType() != InterpreterResult.Type.TABLE;
+        currentOut.write(b, i, runLength);
+        previousChar = b[runEnd - 1];
+        i = runEnd;
+      }
     }
   }
 
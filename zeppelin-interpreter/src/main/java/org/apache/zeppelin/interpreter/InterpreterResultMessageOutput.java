@@ -87,19 +87,23 @@ public class InterpreterResultMessageOutput extends OutputStream {
     synchronized (outList) {
       buffer.write(b);
       if (b == NEW_LINE_CHAR) {
-        // first time use of this outputstream.
-        if (firstWrite) {
-          // clear the output on gui
-          if (flushListener != null) {
-            flushListener.onUpdate(this);
-          }
-          firstWrite = false;
-        }
+        onNewLine();
+      }
+    }
+  }
 
-        if (isAppendSupported()) {
-          flush(true);
-        }
+  private void onNewLine() throws IOException {
+    // first time use of this outputstream.
+    if (firstWrite) {
+      // clear the output on gui
+      if (flushListener != null) {
+        flushListener.onUpdate(this);
       }
+      firstWrite = false;
+    }
+
+    if (isAppendSupported()) {
+      flush(true);
     }
   }
 
@@ -111,8 +115,17 @@ public class InterpreterResultMessageOutput extends OutputStream {
   @Override
   public void write(byte [] b, int off, int len) throws IOException {
     synchronized (outList) {
-      for (int i = off; i < len; i++) {
-        write(b[i]);
+      int end = off + len;
+      int lineStart = off;
+      for (int i = off; i < end; i++) {
+        if (b[i] == NEW_LINE_CHAR) {
+          buffer.write(b, lineStart, i + 1 - lineStart);
+          lineStart = i + 1;
+          onNewLine();
+        }
+      }
+      if (lineStart < end) {
+        buffer.write(b, lineStart, end - lineStart);
       }
     }
   }
@@ -14,41 +14,33 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-
 package org.apache.zeppelin.interpreter.remote;
 
+import com.google.gson.Gson;
+import org.apache.zeppelin.common.JsonSerializable;
+import org.apache.zeppelin.resource.ResourceId;
+
 /**
- * This element stores the buffered
- * append-data of paragraph's output.
+ * message payload to get value of resource in the resourcepool.
+ * ZeppelinServer sends the same message back with the value, so requestId
+ * tells which pending request the value belongs to.
  */
-public class AppendOutputBuffer {
+public class GetResourceEventMessage implements JsonSerializable {
+  private static final Gson gson = new Gson();
 
-  private String noteId;
-  private String paragraphId;
-  private int index;
-  private String data;
-
-  public AppendOutputBuffer(String noteId, String paragraphId, int index, String data) {
-    this.noteId = noteId;
-    this.paragraphId = paragraphId;
-    this.index = index;
-    this.data = data;
-  }
+  public final ResourceId resourceId;
+  public final String requestId;
 
-  public String getNoteId() {
-    return noteId;
+  public GetResourceEventMessage(ResourceId resourceId, String requestId) {
+    this.resourceId = resourceId;
+    this.requestId = requestId;
   }
 
-  public String getParagraphId() {
-    return paragraphId;
+  public String toJson() {
+    return gson.toJson(this);
   }
 
-  public int getIndex() {
-    return index;
+  public static GetResourceEventMessage fromJson(String json) {
+    return gson.fromJson(json, GetResourceEventMessage.class);
   }
-
-  public String getData() {
-    return data;
-  }
-
 }
@@ -31,6 +31,8 @@ public class InvokeResourceMethodEventMessage implements JsonSerializable {
   public final String[] paramClassnames;
   public final Object[] params;
   public final String returnResourceName;
+  // identifies the pending request in RemoteInterpreterEventClient. not part of hashCode()
+  public String requestId;
 
   public InvokeResourceMethodEventMessage(
       ResourceId resourceId,
@@ -67,6 +69,43 @@ public class InvokeResourceMethodEventMessage implements JsonSerializable {
     return types;
   }
 
+  /**
+   * Parameter values converted to the parameter types.
+   * Numbers passed through json are deserialized as Double, whatever their type was.
+   */
+  public Object[] getParams() throws ClassNotFoundException {
+    Class[] types = getParamTypes();
+    if (params == null || types == null) {
+      return params;
+    }
+
+    Object[] converted = params.clone();
+    for (int i = 0; i < converted.length && i < types.length; i++) {
+      if (converted[i] instanceof Number) {
+        converted[i] = convertNumber((Number) converted[i], types[i]);
+      }
+    }
+    return converted;
+  }
+
+  private static Object convertNumber(Number number, Class type) {
+    if (type == int.class || type == Integer.class) {
+      return number.intValue();
+    } else if (type == long.class || type == Long.class) {
+      return number.longValue();
+    } else if (type == short.class || type == Short.class) {
+      return number.shortValue();
+    } else if (type == byte.class || type == Byte.class) {
+      return number.byteValue();
+    } else if (type == float.class || type == Float.class) {
+      return number.floatValue();
+    } else if (type == double.class || type == Double.class) {
+      return number.doubleValue();
+    } else {
+      return number;
+    }
+  }
+
   public boolean shouldPutResultIntoResourcePool() {
     return (returnResourceName != null);
   }
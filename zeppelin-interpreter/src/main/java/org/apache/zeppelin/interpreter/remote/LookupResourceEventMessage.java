@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.interpreter.remote;
+
+import com.google.gson.Gson;
+import org.apache.zeppelin.common.JsonSerializable;
+
+/**
+ * message payload to find resources in the resource pools of other interpreter processes.
+ * ZeppelinServer answers from its resource directory with resourcePoolResponseGetAll,
+ * so requestId tells which pending request the resources belong to.
+ */
+public class LookupResourceEventMessage implements JsonSerializable {
+  private static final Gson gson = new Gson();
+
+  public final String noteId;
+  public final String paragraphId;
+  public final String name;
+  // find resources of the name in any note and paragraph
+  public final boolean nameOnly;
+  public final String requestId;
+
+  public LookupResourceEventMessage(String noteId, String paragraphId, String name,
+                                    boolean nameOnly, String requestId) {
+    this.noteId = noteId;
+    this.paragraphId = paragraphId;
+    this.name = name;
+    this.nameOnly = nameOnly;
+    this.requestId = requestId;
+  }
+
+  public String toJson() {
+    return gson.toJson(this);
+  }
+
+  public static LookupResourceEventMessage fromJson(String json) {
+    return gson.fromJson(json, LookupResourceEventMessage.class);
+  }
+}
@@ -30,11 +30,18 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Thread connection ZeppelinServer -> RemoteInterpreterServer does not provide
@@ -48,9 +55,13 @@ import java.util.Map;
 public class RemoteInterpreterEventClient implements ResourcePoolConnector {
   private final Logger logger = LoggerFactory.getLogger(RemoteInterpreterEventClient.class);
   private final List<RemoteInterpreterEvent> eventQueue = new LinkedList<>();
-  private final List<ResourceSet> getAllResourceResponse = new LinkedList<>();
-  private final Map<ResourceId, Object> getResourceResponse = new HashMap<>();
-  private final Map<InvokeResourceMethodEventMessage, Object> getInvokeResponse = new HashMap<>();
+  // resource requests waiting for response from ZeppelinServer, by requestId
+  private final ConcurrentMap<String, PendingResponse> pendingResponses =
+      new ConcurrentHashMap<>();
+  private final AtomicLong requestIdSequence = new AtomicLong();
+  // serialized resources being received chunk by chunk, by requestId
+  private final ConcurrentMap<String, SpillBuffer> resourceTransfers = new ConcurrentHashMap<>();
+  private volatile long resourceRequestTimeoutMs = 0;
   private final Gson gson = new Gson();
 
   /**
@@ -110,58 +121,73 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector {
   }
 
 
+  /**
+   * Set how long readResource(), invokeMethod() and getAllResources() wait for the response.
+   * @param timeoutMs timeout in milliseconds. 0 or less waits until the response arrives
+   */
+  public void setResourceRequestTimeout(long timeoutMs) {
+    this.resourceRequestTimeoutMs = timeoutMs;
+  }
+
   /**
    * Get all resources except for specific resourcePool
    * @return
    */
   @Override
   public ResourceSet getAllResources() {
-    // request
-    sendEvent(new RemoteInterpreterEvent(RemoteInterpreterEventType.RESOURCE_POOL_GET_ALL, null));
-
-    synchronized (getAllResourceResponse) {
-      while (getAllResourceResponse.isEmpty()) {
-        try {
-          getAllResourceResponse.wait();
-        } catch (InterruptedException e) {
-          logger.warn(e.getMessage(), e);
-        }
-      }
-      ResourceSet resourceSet = getAllResourceResponse.remove(0);
-      return resourceSet;
+    String requestId = nextRequestId();
+    ResourceSet resourceSet = (ResourceSet) request(
+        new RemoteInterpreterEvent(RemoteInterpreterEventType.RESOURCE_POOL_GET_ALL, requestId),
+        requestId);
+    if (resourceSet == null) {
+      return new ResourceSet();
     }
+    return resourceSet;
   }
 
   @Override
-  public Object readResource(ResourceId resourceId) {
-    logger.debug("Request Read Resource {} from ZeppelinServer", resourceId.getName());
-    synchronized (getResourceResponse) {
-      // wait for previous response consumed
-      while (getResourceResponse.containsKey(resourceId)) {
-        try {
-          getResourceResponse.wait();
-        } catch (InterruptedException e) {
-          logger.warn(e.getMessage(), e);
-        }
-      }
+  public ResourceSet findResources(String name) {
+    return lookup(null, null, name, true);
+  }
 
-      // send request
-      sendEvent(new RemoteInterpreterEvent(
-          RemoteInterpreterEventType.RESOURCE_GET,
-          resourceId.toJson()));
+  @Override
+  public ResourceSet findResources(String noteId, String paragraphId, String name) {
+    return lookup(noteId, paragraphId, name, false);
+  }
 
-      // wait for response
-      while (!getResourceResponse.containsKey(resourceId)) {
-        try {
-          getResourceResponse.wait();
-        } catch (InterruptedException e) {
-          logger.warn(e.getMessage(), e);
-        }
-      }
-      Object o = getResourceResponse.remove(resourceId);
-      getResourceResponse.notifyAll();
-      return o;
+  private ResourceSet lookup(String noteId, String paragraphId, String name, boolean nameOnly) {
+    String requestId = nextRequestId();
+    LookupResourceEventMessage lookup =
+        new LookupResourceEventMessage(noteId, paragraphId, name, nameOnly, requestId);
+    ResourceSet resourceSet = (ResourceSet) request(
+        new RemoteInterpreterEvent(RemoteInterpreterEventType.RESOURCE_LOOKUP, lookup.toJson()),
+        requestId);
+    if (resourceSet == null) {
+      return new ResourceSet();
     }
+    return resourceSet;
+  }
+
+  @Override
+  public void onResourcePut(Resource resource) {
+    sendEvent(new RemoteInterpreterEvent(
+        RemoteInterpreterEventType.RESOURCE_PUT, resource.toJson()));
+  }
+
+  @Override
+  public void onResourceRemove(ResourceId id) {
+    sendEvent(new RemoteInterpreterEvent(
+        RemoteInterpreterEventType.RESOURCE_REMOVE, id.toJson()));
+  }
+
+  @Override
+  public Object readResource(ResourceId resourceId) {
+    logger.debug("Request Read Resource {} from ZeppelinServer", resourceId.getName());
+    String requestId = nextRequestId();
+    GetResourceEventMessage getResource = new GetResourceEventMessage(resourceId, requestId);
+    return request(
+        new RemoteInterpreterEvent(RemoteInterpreterEventType.RESOURCE_GET, getResource.toJson()),
+        requestId);
   }
 
   /**
@@ -186,32 +212,12 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector {
         paramTypes,
         params,
         null);
+    invokeMethod.requestId = nextRequestId();
 
-    synchronized (getInvokeResponse) {
-      // wait for previous response consumed
-      while (getInvokeResponse.containsKey(invokeMethod)) {
-        try {
-          getInvokeResponse.wait();
-        } catch (InterruptedException e) {
-          logger.warn(e.getMessage(), e);
-        }
-      }
-      // send request
-      sendEvent(new RemoteInterpreterEvent(
-          RemoteInterpreterEventType.RESOURCE_INVOKE_METHOD,
-          invokeMethod.toJson()));
-      // wait for response
-      while (!getInvokeResponse.containsKey(invokeMethod)) {
-        try {
-          getInvokeResponse.wait();
-        } catch (InterruptedException e) {
-          logger.warn(e.getMessage(), e);
-        }
-      }
-      Object o = getInvokeResponse.remove(invokeMethod);
-      getInvokeResponse.notifyAll();
-      return o;
-    }
+    return request(
+        new RemoteInterpreterEvent(
+            RemoteInterpreterEventType.RESOURCE_INVOKE_METHOD, invokeMethod.toJson()),
+        invokeMethod.requestId);
   }
 
   /**
@@ -238,38 +244,62 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector {
         paramTypes,
         params,
         returnResourceName);
+    invokeMethod.requestId = nextRequestId();
 
-    synchronized (getInvokeResponse) {
-      // wait for previous response consumed
-      while (getInvokeResponse.containsKey(invokeMethod)) {
-        try {
-          getInvokeResponse.wait();
-        } catch (InterruptedException e) {
-          logger.warn(e.getMessage(), e);
-        }
+    return (Resource) request(
+        new RemoteInterpreterEvent(
+            RemoteInterpreterEventType.RESOURCE_INVOKE_METHOD, invokeMethod.toJson()),
+        invokeMethod.requestId);
+  }
+
+  private String nextRequestId() {
+    return Long.toString(requestIdSequence.incrementAndGet());
+  }
+
+  /**
+   * Send request event and wait for the response with the same requestId.
+   * Any number of requests can be pending at the same time and responses may
+   * arrive in any order.
+   * @return response, or null when the request times out or the caller is interrupted
+   */
+  private Object request(RemoteInterpreterEvent event, String requestId) {
+    PendingResponse response = new PendingResponse();
+    pendingResponses.put(requestId, response);
+    try {
+      sendEvent(event);
+      if (response.await(resourceRequestTimeoutMs)) {
+        return response.value;
       }
-      // send request
-      sendEvent(new RemoteInterpreterEvent(
-          RemoteInterpreterEventType.RESOURCE_INVOKE_METHOD,
-          invokeMethod.toJson()));
-      // wait for response
-      while (!getInvokeResponse.containsKey(invokeMethod)) {
-        try {
-          getInvokeResponse.wait();
-        } catch (InterruptedException e) {
-          logger.warn(e.getMessage(), e);
-        }
+      logger.warn("No response for {} request {} in {} ms",
+          event.getType(), requestId, resourceRequestTimeoutMs);
+    } catch (InterruptedException e) {
+      logger.warn("Interrupted while waiting for {} request {}", event.getType(), requestId);
+      Thread.currentThread().interrupt();
+    } finally {
+      pendingResponses.remove(requestId);
+      SpillBuffer transfer = resourceTransfers.remove(requestId);
+      if (transfer != null) {
+        transfer.release();
       }
-      Resource o = (Resource) getInvokeResponse.remove(invokeMethod);
-      getInvokeResponse.notifyAll();
-      return o;
     }
+    return null;
+  }
+
+  private void completeRequest(String requestId, Object value) {
+    PendingResponse response = (requestId == null) ? null : pendingResponses.get(requestId);
+    if (response == null) {
+      logger.warn("Discard response of unknown or timed out request {}", requestId);
+      return;
+    }
+    response.complete(value);
   }
 
   /**
    * Supposed to call from RemoteInterpreterEventPoller
+   * @param resources json serialized resources
+   * @param requestId id of the RESOURCE_POOL_GET_ALL request
    */
-  public void putResponseGetAllResources(List<String> resources) {
+  public void putResponseGetAllResources(List<String> resources, String requestId) {
     logger.debug("ResourceSet from ZeppelinServer");
     ResourceSet resourceSet = new ResourceSet();
 
@@ -279,21 +309,18 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector {
       resourceSet.add(resource);
     }
 
-    synchronized (getAllResourceResponse) {
-      getAllResourceResponse.add(resourceSet);
-      getAllResourceResponse.notify();
-    }
+    completeRequest(requestId, resourceSet);
   }
 
   /**
    * Supposed to call from RemoteInterpreterEventPoller
-   * @param resourceId json serialized ResourceId
+   * @param getResourceMessage json serialized GetResourceEventMessage
    * @param object java serialized of the object
    */
-  public void putResponseGetResource(String resourceId, ByteBuffer object) {
-    ResourceId rid = ResourceId.fromJson(resourceId);
+  public void putResponseGetResource(String getResourceMessage, ByteBuffer object) {
+    GetResourceEventMessage message = GetResourceEventMessage.fromJson(getResourceMessage);
 
-    logger.debug("Response resource {} from RemoteInterpreter", rid.getName());
+    logger.debug("Response resource {} from RemoteInterpreter", message.resourceId.getName());
 
     Object o = null;
     try {
@@ -304,10 +331,57 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector {
       logger.error(e.getMessage(), e);
     }
 
-    synchronized (getResourceResponse) {
-      getResourceResponse.put(rid, o);
-      getResourceResponse.notifyAll();
+    completeRequest(message.requestId, o);
+  }
+
+
+  /**
+   * Supposed to call from RemoteInterpreterEventPoller
+   * @param getResourceMessage json serialized GetResourceEventMessage
+   * @param transferJson json serialized ResourceTransfer
+   * @param chunk next chunk of the serialized object
+   * @param last true for the last chunk
+   */
+  public void putResponseGetResourceChunk(
+      String getResourceMessage, String transferJson, ByteBuffer chunk, boolean last) {
+    GetResourceEventMessage message = GetResourceEventMessage.fromJson(getResourceMessage);
+    String requestId = message.requestId;
+    if (!pendingResponses.containsKey(requestId)) {
+      logger.warn("Discard resource chunk of unknown or timed out request {}", requestId);
+      return;
+    }
+
+    ResourceTransfer transfer = ResourceTransfer.fromJson(transferJson);
+    SpillBuffer buffer = resourceTransfers.get(requestId);
+    if (buffer == null) {
+      buffer = new SpillBuffer(transfer.spillThreshold);
+      resourceTransfers.put(requestId, buffer);
     }
+
+    Object o = null;
+    try {
+      buffer.write(chunk);
+      if (!last) {
+        return;
+      }
+      logger.debug("Response resource {} of {} bytes from RemoteInterpreter",
+          message.resourceId.getName(), buffer.length());
+      buffer.close();
+      InputStream in = buffer.getInputStream();
+      try {
+        o = transfer.deserialize(in);
+      } finally {
+        in.close();
+      }
+    } catch (IOException e) {
+      logger.error(e.getMessage(), e);
+    } catch (ClassNotFoundException e) {
+      logger.error(e.getMessage(), e);
+    }
+
+    resourceTransfers.remove(requestId);
+    buffer.release();
+    completeRequest(requestId, o);
   }
 
 
@@ -327,10 +401,7 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector {
       logger.error(e.getMessage(), e);
     }
 
-    synchronized (getInvokeResponse) {
-      getInvokeResponse.put(invokeMessage, o);
-      getInvokeResponse.notifyAll();
-    }
+    completeRequest(invokeMessage.requestId, o);
   }
 
   /**
@@ -340,10 +411,7 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector {
    */
   public void putResponseInvokeMethod(
       InvokeResourceMethodEventMessage invokeMessage, Resource resource) {
-    synchronized (getInvokeResponse) {
-      getInvokeResponse.put(invokeMessage, resource);
-      getInvokeResponse.notifyAll();
-    }
+    completeRequest(invokeMessage.requestId, resource);
   }
 
   /**
@@ -369,6 +437,36 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector {
     }
   }
 
+  /**
+   * Supposed to call from RemoteInterpreterEventPoller
+   * @param maxBatch maximum number of events to return
+   * @param maxWaitMs how long to wait for the first event when the queue is empty
+   * @return available events in the order they were sent. Empty list when nothing arrives
+   *         within maxWaitMs
+   */
+  public List<RemoteInterpreterEvent> pollEvents(int maxBatch, long maxWaitMs) {
+    synchronized (eventQueue) {
+      if (eventQueue.isEmpty() && maxWaitMs > 0) {
+        try {
+          eventQueue.wait(maxWaitMs);
+        } catch (InterruptedException e) {
+        }
+      }
+
+      int size = Math.min(eventQueue.size(), Math.max(maxBatch, 1));
+      List<RemoteInterpreterEvent> events = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        events.add(eventQueue.remove(0));
+      }
+      if (!events.isEmpty()) {
+        logger.debug("Send {} events", events.size());
+        // wake up waitForEventQueueBecomesEmpty()
+        eventQueue.notifyAll();
+      }
+      return events;
+    }
+  }
+
   public void onInterpreterOutputAppend(
       String noteId, String paragraphId, int outputIndex, String output) {
     Map<String, String> appendOutput = new HashMap<>();
@@ -460,6 +558,22 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector {
         gson.toJson(appendOutput)));
   }
 
+  /**
+   * Push status or progress of a job, so the server doesn't have to poll them
+   * @param status null when only progress changed
+   * @param progress -1 when only status changed
+   */
+  public void onJobStatusUpdate(String sessionId, String jobId, String status, int progress) {
+    Map<String, Object> jobStatus = new HashMap<>();
+    jobStatus.put("sessionId", sessionId);
+    jobStatus.put("jobId", jobId);
+    jobStatus.put("status", status);
+    jobStatus.put("progress", progress);
+    sendEvent(new RemoteInterpreterEvent(
+        RemoteInterpreterEventType.JOB_STATUS_UPDATE,
+        gson.toJson(jobStatus)));
+  }
+
   public void onMetaInfosReceived(Map<String, String> infos) {
     sendEvent(new RemoteInterpreterEvent(RemoteInterpreterEventType.META_INFOS,
         gson.toJson(infos)));
@@ -486,4 +600,25 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector {
         eventQueue.clear();
     }
   }
+
+  /**
+   * Response slot of a single resource request
+   */
+  private static class PendingResponse {
+    private final CountDownLatch received = new CountDownLatch(1);
+    private volatile Object value;
+
+    void complete(Object value) {
+      this.value = value;
+      received.countDown();
+    }
+
+    boolean await(long timeoutMs) throws InterruptedException {
+      if (timeoutMs <= 0) {
+        received.await();
+        return true;
+      }
+      return received.await(timeoutMs, TimeUnit.MILLISECONDS);
+    }
+  }
 }
@@ -63,8 +63,11 @@ import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterService;
 import org.apache.zeppelin.interpreter.thrift.ZeppelinServerResourceParagraphRunner;
 import org.apache.zeppelin.resource.DistributedResourcePool;
 import org.apache.zeppelin.resource.Resource;
+import org.apache.zeppelin.resource.ResourceIterator;
 import org.apache.zeppelin.resource.ResourcePool;
 import org.apache.zeppelin.resource.ResourceSet;
+import org.apache.zeppelin.resource.ResourceTransfer;
+import org.apache.zeppelin.resource.ResourceTransferManager;
 import org.apache.zeppelin.resource.WellKnownResourceName;
 import org.apache.zeppelin.scheduler.Job;
 import org.apache.zeppelin.scheduler.Job.Status;
@@ -105,6 +108,7 @@ public class RemoteInterpreterServer
   AngularObjectRegistry angularObjectRegistry;
   InterpreterHookRegistry hookRegistry;
   DistributedResourcePool resourcePool;
+  private final ResourceTransferManager resourceTransfers = new ResourceTransferManager();
   private ApplicationLoader appLoader;
 
   Gson gson = new Gson();
@@ -292,6 +296,10 @@ public class RemoteInterpreterServer
         InterpreterOutput.limit = Integer.parseInt(
             properties.get("zeppelin.interpreter.output.limit"));
       }
+      if (properties.containsKey("zeppelin.interpreter.resource.request.timeout")) {
+        eventClient.setResourceRequestTimeout(Long.parseLong(
+            properties.get("zeppelin.interpreter.resource.request.timeout")));
+      }
 
       depLoader = new DependencyResolver(localRepoPath);
       appLoader = new ApplicationLoader(resourcePool, depLoader);
@@ -430,7 +438,7 @@ public class RemoteInterpreterServer
     context.setClassName(intp.getClassName());
 
     Scheduler scheduler = intp.getScheduler();
-    InterpretJobListener jobListener = new InterpretJobListener();
+    InterpretJobListener jobListener = new InterpretJobListener(noteId);
     InterpretJob job = new InterpretJob(
         interpreterContext.getParagraphId(),
         "remoteInterpretJob_" + System.currentTimeMillis(),
@@ -505,10 +513,24 @@ public class RemoteInterpreterServer
     }
   }
 
+  /**
+   * Wakes up interpret() when the job status changes, and pushes status and progress of the job
+   * to the server
+   */
   class InterpretJobListener implements JobListener {
+    private final String sessionId;
+    private volatile int lastProgress = 0;
+
+    InterpretJobListener(String sessionId) {
+      this.sessionId = sessionId;
+    }
 
     @Override
     public void onProgressUpdate(Job job, int progress) {
+      if (progress != lastProgress) {
+        lastProgress = progress;
+        eventClient.onJobStatusUpdate(sessionId, job.getId(), null, progress);
+      }
     }
 
     @Override
@@ -517,6 +539,7 @@ public class RemoteInterpreterServer
 
     @Override
     public void afterStatusChange(Job job, Status before, Status after) {
+      eventClient.onJobStatusUpdate(sessionId, job.getId(), after.name(), -1);
       synchronized (this) {
         notifyAll();
       }
@@ -552,7 +575,16 @@ public class RemoteInterpreterServer
 
     @Override
     public int progress() {
-      return 0;
+      Integer manuallyProvidedProgress = progressMap.get(context.getParagraphId());
+      if (manuallyProvidedProgress != null) {
+        return manuallyProvidedProgress;
+      }
+      try {
+        return interpreter.getProgress(context);
+      } catch (InterpreterException e) {
+        logger.warn("Fail to get progress of " + getId(), e);
+        return 0;
+      }
     }
 
     @Override
@@ -563,6 +595,17 @@ public class RemoteInterpreterServer
       return infos;
     }
 
+    @Override
+    public String getUser() {
+      AuthenticationInfo authenticationInfo = context.getAuthenticationInfo();
+      return authenticationInfo == null ? null : authenticationInfo.getUser();
+    }
+
+    @Override
+    public String getNoteId() {
+      return context.getNoteId();
+    }
+
     private void processInterpreterHooks(final String noteId) {
       InterpreterHookListener hookListener = new InterpreterHookListener() {
         @Override
@@ -961,6 +1004,15 @@ public class RemoteInterpreterServer
     return eventClient.pollEvent();
   }
 
+  /**
+   * Get multiple events in one call.
+   * Waits up to maxWaitMs for the first event, then returns up to maxBatch queued events.
+   */
+  @Override
+  public List<RemoteInterpreterEvent> getEvents(int maxBatch, int maxWaitMs) throws TException {
+    return eventClient.pollEvents(maxBatch, maxWaitMs);
+  }
+
   /**
    * called when object is updated in client (web) side.
    * @param name
@@ -1060,13 +1112,14 @@ public class RemoteInterpreterServer
   }
 
   @Override
-  public void resourcePoolResponseGetAll(List<String> resources) throws TException {
-    eventClient.putResponseGetAllResources(resources);
+  public void resourcePoolResponseGetAll(List<String> resources, String requestId)
+      throws TException {
+    eventClient.putResponseGetAllResources(resources, requestId);
   }
 
   /**
    * Get payload of resource from remote
-   * @param resourceId json serialized ResourceId
+   * @param resourceId json serialized GetResourceEventMessage
    * @param object java serialized of the object
    * @throws TException
    */
@@ -1075,6 +1128,20 @@ public class RemoteInterpreterServer
     eventClient.putResponseGetResource(resourceId, object);
   }
 
+  /**
+   * Get payload of resource from remote, chunk by chunk
+   * @param getResourceMessage json serialized GetResourceEventMessage
+   * @param transfer json serialized ResourceTransfer
+   * @param chunk next chunk of the serialized object
+   * @param last true for the last chunk
+   * @throws TException
+   */
+  @Override
+  public void resourceResponseGetChunk(String getResourceMessage, String transfer,
+      ByteBuffer chunk, boolean last) throws TException {
+    eventClient.putResponseGetResourceChunk(getResourceMessage, transfer, chunk, last);
+  }
+
   @Override
   public List<String> resourcePoolGetAll() throws TException {
     logger.debug("Request getAll from ZeppelinServer");
@@ -1109,7 +1176,9 @@ public class RemoteInterpreterServer
       return ByteBuffer.allocate(0);
     } else {
       try {
-        return Resource.serializeObject(resource.get());
+        // null when only a serializer other than java serialization can serialize it
+        ByteBuffer serialized = Resource.serializeObject(resource.get());
+        return serialized == null ? ByteBuffer.allocate(0) : serialized;
       } catch (IOException e) {
         logger.error(e.getMessage(), e);
         return ByteBuffer.allocate(0);
@@ -1117,6 +1186,41 @@ public class RemoteInterpreterServer
     }
   }
 
+  @Override
+  public String resourceTransferOpen(String noteId, String paragraphId, String resourceName,
+      String transfer) throws TException {
+    logger.debug("Request resourceTransferOpen {} from ZeppelinServer", resourceName);
+    Resource resource = resourcePool.get(noteId, paragraphId, resourceName, false);
+
+    if (resource == null || resource.get() == null) {
+      return "";
+    }
+    try {
+      ResourceTransfer opened =
+          resourceTransfers.open(resource.get(), ResourceTransfer.fromJson(transfer));
+      return opened == null ? "" : opened.toJson();
+    } catch (IOException e) {
+      logger.error(e.getMessage(), e);
+      return "";
+    }
+  }
+
+  @Override
+  public ByteBuffer resourceTransferRead(String transferId, int maxBytes) throws TException {
+    try {
+      return resourceTransfers.read(transferId, maxBytes);
+    } catch (IOException e) {
+      logger.error(e.getMessage(), e);
+      resourceTransfers.close(transferId);
+      throw new TException(e);
+    }
+  }
+
+  @Override
+  public void resourceTransferClose(String transferId) throws TException {
+    resourceTransfers.close(transferId);
+  }
+
   @Override
   public ByteBuffer resourceInvokeMethod(
       String noteId, String paragraphId, String resourceName, String invokeMessage) {
@@ -1132,7 +1236,7 @@ public class RemoteInterpreterServer
         Method method = o.getClass().getMethod(
             message.methodName,
             message.getParamTypes());
-        Object ret = method.invoke(o, message.params);
+        Object ret = method.invoke(o, message.getParams());
         if (message.shouldPutResultIntoResourcePool()) {
           // if return resource name is specified,
           // then put result into resource pool
@@ -1141,7 +1245,8 @@ public class RemoteInterpreterServer
               noteId,
               paragraphId,
               message.returnResourceName,
-              ret);
+              ResourceIterator.wrap(
+                  ret, resourcePool, noteId, paragraphId, message.returnResourceName));
           return ByteBuffer.allocate(0);
         } else {
           // if return resource name is not specified,
@@ -44,7 +44,11 @@ public enum RemoteInterpreterEventType implements org.apache.thrift.TEnum {
   META_INFOS(13),
   REMOTE_ZEPPELIN_SERVER_RESOURCE(14),
   RESOURCE_INVOKE_METHOD(15),
-  PARA_INFOS(16);
+  PARA_INFOS(16),
+  RESOURCE_LOOKUP(17),
+  RESOURCE_PUT(18),
+  RESOURCE_REMOVE(19),
+  JOB_STATUS_UPDATE(20);
 
   private final int value;
 
@@ -97,6 +101,14 @@ public enum RemoteInterpreterEventType implements org.apache.thrift.TEnum {
         return RESOURCE_INVOKE_METHOD;
       case 16:
         return PARA_INFOS;
+      case 17:
+        return RESOURCE_LOOKUP;
+      case 18:
+        return RESOURCE_PUT;
+      case 19:
+        return RESOURCE_REMOVE;
+      case 20:
+        return JOB_STATUS_UPDATE;
       default:
         return null;
     }
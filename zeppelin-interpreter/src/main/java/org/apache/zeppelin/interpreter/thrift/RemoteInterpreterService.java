@@ -78,16 +78,26 @@ public class RemoteInterpreterService {
 
     public RemoteInterpreterEvent getEvent() throws org.apache.thrift.TException;
 
-    public void resourcePoolResponseGetAll(List<String> resources) throws org.apache.thrift.TException;
+    public List<RemoteInterpreterEvent> getEvents(int maxBatch, int maxWaitMs) throws org.apache.thrift.TException;
+
+    public void resourcePoolResponseGetAll(List<String> resources, String requestId) throws org.apache.thrift.TException;
 
     public void resourceResponseGet(String resourceId, ByteBuffer object) throws org.apache.thrift.TException;
 
+    public void resourceResponseGetChunk(String getResourceMessage, String transfer, ByteBuffer chunk, boolean last) throws org.apache.thrift.TException;
+
     public void resourceResponseInvokeMethod(String invokeMessage, ByteBuffer object) throws org.apache.thrift.TException;
 
     public List<String> resourcePoolGetAll() throws org.apache.thrift.TException;
 
     public ByteBuffer resourceGet(String sessionKey, String paragraphId, String resourceName) throws org.apache.thrift.TException;
 
+    public String resourceTransferOpen(String sessionKey, String paragraphId, String resourceName, String transfer) throws org.apache.thrift.TException;
+
+    public ByteBuffer resourceTransferRead(String transferId, int maxBytes) throws org.apache.thrift.TException;
+
+    public void resourceTransferClose(String transferId) throws org.apache.thrift.TException;
+
     public boolean resourceRemove(String sessionKey, String paragraphId, String resourceName) throws org.apache.thrift.TException;
 
     public ByteBuffer resourceInvokeMethod(String sessionKey, String paragraphId, String resourceName, String invokeMessage) throws org.apache.thrift.TException;
@@ -134,16 +144,26 @@ public class RemoteInterpreterService {
 
     public void getEvent(org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
-    public void resourcePoolResponseGetAll(List<String> resources, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+    public void getEvents(int maxBatch, int maxWaitMs, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void resourcePoolResponseGetAll(List<String> resources, String requestId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void resourceResponseGet(String resourceId, ByteBuffer object, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void resourceResponseGetChunk(String getResourceMessage, String transfer, ByteBuffer chunk, boolean last, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void resourceResponseInvokeMethod(String invokeMessage, ByteBuffer object, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void resourcePoolGetAll(org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void resourceGet(String sessionKey, String paragraphId, String resourceName, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void resourceTransferOpen(String sessionKey, String paragraphId, String resourceName, String transfer, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void resourceTransferRead(String transferId, int maxBytes, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void resourceTransferClose(String transferId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void resourceRemove(String sessionKey, String paragraphId, String resourceName, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void resourceInvokeMethod(String sessionKey, String paragraphId, String resourceName, String invokeMessage, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
@@ -441,16 +461,41 @@ public class RemoteInterpreterService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getEvent failed: unknown result");
     }
 
-    public void resourcePoolResponseGetAll(List<String> resources) throws org.apache.thrift.TException
+    public List<RemoteInterpreterEvent> getEvents(int maxBatch, int maxWaitMs) throws org.apache.thrift.TException
+    {
+      send_getEvents(maxBatch, maxWaitMs);
+      return recv_getEvents();
+    }
+
+    public void send_getEvents(int maxBatch, int maxWaitMs) throws org.apache.thrift.TException
+    {
+      getEvents_args args = new getEvents_args();
+      args.setMaxBatch(maxBatch);
+      args.setMaxWaitMs(maxWaitMs);
+      sendBase("getEvents", args);
+    }
+
+    public List<RemoteInterpreterEvent> recv_getEvents() throws org.apache.thrift.TException
     {
-      send_resourcePoolResponseGetAll(resources);
+      getEvents_result result = new getEvents_result();
+      receiveBase(result, "getEvents");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getEvents failed: unknown result");
+    }
+
+    public void resourcePoolResponseGetAll(List<String> resources, String requestId) throws org.apache.thrift.TException
+    {
+      send_resourcePoolResponseGetAll(resources, requestId);
       recv_resourcePoolResponseGetAll();
     }
 
-    public void send_resourcePoolResponseGetAll(List<String> resources) throws org.apache.thrift.TException
+    public void send_resourcePoolResponseGetAll(List<String> resources, String requestId) throws org.apache.thrift.TException
     {
       resourcePoolResponseGetAll_args args = new resourcePoolResponseGetAll_args();
       args.setResources(resources);
+      args.setRequestId(requestId);
       sendBase("resourcePoolResponseGetAll", args);
     }
 
@@ -482,6 +527,29 @@ public class RemoteInterpreterService {
       return;
     }
 
+    public void resourceResponseGetChunk(String getResourceMessage, String transfer, ByteBuffer chunk, boolean last) throws org.apache.thrift.TException
+    {
+      send_resourceResponseGetChunk(getResourceMessage, transfer, chunk, last);
+      recv_resourceResponseGetChunk();
+    }
+
+    public void send_resourceResponseGetChunk(String getResourceMessage, String transfer, ByteBuffer chunk, boolean last) throws org.apache.thrift.TException
+    {
+      resourceResponseGetChunk_args args = new resourceResponseGetChunk_args();
+      args.setGetResourceMessage(getResourceMessage);
+      args.setTransfer(transfer);
+      args.setChunk(chunk);
+      args.setLast(last);
+      sendBase("resourceResponseGetChunk", args);
+    }
+
+    public void recv_resourceResponseGetChunk() throws org.apache.thrift.TException
+    {
+      resourceResponseGetChunk_result result = new resourceResponseGetChunk_result();
+      receiveBase(result, "resourceResponseGetChunk");
+      return;
+    }
+
     public void resourceResponseInvokeMethod(String invokeMessage, ByteBuffer object) throws org.apache.thrift.TException
     {
       send_resourceResponseInvokeMethod(invokeMessage, object);
@@ -550,6 +618,76 @@ public class RemoteInterpreterService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "resourceGet failed: unknown result");
     }
 
+    public String resourceTransferOpen(String sessionKey, String paragraphId, String resourceName, String transfer) throws org.apache.thrift.TException
+    {
+      send_resourceTransferOpen(sessionKey, paragraphId, resourceName, transfer);
+      return recv_resourceTransferOpen();
+    }
+
+    public void send_resourceTransferOpen(String sessionKey, String paragraphId, String resourceName, String transfer) throws org.apache.thrift.TException
+    {
+      resourceTransferOpen_args args = new resourceTransferOpen_args();
+      args.setSessionKey(sessionKey);
+      args.setParagraphId(paragraphId);
+      args.setResourceName(resourceName);
+      args.setTransfer(transfer);
+      sendBase("resourceTransferOpen", args);
+    }
+
+    public String recv_resourceTransferOpen() throws org.apache.thrift.TException
+    {
+      resourceTransferOpen_result result = new resourceTransferOpen_result();
+      receiveBase(result, "resourceTransferOpen");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "resourceTransferOpen failed: unknown result");
+    }
+
+    public ByteBuffer resourceTransferRead(String transferId, int maxBytes) throws org.apache.thrift.TException
+    {
+      send_resourceTransferRead(transferId, maxBytes);
+      return recv_resourceTransferRead();
+    }
+
+    public void send_resourceTransferRead(String transferId, int maxBytes) throws org.apache.thrift.TException
+    {
+      resourceTransferRead_args args = new resourceTransferRead_args();
+      args.setTransferId(transferId);
+      args.setMaxBytes(maxBytes);
+      sendBase("resourceTransferRead", args);
+    }
+
+    public ByteBuffer recv_resourceTransferRead() throws org.apache.thrift.TException
+    {
+      resourceTransferRead_result result = new resourceTransferRead_result();
+      receiveBase(result, "resourceTransferRead");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "resourceTransferRead failed: unknown result");
+    }
+
+    public void resourceTransferClose(String transferId) throws org.apache.thrift.TException
+    {
+      send_resourceTransferClose(transferId);
+      recv_resourceTransferClose();
+    }
+
+    public void send_resourceTransferClose(String transferId) throws org.apache.thrift.TException
+    {
+      resourceTransferClose_args args = new resourceTransferClose_args();
+      args.setTransferId(transferId);
+      sendBase("resourceTransferClose", args);
+    }
+
+    public void recv_resourceTransferClose() throws org.apache.thrift.TException
+    {
+      resourceTransferClose_result result = new resourceTransferClose_result();
+      receiveBase(result, "resourceTransferClose");
+      return;
+    }
+
     public boolean resourceRemove(String sessionKey, String paragraphId, String resourceName) throws org.apache.thrift.TException
     {
       send_resourceRemove(sessionKey, paragraphId, resourceName);
@@ -1202,24 +1340,62 @@ public class RemoteInterpreterService {
       }
     }
 
-    public void resourcePoolResponseGetAll(List<String> resources, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+    public void getEvents(int maxBatch, int maxWaitMs, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getEvents_call method_call = new getEvents_call(maxBatch, maxWaitMs, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class getEvents_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private int maxBatch;
+      private int maxWaitMs;
+      public getEvents_call(int maxBatch, int maxWaitMs, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.maxBatch = maxBatch;
+        this.maxWaitMs = maxWaitMs;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getEvents", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getEvents_args args = new getEvents_args();
+        args.setMaxBatch(maxBatch);
+        args.setMaxWaitMs(maxWaitMs);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public List<RemoteInterpreterEvent> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getEvents();
+      }
+    }
+
+    public void resourcePoolResponseGetAll(List<String> resources, String requestId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
-      resourcePoolResponseGetAll_call method_call = new resourcePoolResponseGetAll_call(resources, resultHandler, this, ___protocolFactory, ___transport);
+      resourcePoolResponseGetAll_call method_call = new resourcePoolResponseGetAll_call(resources, requestId, resultHandler, this, ___protocolFactory, ___transport);
       this.___currentMethod = method_call;
       ___manager.call(method_call);
     }
 
     public static class resourcePoolResponseGetAll_call extends org.apache.thrift.async.TAsyncMethodCall {
       private List<String> resources;
-      public resourcePoolResponseGetAll_call(List<String> resources, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+      private String requestId;
+      public resourcePoolResponseGetAll_call(List<String> resources, String requestId, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
         super(client, protocolFactory, transport, resultHandler, false);
         this.resources = resources;
+        this.requestId = requestId;
       }
 
       public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
         prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("resourcePoolResponseGetAll", org.apache.thrift.protocol.TMessageType.CALL, 0));
         resourcePoolResponseGetAll_args args = new resourcePoolResponseGetAll_args();
         args.setResources(resources);
+        args.setRequestId(requestId);
         args.write(prot);
         prot.writeMessageEnd();
       }
@@ -1269,6 +1445,47 @@ public class RemoteInterpreterService {
       }
     }
 
+    public void resourceResponseGetChunk(String getResourceMessage, String transfer, ByteBuffer chunk, boolean last, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      resourceResponseGetChunk_call method_call = new resourceResponseGetChunk_call(getResourceMessage, transfer, chunk, last, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class resourceResponseGetChunk_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String getResourceMessage;
+      private String transfer;
+      private ByteBuffer chunk;
+      private boolean last;
+      public resourceResponseGetChunk_call(String getResourceMessage, String transfer, ByteBuffer chunk, boolean last, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.getResourceMessage = getResourceMessage;
+        this.transfer = transfer;
+        this.chunk = chunk;
+        this.last = last;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("resourceResponseGetChunk", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        resourceResponseGetChunk_args args = new resourceResponseGetChunk_args();
+        args.setGetResourceMessage(getResourceMessage);
+        args.setTransfer(transfer);
+        args.setChunk(chunk);
+        args.setLast(last);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public void getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_resourceResponseGetChunk();
+      }
+    }
+
     public void resourceResponseInvokeMethod(String invokeMessage, ByteBuffer object, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       resourceResponseInvokeMethod_call method_call = new resourceResponseInvokeMethod_call(invokeMessage, object, resultHandler, this, ___protocolFactory, ___transport);
@@ -1371,6 +1588,114 @@ public class RemoteInterpreterService {
       }
     }
 
+    public void resourceTransferOpen(String sessionKey, String paragraphId, String resourceName, String transfer, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      resourceTransferOpen_call method_call = new resourceTransferOpen_call(sessionKey, paragraphId, resourceName, transfer, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class resourceTransferOpen_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String sessionKey;
+      private String paragraphId;
+      private String resourceName;
+      private String transfer;
+      public resourceTransferOpen_call(String sessionKey, String paragraphId, String resourceName, String transfer, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.sessionKey = sessionKey;
+        this.paragraphId = paragraphId;
+        this.resourceName = resourceName;
+        this.transfer = transfer;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("resourceTransferOpen", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        resourceTransferOpen_args args = new resourceTransferOpen_args();
+        args.setSessionKey(sessionKey);
+        args.setParagraphId(paragraphId);
+        args.setResourceName(resourceName);
+        args.setTransfer(transfer);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public String getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_resourceTransferOpen();
+      }
+    }
+
+    public void resourceTransferRead(String transferId, int maxBytes, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      resourceTransferRead_call method_call = new resourceTransferRead_call(transferId, maxBytes, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class resourceTransferRead_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String transferId;
+      private int maxBytes;
+      public resourceTransferRead_call(String transferId, int maxBytes, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.transferId = transferId;
+        this.maxBytes = maxBytes;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("resourceTransferRead", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        resourceTransferRead_args args = new resourceTransferRead_args();
+        args.setTransferId(transferId);
+        args.setMaxBytes(maxBytes);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public ByteBuffer getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_resourceTransferRead();
+      }
+    }
+
+    public void resourceTransferClose(String transferId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      resourceTransferClose_call method_call = new resourceTransferClose_call(transferId, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class resourceTransferClose_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String transferId;
+      public resourceTransferClose_call(String transferId, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.transferId = transferId;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("resourceTransferClose", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        resourceTransferClose_args args = new resourceTransferClose_args();
+        args.setTransferId(transferId);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public void getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_resourceTransferClose();
+      }
+    }
+
     public void resourceRemove(String sessionKey, String paragraphId, String resourceName, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       resourceRemove_call method_call = new resourceRemove_call(sessionKey, paragraphId, resourceName, resultHandler, this, ___protocolFactory, ___transport);
@@ -1763,11 +2088,16 @@ public class RemoteInterpreterService {
       processMap.put("shutdown", new shutdown());
       processMap.put("getStatus", new getStatus());
       processMap.put("getEvent", new getEvent());
+      processMap.put("getEvents", new getEvents());
       processMap.put("resourcePoolResponseGetAll", new resourcePoolResponseGetAll());
       processMap.put("resourceResponseGet", new resourceResponseGet());
+      processMap.put("resourceResponseGetChunk", new resourceResponseGetChunk());
       processMap.put("resourceResponseInvokeMethod", new resourceResponseInvokeMethod());
       processMap.put("resourcePoolGetAll", new resourcePoolGetAll());
       processMap.put("resourceGet", new resourceGet());
+      processMap.put("resourceTransferOpen", new resourceTransferOpen());
+      processMap.put("resourceTransferRead", new resourceTransferRead());
+      processMap.put("resourceTransferClose", new resourceTransferClose());
       processMap.put("resourceRemove", new resourceRemove());
       processMap.put("resourceInvokeMethod", new resourceInvokeMethod());
       processMap.put("angularObjectUpdate", new angularObjectUpdate());
@@ -2002,6 +2332,26 @@ public class RemoteInterpreterService {
       }
     }
 
+    public static class getEvents<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getEvents_args> {
+      public getEvents() {
+        super("getEvents");
+      }
+
+      public getEvents_args getEmptyArgsInstance() {
+        return new getEvents_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public getEvents_result getResult(I iface, getEvents_args args) throws org.apache.thrift.TException {
+        getEvents_result result = new getEvents_result();
+        result.success = iface.getEvents(args.maxBatch, args.maxWaitMs);
+        return result;
+      }
+    }
+
     public static class resourcePoolResponseGetAll<I extends Iface> extends org.apache.thrift.ProcessFunction<I, resourcePoolResponseGetAll_args> {
       public resourcePoolResponseGetAll() {
         super("resourcePoolResponseGetAll");
@@ -2017,7 +2367,7 @@ public class RemoteInterpreterService {
 
       public resourcePoolResponseGetAll_result getResult(I iface, resourcePoolResponseGetAll_args args) throws org.apache.thrift.TException {
         resourcePoolResponseGetAll_result result = new resourcePoolResponseGetAll_result();
-        iface.resourcePoolResponseGetAll(args.resources);
+        iface.resourcePoolResponseGetAll(args.resources, args.requestId);
         return result;
       }
     }
@@ -2042,6 +2392,26 @@ public class RemoteInterpreterService {
       }
     }
 
+    public static class resourceResponseGetChunk<I extends Iface> extends org.apache.thrift.ProcessFunction<I, resourceResponseGetChunk_args> {
+      public resourceResponseGetChunk() {
+        super("resourceResponseGetChunk");
+      }
+
+      public resourceResponseGetChunk_args getEmptyArgsInstance() {
+        return new resourceResponseGetChunk_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public resourceResponseGetChunk_result getResult(I iface, resourceResponseGetChunk_args args) throws org.apache.thrift.TException {
+        resourceResponseGetChunk_result result = new resourceResponseGetChunk_result();
+        iface.resourceResponseGetChunk(args.getResourceMessage, args.transfer, args.chunk, args.last);
+        return result;
+      }
+    }
+
     public static class resourceResponseInvokeMethod<I extends Iface> extends org.apache.thrift.ProcessFunction<I, resourceResponseInvokeMethod_args> {
       public resourceResponseInvokeMethod() {
         super("resourceResponseInvokeMethod");
@@ -2102,6 +2472,66 @@ public class RemoteInterpreterService {
       }
     }
 
+    public static class resourceTransferOpen<I extends Iface> extends org.apache.thrift.ProcessFunction<I, resourceTransferOpen_args> {
+      public resourceTransferOpen() {
+        super("resourceTransferOpen");
+      }
+
+      public resourceTransferOpen_args getEmptyArgsInstance() {
+        return new resourceTransferOpen_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public resourceTransferOpen_result getResult(I iface, resourceTransferOpen_args args) throws org.apache.thrift.TException {
+        resourceTransferOpen_result result = new resourceTransferOpen_result();
+        result.success = iface.resourceTransferOpen(args.sessionKey, args.paragraphId, args.resourceName, args.transfer);
+        return result;
+      }
+    }
+
+    public static class resourceTransferRead<I extends Iface> extends org.apache.thrift.ProcessFunction<I, resourceTransferRead_args> {
+      public resourceTransferRead() {
+        super("resourceTransferRead");
+      }
+
+      public resourceTransferRead_args getEmptyArgsInstance() {
+        return new resourceTransferRead_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public resourceTransferRead_result getResult(I iface, resourceTransferRead_args args) throws org.apache.thrift.TException {
+        resourceTransferRead_result result = new resourceTransferRead_result();
+        result.success = iface.resourceTransferRead(args.transferId, args.maxBytes);
+        return result;
+      }
+    }
+
+    public static class resourceTransferClose<I extends Iface> extends org.apache.thrift.ProcessFunction<I, resourceTransferClose_args> {
+      public resourceTransferClose() {
+        super("resourceTransferClose");
+      }
+
+      public resourceTransferClose_args getEmptyArgsInstance() {
+        return new resourceTransferClose_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public resourceTransferClose_result getResult(I iface, resourceTransferClose_args args) throws org.apache.thrift.TException {
+        resourceTransferClose_result result = new resourceTransferClose_result();
+        iface.resourceTransferClose(args.transferId);
+        return result;
+      }
+    }
+
     public static class resourceRemove<I extends Iface> extends org.apache.thrift.ProcessFunction<I, resourceRemove_args> {
       public resourceRemove() {
         super("resourceRemove");
@@ -2327,11 +2757,16 @@ public class RemoteInterpreterService {
       processMap.put("shutdown", new shutdown());
       processMap.put("getStatus", new getStatus());
       processMap.put("getEvent", new getEvent());
+      processMap.put("getEvents", new getEvents());
       processMap.put("resourcePoolResponseGetAll", new resourcePoolResponseGetAll());
       processMap.put("resourceResponseGet", new resourceResponseGet());
+      processMap.put("resourceResponseGetChunk", new resourceResponseGetChunk());
       processMap.put("resourceResponseInvokeMethod", new resourceResponseInvokeMethod());
       processMap.put("resourcePoolGetAll", new resourcePoolGetAll());
       processMap.put("resourceGet", new resourceGet());
+      processMap.put("resourceTransferOpen", new resourceTransferOpen());
+      processMap.put("resourceTransferRead", new resourceTransferRead());
+      processMap.put("resourceTransferClose", new resourceTransferClose());
       processMap.put("resourceRemove", new resourceRemove());
       processMap.put("resourceInvokeMethod", new resourceInvokeMethod());
       processMap.put("angularObjectUpdate", new angularObjectUpdate());
@@ -2902,20 +3337,71 @@ public class RemoteInterpreterService {
       }
     }
 
-    public static class resourcePoolResponseGetAll<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, resourcePoolResponseGetAll_args, Void> {
-      public resourcePoolResponseGetAll() {
-        super("resourcePoolResponseGetAll");
+    public static class getEvents<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getEvents_args, List<RemoteInterpreterEvent>> {
+      public getEvents() {
+        super("getEvents");
       }
 
-      public resourcePoolResponseGetAll_args getEmptyArgsInstance() {
-        return new resourcePoolResponseGetAll_args();
+      public getEvents_args getEmptyArgsInstance() {
+        return new getEvents_args();
       }
 
-      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<List<RemoteInterpreterEvent>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<Void>() { 
-          public void onComplete(Void o) {
-            resourcePoolResponseGetAll_result result = new resourcePoolResponseGetAll_result();
+        return new AsyncMethodCallback<List<RemoteInterpreterEvent>>() { 
+          public void onComplete(List<RemoteInterpreterEvent> o) {
+            getEvents_result result = new getEvents_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            getEvents_result result = new getEvents_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, getEvents_args args, org.apache.thrift.async.AsyncMethodCallback<List<RemoteInterpreterEvent>> resultHandler) throws TException {
+        iface.getEvents(args.maxBatch, args.maxWaitMs,resultHandler);
+      }
+    }
+
+    public static class resourcePoolResponseGetAll<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, resourcePoolResponseGetAll_args, Void> {
+      public resourcePoolResponseGetAll() {
+        super("resourcePoolResponseGetAll");
+      }
+
+      public resourcePoolResponseGetAll_args getEmptyArgsInstance() {
+        return new resourcePoolResponseGetAll_args();
+      }
+
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            resourcePoolResponseGetAll_result result = new resourcePoolResponseGetAll_result();
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -2948,7 +3434,7 @@ public class RemoteInterpreterService {
       }
 
       public void start(I iface, resourcePoolResponseGetAll_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
-        iface.resourcePoolResponseGetAll(args.resources,resultHandler);
+        iface.resourcePoolResponseGetAll(args.resources, args.requestId,resultHandler);
       }
     }
 
@@ -3002,6 +3488,56 @@ public class RemoteInterpreterService {
       }
     }
 
+    public static class resourceResponseGetChunk<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, resourceResponseGetChunk_args, Void> {
+      public resourceResponseGetChunk() {
+        super("resourceResponseGetChunk");
+      }
+
+      public resourceResponseGetChunk_args getEmptyArgsInstance() {
+        return new resourceResponseGetChunk_args();
+      }
+
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            resourceResponseGetChunk_result result = new resourceResponseGetChunk_result();
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            resourceResponseGetChunk_result result = new resourceResponseGetChunk_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, resourceResponseGetChunk_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.resourceResponseGetChunk(args.getResourceMessage, args.transfer, args.chunk, args.last,resultHandler);
+      }
+    }
+
     public static class resourceResponseInvokeMethod<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, resourceResponseInvokeMethod_args, Void> {
       public resourceResponseInvokeMethod() {
         super("resourceResponseInvokeMethod");
@@ -3154,6 +3690,158 @@ public class RemoteInterpreterService {
       }
     }
 
+    public static class resourceTransferOpen<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, resourceTransferOpen_args, String> {
+      public resourceTransferOpen() {
+        super("resourceTransferOpen");
+      }
+
+      public resourceTransferOpen_args getEmptyArgsInstance() {
+        return new resourceTransferOpen_args();
+      }
+
+      public AsyncMethodCallback<String> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<String>() { 
+          public void onComplete(String o) {
+            resourceTransferOpen_result result = new resourceTransferOpen_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            resourceTransferOpen_result result = new resourceTransferOpen_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, resourceTransferOpen_args args, org.apache.thrift.async.AsyncMethodCallback<String> resultHandler) throws TException {
+        iface.resourceTransferOpen(args.sessionKey, args.paragraphId, args.resourceName, args.transfer,resultHandler);
+      }
+    }
+
+    public static class resourceTransferRead<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, resourceTransferRead_args, ByteBuffer> {
+      public resourceTransferRead() {
+        super("resourceTransferRead");
+      }
+
+      public resourceTransferRead_args getEmptyArgsInstance() {
+        return new resourceTransferRead_args();
+      }
+
+      public AsyncMethodCallback<ByteBuffer> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<ByteBuffer>() { 
+          public void onComplete(ByteBuffer o) {
+            resourceTransferRead_result result = new resourceTransferRead_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            resourceTransferRead_result result = new resourceTransferRead_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, resourceTransferRead_args args, org.apache.thrift.async.AsyncMethodCallback<ByteBuffer> resultHandler) throws TException {
+        iface.resourceTransferRead(args.transferId, args.maxBytes,resultHandler);
+      }
+    }
+
+    public static class resourceTransferClose<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, resourceTransferClose_args, Void> {
+      public resourceTransferClose() {
+        super("resourceTransferClose");
+      }
+
+      public resourceTransferClose_args getEmptyArgsInstance() {
+        return new resourceTransferClose_args();
+      }
+
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            resourceTransferClose_result result = new resourceTransferClose_result();
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            resourceTransferClose_result result = new resourceTransferClose_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, resourceTransferClose_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.resourceTransferClose(args.transferId,resultHandler);
+      }
+    }
+
     public static class resourceRemove<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, resourceRemove_args, Boolean> {
       public resourceRemove() {
         super("resourceRemove");
@@ -12942,22 +13630,25 @@ public class RemoteInterpreterService {
 
   }
 
-  public static class resourcePoolResponseGetAll_args implements org.apache.thrift.TBase<resourcePoolResponseGetAll_args, resourcePoolResponseGetAll_args._Fields>, java.io.Serializable, Cloneable, Comparable<resourcePoolResponseGetAll_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourcePoolResponseGetAll_args");
+  public static class getEvents_args implements org.apache.thrift.TBase<getEvents_args, getEvents_args._Fields>, java.io.Serializable, Cloneable, Comparable<getEvents_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getEvents_args");
 
-    private static final org.apache.thrift.protocol.TField RESOURCES_FIELD_DESC = new org.apache.thrift.protocol.TField("resources", org.apache.thrift.protocol.TType.LIST, (short)1);
+    private static final org.apache.thrift.protocol.TField MAX_BATCH_FIELD_DESC = new org.apache.thrift.protocol.TField("maxBatch", org.apache.thrift.protocol.TType.I32, (short)1);
+    private static final org.apache.thrift.protocol.TField MAX_WAIT_MS_FIELD_DESC = new org.apache.thrift.protocol.TField("maxWaitMs", org.apache.thrift.protocol.TType.I32, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new resourcePoolResponseGetAll_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new resourcePoolResponseGetAll_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getEvents_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getEvents_argsTupleSchemeFactory());
     }
 
-    public List<String> resources; // required
+    public int maxBatch; // required
+    public int maxWaitMs; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      RESOURCES((short)1, "resources");
+      MAX_BATCH((short)1, "maxBatch"),
+      MAX_WAIT_MS((short)2, "maxWaitMs");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -12972,8 +13663,10 @@ public class RemoteInterpreterService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // RESOURCES
-            return RESOURCES;
+          case 1: // MAX_BATCH
+            return MAX_BATCH;
+          case 2: // MAX_WAIT_MS
+            return MAX_WAIT_MS;
           default:
             return null;
         }
@@ -13014,91 +13707,116 @@ public class RemoteInterpreterService {
     }
 
     // isset id assignments
+    private static final int __MAXBATCH_ISSET_ID = 0;
+    private static final int __MAXWAITMS_ISSET_ID = 1;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.RESOURCES, new org.apache.thrift.meta_data.FieldMetaData("resources", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
-              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+      tmpMap.put(_Fields.MAX_BATCH, new org.apache.thrift.meta_data.FieldMetaData("maxBatch", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.MAX_WAIT_MS, new org.apache.thrift.meta_data.FieldMetaData("maxWaitMs", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourcePoolResponseGetAll_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getEvents_args.class, metaDataMap);
     }
 
-    public resourcePoolResponseGetAll_args() {
+    public getEvents_args() {
     }
 
-    public resourcePoolResponseGetAll_args(
-      List<String> resources)
+    public getEvents_args(
+      int maxBatch,
+      int maxWaitMs)
     {
       this();
-      this.resources = resources;
+      this.maxBatch = maxBatch;
+      setMaxBatchIsSet(true);
+      this.maxWaitMs = maxWaitMs;
+      setMaxWaitMsIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public resourcePoolResponseGetAll_args(resourcePoolResponseGetAll_args other) {
-      if (other.isSetResources()) {
-        List<String> __this__resources = new ArrayList<String>(other.resources);
-        this.resources = __this__resources;
-      }
+    public getEvents_args(getEvents_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.maxBatch = other.maxBatch;
+      this.maxWaitMs = other.maxWaitMs;
     }
 
-    public resourcePoolResponseGetAll_args deepCopy() {
-      return new resourcePoolResponseGetAll_args(this);
+    public getEvents_args deepCopy() {
+      return new getEvents_args(this);
     }
 
     @Override
     public void clear() {
-      this.resources = null;
+      setMaxBatchIsSet(false);
+      this.maxBatch = 0;
+      setMaxWaitMsIsSet(false);
+      this.maxWaitMs = 0;
     }
 
-    public int getResourcesSize() {
-      return (this.resources == null) ? 0 : this.resources.size();
+    public int getMaxBatch() {
+      return this.maxBatch;
     }
 
-    public java.util.Iterator<String> getResourcesIterator() {
-      return (this.resources == null) ? null : this.resources.iterator();
+    public getEvents_args setMaxBatch(int maxBatch) {
+      this.maxBatch = maxBatch;
+      setMaxBatchIsSet(true);
+      return this;
     }
 
-    public void addToResources(String elem) {
-      if (this.resources == null) {
-        this.resources = new ArrayList<String>();
-      }
-      this.resources.add(elem);
+    public void unsetMaxBatch() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __MAXBATCH_ISSET_ID);
     }
 
-    public List<String> getResources() {
-      return this.resources;
+    /** Returns true if field maxBatch is set (has been assigned a value) and false otherwise */
+    public boolean isSetMaxBatch() {
+      return EncodingUtils.testBit(__isset_bitfield, __MAXBATCH_ISSET_ID);
     }
 
-    public resourcePoolResponseGetAll_args setResources(List<String> resources) {
-      this.resources = resources;
-      return this;
+    public void setMaxBatchIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __MAXBATCH_ISSET_ID, value);
     }
 
-    public void unsetResources() {
-      this.resources = null;
+    public int getMaxWaitMs() {
+      return this.maxWaitMs;
     }
 
-    /** Returns true if field resources is set (has been assigned a value) and false otherwise */
-    public boolean isSetResources() {
-      return this.resources != null;
+    public getEvents_args setMaxWaitMs(int maxWaitMs) {
+      this.maxWaitMs = maxWaitMs;
+      setMaxWaitMsIsSet(true);
+      return this;
     }
 
-    public void setResourcesIsSet(boolean value) {
-      if (!value) {
-        this.resources = null;
-      }
+    public void unsetMaxWaitMs() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __MAXWAITMS_ISSET_ID);
+    }
+
+    /** Returns true if field maxWaitMs is set (has been assigned a value) and false otherwise */
+    public boolean isSetMaxWaitMs() {
+      return EncodingUtils.testBit(__isset_bitfield, __MAXWAITMS_ISSET_ID);
+    }
+
+    public void setMaxWaitMsIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __MAXWAITMS_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case RESOURCES:
+      case MAX_BATCH:
         if (value == null) {
-          unsetResources();
+          unsetMaxBatch();
         } else {
-          setResources((List<String>)value);
+          setMaxBatch((Integer)value);
+        }
+        break;
+
+      case MAX_WAIT_MS:
+        if (value == null) {
+          unsetMaxWaitMs();
+        } else {
+          setMaxWaitMs((Integer)value);
         }
         break;
 
@@ -13107,8 +13825,11 @@ public class RemoteInterpreterService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case RESOURCES:
-        return getResources();
+      case MAX_BATCH:
+        return Integer.valueOf(getMaxBatch());
+
+      case MAX_WAIT_MS:
+        return Integer.valueOf(getMaxWaitMs());
 
       }
       throw new IllegalStateException();
@@ -13121,8 +13842,10 @@ public class RemoteInterpreterService {
       }
 
       switch (field) {
-      case RESOURCES:
-        return isSetResources();
+      case MAX_BATCH:
+        return isSetMaxBatch();
+      case MAX_WAIT_MS:
+        return isSetMaxWaitMs();
       }
       throw new IllegalStateException();
     }
@@ -13131,21 +13854,30 @@ public class RemoteInterpreterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof resourcePoolResponseGetAll_args)
-        return this.equals((resourcePoolResponseGetAll_args)that);
+      if (that instanceof getEvents_args)
+        return this.equals((getEvents_args)that);
       return false;
     }
 
-    public boolean equals(resourcePoolResponseGetAll_args that) {
+    public boolean equals(getEvents_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_resources = true && this.isSetResources();
-      boolean that_present_resources = true && that.isSetResources();
-      if (this_present_resources || that_present_resources) {
-        if (!(this_present_resources && that_present_resources))
+      boolean this_present_maxBatch = true;
+      boolean that_present_maxBatch = true;
+      if (this_present_maxBatch || that_present_maxBatch) {
+        if (!(this_present_maxBatch && that_present_maxBatch))
           return false;
-        if (!this.resources.equals(that.resources))
+        if (this.maxBatch != that.maxBatch)
+          return false;
+      }
+
+      boolean this_present_maxWaitMs = true;
+      boolean that_present_maxWaitMs = true;
+      if (this_present_maxWaitMs || that_present_maxWaitMs) {
+        if (!(this_present_maxWaitMs && that_present_maxWaitMs))
+          return false;
+        if (this.maxWaitMs != that.maxWaitMs)
           return false;
       }
 
@@ -13156,28 +13888,43 @@ public class RemoteInterpreterService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_resources = true && (isSetResources());
-      list.add(present_resources);
-      if (present_resources)
-        list.add(resources);
+      boolean present_maxBatch = true;
+      list.add(present_maxBatch);
+      if (present_maxBatch)
+        list.add(maxBatch);
+
+      boolean present_maxWaitMs = true;
+      list.add(present_maxWaitMs);
+      if (present_maxWaitMs)
+        list.add(maxWaitMs);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(resourcePoolResponseGetAll_args other) {
+    public int compareTo(getEvents_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetResources()).compareTo(other.isSetResources());
+      lastComparison = Boolean.valueOf(isSetMaxBatch()).compareTo(other.isSetMaxBatch());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetResources()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.resources, other.resources);
+      if (isSetMaxBatch()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.maxBatch, other.maxBatch);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetMaxWaitMs()).compareTo(other.isSetMaxWaitMs());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetMaxWaitMs()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.maxWaitMs, other.maxWaitMs);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -13199,15 +13946,15 @@ public class RemoteInterpreterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("resourcePoolResponseGetAll_args(");
+      StringBuilder sb = new StringBuilder("getEvents_args(");
       boolean first = true;
 
-      sb.append("resources:");
-      if (this.resources == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.resources);
-      }
+      sb.append("maxBatch:");
+      sb.append(this.maxBatch);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("maxWaitMs:");
+      sb.append(this.maxWaitMs);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -13228,21 +13975,23 @@ public class RemoteInterpreterService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class resourcePoolResponseGetAll_argsStandardSchemeFactory implements SchemeFactory {
-      public resourcePoolResponseGetAll_argsStandardScheme getScheme() {
-        return new resourcePoolResponseGetAll_argsStandardScheme();
+    private static class getEvents_argsStandardSchemeFactory implements SchemeFactory {
+      public getEvents_argsStandardScheme getScheme() {
+        return new getEvents_argsStandardScheme();
       }
     }
 
-    private static class resourcePoolResponseGetAll_argsStandardScheme extends StandardScheme<resourcePoolResponseGetAll_args> {
+    private static class getEvents_argsStandardScheme extends StandardScheme<getEvents_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, resourcePoolResponseGetAll_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getEvents_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -13252,20 +14001,18 @@ public class RemoteInterpreterService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // RESOURCES
-              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
-                {
-                  org.apache.thrift.protocol.TList _list26 = iprot.readListBegin();
-                  struct.resources = new ArrayList<String>(_list26.size);
-                  String _elem27;
-                  for (int _i28 = 0; _i28 < _list26.size; ++_i28)
-                  {
-                    _elem27 = iprot.readString();
-                    struct.resources.add(_elem27);
-                  }
-                  iprot.readListEnd();
-                }
-                struct.setResourcesIsSet(true);
+            case 1: // MAX_BATCH
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.maxBatch = iprot.readI32();
+                struct.setMaxBatchIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // MAX_WAIT_MS
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.maxWaitMs = iprot.readI32();
+                struct.setMaxWaitMsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -13281,91 +14028,82 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, resourcePoolResponseGetAll_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getEvents_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.resources != null) {
-          oprot.writeFieldBegin(RESOURCES_FIELD_DESC);
-          {
-            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.resources.size()));
-            for (String _iter29 : struct.resources)
-            {
-              oprot.writeString(_iter29);
-            }
-            oprot.writeListEnd();
-          }
-          oprot.writeFieldEnd();
-        }
+        oprot.writeFieldBegin(MAX_BATCH_FIELD_DESC);
+        oprot.writeI32(struct.maxBatch);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(MAX_WAIT_MS_FIELD_DESC);
+        oprot.writeI32(struct.maxWaitMs);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class resourcePoolResponseGetAll_argsTupleSchemeFactory implements SchemeFactory {
-      public resourcePoolResponseGetAll_argsTupleScheme getScheme() {
-        return new resourcePoolResponseGetAll_argsTupleScheme();
+    private static class getEvents_argsTupleSchemeFactory implements SchemeFactory {
+      public getEvents_argsTupleScheme getScheme() {
+        return new getEvents_argsTupleScheme();
       }
     }
 
-    private static class resourcePoolResponseGetAll_argsTupleScheme extends TupleScheme<resourcePoolResponseGetAll_args> {
+    private static class getEvents_argsTupleScheme extends TupleScheme<getEvents_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, resourcePoolResponseGetAll_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getEvents_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetResources()) {
+        if (struct.isSetMaxBatch()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetResources()) {
-          {
-            oprot.writeI32(struct.resources.size());
-            for (String _iter30 : struct.resources)
-            {
-              oprot.writeString(_iter30);
-            }
-          }
+        if (struct.isSetMaxWaitMs()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetMaxBatch()) {
+          oprot.writeI32(struct.maxBatch);
+        }
+        if (struct.isSetMaxWaitMs()) {
+          oprot.writeI32(struct.maxWaitMs);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, resourcePoolResponseGetAll_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getEvents_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          {
-            org.apache.thrift.protocol.TList _list31 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-            struct.resources = new ArrayList<String>(_list31.size);
-            String _elem32;
-            for (int _i33 = 0; _i33 < _list31.size; ++_i33)
-            {
-              _elem32 = iprot.readString();
-              struct.resources.add(_elem32);
-            }
-          }
-          struct.setResourcesIsSet(true);
+          struct.maxBatch = iprot.readI32();
+          struct.setMaxBatchIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.maxWaitMs = iprot.readI32();
+          struct.setMaxWaitMsIsSet(true);
         }
       }
     }
 
   }
 
-  public static class resourcePoolResponseGetAll_result implements org.apache.thrift.TBase<resourcePoolResponseGetAll_result, resourcePoolResponseGetAll_result._Fields>, java.io.Serializable, Cloneable, Comparable<resourcePoolResponseGetAll_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourcePoolResponseGetAll_result");
+  public static class getEvents_result implements org.apache.thrift.TBase<getEvents_result, getEvents_result._Fields>, java.io.Serializable, Cloneable, Comparable<getEvents_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getEvents_result");
 
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new resourcePoolResponseGetAll_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new resourcePoolResponseGetAll_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getEvents_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getEvents_resultTupleSchemeFactory());
     }
 
+    public List<RemoteInterpreterEvent> success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      SUCCESS((short)0, "success");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -13380,6 +14118,8 @@ public class RemoteInterpreterService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
           default:
             return null;
         }
@@ -13418,37 +14158,107 @@ public class RemoteInterpreterService {
         return _fieldName;
       }
     }
+
+    // isset id assignments
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RemoteInterpreterEvent.class))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourcePoolResponseGetAll_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getEvents_result.class, metaDataMap);
     }
 
-    public resourcePoolResponseGetAll_result() {
+    public getEvents_result() {
+    }
+
+    public getEvents_result(
+      List<RemoteInterpreterEvent> success)
+    {
+      this();
+      this.success = success;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public resourcePoolResponseGetAll_result(resourcePoolResponseGetAll_result other) {
+    public getEvents_result(getEvents_result other) {
+      if (other.isSetSuccess()) {
+        List<RemoteInterpreterEvent> __this__success = new ArrayList<RemoteInterpreterEvent>(other.success.size());
+        for (RemoteInterpreterEvent other_element : other.success) {
+          __this__success.add(new RemoteInterpreterEvent(other_element));
+        }
+        this.success = __this__success;
+      }
     }
 
-    public resourcePoolResponseGetAll_result deepCopy() {
-      return new resourcePoolResponseGetAll_result(this);
+    public getEvents_result deepCopy() {
+      return new getEvents_result(this);
     }
 
     @Override
     public void clear() {
+      this.success = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<RemoteInterpreterEvent> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(RemoteInterpreterEvent elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<RemoteInterpreterEvent>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<RemoteInterpreterEvent> getSuccess() {
+      return this.success;
+    }
+
+    public getEvents_result setSuccess(List<RemoteInterpreterEvent> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((List<RemoteInterpreterEvent>)value);
+        }
+        break;
+
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
       }
       throw new IllegalStateException();
     }
@@ -13460,6 +14270,8 @@ public class RemoteInterpreterService {
       }
 
       switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
       }
       throw new IllegalStateException();
     }
@@ -13468,15 +14280,24 @@ public class RemoteInterpreterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof resourcePoolResponseGetAll_result)
-        return this.equals((resourcePoolResponseGetAll_result)that);
+      if (that instanceof getEvents_result)
+        return this.equals((getEvents_result)that);
       return false;
     }
 
-    public boolean equals(resourcePoolResponseGetAll_result that) {
+    public boolean equals(getEvents_result that) {
       if (that == null)
         return false;
 
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
       return true;
     }
 
@@ -13484,17 +14305,32 @@ public class RemoteInterpreterService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(resourcePoolResponseGetAll_result other) {
+    public int compareTo(getEvents_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -13512,9 +14348,16 @@ public class RemoteInterpreterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("resourcePoolResponseGetAll_result(");
+      StringBuilder sb = new StringBuilder("getEvents_result(");
       boolean first = true;
 
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -13540,15 +14383,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class resourcePoolResponseGetAll_resultStandardSchemeFactory implements SchemeFactory {
-      public resourcePoolResponseGetAll_resultStandardScheme getScheme() {
-        return new resourcePoolResponseGetAll_resultStandardScheme();
+    private static class getEvents_resultStandardSchemeFactory implements SchemeFactory {
+      public getEvents_resultStandardScheme getScheme() {
+        return new getEvents_resultStandardScheme();
       }
     }
 
-    private static class resourcePoolResponseGetAll_resultStandardScheme extends StandardScheme<resourcePoolResponseGetAll_result> {
+    private static class getEvents_resultStandardScheme extends StandardScheme<getEvents_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, resourcePoolResponseGetAll_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getEvents_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -13558,6 +14401,25 @@ public class RemoteInterpreterService {
             break;
           }
           switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list101 = iprot.readListBegin();
+                  struct.success = new ArrayList<RemoteInterpreterEvent>(_list101.size);
+                  RemoteInterpreterEvent _elem102;
+                  for (int _i103 = 0; _i103 < _list101.size; ++_i103)
+                  {
+                    _elem102 = new RemoteInterpreterEvent();
+                    _elem102.read(iprot);
+                    struct.success.add(_elem102);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -13569,56 +14431,97 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, resourcePoolResponseGetAll_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getEvents_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (RemoteInterpreterEvent _iter104 : struct.success)
+            {
+              _iter104.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class resourcePoolResponseGetAll_resultTupleSchemeFactory implements SchemeFactory {
-      public resourcePoolResponseGetAll_resultTupleScheme getScheme() {
-        return new resourcePoolResponseGetAll_resultTupleScheme();
+    private static class getEvents_resultTupleSchemeFactory implements SchemeFactory {
+      public getEvents_resultTupleScheme getScheme() {
+        return new getEvents_resultTupleScheme();
       }
     }
 
-    private static class resourcePoolResponseGetAll_resultTupleScheme extends TupleScheme<resourcePoolResponseGetAll_result> {
+    private static class getEvents_resultTupleScheme extends TupleScheme<getEvents_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, resourcePoolResponseGetAll_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getEvents_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (RemoteInterpreterEvent _iter105 : struct.success)
+            {
+              _iter105.write(oprot);
+            }
+          }
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, resourcePoolResponseGetAll_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getEvents_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list106 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<RemoteInterpreterEvent>(_list106.size);
+            RemoteInterpreterEvent _elem107;
+            for (int _i108 = 0; _i108 < _list106.size; ++_i108)
+            {
+              _elem107 = new RemoteInterpreterEvent();
+              _elem107.read(iprot);
+              struct.success.add(_elem107);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class resourceResponseGet_args implements org.apache.thrift.TBase<resourceResponseGet_args, resourceResponseGet_args._Fields>, java.io.Serializable, Cloneable, Comparable<resourceResponseGet_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceResponseGet_args");
+  public static class resourcePoolResponseGetAll_args implements org.apache.thrift.TBase<resourcePoolResponseGetAll_args, resourcePoolResponseGetAll_args._Fields>, java.io.Serializable, Cloneable, Comparable<resourcePoolResponseGetAll_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourcePoolResponseGetAll_args");
 
-    private static final org.apache.thrift.protocol.TField RESOURCE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("resourceId", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField OBJECT_FIELD_DESC = new org.apache.thrift.protocol.TField("object", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField RESOURCES_FIELD_DESC = new org.apache.thrift.protocol.TField("resources", org.apache.thrift.protocol.TType.LIST, (short)1);
+    private static final org.apache.thrift.protocol.TField REQUEST_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("requestId", org.apache.thrift.protocol.TType.STRING, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new resourceResponseGet_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new resourceResponseGet_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new resourcePoolResponseGetAll_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new resourcePoolResponseGetAll_argsTupleSchemeFactory());
     }
 
-    public String resourceId; // required
-    public ByteBuffer object; // required
+    public List<String> resources; // required
+    public String requestId; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      RESOURCE_ID((short)1, "resourceId"),
-      OBJECT((short)2, "object");
+      RESOURCES((short)1, "resources"),
+      REQUEST_ID((short)2, "requestId");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -13633,10 +14536,10 @@ public class RemoteInterpreterService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // RESOURCE_ID
-            return RESOURCE_ID;
-          case 2: // OBJECT
-            return OBJECT;
+          case 1: // RESOURCES
+            return RESOURCES;
+          case 2: // REQUEST_ID
+            return REQUEST_ID;
           default:
             return null;
         }
@@ -13680,121 +14583,128 @@ public class RemoteInterpreterService {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.RESOURCE_ID, new org.apache.thrift.meta_data.FieldMetaData("resourceId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.RESOURCES, new org.apache.thrift.meta_data.FieldMetaData("resources", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+      tmpMap.put(_Fields.REQUEST_ID, new org.apache.thrift.meta_data.FieldMetaData("requestId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.OBJECT, new org.apache.thrift.meta_data.FieldMetaData("object", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceResponseGet_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourcePoolResponseGetAll_args.class, metaDataMap);
     }
 
-    public resourceResponseGet_args() {
+    public resourcePoolResponseGetAll_args() {
     }
 
-    public resourceResponseGet_args(
-      String resourceId,
-      ByteBuffer object)
+    public resourcePoolResponseGetAll_args(
+      List<String> resources,
+      String requestId)
     {
       this();
-      this.resourceId = resourceId;
-      this.object = org.apache.thrift.TBaseHelper.copyBinary(object);
+      this.resources = resources;
+      this.requestId = requestId;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public resourceResponseGet_args(resourceResponseGet_args other) {
-      if (other.isSetResourceId()) {
-        this.resourceId = other.resourceId;
+    public resourcePoolResponseGetAll_args(resourcePoolResponseGetAll_args other) {
+      if (other.isSetResources()) {
+        List<String> __this__resources = new ArrayList<String>(other.resources);
+        this.resources = __this__resources;
       }
-      if (other.isSetObject()) {
-        this.object = org.apache.thrift.TBaseHelper.copyBinary(other.object);
+      if (other.isSetRequestId()) {
+        this.requestId = other.requestId;
       }
     }
 
-    public resourceResponseGet_args deepCopy() {
-      return new resourceResponseGet_args(this);
+    public resourcePoolResponseGetAll_args deepCopy() {
+      return new resourcePoolResponseGetAll_args(this);
     }
 
     @Override
     public void clear() {
-      this.resourceId = null;
-      this.object = null;
+      this.resources = null;
+      this.requestId = null;
     }
 
-    public String getResourceId() {
-      return this.resourceId;
+    public int getResourcesSize() {
+      return (this.resources == null) ? 0 : this.resources.size();
     }
 
-    public resourceResponseGet_args setResourceId(String resourceId) {
-      this.resourceId = resourceId;
-      return this;
+    public java.util.Iterator<String> getResourcesIterator() {
+      return (this.resources == null) ? null : this.resources.iterator();
     }
 
-    public void unsetResourceId() {
-      this.resourceId = null;
+    public void addToResources(String elem) {
+      if (this.resources == null) {
+        this.resources = new ArrayList<String>();
+      }
+      this.resources.add(elem);
     }
 
-    /** Returns true if field resourceId is set (has been assigned a value) and false otherwise */
-    public boolean isSetResourceId() {
-      return this.resourceId != null;
+    public List<String> getResources() {
+      return this.resources;
     }
 
-    public void setResourceIdIsSet(boolean value) {
-      if (!value) {
-        this.resourceId = null;
-      }
+    public resourcePoolResponseGetAll_args setResources(List<String> resources) {
+      this.resources = resources;
+      return this;
     }
 
-    public byte[] getObject() {
-      setObject(org.apache.thrift.TBaseHelper.rightSize(object));
-      return object == null ? null : object.array();
+    public void unsetResources() {
+      this.resources = null;
     }
 
-    public ByteBuffer bufferForObject() {
-      return org.apache.thrift.TBaseHelper.copyBinary(object);
+    /** Returns true if field resources is set (has been assigned a value) and false otherwise */
+    public boolean isSetResources() {
+      return this.resources != null;
     }
 
-    public resourceResponseGet_args setObject(byte[] object) {
-      this.object = object == null ? (ByteBuffer)null : ByteBuffer.wrap(Arrays.copyOf(object, object.length));
-      return this;
+    public void setResourcesIsSet(boolean value) {
+      if (!value) {
+        this.resources = null;
+      }
     }
 
-    public resourceResponseGet_args setObject(ByteBuffer object) {
-      this.object = org.apache.thrift.TBaseHelper.copyBinary(object);
+    public String getRequestId() {
+      return this.requestId;
+    }
+
+    public resourcePoolResponseGetAll_args setRequestId(String requestId) {
+      this.requestId = requestId;
       return this;
     }
 
-    public void unsetObject() {
-      this.object = null;
+    public void unsetRequestId() {
+      this.requestId = null;
     }
 
-    /** Returns true if field object is set (has been assigned a value) and false otherwise */
-    public boolean isSetObject() {
-      return this.object != null;
+    /** Returns true if field requestId is set (has been assigned a value) and false otherwise */
+    public boolean isSetRequestId() {
+      return this.requestId != null;
     }
 
-    public void setObjectIsSet(boolean value) {
+    public void setRequestIdIsSet(boolean value) {
       if (!value) {
-        this.object = null;
+        this.requestId = null;
       }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case RESOURCE_ID:
+      case RESOURCES:
         if (value == null) {
-          unsetResourceId();
+          unsetResources();
         } else {
-          setResourceId((String)value);
+          setResources((List<String>)value);
         }
         break;
 
-      case OBJECT:
+      case REQUEST_ID:
         if (value == null) {
-          unsetObject();
+          unsetRequestId();
         } else {
-          setObject((ByteBuffer)value);
+          setRequestId((String)value);
         }
         break;
 
@@ -13803,11 +14713,11 @@ public class RemoteInterpreterService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case RESOURCE_ID:
-        return getResourceId();
+      case RESOURCES:
+        return getResources();
 
-      case OBJECT:
-        return getObject();
+      case REQUEST_ID:
+        return getRequestId();
 
       }
       throw new IllegalStateException();
@@ -13820,10 +14730,10 @@ public class RemoteInterpreterService {
       }
 
       switch (field) {
-      case RESOURCE_ID:
-        return isSetResourceId();
-      case OBJECT:
-        return isSetObject();
+      case RESOURCES:
+        return isSetResources();
+      case REQUEST_ID:
+        return isSetRequestId();
       }
       throw new IllegalStateException();
     }
@@ -13832,30 +14742,30 @@ public class RemoteInterpreterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof resourceResponseGet_args)
-        return this.equals((resourceResponseGet_args)that);
+      if (that instanceof resourcePoolResponseGetAll_args)
+        return this.equals((resourcePoolResponseGetAll_args)that);
       return false;
     }
 
-    public boolean equals(resourceResponseGet_args that) {
+    public boolean equals(resourcePoolResponseGetAll_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_resourceId = true && this.isSetResourceId();
-      boolean that_present_resourceId = true && that.isSetResourceId();
-      if (this_present_resourceId || that_present_resourceId) {
-        if (!(this_present_resourceId && that_present_resourceId))
+      boolean this_present_resources = true && this.isSetResources();
+      boolean that_present_resources = true && that.isSetResources();
+      if (this_present_resources || that_present_resources) {
+        if (!(this_present_resources && that_present_resources))
           return false;
-        if (!this.resourceId.equals(that.resourceId))
+        if (!this.resources.equals(that.resources))
           return false;
       }
 
-      boolean this_present_object = true && this.isSetObject();
-      boolean that_present_object = true && that.isSetObject();
-      if (this_present_object || that_present_object) {
-        if (!(this_present_object && that_present_object))
+      boolean this_present_requestId = true && this.isSetRequestId();
+      boolean that_present_requestId = true && that.isSetRequestId();
+      if (this_present_requestId || that_present_requestId) {
+        if (!(this_present_requestId && that_present_requestId))
           return false;
-        if (!this.object.equals(that.object))
+        if (!this.requestId.equals(that.requestId))
           return false;
       }
 
@@ -13866,43 +14776,43 @@ public class RemoteInterpreterService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_resourceId = true && (isSetResourceId());
-      list.add(present_resourceId);
-      if (present_resourceId)
-        list.add(resourceId);
+      boolean present_resources = true && (isSetResources());
+      list.add(present_resources);
+      if (present_resources)
+        list.add(resources);
 
-      boolean present_object = true && (isSetObject());
-      list.add(present_object);
-      if (present_object)
-        list.add(object);
+      boolean present_requestId = true && (isSetRequestId());
+      list.add(present_requestId);
+      if (present_requestId)
+        list.add(requestId);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(resourceResponseGet_args other) {
+    public int compareTo(resourcePoolResponseGetAll_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetResourceId()).compareTo(other.isSetResourceId());
+      lastComparison = Boolean.valueOf(isSetResources()).compareTo(other.isSetResources());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetResourceId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.resourceId, other.resourceId);
+      if (isSetResources()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.resources, other.resources);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetObject()).compareTo(other.isSetObject());
+      lastComparison = Boolean.valueOf(isSetRequestId()).compareTo(other.isSetRequestId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetObject()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.object, other.object);
+      if (isSetRequestId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.requestId, other.requestId);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -13924,22 +14834,22 @@ public class RemoteInterpreterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("resourceResponseGet_args(");
+      StringBuilder sb = new StringBuilder("resourcePoolResponseGetAll_args(");
       boolean first = true;
 
-      sb.append("resourceId:");
-      if (this.resourceId == null) {
+      sb.append("resources:");
+      if (this.resources == null) {
         sb.append("null");
       } else {
-        sb.append(this.resourceId);
+        sb.append(this.resources);
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("object:");
-      if (this.object == null) {
+      sb.append("requestId:");
+      if (this.requestId == null) {
         sb.append("null");
       } else {
-        org.apache.thrift.TBaseHelper.toString(this.object, sb);
+        sb.append(this.requestId);
       }
       first = false;
       sb.append(")");
@@ -13967,15 +14877,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class resourceResponseGet_argsStandardSchemeFactory implements SchemeFactory {
-      public resourceResponseGet_argsStandardScheme getScheme() {
-        return new resourceResponseGet_argsStandardScheme();
+    private static class resourcePoolResponseGetAll_argsStandardSchemeFactory implements SchemeFactory {
+      public resourcePoolResponseGetAll_argsStandardScheme getScheme() {
+        return new resourcePoolResponseGetAll_argsStandardScheme();
       }
     }
 
-    private static class resourceResponseGet_argsStandardScheme extends StandardScheme<resourceResponseGet_args> {
+    private static class resourcePoolResponseGetAll_argsStandardScheme extends StandardScheme<resourcePoolResponseGetAll_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceResponseGet_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourcePoolResponseGetAll_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -13985,18 +14895,28 @@ public class RemoteInterpreterService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // RESOURCE_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.resourceId = iprot.readString();
-                struct.setResourceIdIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // OBJECT
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.object = iprot.readBinary();
-                struct.setObjectIsSet(true);
+            case 1: // RESOURCES
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list26 = iprot.readListBegin();
+                  struct.resources = new ArrayList<String>(_list26.size);
+                  String _elem27;
+                  for (int _i28 = 0; _i28 < _list26.size; ++_i28)
+                  {
+                    _elem27 = iprot.readString();
+                    struct.resources.add(_elem27);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setResourcesIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // REQUEST_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.requestId = iprot.readString();
+                struct.setRequestIdIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -14012,18 +14932,25 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceResponseGet_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourcePoolResponseGetAll_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.resourceId != null) {
-          oprot.writeFieldBegin(RESOURCE_ID_FIELD_DESC);
-          oprot.writeString(struct.resourceId);
+        if (struct.resources != null) {
+          oprot.writeFieldBegin(RESOURCES_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.resources.size()));
+            for (String _iter29 : struct.resources)
+            {
+              oprot.writeString(_iter29);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
-        if (struct.object != null) {
-          oprot.writeFieldBegin(OBJECT_FIELD_DESC);
-          oprot.writeBinary(struct.object);
+        if (struct.requestId != null) {
+          oprot.writeFieldBegin(REQUEST_ID_FIELD_DESC);
+          oprot.writeString(struct.requestId);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -14032,64 +14959,79 @@ public class RemoteInterpreterService {
 
     }
 
-    private static class resourceResponseGet_argsTupleSchemeFactory implements SchemeFactory {
-      public resourceResponseGet_argsTupleScheme getScheme() {
-        return new resourceResponseGet_argsTupleScheme();
+    private static class resourcePoolResponseGetAll_argsTupleSchemeFactory implements SchemeFactory {
+      public resourcePoolResponseGetAll_argsTupleScheme getScheme() {
+        return new resourcePoolResponseGetAll_argsTupleScheme();
       }
     }
 
-    private static class resourceResponseGet_argsTupleScheme extends TupleScheme<resourceResponseGet_args> {
+    private static class resourcePoolResponseGetAll_argsTupleScheme extends TupleScheme<resourcePoolResponseGetAll_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, resourceResponseGet_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourcePoolResponseGetAll_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetResourceId()) {
+        if (struct.isSetResources()) {
           optionals.set(0);
         }
-        if (struct.isSetObject()) {
+        if (struct.isSetRequestId()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
-        if (struct.isSetResourceId()) {
-          oprot.writeString(struct.resourceId);
+        if (struct.isSetResources()) {
+          {
+            oprot.writeI32(struct.resources.size());
+            for (String _iter30 : struct.resources)
+            {
+              oprot.writeString(_iter30);
+            }
+          }
         }
-        if (struct.isSetObject()) {
-          oprot.writeBinary(struct.object);
+        if (struct.isSetRequestId()) {
+          oprot.writeString(struct.requestId);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, resourceResponseGet_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourcePoolResponseGetAll_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.resourceId = iprot.readString();
-          struct.setResourceIdIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list31 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.resources = new ArrayList<String>(_list31.size);
+            String _elem32;
+            for (int _i33 = 0; _i33 < _list31.size; ++_i33)
+            {
+              _elem32 = iprot.readString();
+              struct.resources.add(_elem32);
+            }
+          }
+          struct.setResourcesIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.object = iprot.readBinary();
-          struct.setObjectIsSet(true);
+          struct.requestId = iprot.readString();
+          struct.setRequestIdIsSet(true);
         }
       }
     }
 
   }
 
-  public static class resourceResponseGet_result implements org.apache.thrift.TBase<resourceResponseGet_result, resourceResponseGet_result._Fields>, java.io.Serializable, Cloneable, Comparable<resourceResponseGet_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceResponseGet_result");
+  public static class resourcePoolResponseGetAll_result implements org.apache.thrift.TBase<resourcePoolResponseGetAll_result, resourcePoolResponseGetAll_result._Fields>, java.io.Serializable, Cloneable, Comparable<resourcePoolResponseGetAll_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourcePoolResponseGetAll_result");
 
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new resourceResponseGet_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new resourceResponseGet_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new resourcePoolResponseGetAll_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new resourcePoolResponseGetAll_resultTupleSchemeFactory());
     }
 
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+  ;
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -14142,24 +15084,26 @@ public class RemoteInterpreterService {
         return _fieldName;
       }
     }
+
+    // isset id assignments
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceResponseGet_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourcePoolResponseGetAll_result.class, metaDataMap);
     }
 
-    public resourceResponseGet_result() {
+    public resourcePoolResponseGetAll_result() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public resourceResponseGet_result(resourceResponseGet_result other) {
+    public resourcePoolResponseGetAll_result(resourcePoolResponseGetAll_result other) {
     }
 
-    public resourceResponseGet_result deepCopy() {
-      return new resourceResponseGet_result(this);
+    public resourcePoolResponseGetAll_result deepCopy() {
+      return new resourcePoolResponseGetAll_result(this);
     }
 
     @Override
@@ -14192,12 +15136,12 @@ public class RemoteInterpreterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof resourceResponseGet_result)
-        return this.equals((resourceResponseGet_result)that);
+      if (that instanceof resourcePoolResponseGetAll_result)
+        return this.equals((resourcePoolResponseGetAll_result)that);
       return false;
     }
 
-    public boolean equals(resourceResponseGet_result that) {
+    public boolean equals(resourcePoolResponseGetAll_result that) {
       if (that == null)
         return false;
 
@@ -14212,7 +15156,7 @@ public class RemoteInterpreterService {
     }
 
     @Override
-    public int compareTo(resourceResponseGet_result other) {
+    public int compareTo(resourcePoolResponseGetAll_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -14236,7 +15180,7 @@ public class RemoteInterpreterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("resourceResponseGet_result(");
+      StringBuilder sb = new StringBuilder("resourcePoolResponseGetAll_result(");
       boolean first = true;
 
       sb.append(")");
@@ -14264,15 +15208,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class resourceResponseGet_resultStandardSchemeFactory implements SchemeFactory {
-      public resourceResponseGet_resultStandardScheme getScheme() {
-        return new resourceResponseGet_resultStandardScheme();
+    private static class resourcePoolResponseGetAll_resultStandardSchemeFactory implements SchemeFactory {
+      public resourcePoolResponseGetAll_resultStandardScheme getScheme() {
+        return new resourcePoolResponseGetAll_resultStandardScheme();
       }
     }
 
-    private static class resourceResponseGet_resultStandardScheme extends StandardScheme<resourceResponseGet_result> {
+    private static class resourcePoolResponseGetAll_resultStandardScheme extends StandardScheme<resourcePoolResponseGetAll_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceResponseGet_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourcePoolResponseGetAll_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -14293,7 +15237,7 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceResponseGet_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourcePoolResponseGetAll_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -14303,45 +15247,45 @@ public class RemoteInterpreterService {
 
     }
 
-    private static class resourceResponseGet_resultTupleSchemeFactory implements SchemeFactory {
-      public resourceResponseGet_resultTupleScheme getScheme() {
-        return new resourceResponseGet_resultTupleScheme();
+    private static class resourcePoolResponseGetAll_resultTupleSchemeFactory implements SchemeFactory {
+      public resourcePoolResponseGetAll_resultTupleScheme getScheme() {
+        return new resourcePoolResponseGetAll_resultTupleScheme();
       }
     }
 
-    private static class resourceResponseGet_resultTupleScheme extends TupleScheme<resourceResponseGet_result> {
+    private static class resourcePoolResponseGetAll_resultTupleScheme extends TupleScheme<resourcePoolResponseGetAll_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, resourceResponseGet_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourcePoolResponseGetAll_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, resourceResponseGet_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourcePoolResponseGetAll_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
       }
     }
 
   }
 
-  public static class resourceResponseInvokeMethod_args implements org.apache.thrift.TBase<resourceResponseInvokeMethod_args, resourceResponseInvokeMethod_args._Fields>, java.io.Serializable, Cloneable, Comparable<resourceResponseInvokeMethod_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceResponseInvokeMethod_args");
+  public static class resourceResponseGet_args implements org.apache.thrift.TBase<resourceResponseGet_args, resourceResponseGet_args._Fields>, java.io.Serializable, Cloneable, Comparable<resourceResponseGet_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceResponseGet_args");
 
-    private static final org.apache.thrift.protocol.TField INVOKE_MESSAGE_FIELD_DESC = new org.apache.thrift.protocol.TField("invokeMessage", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField RESOURCE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("resourceId", org.apache.thrift.protocol.TType.STRING, (short)1);
     private static final org.apache.thrift.protocol.TField OBJECT_FIELD_DESC = new org.apache.thrift.protocol.TField("object", org.apache.thrift.protocol.TType.STRING, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new resourceResponseInvokeMethod_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new resourceResponseInvokeMethod_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new resourceResponseGet_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new resourceResponseGet_argsTupleSchemeFactory());
     }
 
-    public String invokeMessage; // required
+    public String resourceId; // required
     public ByteBuffer object; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      INVOKE_MESSAGE((short)1, "invokeMessage"),
+      RESOURCE_ID((short)1, "resourceId"),
       OBJECT((short)2, "object");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
@@ -14357,8 +15301,8 @@ public class RemoteInterpreterService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // INVOKE_MESSAGE
-            return INVOKE_MESSAGE;
+          case 1: // RESOURCE_ID
+            return RESOURCE_ID;
           case 2: // OBJECT
             return OBJECT;
           default:
@@ -14404,69 +15348,69 @@ public class RemoteInterpreterService {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.INVOKE_MESSAGE, new org.apache.thrift.meta_data.FieldMetaData("invokeMessage", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.RESOURCE_ID, new org.apache.thrift.meta_data.FieldMetaData("resourceId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       tmpMap.put(_Fields.OBJECT, new org.apache.thrift.meta_data.FieldMetaData("object", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceResponseInvokeMethod_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceResponseGet_args.class, metaDataMap);
     }
 
-    public resourceResponseInvokeMethod_args() {
+    public resourceResponseGet_args() {
     }
 
-    public resourceResponseInvokeMethod_args(
-      String invokeMessage,
+    public resourceResponseGet_args(
+      String resourceId,
       ByteBuffer object)
     {
       this();
-      this.invokeMessage = invokeMessage;
+      this.resourceId = resourceId;
       this.object = org.apache.thrift.TBaseHelper.copyBinary(object);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public resourceResponseInvokeMethod_args(resourceResponseInvokeMethod_args other) {
-      if (other.isSetInvokeMessage()) {
-        this.invokeMessage = other.invokeMessage;
+    public resourceResponseGet_args(resourceResponseGet_args other) {
+      if (other.isSetResourceId()) {
+        this.resourceId = other.resourceId;
       }
       if (other.isSetObject()) {
         this.object = org.apache.thrift.TBaseHelper.copyBinary(other.object);
       }
     }
 
-    public resourceResponseInvokeMethod_args deepCopy() {
-      return new resourceResponseInvokeMethod_args(this);
+    public resourceResponseGet_args deepCopy() {
+      return new resourceResponseGet_args(this);
     }
 
     @Override
     public void clear() {
-      this.invokeMessage = null;
+      this.resourceId = null;
       this.object = null;
     }
 
-    public String getInvokeMessage() {
-      return this.invokeMessage;
+    public String getResourceId() {
+      return this.resourceId;
     }
 
-    public resourceResponseInvokeMethod_args setInvokeMessage(String invokeMessage) {
-      this.invokeMessage = invokeMessage;
+    public resourceResponseGet_args setResourceId(String resourceId) {
+      this.resourceId = resourceId;
       return this;
     }
 
-    public void unsetInvokeMessage() {
-      this.invokeMessage = null;
+    public void unsetResourceId() {
+      this.resourceId = null;
     }
 
-    /** Returns true if field invokeMessage is set (has been assigned a value) and false otherwise */
-    public boolean isSetInvokeMessage() {
-      return this.invokeMessage != null;
+    /** Returns true if field resourceId is set (has been assigned a value) and false otherwise */
+    public boolean isSetResourceId() {
+      return this.resourceId != null;
     }
 
-    public void setInvokeMessageIsSet(boolean value) {
+    public void setResourceIdIsSet(boolean value) {
       if (!value) {
-        this.invokeMessage = null;
+        this.resourceId = null;
       }
     }
 
@@ -14479,12 +15423,12 @@ public class RemoteInterpreterService {
       return org.apache.thrift.TBaseHelper.copyBinary(object);
     }
 
-    public resourceResponseInvokeMethod_args setObject(byte[] object) {
+    public resourceResponseGet_args setObject(byte[] object) {
       this.object = object == null ? (ByteBuffer)null : ByteBuffer.wrap(Arrays.copyOf(object, object.length));
       return this;
     }
 
-    public resourceResponseInvokeMethod_args setObject(ByteBuffer object) {
+    public resourceResponseGet_args setObject(ByteBuffer object) {
       this.object = org.apache.thrift.TBaseHelper.copyBinary(object);
       return this;
     }
@@ -14506,11 +15450,11 @@ public class RemoteInterpreterService {
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case INVOKE_MESSAGE:
+      case RESOURCE_ID:
         if (value == null) {
-          unsetInvokeMessage();
+          unsetResourceId();
         } else {
-          setInvokeMessage((String)value);
+          setResourceId((String)value);
         }
         break;
 
@@ -14527,8 +15471,8 @@ public class RemoteInterpreterService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case INVOKE_MESSAGE:
-        return getInvokeMessage();
+      case RESOURCE_ID:
+        return getResourceId();
 
       case OBJECT:
         return getObject();
@@ -14544,8 +15488,8 @@ public class RemoteInterpreterService {
       }
 
       switch (field) {
-      case INVOKE_MESSAGE:
-        return isSetInvokeMessage();
+      case RESOURCE_ID:
+        return isSetResourceId();
       case OBJECT:
         return isSetObject();
       }
@@ -14556,21 +15500,21 @@ public class RemoteInterpreterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof resourceResponseInvokeMethod_args)
-        return this.equals((resourceResponseInvokeMethod_args)that);
+      if (that instanceof resourceResponseGet_args)
+        return this.equals((resourceResponseGet_args)that);
       return false;
     }
 
-    public boolean equals(resourceResponseInvokeMethod_args that) {
+    public boolean equals(resourceResponseGet_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_invokeMessage = true && this.isSetInvokeMessage();
-      boolean that_present_invokeMessage = true && that.isSetInvokeMessage();
-      if (this_present_invokeMessage || that_present_invokeMessage) {
-        if (!(this_present_invokeMessage && that_present_invokeMessage))
+      boolean this_present_resourceId = true && this.isSetResourceId();
+      boolean that_present_resourceId = true && that.isSetResourceId();
+      if (this_present_resourceId || that_present_resourceId) {
+        if (!(this_present_resourceId && that_present_resourceId))
           return false;
-        if (!this.invokeMessage.equals(that.invokeMessage))
+        if (!this.resourceId.equals(that.resourceId))
           return false;
       }
 
@@ -14590,10 +15534,10 @@ public class RemoteInterpreterService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_invokeMessage = true && (isSetInvokeMessage());
-      list.add(present_invokeMessage);
-      if (present_invokeMessage)
-        list.add(invokeMessage);
+      boolean present_resourceId = true && (isSetResourceId());
+      list.add(present_resourceId);
+      if (present_resourceId)
+        list.add(resourceId);
 
       boolean present_object = true && (isSetObject());
       list.add(present_object);
@@ -14604,19 +15548,19 @@ public class RemoteInterpreterService {
     }
 
     @Override
-    public int compareTo(resourceResponseInvokeMethod_args other) {
+    public int compareTo(resourceResponseGet_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetInvokeMessage()).compareTo(other.isSetInvokeMessage());
+      lastComparison = Boolean.valueOf(isSetResourceId()).compareTo(other.isSetResourceId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetInvokeMessage()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.invokeMessage, other.invokeMessage);
+      if (isSetResourceId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.resourceId, other.resourceId);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -14648,14 +15592,14 @@ public class RemoteInterpreterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("resourceResponseInvokeMethod_args(");
+      StringBuilder sb = new StringBuilder("resourceResponseGet_args(");
       boolean first = true;
 
-      sb.append("invokeMessage:");
-      if (this.invokeMessage == null) {
+      sb.append("resourceId:");
+      if (this.resourceId == null) {
         sb.append("null");
       } else {
-        sb.append(this.invokeMessage);
+        sb.append(this.resourceId);
       }
       first = false;
       if (!first) sb.append(", ");
@@ -14691,15 +15635,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class resourceResponseInvokeMethod_argsStandardSchemeFactory implements SchemeFactory {
-      public resourceResponseInvokeMethod_argsStandardScheme getScheme() {
-        return new resourceResponseInvokeMethod_argsStandardScheme();
+    private static class resourceResponseGet_argsStandardSchemeFactory implements SchemeFactory {
+      public resourceResponseGet_argsStandardScheme getScheme() {
+        return new resourceResponseGet_argsStandardScheme();
       }
     }
 
-    private static class resourceResponseInvokeMethod_argsStandardScheme extends StandardScheme<resourceResponseInvokeMethod_args> {
+    private static class resourceResponseGet_argsStandardScheme extends StandardScheme<resourceResponseGet_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceResponseInvokeMethod_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceResponseGet_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -14709,10 +15653,10 @@ public class RemoteInterpreterService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // INVOKE_MESSAGE
+            case 1: // RESOURCE_ID
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.invokeMessage = iprot.readString();
-                struct.setInvokeMessageIsSet(true);
+                struct.resourceId = iprot.readString();
+                struct.setResourceIdIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -14736,13 +15680,13 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceResponseInvokeMethod_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceResponseGet_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.invokeMessage != null) {
-          oprot.writeFieldBegin(INVOKE_MESSAGE_FIELD_DESC);
-          oprot.writeString(struct.invokeMessage);
+        if (struct.resourceId != null) {
+          oprot.writeFieldBegin(RESOURCE_ID_FIELD_DESC);
+          oprot.writeString(struct.resourceId);
           oprot.writeFieldEnd();
         }
         if (struct.object != null) {
@@ -14756,27 +15700,27 @@ public class RemoteInterpreterService {
 
     }
 
-    private static class resourceResponseInvokeMethod_argsTupleSchemeFactory implements SchemeFactory {
-      public resourceResponseInvokeMethod_argsTupleScheme getScheme() {
-        return new resourceResponseInvokeMethod_argsTupleScheme();
+    private static class resourceResponseGet_argsTupleSchemeFactory implements SchemeFactory {
+      public resourceResponseGet_argsTupleScheme getScheme() {
+        return new resourceResponseGet_argsTupleScheme();
       }
     }
 
-    private static class resourceResponseInvokeMethod_argsTupleScheme extends TupleScheme<resourceResponseInvokeMethod_args> {
+    private static class resourceResponseGet_argsTupleScheme extends TupleScheme<resourceResponseGet_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, resourceResponseInvokeMethod_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourceResponseGet_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetInvokeMessage()) {
+        if (struct.isSetResourceId()) {
           optionals.set(0);
         }
         if (struct.isSetObject()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
-        if (struct.isSetInvokeMessage()) {
-          oprot.writeString(struct.invokeMessage);
+        if (struct.isSetResourceId()) {
+          oprot.writeString(struct.resourceId);
         }
         if (struct.isSetObject()) {
           oprot.writeBinary(struct.object);
@@ -14784,12 +15728,12 @@ public class RemoteInterpreterService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, resourceResponseInvokeMethod_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourceResponseGet_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.invokeMessage = iprot.readString();
-          struct.setInvokeMessageIsSet(true);
+          struct.resourceId = iprot.readString();
+          struct.setResourceIdIsSet(true);
         }
         if (incoming.get(1)) {
           struct.object = iprot.readBinary();
@@ -14800,14 +15744,14 @@ public class RemoteInterpreterService {
 
   }
 
-  public static class resourceResponseInvokeMethod_result implements org.apache.thrift.TBase<resourceResponseInvokeMethod_result, resourceResponseInvokeMethod_result._Fields>, java.io.Serializable, Cloneable, Comparable<resourceResponseInvokeMethod_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceResponseInvokeMethod_result");
+  public static class resourceResponseGet_result implements org.apache.thrift.TBase<resourceResponseGet_result, resourceResponseGet_result._Fields>, java.io.Serializable, Cloneable, Comparable<resourceResponseGet_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceResponseGet_result");
 
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new resourceResponseInvokeMethod_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new resourceResponseInvokeMethod_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new resourceResponseGet_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new resourceResponseGet_resultTupleSchemeFactory());
     }
 
 
@@ -14870,20 +15814,20 @@ public class RemoteInterpreterService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceResponseInvokeMethod_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceResponseGet_result.class, metaDataMap);
     }
 
-    public resourceResponseInvokeMethod_result() {
+    public resourceResponseGet_result() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public resourceResponseInvokeMethod_result(resourceResponseInvokeMethod_result other) {
+    public resourceResponseGet_result(resourceResponseGet_result other) {
     }
 
-    public resourceResponseInvokeMethod_result deepCopy() {
-      return new resourceResponseInvokeMethod_result(this);
+    public resourceResponseGet_result deepCopy() {
+      return new resourceResponseGet_result(this);
     }
 
     @Override
@@ -14916,12 +15860,12 @@ public class RemoteInterpreterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof resourceResponseInvokeMethod_result)
-        return this.equals((resourceResponseInvokeMethod_result)that);
+      if (that instanceof resourceResponseGet_result)
+        return this.equals((resourceResponseGet_result)that);
       return false;
     }
 
-    public boolean equals(resourceResponseInvokeMethod_result that) {
+    public boolean equals(resourceResponseGet_result that) {
       if (that == null)
         return false;
 
@@ -14936,7 +15880,7 @@ public class RemoteInterpreterService {
     }
 
     @Override
-    public int compareTo(resourceResponseInvokeMethod_result other) {
+    public int compareTo(resourceResponseGet_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -14960,7 +15904,7 @@ public class RemoteInterpreterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("resourceResponseInvokeMethod_result(");
+      StringBuilder sb = new StringBuilder("resourceResponseGet_result(");
       boolean first = true;
 
       sb.append(")");
@@ -14988,15 +15932,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class resourceResponseInvokeMethod_resultStandardSchemeFactory implements SchemeFactory {
-      public resourceResponseInvokeMethod_resultStandardScheme getScheme() {
-        return new resourceResponseInvokeMethod_resultStandardScheme();
+    private static class resourceResponseGet_resultStandardSchemeFactory implements SchemeFactory {
+      public resourceResponseGet_resultStandardScheme getScheme() {
+        return new resourceResponseGet_resultStandardScheme();
       }
     }
 
-    private static class resourceResponseInvokeMethod_resultStandardScheme extends StandardScheme<resourceResponseInvokeMethod_result> {
+    private static class resourceResponseGet_resultStandardScheme extends StandardScheme<resourceResponseGet_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceResponseInvokeMethod_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceResponseGet_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -15017,7 +15961,7 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceResponseInvokeMethod_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceResponseGet_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -15027,41 +15971,52 @@ public class RemoteInterpreterService {
 
     }
 
-    private static class resourceResponseInvokeMethod_resultTupleSchemeFactory implements SchemeFactory {
-      public resourceResponseInvokeMethod_resultTupleScheme getScheme() {
-        return new resourceResponseInvokeMethod_resultTupleScheme();
+    private static class resourceResponseGet_resultTupleSchemeFactory implements SchemeFactory {
+      public resourceResponseGet_resultTupleScheme getScheme() {
+        return new resourceResponseGet_resultTupleScheme();
       }
     }
 
-    private static class resourceResponseInvokeMethod_resultTupleScheme extends TupleScheme<resourceResponseInvokeMethod_result> {
+    private static class resourceResponseGet_resultTupleScheme extends TupleScheme<resourceResponseGet_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, resourceResponseInvokeMethod_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourceResponseGet_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, resourceResponseInvokeMethod_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourceResponseGet_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
       }
     }
 
   }
 
-  public static class resourcePoolGetAll_args implements org.apache.thrift.TBase<resourcePoolGetAll_args, resourcePoolGetAll_args._Fields>, java.io.Serializable, Cloneable, Comparable<resourcePoolGetAll_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourcePoolGetAll_args");
+  public static class resourceResponseGetChunk_args implements org.apache.thrift.TBase<resourceResponseGetChunk_args, resourceResponseGetChunk_args._Fields>, java.io.Serializable, Cloneable, Comparable<resourceResponseGetChunk_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceResponseGetChunk_args");
 
+    private static final org.apache.thrift.protocol.TField GET_RESOURCE_MESSAGE_FIELD_DESC = new org.apache.thrift.protocol.TField("getResourceMessage", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField TRANSFER_FIELD_DESC = new org.apache.thrift.protocol.TField("transfer", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField CHUNK_FIELD_DESC = new org.apache.thrift.protocol.TField("chunk", org.apache.thrift.protocol.TType.STRING, (short)3);
+    private static final org.apache.thrift.protocol.TField LAST_FIELD_DESC = new org.apache.thrift.protocol.TField("last", org.apache.thrift.protocol.TType.BOOL, (short)4);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new resourcePoolGetAll_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new resourcePoolGetAll_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new resourceResponseGetChunk_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new resourceResponseGetChunk_argsTupleSchemeFactory());
     }
 
+    public String getResourceMessage; // required
+    public String transfer; // required
+    public ByteBuffer chunk; // required
+    public boolean last; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      GET_RESOURCE_MESSAGE((short)1, "getResourceMessage"),
+      TRANSFER((short)2, "transfer"),
+      CHUNK((short)3, "chunk"),
+      LAST((short)4, "last");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -15076,6 +16031,14 @@ public class RemoteInterpreterService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 1: // GET_RESOURCE_MESSAGE
+            return GET_RESOURCE_MESSAGE;
+          case 2: // TRANSFER
+            return TRANSFER;
+          case 3: // CHUNK
+            return CHUNK;
+          case 4: // LAST
+            return LAST;
           default:
             return null;
         }
@@ -15114,37 +16077,228 @@ public class RemoteInterpreterService {
         return _fieldName;
       }
     }
+
+    // isset id assignments
+    private static final int __LAST_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.GET_RESOURCE_MESSAGE, new org.apache.thrift.meta_data.FieldMetaData("getResourceMessage", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.TRANSFER, new org.apache.thrift.meta_data.FieldMetaData("transfer", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.CHUNK, new org.apache.thrift.meta_data.FieldMetaData("chunk", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING            , true)));
+      tmpMap.put(_Fields.LAST, new org.apache.thrift.meta_data.FieldMetaData("last", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourcePoolGetAll_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceResponseGetChunk_args.class, metaDataMap);
     }
 
-    public resourcePoolGetAll_args() {
+    public resourceResponseGetChunk_args() {
+    }
+
+    public resourceResponseGetChunk_args(
+      String getResourceMessage,
+      String transfer,
+      ByteBuffer chunk,
+      boolean last)
+    {
+      this();
+      this.getResourceMessage = getResourceMessage;
+      this.transfer = transfer;
+      this.chunk = org.apache.thrift.TBaseHelper.copyBinary(chunk);
+      this.last = last;
+      setLastIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public resourcePoolGetAll_args(resourcePoolGetAll_args other) {
+    public resourceResponseGetChunk_args(resourceResponseGetChunk_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetGetResourceMessage()) {
+        this.getResourceMessage = other.getResourceMessage;
+      }
+      if (other.isSetTransfer()) {
+        this.transfer = other.transfer;
+      }
+      if (other.isSetChunk()) {
+        this.chunk = org.apache.thrift.TBaseHelper.copyBinary(other.chunk);
+      }
+      this.last = other.last;
     }
 
-    public resourcePoolGetAll_args deepCopy() {
-      return new resourcePoolGetAll_args(this);
+    public resourceResponseGetChunk_args deepCopy() {
+      return new resourceResponseGetChunk_args(this);
     }
 
     @Override
     public void clear() {
+      this.getResourceMessage = null;
+      this.transfer = null;
+      this.chunk = null;
+      setLastIsSet(false);
+      this.last = false;
+    }
+
+    public String getGetResourceMessage() {
+      return this.getResourceMessage;
+    }
+
+    public resourceResponseGetChunk_args setGetResourceMessage(String getResourceMessage) {
+      this.getResourceMessage = getResourceMessage;
+      return this;
+    }
+
+    public void unsetGetResourceMessage() {
+      this.getResourceMessage = null;
+    }
+
+    /** Returns true if field getResourceMessage is set (has been assigned a value) and false otherwise */
+    public boolean isSetGetResourceMessage() {
+      return this.getResourceMessage != null;
+    }
+
+    public void setGetResourceMessageIsSet(boolean value) {
+      if (!value) {
+        this.getResourceMessage = null;
+      }
+    }
+
+    public String getTransfer() {
+      return this.transfer;
+    }
+
+    public resourceResponseGetChunk_args setTransfer(String transfer) {
+      this.transfer = transfer;
+      return this;
+    }
+
+    public void unsetTransfer() {
+      this.transfer = null;
+    }
+
+    /** Returns true if field transfer is set (has been assigned a value) and false otherwise */
+    public boolean isSetTransfer() {
+      return this.transfer != null;
+    }
+
+    public void setTransferIsSet(boolean value) {
+      if (!value) {
+        this.transfer = null;
+      }
+    }
+
+    public byte[] getChunk() {
+      setChunk(org.apache.thrift.TBaseHelper.rightSize(chunk));
+      return chunk == null ? null : chunk.array();
+    }
+
+    public ByteBuffer bufferForChunk() {
+      return org.apache.thrift.TBaseHelper.copyBinary(chunk);
+    }
+
+    public resourceResponseGetChunk_args setChunk(byte[] chunk) {
+      this.chunk = chunk == null ? (ByteBuffer)null : ByteBuffer.wrap(Arrays.copyOf(chunk, chunk.length));
+      return this;
+    }
+
+    public resourceResponseGetChunk_args setChunk(ByteBuffer chunk) {
+      this.chunk = org.apache.thrift.TBaseHelper.copyBinary(chunk);
+      return this;
+    }
+
+    public void unsetChunk() {
+      this.chunk = null;
+    }
+
+    /** Returns true if field chunk is set (has been assigned a value) and false otherwise */
+    public boolean isSetChunk() {
+      return this.chunk != null;
+    }
+
+    public void setChunkIsSet(boolean value) {
+      if (!value) {
+        this.chunk = null;
+      }
+    }
+
+    public boolean isLast() {
+      return this.last;
+    }
+
+    public resourceResponseGetChunk_args setLast(boolean last) {
+      this.last = last;
+      setLastIsSet(true);
+      return this;
+    }
+
+    public void unsetLast() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __LAST_ISSET_ID);
+    }
+
+    /** Returns true if field last is set (has been assigned a value) and false otherwise */
+    public boolean isSetLast() {
+      return EncodingUtils.testBit(__isset_bitfield, __LAST_ISSET_ID);
+    }
+
+    public void setLastIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __LAST_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
+      case GET_RESOURCE_MESSAGE:
+        if (value == null) {
+          unsetGetResourceMessage();
+        } else {
+          setGetResourceMessage((String)value);
+        }
+        break;
+
+      case TRANSFER:
+        if (value == null) {
+          unsetTransfer();
+        } else {
+          setTransfer((String)value);
+        }
+        break;
+
+      case CHUNK:
+        if (value == null) {
+          unsetChunk();
+        } else {
+          setChunk((ByteBuffer)value);
+        }
+        break;
+
+      case LAST:
+        if (value == null) {
+          unsetLast();
+        } else {
+          setLast((Boolean)value);
+        }
+        break;
+
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
+      case GET_RESOURCE_MESSAGE:
+        return getGetResourceMessage();
+
+      case TRANSFER:
+        return getTransfer();
+
+      case CHUNK:
+        return getChunk();
+
+      case LAST:
+        return Boolean.valueOf(isLast());
+
       }
       throw new IllegalStateException();
     }
@@ -15156,6 +16310,14 @@ public class RemoteInterpreterService {
       }
 
       switch (field) {
+      case GET_RESOURCE_MESSAGE:
+        return isSetGetResourceMessage();
+      case TRANSFER:
+        return isSetTransfer();
+      case CHUNK:
+        return isSetChunk();
+      case LAST:
+        return isSetLast();
       }
       throw new IllegalStateException();
     }
@@ -15164,15 +16326,51 @@ public class RemoteInterpreterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof resourcePoolGetAll_args)
-        return this.equals((resourcePoolGetAll_args)that);
+      if (that instanceof resourceResponseGetChunk_args)
+        return this.equals((resourceResponseGetChunk_args)that);
       return false;
     }
 
-    public boolean equals(resourcePoolGetAll_args that) {
+    public boolean equals(resourceResponseGetChunk_args that) {
       if (that == null)
         return false;
 
+      boolean this_present_getResourceMessage = true && this.isSetGetResourceMessage();
+      boolean that_present_getResourceMessage = true && that.isSetGetResourceMessage();
+      if (this_present_getResourceMessage || that_present_getResourceMessage) {
+        if (!(this_present_getResourceMessage && that_present_getResourceMessage))
+          return false;
+        if (!this.getResourceMessage.equals(that.getResourceMessage))
+          return false;
+      }
+
+      boolean this_present_transfer = true && this.isSetTransfer();
+      boolean that_present_transfer = true && that.isSetTransfer();
+      if (this_present_transfer || that_present_transfer) {
+        if (!(this_present_transfer && that_present_transfer))
+          return false;
+        if (!this.transfer.equals(that.transfer))
+          return false;
+      }
+
+      boolean this_present_chunk = true && this.isSetChunk();
+      boolean that_present_chunk = true && that.isSetChunk();
+      if (this_present_chunk || that_present_chunk) {
+        if (!(this_present_chunk && that_present_chunk))
+          return false;
+        if (!this.chunk.equals(that.chunk))
+          return false;
+      }
+
+      boolean this_present_last = true;
+      boolean that_present_last = true;
+      if (this_present_last || that_present_last) {
+        if (!(this_present_last && that_present_last))
+          return false;
+        if (this.last != that.last)
+          return false;
+      }
+
       return true;
     }
 
@@ -15180,17 +16378,77 @@ public class RemoteInterpreterService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
+      boolean present_getResourceMessage = true && (isSetGetResourceMessage());
+      list.add(present_getResourceMessage);
+      if (present_getResourceMessage)
+        list.add(getResourceMessage);
+
+      boolean present_transfer = true && (isSetTransfer());
+      list.add(present_transfer);
+      if (present_transfer)
+        list.add(transfer);
+
+      boolean present_chunk = true && (isSetChunk());
+      list.add(present_chunk);
+      if (present_chunk)
+        list.add(chunk);
+
+      boolean present_last = true;
+      list.add(present_last);
+      if (present_last)
+        list.add(last);
+
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(resourcePoolGetAll_args other) {
+    public int compareTo(resourceResponseGetChunk_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = Boolean.valueOf(isSetGetResourceMessage()).compareTo(other.isSetGetResourceMessage());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetGetResourceMessage()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.getResourceMessage, other.getResourceMessage);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetTransfer()).compareTo(other.isSetTransfer());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetTransfer()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.transfer, other.transfer);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetChunk()).compareTo(other.isSetChunk());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetChunk()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.chunk, other.chunk);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetLast()).compareTo(other.isSetLast());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetLast()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.last, other.last);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -15208,9 +16466,36 @@ public class RemoteInterpreterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("resourcePoolGetAll_args(");
+      StringBuilder sb = new StringBuilder("resourceResponseGetChunk_args(");
       boolean first = true;
 
+      sb.append("getResourceMessage:");
+      if (this.getResourceMessage == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.getResourceMessage);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("transfer:");
+      if (this.transfer == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.transfer);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("chunk:");
+      if (this.chunk == null) {
+        sb.append("null");
+      } else {
+        org.apache.thrift.TBaseHelper.toString(this.chunk, sb);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("last:");
+      sb.append(this.last);
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -15230,21 +16515,23 @@ public class RemoteInterpreterService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class resourcePoolGetAll_argsStandardSchemeFactory implements SchemeFactory {
-      public resourcePoolGetAll_argsStandardScheme getScheme() {
-        return new resourcePoolGetAll_argsStandardScheme();
+    private static class resourceResponseGetChunk_argsStandardSchemeFactory implements SchemeFactory {
+      public resourceResponseGetChunk_argsStandardScheme getScheme() {
+        return new resourceResponseGetChunk_argsStandardScheme();
       }
     }
 
-    private static class resourcePoolGetAll_argsStandardScheme extends StandardScheme<resourcePoolGetAll_args> {
+    private static class resourceResponseGetChunk_argsStandardScheme extends StandardScheme<resourceResponseGetChunk_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, resourcePoolGetAll_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceResponseGetChunk_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -15254,6 +16541,38 @@ public class RemoteInterpreterService {
             break;
           }
           switch (schemeField.id) {
+            case 1: // GET_RESOURCE_MESSAGE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.getResourceMessage = iprot.readString();
+                struct.setGetResourceMessageIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // TRANSFER
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.transfer = iprot.readString();
+                struct.setTransferIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // CHUNK
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.chunk = iprot.readBinary();
+                struct.setChunkIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // LAST
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.last = iprot.readBool();
+                struct.setLastIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -15265,53 +16584,112 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, resourcePoolGetAll_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceResponseGetChunk_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.getResourceMessage != null) {
+          oprot.writeFieldBegin(GET_RESOURCE_MESSAGE_FIELD_DESC);
+          oprot.writeString(struct.getResourceMessage);
+          oprot.writeFieldEnd();
+        }
+        if (struct.transfer != null) {
+          oprot.writeFieldBegin(TRANSFER_FIELD_DESC);
+          oprot.writeString(struct.transfer);
+          oprot.writeFieldEnd();
+        }
+        if (struct.chunk != null) {
+          oprot.writeFieldBegin(CHUNK_FIELD_DESC);
+          oprot.writeBinary(struct.chunk);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(LAST_FIELD_DESC);
+        oprot.writeBool(struct.last);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class resourcePoolGetAll_argsTupleSchemeFactory implements SchemeFactory {
-      public resourcePoolGetAll_argsTupleScheme getScheme() {
-        return new resourcePoolGetAll_argsTupleScheme();
+    private static class resourceResponseGetChunk_argsTupleSchemeFactory implements SchemeFactory {
+      public resourceResponseGetChunk_argsTupleScheme getScheme() {
+        return new resourceResponseGetChunk_argsTupleScheme();
       }
     }
 
-    private static class resourcePoolGetAll_argsTupleScheme extends TupleScheme<resourcePoolGetAll_args> {
+    private static class resourceResponseGetChunk_argsTupleScheme extends TupleScheme<resourceResponseGetChunk_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, resourcePoolGetAll_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourceResponseGetChunk_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetGetResourceMessage()) {
+          optionals.set(0);
+        }
+        if (struct.isSetTransfer()) {
+          optionals.set(1);
+        }
+        if (struct.isSetChunk()) {
+          optionals.set(2);
+        }
+        if (struct.isSetLast()) {
+          optionals.set(3);
+        }
+        oprot.writeBitSet(optionals, 4);
+        if (struct.isSetGetResourceMessage()) {
+          oprot.writeString(struct.getResourceMessage);
+        }
+        if (struct.isSetTransfer()) {
+          oprot.writeString(struct.transfer);
+        }
+        if (struct.isSetChunk()) {
+          oprot.writeBinary(struct.chunk);
+        }
+        if (struct.isSetLast()) {
+          oprot.writeBool(struct.last);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, resourcePoolGetAll_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourceResponseGetChunk_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(4);
+        if (incoming.get(0)) {
+          struct.getResourceMessage = iprot.readString();
+          struct.setGetResourceMessageIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.transfer = iprot.readString();
+          struct.setTransferIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.chunk = iprot.readBinary();
+          struct.setChunkIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.last = iprot.readBool();
+          struct.setLastIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class resourcePoolGetAll_result implements org.apache.thrift.TBase<resourcePoolGetAll_result, resourcePoolGetAll_result._Fields>, java.io.Serializable, Cloneable, Comparable<resourcePoolGetAll_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourcePoolGetAll_result");
+  public static class resourceResponseGetChunk_result implements org.apache.thrift.TBase<resourceResponseGetChunk_result, resourceResponseGetChunk_result._Fields>, java.io.Serializable, Cloneable, Comparable<resourceResponseGetChunk_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceResponseGetChunk_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new resourcePoolGetAll_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new resourcePoolGetAll_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new resourceResponseGetChunk_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new resourceResponseGetChunk_resultTupleSchemeFactory());
     }
 
-    public List<String> success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success");
+  ;
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -15326,8 +16704,6 @@ public class RemoteInterpreterService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 0: // SUCCESS
-            return SUCCESS;
           default:
             return null;
         }
@@ -15371,99 +16747,34 @@ public class RemoteInterpreterService {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
-              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourcePoolGetAll_result.class, metaDataMap);
-    }
-
-    public resourcePoolGetAll_result() {
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceResponseGetChunk_result.class, metaDataMap);
     }
 
-    public resourcePoolGetAll_result(
-      List<String> success)
-    {
-      this();
-      this.success = success;
+    public resourceResponseGetChunk_result() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public resourcePoolGetAll_result(resourcePoolGetAll_result other) {
-      if (other.isSetSuccess()) {
-        List<String> __this__success = new ArrayList<String>(other.success);
-        this.success = __this__success;
-      }
+    public resourceResponseGetChunk_result(resourceResponseGetChunk_result other) {
     }
 
-    public resourcePoolGetAll_result deepCopy() {
-      return new resourcePoolGetAll_result(this);
+    public resourceResponseGetChunk_result deepCopy() {
+      return new resourceResponseGetChunk_result(this);
     }
 
     @Override
     public void clear() {
-      this.success = null;
-    }
-
-    public int getSuccessSize() {
-      return (this.success == null) ? 0 : this.success.size();
-    }
-
-    public java.util.Iterator<String> getSuccessIterator() {
-      return (this.success == null) ? null : this.success.iterator();
-    }
-
-    public void addToSuccess(String elem) {
-      if (this.success == null) {
-        this.success = new ArrayList<String>();
-      }
-      this.success.add(elem);
-    }
-
-    public List<String> getSuccess() {
-      return this.success;
-    }
-
-    public resourcePoolGetAll_result setSuccess(List<String> success) {
-      this.success = success;
-      return this;
-    }
-
-    public void unsetSuccess() {
-      this.success = null;
-    }
-
-    /** Returns true if field success is set (has been assigned a value) and false otherwise */
-    public boolean isSetSuccess() {
-      return this.success != null;
-    }
-
-    public void setSuccessIsSet(boolean value) {
-      if (!value) {
-        this.success = null;
-      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case SUCCESS:
-        if (value == null) {
-          unsetSuccess();
-        } else {
-          setSuccess((List<String>)value);
-        }
-        break;
-
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case SUCCESS:
-        return getSuccess();
-
       }
       throw new IllegalStateException();
     }
@@ -15475,8 +16786,6 @@ public class RemoteInterpreterService {
       }
 
       switch (field) {
-      case SUCCESS:
-        return isSetSuccess();
       }
       throw new IllegalStateException();
     }
@@ -15485,24 +16794,15 @@ public class RemoteInterpreterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof resourcePoolGetAll_result)
-        return this.equals((resourcePoolGetAll_result)that);
+      if (that instanceof resourceResponseGetChunk_result)
+        return this.equals((resourceResponseGetChunk_result)that);
       return false;
     }
 
-    public boolean equals(resourcePoolGetAll_result that) {
+    public boolean equals(resourceResponseGetChunk_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true && this.isSetSuccess();
-      boolean that_present_success = true && that.isSetSuccess();
-      if (this_present_success || that_present_success) {
-        if (!(this_present_success && that_present_success))
-          return false;
-        if (!this.success.equals(that.success))
-          return false;
-      }
-
       return true;
     }
 
@@ -15510,32 +16810,17 @@ public class RemoteInterpreterService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_success = true && (isSetSuccess());
-      list.add(present_success);
-      if (present_success)
-        list.add(success);
-
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(resourcePoolGetAll_result other) {
+    public int compareTo(resourceResponseGetChunk_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetSuccess()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -15553,16 +16838,9 @@ public class RemoteInterpreterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("resourcePoolGetAll_result(");
+      StringBuilder sb = new StringBuilder("resourceResponseGetChunk_result(");
       boolean first = true;
 
-      sb.append("success:");
-      if (this.success == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.success);
-      }
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -15588,15 +16866,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class resourcePoolGetAll_resultStandardSchemeFactory implements SchemeFactory {
-      public resourcePoolGetAll_resultStandardScheme getScheme() {
-        return new resourcePoolGetAll_resultStandardScheme();
+    private static class resourceResponseGetChunk_resultStandardSchemeFactory implements SchemeFactory {
+      public resourceResponseGetChunk_resultStandardScheme getScheme() {
+        return new resourceResponseGetChunk_resultStandardScheme();
       }
     }
 
-    private static class resourcePoolGetAll_resultStandardScheme extends StandardScheme<resourcePoolGetAll_result> {
+    private static class resourceResponseGetChunk_resultStandardScheme extends StandardScheme<resourceResponseGetChunk_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, resourcePoolGetAll_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceResponseGetChunk_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -15606,24 +16884,6 @@ public class RemoteInterpreterService {
             break;
           }
           switch (schemeField.id) {
-            case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
-                {
-                  org.apache.thrift.protocol.TList _list34 = iprot.readListBegin();
-                  struct.success = new ArrayList<String>(_list34.size);
-                  String _elem35;
-                  for (int _i36 = 0; _i36 < _list34.size; ++_i36)
-                  {
-                    _elem35 = iprot.readString();
-                    struct.success.add(_elem35);
-                  }
-                  iprot.readListEnd();
-                }
-                struct.setSuccessIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -15635,99 +16895,56 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, resourcePoolGetAll_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceResponseGetChunk_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.success != null) {
-          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          {
-            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.success.size()));
-            for (String _iter37 : struct.success)
-            {
-              oprot.writeString(_iter37);
-            }
-            oprot.writeListEnd();
-          }
-          oprot.writeFieldEnd();
-        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class resourcePoolGetAll_resultTupleSchemeFactory implements SchemeFactory {
-      public resourcePoolGetAll_resultTupleScheme getScheme() {
-        return new resourcePoolGetAll_resultTupleScheme();
+    private static class resourceResponseGetChunk_resultTupleSchemeFactory implements SchemeFactory {
+      public resourceResponseGetChunk_resultTupleScheme getScheme() {
+        return new resourceResponseGetChunk_resultTupleScheme();
       }
     }
 
-    private static class resourcePoolGetAll_resultTupleScheme extends TupleScheme<resourcePoolGetAll_result> {
+    private static class resourceResponseGetChunk_resultTupleScheme extends TupleScheme<resourceResponseGetChunk_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, resourcePoolGetAll_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourceResponseGetChunk_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
-        BitSet optionals = new BitSet();
-        if (struct.isSetSuccess()) {
-          optionals.set(0);
-        }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetSuccess()) {
-          {
-            oprot.writeI32(struct.success.size());
-            for (String _iter38 : struct.success)
-            {
-              oprot.writeString(_iter38);
-            }
-          }
-        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, resourcePoolGetAll_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourceResponseGetChunk_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
-        if (incoming.get(0)) {
-          {
-            org.apache.thrift.protocol.TList _list39 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-            struct.success = new ArrayList<String>(_list39.size);
-            String _elem40;
-            for (int _i41 = 0; _i41 < _list39.size; ++_i41)
-            {
-              _elem40 = iprot.readString();
-              struct.success.add(_elem40);
-            }
-          }
-          struct.setSuccessIsSet(true);
-        }
       }
     }
 
   }
 
-  public static class resourceGet_args implements org.apache.thrift.TBase<resourceGet_args, resourceGet_args._Fields>, java.io.Serializable, Cloneable, Comparable<resourceGet_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceGet_args");
+  public static class resourceResponseInvokeMethod_args implements org.apache.thrift.TBase<resourceResponseInvokeMethod_args, resourceResponseInvokeMethod_args._Fields>, java.io.Serializable, Cloneable, Comparable<resourceResponseInvokeMethod_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceResponseInvokeMethod_args");
 
-    private static final org.apache.thrift.protocol.TField SESSION_KEY_FIELD_DESC = new org.apache.thrift.protocol.TField("sessionKey", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField PARAGRAPH_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("paragraphId", org.apache.thrift.protocol.TType.STRING, (short)2);
-    private static final org.apache.thrift.protocol.TField RESOURCE_NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("resourceName", org.apache.thrift.protocol.TType.STRING, (short)3);
+    private static final org.apache.thrift.protocol.TField INVOKE_MESSAGE_FIELD_DESC = new org.apache.thrift.protocol.TField("invokeMessage", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField OBJECT_FIELD_DESC = new org.apache.thrift.protocol.TField("object", org.apache.thrift.protocol.TType.STRING, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new resourceGet_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new resourceGet_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new resourceResponseInvokeMethod_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new resourceResponseInvokeMethod_argsTupleSchemeFactory());
     }
 
-    public String sessionKey; // required
-    public String paragraphId; // required
-    public String resourceName; // required
+    public String invokeMessage; // required
+    public ByteBuffer object; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SESSION_KEY((short)1, "sessionKey"),
-      PARAGRAPH_ID((short)2, "paragraphId"),
-      RESOURCE_NAME((short)3, "resourceName");
+      INVOKE_MESSAGE((short)1, "invokeMessage"),
+      OBJECT((short)2, "object");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -15742,12 +16959,10 @@ public class RemoteInterpreterService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // SESSION_KEY
-            return SESSION_KEY;
-          case 2: // PARAGRAPH_ID
-            return PARAGRAPH_ID;
-          case 3: // RESOURCE_NAME
-            return RESOURCE_NAME;
+          case 1: // INVOKE_MESSAGE
+            return INVOKE_MESSAGE;
+          case 2: // OBJECT
+            return OBJECT;
           default:
             return null;
         }
@@ -15791,151 +17006,121 @@ public class RemoteInterpreterService {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.SESSION_KEY, new org.apache.thrift.meta_data.FieldMetaData("sessionKey", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.PARAGRAPH_ID, new org.apache.thrift.meta_data.FieldMetaData("paragraphId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.RESOURCE_NAME, new org.apache.thrift.meta_data.FieldMetaData("resourceName", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.INVOKE_MESSAGE, new org.apache.thrift.meta_data.FieldMetaData("invokeMessage", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.OBJECT, new org.apache.thrift.meta_data.FieldMetaData("object", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceGet_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceResponseInvokeMethod_args.class, metaDataMap);
     }
 
-    public resourceGet_args() {
+    public resourceResponseInvokeMethod_args() {
     }
 
-    public resourceGet_args(
-      String sessionKey,
-      String paragraphId,
-      String resourceName)
+    public resourceResponseInvokeMethod_args(
+      String invokeMessage,
+      ByteBuffer object)
     {
       this();
-      this.sessionKey = sessionKey;
-      this.paragraphId = paragraphId;
-      this.resourceName = resourceName;
+      this.invokeMessage = invokeMessage;
+      this.object = org.apache.thrift.TBaseHelper.copyBinary(object);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public resourceGet_args(resourceGet_args other) {
-      if (other.isSetSessionKey()) {
-        this.sessionKey = other.sessionKey;
-      }
-      if (other.isSetParagraphId()) {
-        this.paragraphId = other.paragraphId;
+    public resourceResponseInvokeMethod_args(resourceResponseInvokeMethod_args other) {
+      if (other.isSetInvokeMessage()) {
+        this.invokeMessage = other.invokeMessage;
       }
-      if (other.isSetResourceName()) {
-        this.resourceName = other.resourceName;
+      if (other.isSetObject()) {
+        this.object = org.apache.thrift.TBaseHelper.copyBinary(other.object);
       }
     }
 
-    public resourceGet_args deepCopy() {
-      return new resourceGet_args(this);
+    public resourceResponseInvokeMethod_args deepCopy() {
+      return new resourceResponseInvokeMethod_args(this);
     }
 
     @Override
     public void clear() {
-      this.sessionKey = null;
-      this.paragraphId = null;
-      this.resourceName = null;
+      this.invokeMessage = null;
+      this.object = null;
     }
 
-    public String getSessionKey() {
-      return this.sessionKey;
+    public String getInvokeMessage() {
+      return this.invokeMessage;
     }
 
-    public resourceGet_args setSessionKey(String sessionKey) {
-      this.sessionKey = sessionKey;
+    public resourceResponseInvokeMethod_args setInvokeMessage(String invokeMessage) {
+      this.invokeMessage = invokeMessage;
       return this;
     }
 
-    public void unsetSessionKey() {
-      this.sessionKey = null;
+    public void unsetInvokeMessage() {
+      this.invokeMessage = null;
     }
 
-    /** Returns true if field sessionKey is set (has been assigned a value) and false otherwise */
-    public boolean isSetSessionKey() {
-      return this.sessionKey != null;
+    /** Returns true if field invokeMessage is set (has been assigned a value) and false otherwise */
+    public boolean isSetInvokeMessage() {
+      return this.invokeMessage != null;
     }
 
-    public void setSessionKeyIsSet(boolean value) {
+    public void setInvokeMessageIsSet(boolean value) {
       if (!value) {
-        this.sessionKey = null;
+        this.invokeMessage = null;
       }
     }
 
-    public String getParagraphId() {
-      return this.paragraphId;
-    }
-
-    public resourceGet_args setParagraphId(String paragraphId) {
-      this.paragraphId = paragraphId;
-      return this;
-    }
-
-    public void unsetParagraphId() {
-      this.paragraphId = null;
-    }
-
-    /** Returns true if field paragraphId is set (has been assigned a value) and false otherwise */
-    public boolean isSetParagraphId() {
-      return this.paragraphId != null;
+    public byte[] getObject() {
+      setObject(org.apache.thrift.TBaseHelper.rightSize(object));
+      return object == null ? null : object.array();
     }
 
-    public void setParagraphIdIsSet(boolean value) {
-      if (!value) {
-        this.paragraphId = null;
-      }
+    public ByteBuffer bufferForObject() {
+      return org.apache.thrift.TBaseHelper.copyBinary(object);
     }
 
-    public String getResourceName() {
-      return this.resourceName;
+    public resourceResponseInvokeMethod_args setObject(byte[] object) {
+      this.object = object == null ? (ByteBuffer)null : ByteBuffer.wrap(Arrays.copyOf(object, object.length));
+      return this;
     }
 
-    public resourceGet_args setResourceName(String resourceName) {
-      this.resourceName = resourceName;
+    public resourceResponseInvokeMethod_args setObject(ByteBuffer object) {
+      this.object = org.apache.thrift.TBaseHelper.copyBinary(object);
       return this;
     }
 
-    public void unsetResourceName() {
-      this.resourceName = null;
+    public void unsetObject() {
+      this.object = null;
     }
 
-    /** Returns true if field resourceName is set (has been assigned a value) and false otherwise */
-    public boolean isSetResourceName() {
-      return this.resourceName != null;
+    /** Returns true if field object is set (has been assigned a value) and false otherwise */
+    public boolean isSetObject() {
+      return this.object != null;
     }
 
-    public void setResourceNameIsSet(boolean value) {
+    public void setObjectIsSet(boolean value) {
       if (!value) {
-        this.resourceName = null;
+        this.object = null;
       }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case SESSION_KEY:
-        if (value == null) {
-          unsetSessionKey();
-        } else {
-          setSessionKey((String)value);
-        }
-        break;
-
-      case PARAGRAPH_ID:
+      case INVOKE_MESSAGE:
         if (value == null) {
-          unsetParagraphId();
+          unsetInvokeMessage();
         } else {
-          setParagraphId((String)value);
+          setInvokeMessage((String)value);
         }
         break;
 
-      case RESOURCE_NAME:
+      case OBJECT:
         if (value == null) {
-          unsetResourceName();
+          unsetObject();
         } else {
-          setResourceName((String)value);
+          setObject((ByteBuffer)value);
         }
         break;
 
@@ -15944,14 +17129,11 @@ public class RemoteInterpreterService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case SESSION_KEY:
-        return getSessionKey();
-
-      case PARAGRAPH_ID:
-        return getParagraphId();
+      case INVOKE_MESSAGE:
+        return getInvokeMessage();
 
-      case RESOURCE_NAME:
-        return getResourceName();
+      case OBJECT:
+        return getObject();
 
       }
       throw new IllegalStateException();
@@ -15964,12 +17146,10 @@ public class RemoteInterpreterService {
       }
 
       switch (field) {
-      case SESSION_KEY:
-        return isSetSessionKey();
-      case PARAGRAPH_ID:
-        return isSetParagraphId();
-      case RESOURCE_NAME:
-        return isSetResourceName();
+      case INVOKE_MESSAGE:
+        return isSetInvokeMessage();
+      case OBJECT:
+        return isSetObject();
       }
       throw new IllegalStateException();
     }
@@ -15978,39 +17158,30 @@ public class RemoteInterpreterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof resourceGet_args)
-        return this.equals((resourceGet_args)that);
+      if (that instanceof resourceResponseInvokeMethod_args)
+        return this.equals((resourceResponseInvokeMethod_args)that);
       return false;
     }
 
-    public boolean equals(resourceGet_args that) {
+    public boolean equals(resourceResponseInvokeMethod_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_sessionKey = true && this.isSetSessionKey();
-      boolean that_present_sessionKey = true && that.isSetSessionKey();
-      if (this_present_sessionKey || that_present_sessionKey) {
-        if (!(this_present_sessionKey && that_present_sessionKey))
-          return false;
-        if (!this.sessionKey.equals(that.sessionKey))
-          return false;
-      }
-
-      boolean this_present_paragraphId = true && this.isSetParagraphId();
-      boolean that_present_paragraphId = true && that.isSetParagraphId();
-      if (this_present_paragraphId || that_present_paragraphId) {
-        if (!(this_present_paragraphId && that_present_paragraphId))
+      boolean this_present_invokeMessage = true && this.isSetInvokeMessage();
+      boolean that_present_invokeMessage = true && that.isSetInvokeMessage();
+      if (this_present_invokeMessage || that_present_invokeMessage) {
+        if (!(this_present_invokeMessage && that_present_invokeMessage))
           return false;
-        if (!this.paragraphId.equals(that.paragraphId))
+        if (!this.invokeMessage.equals(that.invokeMessage))
           return false;
       }
 
-      boolean this_present_resourceName = true && this.isSetResourceName();
-      boolean that_present_resourceName = true && that.isSetResourceName();
-      if (this_present_resourceName || that_present_resourceName) {
-        if (!(this_present_resourceName && that_present_resourceName))
+      boolean this_present_object = true && this.isSetObject();
+      boolean that_present_object = true && that.isSetObject();
+      if (this_present_object || that_present_object) {
+        if (!(this_present_object && that_present_object))
           return false;
-        if (!this.resourceName.equals(that.resourceName))
+        if (!this.object.equals(that.object))
           return false;
       }
 
@@ -16021,58 +17192,4155 @@ public class RemoteInterpreterService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_sessionKey = true && (isSetSessionKey());
-      list.add(present_sessionKey);
-      if (present_sessionKey)
-        list.add(sessionKey);
+      boolean present_invokeMessage = true && (isSetInvokeMessage());
+      list.add(present_invokeMessage);
+      if (present_invokeMessage)
+        list.add(invokeMessage);
 
-      boolean present_paragraphId = true && (isSetParagraphId());
-      list.add(present_paragraphId);
-      if (present_paragraphId)
-        list.add(paragraphId);
-
-      boolean present_resourceName = true && (isSetResourceName());
-      list.add(present_resourceName);
-      if (present_resourceName)
-        list.add(resourceName);
+      boolean present_object = true && (isSetObject());
+      list.add(present_object);
+      if (present_object)
+        list.add(object);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(resourceGet_args other) {
+    public int compareTo(resourceResponseInvokeMethod_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetSessionKey()).compareTo(other.isSetSessionKey());
+      lastComparison = Boolean.valueOf(isSetInvokeMessage()).compareTo(other.isSetInvokeMessage());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetSessionKey()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.sessionKey, other.sessionKey);
+      if (isSetInvokeMessage()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.invokeMessage, other.invokeMessage);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetParagraphId()).compareTo(other.isSetParagraphId());
+      lastComparison = Boolean.valueOf(isSetObject()).compareTo(other.isSetObject());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetParagraphId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.paragraphId, other.paragraphId);
+      if (isSetObject()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.object, other.object);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetResourceName()).compareTo(other.isSetResourceName());
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("resourceResponseInvokeMethod_args(");
+      boolean first = true;
+
+      sb.append("invokeMessage:");
+      if (this.invokeMessage == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.invokeMessage);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("object:");
+      if (this.object == null) {
+        sb.append("null");
+      } else {
+        org.apache.thrift.TBaseHelper.toString(this.object, sb);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class resourceResponseInvokeMethod_argsStandardSchemeFactory implements SchemeFactory {
+      public resourceResponseInvokeMethod_argsStandardScheme getScheme() {
+        return new resourceResponseInvokeMethod_argsStandardScheme();
+      }
+    }
+
+    private static class resourceResponseInvokeMethod_argsStandardScheme extends StandardScheme<resourceResponseInvokeMethod_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceResponseInvokeMethod_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // INVOKE_MESSAGE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.invokeMessage = iprot.readString();
+                struct.setInvokeMessageIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // OBJECT
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.object = iprot.readBinary();
+                struct.setObjectIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceResponseInvokeMethod_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.invokeMessage != null) {
+          oprot.writeFieldBegin(INVOKE_MESSAGE_FIELD_DESC);
+          oprot.writeString(struct.invokeMessage);
+          oprot.writeFieldEnd();
+        }
+        if (struct.object != null) {
+          oprot.writeFieldBegin(OBJECT_FIELD_DESC);
+          oprot.writeBinary(struct.object);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class resourceResponseInvokeMethod_argsTupleSchemeFactory implements SchemeFactory {
+      public resourceResponseInvokeMethod_argsTupleScheme getScheme() {
+        return new resourceResponseInvokeMethod_argsTupleScheme();
+      }
+    }
+
+    private static class resourceResponseInvokeMethod_argsTupleScheme extends TupleScheme<resourceResponseInvokeMethod_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourceResponseInvokeMethod_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetInvokeMessage()) {
+          optionals.set(0);
+        }
+        if (struct.isSetObject()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetInvokeMessage()) {
+          oprot.writeString(struct.invokeMessage);
+        }
+        if (struct.isSetObject()) {
+          oprot.writeBinary(struct.object);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourceResponseInvokeMethod_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.invokeMessage = iprot.readString();
+          struct.setInvokeMessageIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.object = iprot.readBinary();
+          struct.setObjectIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class resourceResponseInvokeMethod_result implements org.apache.thrift.TBase<resourceResponseInvokeMethod_result, resourceResponseInvokeMethod_result._Fields>, java.io.Serializable, Cloneable, Comparable<resourceResponseInvokeMethod_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceResponseInvokeMethod_result");
+
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new resourceResponseInvokeMethod_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new resourceResponseInvokeMethod_resultTupleSchemeFactory());
+    }
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceResponseInvokeMethod_result.class, metaDataMap);
+    }
+
+    public resourceResponseInvokeMethod_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public resourceResponseInvokeMethod_result(resourceResponseInvokeMethod_result other) {
+    }
+
+    public resourceResponseInvokeMethod_result deepCopy() {
+      return new resourceResponseInvokeMethod_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof resourceResponseInvokeMethod_result)
+        return this.equals((resourceResponseInvokeMethod_result)that);
+      return false;
+    }
+
+    public boolean equals(resourceResponseInvokeMethod_result that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(resourceResponseInvokeMethod_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("resourceResponseInvokeMethod_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class resourceResponseInvokeMethod_resultStandardSchemeFactory implements SchemeFactory {
+      public resourceResponseInvokeMethod_resultStandardScheme getScheme() {
+        return new resourceResponseInvokeMethod_resultStandardScheme();
+      }
+    }
+
+    private static class resourceResponseInvokeMethod_resultStandardScheme extends StandardScheme<resourceResponseInvokeMethod_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceResponseInvokeMethod_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceResponseInvokeMethod_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class resourceResponseInvokeMethod_resultTupleSchemeFactory implements SchemeFactory {
+      public resourceResponseInvokeMethod_resultTupleScheme getScheme() {
+        return new resourceResponseInvokeMethod_resultTupleScheme();
+      }
+    }
+
+    private static class resourceResponseInvokeMethod_resultTupleScheme extends TupleScheme<resourceResponseInvokeMethod_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourceResponseInvokeMethod_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourceResponseInvokeMethod_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+      }
+    }
+
+  }
+
+  public static class resourcePoolGetAll_args implements org.apache.thrift.TBase<resourcePoolGetAll_args, resourcePoolGetAll_args._Fields>, java.io.Serializable, Cloneable, Comparable<resourcePoolGetAll_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourcePoolGetAll_args");
+
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new resourcePoolGetAll_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new resourcePoolGetAll_argsTupleSchemeFactory());
+    }
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourcePoolGetAll_args.class, metaDataMap);
+    }
+
+    public resourcePoolGetAll_args() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public resourcePoolGetAll_args(resourcePoolGetAll_args other) {
+    }
+
+    public resourcePoolGetAll_args deepCopy() {
+      return new resourcePoolGetAll_args(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof resourcePoolGetAll_args)
+        return this.equals((resourcePoolGetAll_args)that);
+      return false;
+    }
+
+    public boolean equals(resourcePoolGetAll_args that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(resourcePoolGetAll_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("resourcePoolGetAll_args(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class resourcePoolGetAll_argsStandardSchemeFactory implements SchemeFactory {
+      public resourcePoolGetAll_argsStandardScheme getScheme() {
+        return new resourcePoolGetAll_argsStandardScheme();
+      }
+    }
+
+    private static class resourcePoolGetAll_argsStandardScheme extends StandardScheme<resourcePoolGetAll_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourcePoolGetAll_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourcePoolGetAll_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class resourcePoolGetAll_argsTupleSchemeFactory implements SchemeFactory {
+      public resourcePoolGetAll_argsTupleScheme getScheme() {
+        return new resourcePoolGetAll_argsTupleScheme();
+      }
+    }
+
+    private static class resourcePoolGetAll_argsTupleScheme extends TupleScheme<resourcePoolGetAll_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourcePoolGetAll_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourcePoolGetAll_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+      }
+    }
+
+  }
+
+  public static class resourcePoolGetAll_result implements org.apache.thrift.TBase<resourcePoolGetAll_result, resourcePoolGetAll_result._Fields>, java.io.Serializable, Cloneable, Comparable<resourcePoolGetAll_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourcePoolGetAll_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new resourcePoolGetAll_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new resourcePoolGetAll_resultTupleSchemeFactory());
+    }
+
+    public List<String> success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourcePoolGetAll_result.class, metaDataMap);
+    }
+
+    public resourcePoolGetAll_result() {
+    }
+
+    public resourcePoolGetAll_result(
+      List<String> success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public resourcePoolGetAll_result(resourcePoolGetAll_result other) {
+      if (other.isSetSuccess()) {
+        List<String> __this__success = new ArrayList<String>(other.success);
+        this.success = __this__success;
+      }
+    }
+
+    public resourcePoolGetAll_result deepCopy() {
+      return new resourcePoolGetAll_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<String> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(String elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<String>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<String> getSuccess() {
+      return this.success;
+    }
+
+    public resourcePoolGetAll_result setSuccess(List<String> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((List<String>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof resourcePoolGetAll_result)
+        return this.equals((resourcePoolGetAll_result)that);
+      return false;
+    }
+
+    public boolean equals(resourcePoolGetAll_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(resourcePoolGetAll_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("resourcePoolGetAll_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class resourcePoolGetAll_resultStandardSchemeFactory implements SchemeFactory {
+      public resourcePoolGetAll_resultStandardScheme getScheme() {
+        return new resourcePoolGetAll_resultStandardScheme();
+      }
+    }
+
+    private static class resourcePoolGetAll_resultStandardScheme extends StandardScheme<resourcePoolGetAll_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourcePoolGetAll_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list34 = iprot.readListBegin();
+                  struct.success = new ArrayList<String>(_list34.size);
+                  String _elem35;
+                  for (int _i36 = 0; _i36 < _list34.size; ++_i36)
+                  {
+                    _elem35 = iprot.readString();
+                    struct.success.add(_elem35);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourcePoolGetAll_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.success.size()));
+            for (String _iter37 : struct.success)
+            {
+              oprot.writeString(_iter37);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class resourcePoolGetAll_resultTupleSchemeFactory implements SchemeFactory {
+      public resourcePoolGetAll_resultTupleScheme getScheme() {
+        return new resourcePoolGetAll_resultTupleScheme();
+      }
+    }
+
+    private static class resourcePoolGetAll_resultTupleScheme extends TupleScheme<resourcePoolGetAll_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourcePoolGetAll_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (String _iter38 : struct.success)
+            {
+              oprot.writeString(_iter38);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourcePoolGetAll_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list39 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.success = new ArrayList<String>(_list39.size);
+            String _elem40;
+            for (int _i41 = 0; _i41 < _list39.size; ++_i41)
+            {
+              _elem40 = iprot.readString();
+              struct.success.add(_elem40);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class resourceGet_args implements org.apache.thrift.TBase<resourceGet_args, resourceGet_args._Fields>, java.io.Serializable, Cloneable, Comparable<resourceGet_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceGet_args");
+
+    private static final org.apache.thrift.protocol.TField SESSION_KEY_FIELD_DESC = new org.apache.thrift.protocol.TField("sessionKey", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField PARAGRAPH_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("paragraphId", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField RESOURCE_NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("resourceName", org.apache.thrift.protocol.TType.STRING, (short)3);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new resourceGet_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new resourceGet_argsTupleSchemeFactory());
+    }
+
+    public String sessionKey; // required
+    public String paragraphId; // required
+    public String resourceName; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SESSION_KEY((short)1, "sessionKey"),
+      PARAGRAPH_ID((short)2, "paragraphId"),
+      RESOURCE_NAME((short)3, "resourceName");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // SESSION_KEY
+            return SESSION_KEY;
+          case 2: // PARAGRAPH_ID
+            return PARAGRAPH_ID;
+          case 3: // RESOURCE_NAME
+            return RESOURCE_NAME;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SESSION_KEY, new org.apache.thrift.meta_data.FieldMetaData("sessionKey", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.PARAGRAPH_ID, new org.apache.thrift.meta_data.FieldMetaData("paragraphId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.RESOURCE_NAME, new org.apache.thrift.meta_data.FieldMetaData("resourceName", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceGet_args.class, metaDataMap);
+    }
+
+    public resourceGet_args() {
+    }
+
+    public resourceGet_args(
+      String sessionKey,
+      String paragraphId,
+      String resourceName)
+    {
+      this();
+      this.sessionKey = sessionKey;
+      this.paragraphId = paragraphId;
+      this.resourceName = resourceName;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public resourceGet_args(resourceGet_args other) {
+      if (other.isSetSessionKey()) {
+        this.sessionKey = other.sessionKey;
+      }
+      if (other.isSetParagraphId()) {
+        this.paragraphId = other.paragraphId;
+      }
+      if (other.isSetResourceName()) {
+        this.resourceName = other.resourceName;
+      }
+    }
+
+    public resourceGet_args deepCopy() {
+      return new resourceGet_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.sessionKey = null;
+      this.paragraphId = null;
+      this.resourceName = null;
+    }
+
+    public String getSessionKey() {
+      return this.sessionKey;
+    }
+
+    public resourceGet_args setSessionKey(String sessionKey) {
+      this.sessionKey = sessionKey;
+      return this;
+    }
+
+    public void unsetSessionKey() {
+      this.sessionKey = null;
+    }
+
+    /** Returns true if field sessionKey is set (has been assigned a value) and false otherwise */
+    public boolean isSetSessionKey() {
+      return this.sessionKey != null;
+    }
+
+    public void setSessionKeyIsSet(boolean value) {
+      if (!value) {
+        this.sessionKey = null;
+      }
+    }
+
+    public String getParagraphId() {
+      return this.paragraphId;
+    }
+
+    public resourceGet_args setParagraphId(String paragraphId) {
+      this.paragraphId = paragraphId;
+      return this;
+    }
+
+    public void unsetParagraphId() {
+      this.paragraphId = null;
+    }
+
+    /** Returns true if field paragraphId is set (has been assigned a value) and false otherwise */
+    public boolean isSetParagraphId() {
+      return this.paragraphId != null;
+    }
+
+    public void setParagraphIdIsSet(boolean value) {
+      if (!value) {
+        this.paragraphId = null;
+      }
+    }
+
+    public String getResourceName() {
+      return this.resourceName;
+    }
+
+    public resourceGet_args setResourceName(String resourceName) {
+      this.resourceName = resourceName;
+      return this;
+    }
+
+    public void unsetResourceName() {
+      this.resourceName = null;
+    }
+
+    /** Returns true if field resourceName is set (has been assigned a value) and false otherwise */
+    public boolean isSetResourceName() {
+      return this.resourceName != null;
+    }
+
+    public void setResourceNameIsSet(boolean value) {
+      if (!value) {
+        this.resourceName = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SESSION_KEY:
+        if (value == null) {
+          unsetSessionKey();
+        } else {
+          setSessionKey((String)value);
+        }
+        break;
+
+      case PARAGRAPH_ID:
+        if (value == null) {
+          unsetParagraphId();
+        } else {
+          setParagraphId((String)value);
+        }
+        break;
+
+      case RESOURCE_NAME:
+        if (value == null) {
+          unsetResourceName();
+        } else {
+          setResourceName((String)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SESSION_KEY:
+        return getSessionKey();
+
+      case PARAGRAPH_ID:
+        return getParagraphId();
+
+      case RESOURCE_NAME:
+        return getResourceName();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SESSION_KEY:
+        return isSetSessionKey();
+      case PARAGRAPH_ID:
+        return isSetParagraphId();
+      case RESOURCE_NAME:
+        return isSetResourceName();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof resourceGet_args)
+        return this.equals((resourceGet_args)that);
+      return false;
+    }
+
+    public boolean equals(resourceGet_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_sessionKey = true && this.isSetSessionKey();
+      boolean that_present_sessionKey = true && that.isSetSessionKey();
+      if (this_present_sessionKey || that_present_sessionKey) {
+        if (!(this_present_sessionKey && that_present_sessionKey))
+          return false;
+        if (!this.sessionKey.equals(that.sessionKey))
+          return false;
+      }
+
+      boolean this_present_paragraphId = true && this.isSetParagraphId();
+      boolean that_present_paragraphId = true && that.isSetParagraphId();
+      if (this_present_paragraphId || that_present_paragraphId) {
+        if (!(this_present_paragraphId && that_present_paragraphId))
+          return false;
+        if (!this.paragraphId.equals(that.paragraphId))
+          return false;
+      }
+
+      boolean this_present_resourceName = true && this.isSetResourceName();
+      boolean that_present_resourceName = true && that.isSetResourceName();
+      if (this_present_resourceName || that_present_resourceName) {
+        if (!(this_present_resourceName && that_present_resourceName))
+          return false;
+        if (!this.resourceName.equals(that.resourceName))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_sessionKey = true && (isSetSessionKey());
+      list.add(present_sessionKey);
+      if (present_sessionKey)
+        list.add(sessionKey);
+
+      boolean present_paragraphId = true && (isSetParagraphId());
+      list.add(present_paragraphId);
+      if (present_paragraphId)
+        list.add(paragraphId);
+
+      boolean present_resourceName = true && (isSetResourceName());
+      list.add(present_resourceName);
+      if (present_resourceName)
+        list.add(resourceName);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(resourceGet_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSessionKey()).compareTo(other.isSetSessionKey());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSessionKey()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.sessionKey, other.sessionKey);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetParagraphId()).compareTo(other.isSetParagraphId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetParagraphId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.paragraphId, other.paragraphId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetResourceName()).compareTo(other.isSetResourceName());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetResourceName()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.resourceName, other.resourceName);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("resourceGet_args(");
+      boolean first = true;
+
+      sb.append("sessionKey:");
+      if (this.sessionKey == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.sessionKey);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("paragraphId:");
+      if (this.paragraphId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.paragraphId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("resourceName:");
+      if (this.resourceName == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.resourceName);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class resourceGet_argsStandardSchemeFactory implements SchemeFactory {
+      public resourceGet_argsStandardScheme getScheme() {
+        return new resourceGet_argsStandardScheme();
+      }
+    }
+
+    private static class resourceGet_argsStandardScheme extends StandardScheme<resourceGet_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceGet_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // SESSION_KEY
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.sessionKey = iprot.readString();
+                struct.setSessionKeyIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // PARAGRAPH_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.paragraphId = iprot.readString();
+                struct.setParagraphIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // RESOURCE_NAME
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.resourceName = iprot.readString();
+                struct.setResourceNameIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceGet_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.sessionKey != null) {
+          oprot.writeFieldBegin(SESSION_KEY_FIELD_DESC);
+          oprot.writeString(struct.sessionKey);
+          oprot.writeFieldEnd();
+        }
+        if (struct.paragraphId != null) {
+          oprot.writeFieldBegin(PARAGRAPH_ID_FIELD_DESC);
+          oprot.writeString(struct.paragraphId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.resourceName != null) {
+          oprot.writeFieldBegin(RESOURCE_NAME_FIELD_DESC);
+          oprot.writeString(struct.resourceName);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class resourceGet_argsTupleSchemeFactory implements SchemeFactory {
+      public resourceGet_argsTupleScheme getScheme() {
+        return new resourceGet_argsTupleScheme();
+      }
+    }
+
+    private static class resourceGet_argsTupleScheme extends TupleScheme<resourceGet_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourceGet_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSessionKey()) {
+          optionals.set(0);
+        }
+        if (struct.isSetParagraphId()) {
+          optionals.set(1);
+        }
+        if (struct.isSetResourceName()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetSessionKey()) {
+          oprot.writeString(struct.sessionKey);
+        }
+        if (struct.isSetParagraphId()) {
+          oprot.writeString(struct.paragraphId);
+        }
+        if (struct.isSetResourceName()) {
+          oprot.writeString(struct.resourceName);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourceGet_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(3);
+        if (incoming.get(0)) {
+          struct.sessionKey = iprot.readString();
+          struct.setSessionKeyIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.paragraphId = iprot.readString();
+          struct.setParagraphIdIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.resourceName = iprot.readString();
+          struct.setResourceNameIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class resourceGet_result implements org.apache.thrift.TBase<resourceGet_result, resourceGet_result._Fields>, java.io.Serializable, Cloneable, Comparable<resourceGet_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceGet_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new resourceGet_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new resourceGet_resultTupleSchemeFactory());
+    }
+
+    public ByteBuffer success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceGet_result.class, metaDataMap);
+    }
+
+    public resourceGet_result() {
+    }
+
+    public resourceGet_result(
+      ByteBuffer success)
+    {
+      this();
+      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public resourceGet_result(resourceGet_result other) {
+      if (other.isSetSuccess()) {
+        this.success = org.apache.thrift.TBaseHelper.copyBinary(other.success);
+      }
+    }
+
+    public resourceGet_result deepCopy() {
+      return new resourceGet_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public byte[] getSuccess() {
+      setSuccess(org.apache.thrift.TBaseHelper.rightSize(success));
+      return success == null ? null : success.array();
+    }
+
+    public ByteBuffer bufferForSuccess() {
+      return org.apache.thrift.TBaseHelper.copyBinary(success);
+    }
+
+    public resourceGet_result setSuccess(byte[] success) {
+      this.success = success == null ? (ByteBuffer)null : ByteBuffer.wrap(Arrays.copyOf(success, success.length));
+      return this;
+    }
+
+    public resourceGet_result setSuccess(ByteBuffer success) {
+      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((ByteBuffer)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof resourceGet_result)
+        return this.equals((resourceGet_result)that);
+      return false;
+    }
+
+    public boolean equals(resourceGet_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(resourceGet_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("resourceGet_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        org.apache.thrift.TBaseHelper.toString(this.success, sb);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class resourceGet_resultStandardSchemeFactory implements SchemeFactory {
+      public resourceGet_resultStandardScheme getScheme() {
+        return new resourceGet_resultStandardScheme();
+      }
+    }
+
+    private static class resourceGet_resultStandardScheme extends StandardScheme<resourceGet_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceGet_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readBinary();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceGet_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeBinary(struct.success);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class resourceGet_resultTupleSchemeFactory implements SchemeFactory {
+      public resourceGet_resultTupleScheme getScheme() {
+        return new resourceGet_resultTupleScheme();
+      }
+    }
+
+    private static class resourceGet_resultTupleScheme extends TupleScheme<resourceGet_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourceGet_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          oprot.writeBinary(struct.success);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourceGet_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = iprot.readBinary();
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class resourceTransferOpen_args implements org.apache.thrift.TBase<resourceTransferOpen_args, resourceTransferOpen_args._Fields>, java.io.Serializable, Cloneable, Comparable<resourceTransferOpen_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceTransferOpen_args");
+
+    private static final org.apache.thrift.protocol.TField SESSION_KEY_FIELD_DESC = new org.apache.thrift.protocol.TField("sessionKey", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField PARAGRAPH_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("paragraphId", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField RESOURCE_NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("resourceName", org.apache.thrift.protocol.TType.STRING, (short)3);
+    private static final org.apache.thrift.protocol.TField TRANSFER_FIELD_DESC = new org.apache.thrift.protocol.TField("transfer", org.apache.thrift.protocol.TType.STRING, (short)4);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new resourceTransferOpen_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new resourceTransferOpen_argsTupleSchemeFactory());
+    }
+
+    public String sessionKey; // required
+    public String paragraphId; // required
+    public String resourceName; // required
+    public String transfer; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SESSION_KEY((short)1, "sessionKey"),
+      PARAGRAPH_ID((short)2, "paragraphId"),
+      RESOURCE_NAME((short)3, "resourceName"),
+      TRANSFER((short)4, "transfer");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // SESSION_KEY
+            return SESSION_KEY;
+          case 2: // PARAGRAPH_ID
+            return PARAGRAPH_ID;
+          case 3: // RESOURCE_NAME
+            return RESOURCE_NAME;
+          case 4: // TRANSFER
+            return TRANSFER;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SESSION_KEY, new org.apache.thrift.meta_data.FieldMetaData("sessionKey", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.PARAGRAPH_ID, new org.apache.thrift.meta_data.FieldMetaData("paragraphId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.RESOURCE_NAME, new org.apache.thrift.meta_data.FieldMetaData("resourceName", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.TRANSFER, new org.apache.thrift.meta_data.FieldMetaData("transfer", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceTransferOpen_args.class, metaDataMap);
+    }
+
+    public resourceTransferOpen_args() {
+    }
+
+    public resourceTransferOpen_args(
+      String sessionKey,
+      String paragraphId,
+      String resourceName,
+      String transfer)
+    {
+      this();
+      this.sessionKey = sessionKey;
+      this.paragraphId = paragraphId;
+      this.resourceName = resourceName;
+      this.transfer = transfer;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public resourceTransferOpen_args(resourceTransferOpen_args other) {
+      if (other.isSetSessionKey()) {
+        this.sessionKey = other.sessionKey;
+      }
+      if (other.isSetParagraphId()) {
+        this.paragraphId = other.paragraphId;
+      }
+      if (other.isSetResourceName()) {
+        this.resourceName = other.resourceName;
+      }
+      if (other.isSetTransfer()) {
+        this.transfer = other.transfer;
+      }
+    }
+
+    public resourceTransferOpen_args deepCopy() {
+      return new resourceTransferOpen_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.sessionKey = null;
+      this.paragraphId = null;
+      this.resourceName = null;
+      this.transfer = null;
+    }
+
+    public String getSessionKey() {
+      return this.sessionKey;
+    }
+
+    public resourceTransferOpen_args setSessionKey(String sessionKey) {
+      this.sessionKey = sessionKey;
+      return this;
+    }
+
+    public void unsetSessionKey() {
+      this.sessionKey = null;
+    }
+
+    /** Returns true if field sessionKey is set (has been assigned a value) and false otherwise */
+    public boolean isSetSessionKey() {
+      return this.sessionKey != null;
+    }
+
+    public void setSessionKeyIsSet(boolean value) {
+      if (!value) {
+        this.sessionKey = null;
+      }
+    }
+
+    public String getParagraphId() {
+      return this.paragraphId;
+    }
+
+    public resourceTransferOpen_args setParagraphId(String paragraphId) {
+      this.paragraphId = paragraphId;
+      return this;
+    }
+
+    public void unsetParagraphId() {
+      this.paragraphId = null;
+    }
+
+    /** Returns true if field paragraphId is set (has been assigned a value) and false otherwise */
+    public boolean isSetParagraphId() {
+      return this.paragraphId != null;
+    }
+
+    public void setParagraphIdIsSet(boolean value) {
+      if (!value) {
+        this.paragraphId = null;
+      }
+    }
+
+    public String getResourceName() {
+      return this.resourceName;
+    }
+
+    public resourceTransferOpen_args setResourceName(String resourceName) {
+      this.resourceName = resourceName;
+      return this;
+    }
+
+    public void unsetResourceName() {
+      this.resourceName = null;
+    }
+
+    /** Returns true if field resourceName is set (has been assigned a value) and false otherwise */
+    public boolean isSetResourceName() {
+      return this.resourceName != null;
+    }
+
+    public void setResourceNameIsSet(boolean value) {
+      if (!value) {
+        this.resourceName = null;
+      }
+    }
+
+    public String getTransfer() {
+      return this.transfer;
+    }
+
+    public resourceTransferOpen_args setTransfer(String transfer) {
+      this.transfer = transfer;
+      return this;
+    }
+
+    public void unsetTransfer() {
+      this.transfer = null;
+    }
+
+    /** Returns true if field transfer is set (has been assigned a value) and false otherwise */
+    public boolean isSetTransfer() {
+      return this.transfer != null;
+    }
+
+    public void setTransferIsSet(boolean value) {
+      if (!value) {
+        this.transfer = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SESSION_KEY:
+        if (value == null) {
+          unsetSessionKey();
+        } else {
+          setSessionKey((String)value);
+        }
+        break;
+
+      case PARAGRAPH_ID:
+        if (value == null) {
+          unsetParagraphId();
+        } else {
+          setParagraphId((String)value);
+        }
+        break;
+
+      case RESOURCE_NAME:
+        if (value == null) {
+          unsetResourceName();
+        } else {
+          setResourceName((String)value);
+        }
+        break;
+
+      case TRANSFER:
+        if (value == null) {
+          unsetTransfer();
+        } else {
+          setTransfer((String)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SESSION_KEY:
+        return getSessionKey();
+
+      case PARAGRAPH_ID:
+        return getParagraphId();
+
+      case RESOURCE_NAME:
+        return getResourceName();
+
+      case TRANSFER:
+        return getTransfer();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SESSION_KEY:
+        return isSetSessionKey();
+      case PARAGRAPH_ID:
+        return isSetParagraphId();
+      case RESOURCE_NAME:
+        return isSetResourceName();
+      case TRANSFER:
+        return isSetTransfer();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof resourceTransferOpen_args)
+        return this.equals((resourceTransferOpen_args)that);
+      return false;
+    }
+
+    public boolean equals(resourceTransferOpen_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_sessionKey = true && this.isSetSessionKey();
+      boolean that_present_sessionKey = true && that.isSetSessionKey();
+      if (this_present_sessionKey || that_present_sessionKey) {
+        if (!(this_present_sessionKey && that_present_sessionKey))
+          return false;
+        if (!this.sessionKey.equals(that.sessionKey))
+          return false;
+      }
+
+      boolean this_present_paragraphId = true && this.isSetParagraphId();
+      boolean that_present_paragraphId = true && that.isSetParagraphId();
+      if (this_present_paragraphId || that_present_paragraphId) {
+        if (!(this_present_paragraphId && that_present_paragraphId))
+          return false;
+        if (!this.paragraphId.equals(that.paragraphId))
+          return false;
+      }
+
+      boolean this_present_resourceName = true && this.isSetResourceName();
+      boolean that_present_resourceName = true && that.isSetResourceName();
+      if (this_present_resourceName || that_present_resourceName) {
+        if (!(this_present_resourceName && that_present_resourceName))
+          return false;
+        if (!this.resourceName.equals(that.resourceName))
+          return false;
+      }
+
+      boolean this_present_transfer = true && this.isSetTransfer();
+      boolean that_present_transfer = true && that.isSetTransfer();
+      if (this_present_transfer || that_present_transfer) {
+        if (!(this_present_transfer && that_present_transfer))
+          return false;
+        if (!this.transfer.equals(that.transfer))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_sessionKey = true && (isSetSessionKey());
+      list.add(present_sessionKey);
+      if (present_sessionKey)
+        list.add(sessionKey);
+
+      boolean present_paragraphId = true && (isSetParagraphId());
+      list.add(present_paragraphId);
+      if (present_paragraphId)
+        list.add(paragraphId);
+
+      boolean present_resourceName = true && (isSetResourceName());
+      list.add(present_resourceName);
+      if (present_resourceName)
+        list.add(resourceName);
+
+      boolean present_transfer = true && (isSetTransfer());
+      list.add(present_transfer);
+      if (present_transfer)
+        list.add(transfer);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(resourceTransferOpen_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSessionKey()).compareTo(other.isSetSessionKey());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSessionKey()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.sessionKey, other.sessionKey);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetParagraphId()).compareTo(other.isSetParagraphId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetParagraphId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.paragraphId, other.paragraphId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetResourceName()).compareTo(other.isSetResourceName());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetResourceName()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.resourceName, other.resourceName);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetTransfer()).compareTo(other.isSetTransfer());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetTransfer()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.transfer, other.transfer);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("resourceTransferOpen_args(");
+      boolean first = true;
+
+      sb.append("sessionKey:");
+      if (this.sessionKey == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.sessionKey);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("paragraphId:");
+      if (this.paragraphId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.paragraphId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("resourceName:");
+      if (this.resourceName == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.resourceName);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("transfer:");
+      if (this.transfer == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.transfer);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class resourceTransferOpen_argsStandardSchemeFactory implements SchemeFactory {
+      public resourceTransferOpen_argsStandardScheme getScheme() {
+        return new resourceTransferOpen_argsStandardScheme();
+      }
+    }
+
+    private static class resourceTransferOpen_argsStandardScheme extends StandardScheme<resourceTransferOpen_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceTransferOpen_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // SESSION_KEY
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.sessionKey = iprot.readString();
+                struct.setSessionKeyIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // PARAGRAPH_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.paragraphId = iprot.readString();
+                struct.setParagraphIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // RESOURCE_NAME
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.resourceName = iprot.readString();
+                struct.setResourceNameIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // TRANSFER
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.transfer = iprot.readString();
+                struct.setTransferIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceTransferOpen_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.sessionKey != null) {
+          oprot.writeFieldBegin(SESSION_KEY_FIELD_DESC);
+          oprot.writeString(struct.sessionKey);
+          oprot.writeFieldEnd();
+        }
+        if (struct.paragraphId != null) {
+          oprot.writeFieldBegin(PARAGRAPH_ID_FIELD_DESC);
+          oprot.writeString(struct.paragraphId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.resourceName != null) {
+          oprot.writeFieldBegin(RESOURCE_NAME_FIELD_DESC);
+          oprot.writeString(struct.resourceName);
+          oprot.writeFieldEnd();
+        }
+        if (struct.transfer != null) {
+          oprot.writeFieldBegin(TRANSFER_FIELD_DESC);
+          oprot.writeString(struct.transfer);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class resourceTransferOpen_argsTupleSchemeFactory implements SchemeFactory {
+      public resourceTransferOpen_argsTupleScheme getScheme() {
+        return new resourceTransferOpen_argsTupleScheme();
+      }
+    }
+
+    private static class resourceTransferOpen_argsTupleScheme extends TupleScheme<resourceTransferOpen_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourceTransferOpen_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSessionKey()) {
+          optionals.set(0);
+        }
+        if (struct.isSetParagraphId()) {
+          optionals.set(1);
+        }
+        if (struct.isSetResourceName()) {
+          optionals.set(2);
+        }
+        if (struct.isSetTransfer()) {
+          optionals.set(3);
+        }
+        oprot.writeBitSet(optionals, 4);
+        if (struct.isSetSessionKey()) {
+          oprot.writeString(struct.sessionKey);
+        }
+        if (struct.isSetParagraphId()) {
+          oprot.writeString(struct.paragraphId);
+        }
+        if (struct.isSetResourceName()) {
+          oprot.writeString(struct.resourceName);
+        }
+        if (struct.isSetTransfer()) {
+          oprot.writeString(struct.transfer);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourceTransferOpen_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(4);
+        if (incoming.get(0)) {
+          struct.sessionKey = iprot.readString();
+          struct.setSessionKeyIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.paragraphId = iprot.readString();
+          struct.setParagraphIdIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.resourceName = iprot.readString();
+          struct.setResourceNameIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.transfer = iprot.readString();
+          struct.setTransferIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class resourceTransferOpen_result implements org.apache.thrift.TBase<resourceTransferOpen_result, resourceTransferOpen_result._Fields>, java.io.Serializable, Cloneable, Comparable<resourceTransferOpen_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceTransferOpen_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new resourceTransferOpen_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new resourceTransferOpen_resultTupleSchemeFactory());
+    }
+
+    public String success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceTransferOpen_result.class, metaDataMap);
+    }
+
+    public resourceTransferOpen_result() {
+    }
+
+    public resourceTransferOpen_result(
+      String success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public resourceTransferOpen_result(resourceTransferOpen_result other) {
+      if (other.isSetSuccess()) {
+        this.success = other.success;
+      }
+    }
+
+    public resourceTransferOpen_result deepCopy() {
+      return new resourceTransferOpen_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public String getSuccess() {
+      return this.success;
+    }
+
+    public resourceTransferOpen_result setSuccess(String success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((String)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof resourceTransferOpen_result)
+        return this.equals((resourceTransferOpen_result)that);
+      return false;
+    }
+
+    public boolean equals(resourceTransferOpen_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(resourceTransferOpen_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("resourceTransferOpen_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class resourceTransferOpen_resultStandardSchemeFactory implements SchemeFactory {
+      public resourceTransferOpen_resultStandardScheme getScheme() {
+        return new resourceTransferOpen_resultStandardScheme();
+      }
+    }
+
+    private static class resourceTransferOpen_resultStandardScheme extends StandardScheme<resourceTransferOpen_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceTransferOpen_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readString();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceTransferOpen_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeString(struct.success);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class resourceTransferOpen_resultTupleSchemeFactory implements SchemeFactory {
+      public resourceTransferOpen_resultTupleScheme getScheme() {
+        return new resourceTransferOpen_resultTupleScheme();
+      }
+    }
+
+    private static class resourceTransferOpen_resultTupleScheme extends TupleScheme<resourceTransferOpen_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourceTransferOpen_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          oprot.writeString(struct.success);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourceTransferOpen_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = iprot.readString();
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class resourceTransferRead_args implements org.apache.thrift.TBase<resourceTransferRead_args, resourceTransferRead_args._Fields>, java.io.Serializable, Cloneable, Comparable<resourceTransferRead_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceTransferRead_args");
+
+    private static final org.apache.thrift.protocol.TField TRANSFER_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("transferId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField MAX_BYTES_FIELD_DESC = new org.apache.thrift.protocol.TField("maxBytes", org.apache.thrift.protocol.TType.I32, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new resourceTransferRead_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new resourceTransferRead_argsTupleSchemeFactory());
+    }
+
+    public String transferId; // required
+    public int maxBytes; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      TRANSFER_ID((short)1, "transferId"),
+      MAX_BYTES((short)2, "maxBytes");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // TRANSFER_ID
+            return TRANSFER_ID;
+          case 2: // MAX_BYTES
+            return MAX_BYTES;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __MAXBYTES_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.TRANSFER_ID, new org.apache.thrift.meta_data.FieldMetaData("transferId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.MAX_BYTES, new org.apache.thrift.meta_data.FieldMetaData("maxBytes", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceTransferRead_args.class, metaDataMap);
+    }
+
+    public resourceTransferRead_args() {
+    }
+
+    public resourceTransferRead_args(
+      String transferId,
+      int maxBytes)
+    {
+      this();
+      this.transferId = transferId;
+      this.maxBytes = maxBytes;
+      setMaxBytesIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public resourceTransferRead_args(resourceTransferRead_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetTransferId()) {
+        this.transferId = other.transferId;
+      }
+      this.maxBytes = other.maxBytes;
+    }
+
+    public resourceTransferRead_args deepCopy() {
+      return new resourceTransferRead_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.transferId = null;
+      setMaxBytesIsSet(false);
+      this.maxBytes = 0;
+    }
+
+    public String getTransferId() {
+      return this.transferId;
+    }
+
+    public resourceTransferRead_args setTransferId(String transferId) {
+      this.transferId = transferId;
+      return this;
+    }
+
+    public void unsetTransferId() {
+      this.transferId = null;
+    }
+
+    /** Returns true if field transferId is set (has been assigned a value) and false otherwise */
+    public boolean isSetTransferId() {
+      return this.transferId != null;
+    }
+
+    public void setTransferIdIsSet(boolean value) {
+      if (!value) {
+        this.transferId = null;
+      }
+    }
+
+    public int getMaxBytes() {
+      return this.maxBytes;
+    }
+
+    public resourceTransferRead_args setMaxBytes(int maxBytes) {
+      this.maxBytes = maxBytes;
+      setMaxBytesIsSet(true);
+      return this;
+    }
+
+    public void unsetMaxBytes() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __MAXBYTES_ISSET_ID);
+    }
+
+    /** Returns true if field maxBytes is set (has been assigned a value) and false otherwise */
+    public boolean isSetMaxBytes() {
+      return EncodingUtils.testBit(__isset_bitfield, __MAXBYTES_ISSET_ID);
+    }
+
+    public void setMaxBytesIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __MAXBYTES_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case TRANSFER_ID:
+        if (value == null) {
+          unsetTransferId();
+        } else {
+          setTransferId((String)value);
+        }
+        break;
+
+      case MAX_BYTES:
+        if (value == null) {
+          unsetMaxBytes();
+        } else {
+          setMaxBytes((Integer)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case TRANSFER_ID:
+        return getTransferId();
+
+      case MAX_BYTES:
+        return Integer.valueOf(getMaxBytes());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case TRANSFER_ID:
+        return isSetTransferId();
+      case MAX_BYTES:
+        return isSetMaxBytes();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof resourceTransferRead_args)
+        return this.equals((resourceTransferRead_args)that);
+      return false;
+    }
+
+    public boolean equals(resourceTransferRead_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_transferId = true && this.isSetTransferId();
+      boolean that_present_transferId = true && that.isSetTransferId();
+      if (this_present_transferId || that_present_transferId) {
+        if (!(this_present_transferId && that_present_transferId))
+          return false;
+        if (!this.transferId.equals(that.transferId))
+          return false;
+      }
+
+      boolean this_present_maxBytes = true;
+      boolean that_present_maxBytes = true;
+      if (this_present_maxBytes || that_present_maxBytes) {
+        if (!(this_present_maxBytes && that_present_maxBytes))
+          return false;
+        if (this.maxBytes != that.maxBytes)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_transferId = true && (isSetTransferId());
+      list.add(present_transferId);
+      if (present_transferId)
+        list.add(transferId);
+
+      boolean present_maxBytes = true;
+      list.add(present_maxBytes);
+      if (present_maxBytes)
+        list.add(maxBytes);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(resourceTransferRead_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetTransferId()).compareTo(other.isSetTransferId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetTransferId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.transferId, other.transferId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetMaxBytes()).compareTo(other.isSetMaxBytes());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetMaxBytes()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.maxBytes, other.maxBytes);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("resourceTransferRead_args(");
+      boolean first = true;
+
+      sb.append("transferId:");
+      if (this.transferId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.transferId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("maxBytes:");
+      sb.append(this.maxBytes);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class resourceTransferRead_argsStandardSchemeFactory implements SchemeFactory {
+      public resourceTransferRead_argsStandardScheme getScheme() {
+        return new resourceTransferRead_argsStandardScheme();
+      }
+    }
+
+    private static class resourceTransferRead_argsStandardScheme extends StandardScheme<resourceTransferRead_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceTransferRead_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // TRANSFER_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.transferId = iprot.readString();
+                struct.setTransferIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // MAX_BYTES
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.maxBytes = iprot.readI32();
+                struct.setMaxBytesIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceTransferRead_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.transferId != null) {
+          oprot.writeFieldBegin(TRANSFER_ID_FIELD_DESC);
+          oprot.writeString(struct.transferId);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(MAX_BYTES_FIELD_DESC);
+        oprot.writeI32(struct.maxBytes);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class resourceTransferRead_argsTupleSchemeFactory implements SchemeFactory {
+      public resourceTransferRead_argsTupleScheme getScheme() {
+        return new resourceTransferRead_argsTupleScheme();
+      }
+    }
+
+    private static class resourceTransferRead_argsTupleScheme extends TupleScheme<resourceTransferRead_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourceTransferRead_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetTransferId()) {
+          optionals.set(0);
+        }
+        if (struct.isSetMaxBytes()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetTransferId()) {
+          oprot.writeString(struct.transferId);
+        }
+        if (struct.isSetMaxBytes()) {
+          oprot.writeI32(struct.maxBytes);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourceTransferRead_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.transferId = iprot.readString();
+          struct.setTransferIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.maxBytes = iprot.readI32();
+          struct.setMaxBytesIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class resourceTransferRead_result implements org.apache.thrift.TBase<resourceTransferRead_result, resourceTransferRead_result._Fields>, java.io.Serializable, Cloneable, Comparable<resourceTransferRead_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceTransferRead_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new resourceTransferRead_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new resourceTransferRead_resultTupleSchemeFactory());
+    }
+
+    public ByteBuffer success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING            , true)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceTransferRead_result.class, metaDataMap);
+    }
+
+    public resourceTransferRead_result() {
+    }
+
+    public resourceTransferRead_result(
+      ByteBuffer success)
+    {
+      this();
+      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public resourceTransferRead_result(resourceTransferRead_result other) {
+      if (other.isSetSuccess()) {
+        this.success = org.apache.thrift.TBaseHelper.copyBinary(other.success);
+      }
+    }
+
+    public resourceTransferRead_result deepCopy() {
+      return new resourceTransferRead_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public byte[] getSuccess() {
+      setSuccess(org.apache.thrift.TBaseHelper.rightSize(success));
+      return success == null ? null : success.array();
+    }
+
+    public ByteBuffer bufferForSuccess() {
+      return org.apache.thrift.TBaseHelper.copyBinary(success);
+    }
+
+    public resourceTransferRead_result setSuccess(byte[] success) {
+      this.success = success == null ? (ByteBuffer)null : ByteBuffer.wrap(Arrays.copyOf(success, success.length));
+      return this;
+    }
+
+    public resourceTransferRead_result setSuccess(ByteBuffer success) {
+      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((ByteBuffer)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof resourceTransferRead_result)
+        return this.equals((resourceTransferRead_result)that);
+      return false;
+    }
+
+    public boolean equals(resourceTransferRead_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(resourceTransferRead_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("resourceTransferRead_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        org.apache.thrift.TBaseHelper.toString(this.success, sb);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class resourceTransferRead_resultStandardSchemeFactory implements SchemeFactory {
+      public resourceTransferRead_resultStandardScheme getScheme() {
+        return new resourceTransferRead_resultStandardScheme();
+      }
+    }
+
+    private static class resourceTransferRead_resultStandardScheme extends StandardScheme<resourceTransferRead_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceTransferRead_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readBinary();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceTransferRead_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeBinary(struct.success);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class resourceTransferRead_resultTupleSchemeFactory implements SchemeFactory {
+      public resourceTransferRead_resultTupleScheme getScheme() {
+        return new resourceTransferRead_resultTupleScheme();
+      }
+    }
+
+    private static class resourceTransferRead_resultTupleScheme extends TupleScheme<resourceTransferRead_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourceTransferRead_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          oprot.writeBinary(struct.success);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourceTransferRead_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = iprot.readBinary();
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class resourceTransferClose_args implements org.apache.thrift.TBase<resourceTransferClose_args, resourceTransferClose_args._Fields>, java.io.Serializable, Cloneable, Comparable<resourceTransferClose_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceTransferClose_args");
+
+    private static final org.apache.thrift.protocol.TField TRANSFER_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("transferId", org.apache.thrift.protocol.TType.STRING, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new resourceTransferClose_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new resourceTransferClose_argsTupleSchemeFactory());
+    }
+
+    public String transferId; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      TRANSFER_ID((short)1, "transferId");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // TRANSFER_ID
+            return TRANSFER_ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.TRANSFER_ID, new org.apache.thrift.meta_data.FieldMetaData("transferId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceTransferClose_args.class, metaDataMap);
+    }
+
+    public resourceTransferClose_args() {
+    }
+
+    public resourceTransferClose_args(
+      String transferId)
+    {
+      this();
+      this.transferId = transferId;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public resourceTransferClose_args(resourceTransferClose_args other) {
+      if (other.isSetTransferId()) {
+        this.transferId = other.transferId;
+      }
+    }
+
+    public resourceTransferClose_args deepCopy() {
+      return new resourceTransferClose_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.transferId = null;
+    }
+
+    public String getTransferId() {
+      return this.transferId;
+    }
+
+    public resourceTransferClose_args setTransferId(String transferId) {
+      this.transferId = transferId;
+      return this;
+    }
+
+    public void unsetTransferId() {
+      this.transferId = null;
+    }
+
+    /** Returns true if field transferId is set (has been assigned a value) and false otherwise */
+    public boolean isSetTransferId() {
+      return this.transferId != null;
+    }
+
+    public void setTransferIdIsSet(boolean value) {
+      if (!value) {
+        this.transferId = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case TRANSFER_ID:
+        if (value == null) {
+          unsetTransferId();
+        } else {
+          setTransferId((String)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case TRANSFER_ID:
+        return getTransferId();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case TRANSFER_ID:
+        return isSetTransferId();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof resourceTransferClose_args)
+        return this.equals((resourceTransferClose_args)that);
+      return false;
+    }
+
+    public boolean equals(resourceTransferClose_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_transferId = true && this.isSetTransferId();
+      boolean that_present_transferId = true && that.isSetTransferId();
+      if (this_present_transferId || that_present_transferId) {
+        if (!(this_present_transferId && that_present_transferId))
+          return false;
+        if (!this.transferId.equals(that.transferId))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_transferId = true && (isSetTransferId());
+      list.add(present_transferId);
+      if (present_transferId)
+        list.add(transferId);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(resourceTransferClose_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetTransferId()).compareTo(other.isSetTransferId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetResourceName()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.resourceName, other.resourceName);
+      if (isSetTransferId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.transferId, other.transferId);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -16094,30 +21362,14 @@ public class RemoteInterpreterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("resourceGet_args(");
+      StringBuilder sb = new StringBuilder("resourceTransferClose_args(");
       boolean first = true;
 
-      sb.append("sessionKey:");
-      if (this.sessionKey == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.sessionKey);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("paragraphId:");
-      if (this.paragraphId == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.paragraphId);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("resourceName:");
-      if (this.resourceName == null) {
+      sb.append("transferId:");
+      if (this.transferId == null) {
         sb.append("null");
       } else {
-        sb.append(this.resourceName);
+        sb.append(this.transferId);
       }
       first = false;
       sb.append(")");
@@ -16145,15 +21397,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class resourceGet_argsStandardSchemeFactory implements SchemeFactory {
-      public resourceGet_argsStandardScheme getScheme() {
-        return new resourceGet_argsStandardScheme();
+    private static class resourceTransferClose_argsStandardSchemeFactory implements SchemeFactory {
+      public resourceTransferClose_argsStandardScheme getScheme() {
+        return new resourceTransferClose_argsStandardScheme();
       }
     }
 
-    private static class resourceGet_argsStandardScheme extends StandardScheme<resourceGet_args> {
+    private static class resourceTransferClose_argsStandardScheme extends StandardScheme<resourceTransferClose_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceGet_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceTransferClose_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -16163,26 +21415,10 @@ public class RemoteInterpreterService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // SESSION_KEY
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.sessionKey = iprot.readString();
-                struct.setSessionKeyIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // PARAGRAPH_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.paragraphId = iprot.readString();
-                struct.setParagraphIdIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 3: // RESOURCE_NAME
+            case 1: // TRANSFER_ID
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.resourceName = iprot.readString();
-                struct.setResourceNameIsSet(true);
+                struct.transferId = iprot.readString();
+                struct.setTransferIdIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -16198,23 +21434,13 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceGet_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceTransferClose_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.sessionKey != null) {
-          oprot.writeFieldBegin(SESSION_KEY_FIELD_DESC);
-          oprot.writeString(struct.sessionKey);
-          oprot.writeFieldEnd();
-        }
-        if (struct.paragraphId != null) {
-          oprot.writeFieldBegin(PARAGRAPH_ID_FIELD_DESC);
-          oprot.writeString(struct.paragraphId);
-          oprot.writeFieldEnd();
-        }
-        if (struct.resourceName != null) {
-          oprot.writeFieldBegin(RESOURCE_NAME_FIELD_DESC);
-          oprot.writeString(struct.resourceName);
+        if (struct.transferId != null) {
+          oprot.writeFieldBegin(TRANSFER_ID_FIELD_DESC);
+          oprot.writeString(struct.transferId);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -16223,76 +21449,54 @@ public class RemoteInterpreterService {
 
     }
 
-    private static class resourceGet_argsTupleSchemeFactory implements SchemeFactory {
-      public resourceGet_argsTupleScheme getScheme() {
-        return new resourceGet_argsTupleScheme();
+    private static class resourceTransferClose_argsTupleSchemeFactory implements SchemeFactory {
+      public resourceTransferClose_argsTupleScheme getScheme() {
+        return new resourceTransferClose_argsTupleScheme();
       }
     }
 
-    private static class resourceGet_argsTupleScheme extends TupleScheme<resourceGet_args> {
+    private static class resourceTransferClose_argsTupleScheme extends TupleScheme<resourceTransferClose_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, resourceGet_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourceTransferClose_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetSessionKey()) {
+        if (struct.isSetTransferId()) {
           optionals.set(0);
         }
-        if (struct.isSetParagraphId()) {
-          optionals.set(1);
-        }
-        if (struct.isSetResourceName()) {
-          optionals.set(2);
-        }
-        oprot.writeBitSet(optionals, 3);
-        if (struct.isSetSessionKey()) {
-          oprot.writeString(struct.sessionKey);
-        }
-        if (struct.isSetParagraphId()) {
-          oprot.writeString(struct.paragraphId);
-        }
-        if (struct.isSetResourceName()) {
-          oprot.writeString(struct.resourceName);
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetTransferId()) {
+          oprot.writeString(struct.transferId);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, resourceGet_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourceTransferClose_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(3);
+        BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.sessionKey = iprot.readString();
-          struct.setSessionKeyIsSet(true);
-        }
-        if (incoming.get(1)) {
-          struct.paragraphId = iprot.readString();
-          struct.setParagraphIdIsSet(true);
-        }
-        if (incoming.get(2)) {
-          struct.resourceName = iprot.readString();
-          struct.setResourceNameIsSet(true);
+          struct.transferId = iprot.readString();
+          struct.setTransferIdIsSet(true);
         }
       }
     }
 
   }
 
-  public static class resourceGet_result implements org.apache.thrift.TBase<resourceGet_result, resourceGet_result._Fields>, java.io.Serializable, Cloneable, Comparable<resourceGet_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceGet_result");
+  public static class resourceTransferClose_result implements org.apache.thrift.TBase<resourceTransferClose_result, resourceTransferClose_result._Fields>, java.io.Serializable, Cloneable, Comparable<resourceTransferClose_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceTransferClose_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new resourceGet_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new resourceGet_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new resourceTransferClose_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new resourceTransferClose_resultTupleSchemeFactory());
     }
 
-    public ByteBuffer success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success");
+  ;
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -16307,8 +21511,6 @@ public class RemoteInterpreterService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 0: // SUCCESS
-            return SUCCESS;
           default:
             return null;
         }
@@ -16352,92 +21554,34 @@ public class RemoteInterpreterService {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceGet_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceTransferClose_result.class, metaDataMap);
     }
 
-    public resourceGet_result() {
-    }
-
-    public resourceGet_result(
-      ByteBuffer success)
-    {
-      this();
-      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
+    public resourceTransferClose_result() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public resourceGet_result(resourceGet_result other) {
-      if (other.isSetSuccess()) {
-        this.success = org.apache.thrift.TBaseHelper.copyBinary(other.success);
-      }
+    public resourceTransferClose_result(resourceTransferClose_result other) {
     }
 
-    public resourceGet_result deepCopy() {
-      return new resourceGet_result(this);
+    public resourceTransferClose_result deepCopy() {
+      return new resourceTransferClose_result(this);
     }
 
     @Override
     public void clear() {
-      this.success = null;
-    }
-
-    public byte[] getSuccess() {
-      setSuccess(org.apache.thrift.TBaseHelper.rightSize(success));
-      return success == null ? null : success.array();
-    }
-
-    public ByteBuffer bufferForSuccess() {
-      return org.apache.thrift.TBaseHelper.copyBinary(success);
-    }
-
-    public resourceGet_result setSuccess(byte[] success) {
-      this.success = success == null ? (ByteBuffer)null : ByteBuffer.wrap(Arrays.copyOf(success, success.length));
-      return this;
-    }
-
-    public resourceGet_result setSuccess(ByteBuffer success) {
-      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
-      return this;
-    }
-
-    public void unsetSuccess() {
-      this.success = null;
-    }
-
-    /** Returns true if field success is set (has been assigned a value) and false otherwise */
-    public boolean isSetSuccess() {
-      return this.success != null;
-    }
-
-    public void setSuccessIsSet(boolean value) {
-      if (!value) {
-        this.success = null;
-      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case SUCCESS:
-        if (value == null) {
-          unsetSuccess();
-        } else {
-          setSuccess((ByteBuffer)value);
-        }
-        break;
-
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case SUCCESS:
-        return getSuccess();
-
       }
       throw new IllegalStateException();
     }
@@ -16449,8 +21593,6 @@ public class RemoteInterpreterService {
       }
 
       switch (field) {
-      case SUCCESS:
-        return isSetSuccess();
       }
       throw new IllegalStateException();
     }
@@ -16459,24 +21601,15 @@ public class RemoteInterpreterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof resourceGet_result)
-        return this.equals((resourceGet_result)that);
+      if (that instanceof resourceTransferClose_result)
+        return this.equals((resourceTransferClose_result)that);
       return false;
     }
 
-    public boolean equals(resourceGet_result that) {
+    public boolean equals(resourceTransferClose_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true && this.isSetSuccess();
-      boolean that_present_success = true && that.isSetSuccess();
-      if (this_present_success || that_present_success) {
-        if (!(this_present_success && that_present_success))
-          return false;
-        if (!this.success.equals(that.success))
-          return false;
-      }
-
       return true;
     }
 
@@ -16484,32 +21617,17 @@ public class RemoteInterpreterService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_success = true && (isSetSuccess());
-      list.add(present_success);
-      if (present_success)
-        list.add(success);
-
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(resourceGet_result other) {
+    public int compareTo(resourceTransferClose_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetSuccess()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -16527,16 +21645,9 @@ public class RemoteInterpreterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("resourceGet_result(");
+      StringBuilder sb = new StringBuilder("resourceTransferClose_result(");
       boolean first = true;
 
-      sb.append("success:");
-      if (this.success == null) {
-        sb.append("null");
-      } else {
-        org.apache.thrift.TBaseHelper.toString(this.success, sb);
-      }
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -16562,15 +21673,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class resourceGet_resultStandardSchemeFactory implements SchemeFactory {
-      public resourceGet_resultStandardScheme getScheme() {
-        return new resourceGet_resultStandardScheme();
+    private static class resourceTransferClose_resultStandardSchemeFactory implements SchemeFactory {
+      public resourceTransferClose_resultStandardScheme getScheme() {
+        return new resourceTransferClose_resultStandardScheme();
       }
     }
 
-    private static class resourceGet_resultStandardScheme extends StandardScheme<resourceGet_result> {
+    private static class resourceTransferClose_resultStandardScheme extends StandardScheme<resourceTransferClose_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceGet_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceTransferClose_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -16580,14 +21691,6 @@ public class RemoteInterpreterService {
             break;
           }
           switch (schemeField.id) {
-            case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.success = iprot.readBinary();
-                struct.setSuccessIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -16599,50 +21702,32 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceGet_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceTransferClose_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.success != null) {
-          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeBinary(struct.success);
-          oprot.writeFieldEnd();
-        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class resourceGet_resultTupleSchemeFactory implements SchemeFactory {
-      public resourceGet_resultTupleScheme getScheme() {
-        return new resourceGet_resultTupleScheme();
+    private static class resourceTransferClose_resultTupleSchemeFactory implements SchemeFactory {
+      public resourceTransferClose_resultTupleScheme getScheme() {
+        return new resourceTransferClose_resultTupleScheme();
       }
     }
 
-    private static class resourceGet_resultTupleScheme extends TupleScheme<resourceGet_result> {
+    private static class resourceTransferClose_resultTupleScheme extends TupleScheme<resourceTransferClose_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, resourceGet_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourceTransferClose_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
-        BitSet optionals = new BitSet();
-        if (struct.isSetSuccess()) {
-          optionals.set(0);
-        }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetSuccess()) {
-          oprot.writeBinary(struct.success);
-        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, resourceGet_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourceTransferClose_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
-        if (incoming.get(0)) {
-          struct.success = iprot.readBinary();
-          struct.setSuccessIsSet(true);
-        }
       }
     }
 
@@ -52,7 +52,7 @@ public class DistributedResourcePool extends LocalResourcePool {
     }
 
     if (remote) {
-      ResourceSet resources = connector.getAllResources().filterByName(name);
+      ResourceSet resources = connector.findResources(name);
       if (resources.isEmpty()) {
         return null;
       } else {
@@ -77,10 +77,7 @@ public class DistributedResourcePool extends LocalResourcePool {
     }
 
     if (remote) {
-      ResourceSet resources = connector.getAllResources()
-          .filterByNoteId(noteId)
-          .filterByParagraphId(paragraphId)
-          .filterByName(name);
+      ResourceSet resources = connector.findResources(noteId, paragraphId, name);
 
       if (resources.isEmpty()) {
         return null;
@@ -92,6 +89,36 @@ public class DistributedResourcePool extends LocalResourcePool {
     }
   }
 
+  @Override
+  public void put(String name, Object object) {
+    super.put(name, object);
+    connector.onResourcePut(super.get(name));
+  }
+
+  @Override
+  public void put(String noteId, String paragraphId, String name, Object object) {
+    super.put(noteId, paragraphId, name, object);
+    connector.onResourcePut(super.get(noteId, paragraphId, name));
+  }
+
+  @Override
+  public Resource remove(String name) {
+    Resource resource = super.remove(name);
+    if (resource != null) {
+      connector.onResourceRemove(resource.getResourceId());
+    }
+    return resource;
+  }
+
+  @Override
+  public Resource remove(String noteId, String paragraphId, String name) {
+    Resource resource = super.remove(noteId, paragraphId, name);
+    if (resource != null) {
+      connector.onResourceRemove(resource.getResourceId());
+    }
+    return resource;
+  }
+
   @Override
   public ResourceSet getAll() {
     return getAll(true);
@@ -48,7 +48,7 @@ public class Resource implements JsonSerializable {
     this.r = r;
     this.pool = pool;
     this.resourceId = resourceId;
-    this.serializable = r instanceof Serializable;
+    this.serializable = ResourceSerializers.find(r) != null;
     this.className = r.getClass().getName();
   }
 
@@ -153,7 +153,8 @@ public class Resource implements JsonSerializable {
             resourceId.getNoteId(),
             resourceId.getParagraphId(),
             returnResourceName,
-            ret
+            ResourceIterator.wrap(ret, pool,
+                resourceId.getNoteId(), resourceId.getParagraphId(), returnResourceName)
         );
         return pool.get(
             resourceId.getNoteId(),
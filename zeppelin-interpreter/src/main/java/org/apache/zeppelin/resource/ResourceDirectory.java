@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.resource;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Directory of resources in the resource pools of all interpreter processes, kept by
+ * ZeppelinServer. Interpreter processes announce the resources they put and remove, so a
+ * resource is found without asking every process for its whole resource pool.
+ *
+ * A lookup that found nothing is remembered for missTtlMs (negative cache), or until a resource
+ * of the same name is put.
+ */
+public class ResourceDirectory {
+  public static final long DEFAULT_MISS_TTL_MS = 10 * 1000;
+
+  private final long missTtlMs;
+  private final Map<ResourceId, Resource> resources = new HashMap<>();
+  private final Map<String, Set<ResourceId>> idsByName = new HashMap<>();
+  // name -> lookup -> time the miss expires
+  private final Map<String, Map<String, Long>> misses = new HashMap<>();
+
+  public ResourceDirectory() {
+    this(DEFAULT_MISS_TTL_MS);
+  }
+
+  public ResourceDirectory(long missTtlMs) {
+    this.missTtlMs = missTtlMs;
+  }
+
+  public synchronized void put(Resource resource) {
+    ResourceId id = resource.getResourceId();
+    resources.put(id, resource);
+    Set<ResourceId> ids = idsByName.get(id.getName());
+    if (ids == null) {
+      ids = new HashSet<>();
+      idsByName.put(id.getName(), ids);
+    }
+    ids.add(id);
+    misses.remove(id.getName());
+  }
+
+  public synchronized void remove(ResourceId id) {
+    if (resources.remove(id) != null) {
+      Set<ResourceId> ids = idsByName.get(id.getName());
+      ids.remove(id);
+      if (ids.isEmpty()) {
+        idsByName.remove(id.getName());
+      }
+    }
+  }
+
+  /**
+   * Remove all resources of the resource pool, when its interpreter process is gone
+   */
+  public synchronized void removeResourcePool(String resourcePoolId) {
+    Iterator<ResourceId> it = resources.keySet().iterator();
+    while (it.hasNext()) {
+      ResourceId id = it.next();
+      if (id.getResourcePoolId().equals(resourcePoolId)) {
+        it.remove();
+        Set<ResourceId> ids = idsByName.get(id.getName());
+        ids.remove(id);
+        if (ids.isEmpty()) {
+          idsByName.remove(id.getName());
+        }
+      }
+    }
+  }
+
+  /**
+   * Find resources
+   * @param excludeResourcePoolId resources of this pool are not returned. null to include all
+   * @param nameOnly true to find resources of the name in any note and paragraph
+   */
+  public synchronized ResourceSet find(String excludeResourcePoolId, String noteId,
+                                       String paragraphId, String name, boolean nameOnly) {
+    ResourceSet found = new ResourceSet();
+    Set<ResourceId> ids = idsByName.get(name);
+    if (ids == null) {
+      return found;
+    }
+    for (ResourceId id : ids) {
+      if (excludeResourcePoolId != null
+          && excludeResourcePoolId.equals(id.getResourcePoolId())) {
+        continue;
+      }
+      if (nameOnly
+          || (equals(noteId, id.getNoteId()) && equals(paragraphId, id.getParagraphId()))) {
+        found.add(resources.get(id));
+      }
+    }
+    return found;
+  }
+
+  /**
+   * Whether the same lookup recently found nothing
+   */
+  public synchronized boolean isMiss(String excludeResourcePoolId, String noteId,
+                                     String paragraphId, String name, boolean nameOnly) {
+    Map<String, Long> lookups = misses.get(name);
+    if (lookups == null) {
+      return false;
+    }
+    String lookup = lookupKey(excludeResourcePoolId, noteId, paragraphId, nameOnly);
+    Long expireTime = lookups.get(lookup);
+    if (expireTime == null) {
+      return false;
+    } else if (expireTime < System.currentTimeMillis()) {
+      lookups.remove(lookup);
+      if (lookups.isEmpty()) {
+        misses.remove(name);
+      }
+      return false;
+    }
+    return true;
+  }
+
+  public synchronized void addMiss(String excludeResourcePoolId, String noteId,
+                                   String paragraphId, String name, boolean nameOnly) {
+    Map<String, Long> lookups = misses.get(name);
+    if (lookups == null) {
+      lookups = new HashMap<>();
+      misses.put(name, lookups);
+    }
+    lookups.put(lookupKey(excludeResourcePoolId, noteId, paragraphId, nameOnly),
+        System.currentTimeMillis() + missTtlMs);
+  }
+
+  public synchronized int size() {
+    return resources.size();
+  }
+
+  private static String lookupKey(String excludeResourcePoolId, String noteId,
+                                  String paragraphId, boolean nameOnly) {
+    return nameOnly ? excludeResourcePoolId + "/*" :
+        excludeResourcePoolId + "/" + noteId + "/" + paragraphId;
+  }
+
+  private static boolean equals(String a, String b) {
+    return a == null ? b == null : a.equals(b);
+  }
+}
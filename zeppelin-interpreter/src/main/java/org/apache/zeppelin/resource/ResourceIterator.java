@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.resource;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+
+/**
+ * Iterator returned by a method invoked with a return resource name.
+ * Iterators are kept in the resource pool wrapped in this class, so other interpreter processes
+ * can read them a page at a time with next(int), instead of one invokeMethod() per element.
+ * The iterator removes itself from the resource pool once it is exhausted or closed.
+ */
+public class ResourceIterator implements Iterator<Object> {
+  private final Iterator<?> iterator;
+  private final ResourcePool pool;
+  private final String noteId;
+  private final String paragraphId;
+  private final String name;
+
+  public ResourceIterator(Iterator<?> iterator, ResourcePool pool,
+                          String noteId, String paragraphId, String name) {
+    this.iterator = iterator;
+    this.pool = pool;
+    this.noteId = noteId;
+    this.paragraphId = paragraphId;
+    this.name = name;
+  }
+
+  /**
+   * Wrap return value of invoked method when it is an iterator
+   */
+  public static Object wrap(Object returnValue, ResourcePool pool,
+                            String noteId, String paragraphId, String name) {
+    if (returnValue instanceof Iterator && !(returnValue instanceof ResourceIterator)) {
+      return new ResourceIterator((Iterator<?>) returnValue, pool, noteId, paragraphId, name);
+    } else {
+      return returnValue;
+    }
+  }
+
+  @Override
+  public synchronized boolean hasNext() {
+    return iterator.hasNext();
+  }
+
+  @Override
+  public synchronized Object next() {
+    return iterator.next();
+  }
+
+  @Override
+  public synchronized void remove() {
+    iterator.remove();
+  }
+
+  /**
+   * Get next elements
+   * @param size max number of elements
+   * @return up to size elements. less than size when there's no more element
+   */
+  public synchronized ArrayList<Object> next(int size) {
+    ArrayList<Object> page = new ArrayList<>(size);
+    while (page.size() < size && iterator.hasNext()) {
+      page.add(iterator.next());
+    }
+    if (page.size() < size) {
+      close();
+    }
+    return page;
+  }
+
+  /**
+   * Remove this iterator from the resource pool
+   */
+  public void close() {
+    if (pool != null) {
+      pool.remove(noteId, paragraphId, name);
+    }
+  }
+}
@@ -26,6 +26,28 @@ public interface ResourcePoolConnector {
    */
   public ResourceSet getAllResources();
 
+  /**
+   * Find resources of the name, in any note and paragraph, in remote resource pools
+   * @return
+   */
+  public ResourceSet findResources(String name);
+
+  /**
+   * Find resource in remote resource pools
+   * @return
+   */
+  public ResourceSet findResources(String noteId, String paragraphId, String name);
+
+  /**
+   * Announce resource put into the local resource pool
+   */
+  public void onResourcePut(Resource resource);
+
+  /**
+   * Announce resource removed from the local resource pool
+   */
+  public void onResourceRemove(ResourceId id);
+
   /**
    * Read remote object
    * @return
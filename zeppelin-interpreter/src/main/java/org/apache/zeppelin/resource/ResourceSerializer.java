@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Serializes values of resources that are transferred between interpreter processes.
+ * JavaResourceSerializer handles any Serializable object. Serializers for known types
+ * (e.g. Kryo or Arrow based) can be added with ResourceSerializers.register() or listed in
+ * META-INF/services/org.apache.zeppelin.resource.ResourceSerializer of an interpreter.
+ * Both interpreter processes of a transfer need the same serializer.
+ */
+public interface ResourceSerializer {
+  /**
+   * Name the receiving side uses to find this serializer
+   */
+  String getName();
+
+  boolean canSerialize(Object o);
+
+  /**
+   * Write the object. Implementation should flush but not close the stream.
+   */
+  void serialize(Object o, OutputStream out) throws IOException;
+
+  Object deserialize(InputStream in) throws IOException, ClassNotFoundException;
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.resource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Registry of ResourceSerializer.
+ * Serializers are tried in order of registration, latest first, and JavaResourceSerializer last.
+ */
+public class ResourceSerializers {
+  private static final Logger logger = LoggerFactory.getLogger(ResourceSerializers.class);
+  private static final List<ResourceSerializer> serializers = new CopyOnWriteArrayList<>();
+
+  static {
+    serializers.add(new JavaResourceSerializer());
+    try {
+      Iterator<ResourceSerializer> it = ServiceLoader.load(ResourceSerializer.class).iterator();
+      while (it.hasNext()) {
+        register(it.next());
+      }
+    } catch (ServiceConfigurationError e) {
+      logger.error("Can't load ResourceSerializer", e);
+    }
+  }
+
+  /**
+   * Register serializer. It takes precedence over the serializers registered before.
+   */
+  public static void register(ResourceSerializer serializer) {
+    logger.info("Register ResourceSerializer {}", serializer.getName());
+    serializers.add(0, serializer);
+  }
+
+  public static void unregister(ResourceSerializer serializer) {
+    serializers.remove(serializer);
+  }
+
+  /**
+   * @return serializer for the object. null when no serializer can serialize it
+   */
+  public static ResourceSerializer find(Object o) {
+    if (o == null) {
+      return null;
+    }
+    for (ResourceSerializer serializer : serializers) {
+      if (serializer.canSerialize(o)) {
+        return serializer;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return serializer of the name. null when it is not registered
+   */
+  public static ResourceSerializer get(String name) {
+    for (ResourceSerializer serializer : serializers) {
+      if (serializer.getName().equals(name)) {
+        return serializer;
+      }
+    }
+    return null;
+  }
+}
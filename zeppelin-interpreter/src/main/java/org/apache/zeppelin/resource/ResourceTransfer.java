@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.resource;
+
+import com.google.gson.Gson;
+import org.apache.zeppelin.common.JsonSerializable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Chunked transfer of a resource value between interpreter processes.
+ * ZeppelinServer asks the interpreter process that owns the resource to open a transfer with
+ * the options (compress, spillThreshold). The owner serializes the value into a SpillBuffer and
+ * answers with transferId, serializer and size, then ZeppelinServer relays the serialized bytes
+ * chunk by chunk to the requesting interpreter process, without deserializing them.
+ */
+public class ResourceTransfer implements JsonSerializable {
+  private static final Gson gson = new Gson();
+  private static final int COMPRESS_BUFFER_SIZE = 64 * 1024;
+
+  public static final int DEFAULT_CHUNK_SIZE = 4 * 1024 * 1024;
+  public static final long DEFAULT_SPILL_THRESHOLD = 64 * 1024 * 1024;
+
+  // options
+  public final boolean compress;
+  // bytes kept in memory on both sides before spilling to a temp file
+  public final long spillThreshold;
+
+  // set by the interpreter process that owns the resource
+  public String transferId;
+  public String serializer;
+  // bytes to transfer, after compression
+  public long size;
+
+  public ResourceTransfer(boolean compress, long spillThreshold) {
+    this.compress = compress;
+    this.spillThreshold = spillThreshold;
+  }
+
+  /**
+   * Serialize the object with the first serializer that can serialize it
+   * @return false when no serializer can serialize the object
+   */
+  public boolean serialize(Object o, OutputStream out) throws IOException {
+    ResourceSerializer s = ResourceSerializers.find(o);
+    if (s == null) {
+      return false;
+    }
+    serializer = s.getName();
+    if (!compress) {
+      s.serialize(o, out);
+      return true;
+    }
+    Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    try {
+      DeflaterOutputStream deflaterOut =
+          new DeflaterOutputStream(out, deflater, COMPRESS_BUFFER_SIZE);
+      s.serialize(o, deflaterOut);
+      deflaterOut.finish();
+    } finally {
+      deflater.end();
+    }
+    return true;
+  }
+
+  public Object deserialize(InputStream in) throws IOException, ClassNotFoundException {
+    ResourceSerializer s = ResourceSerializers.get(serializer);
+    if (s == null) {
+      throw new IOException("ResourceSerializer " + serializer + " is not registered");
+    }
+    if (!compress) {
+      return s.deserialize(in);
+    }
+    Inflater inflater = new Inflater();
+    try {
+      return s.deserialize(new InflaterInputStream(in, inflater, COMPRESS_BUFFER_SIZE));
+    } finally {
+      inflater.end();
+    }
+  }
+
+  public String toJson() {
+    return gson.toJson(this);
+  }
+
+  public static ResourceTransfer fromJson(String json) {
+    return gson.fromJson(json, ResourceTransfer.class);
+  }
+}
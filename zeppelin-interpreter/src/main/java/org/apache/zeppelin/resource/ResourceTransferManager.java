@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.resource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Open transfers of the interpreter process that owns the resources.
+ * A transfer is released when its last chunk is read, when it is closed, or when it is not
+ * read for idleTimeoutMs (e.g. ZeppelinServer restarted in the middle of a transfer).
+ */
+public class ResourceTransferManager {
+  private static final Logger logger = LoggerFactory.getLogger(ResourceTransferManager.class);
+  public static final long DEFAULT_IDLE_TIMEOUT_MS = 10 * 60 * 1000;
+
+  private final long idleTimeoutMs;
+  private final ConcurrentMap<String, Transfer> transfers = new ConcurrentHashMap<>();
+
+  public ResourceTransferManager() {
+    this(DEFAULT_IDLE_TIMEOUT_MS);
+  }
+
+  public ResourceTransferManager(long idleTimeoutMs) {
+    this.idleTimeoutMs = idleTimeoutMs;
+  }
+
+  /**
+   * Serialize the object and open a transfer
+   * @param o value of the resource
+   * @param options compress and spillThreshold of the transfer
+   * @return the transfer with id, serializer and size. null when the object can't be serialized
+   */
+  public ResourceTransfer open(Object o, ResourceTransfer options) throws IOException {
+    releaseIdle();
+
+    ResourceTransfer transfer = new ResourceTransfer(options.compress, options.spillThreshold);
+    SpillBuffer buffer = new SpillBuffer(options.spillThreshold);
+    try {
+      if (!transfer.serialize(o, buffer)) {
+        buffer.release();
+        return null;
+      }
+      buffer.close();
+    } catch (IOException | RuntimeException e) {
+      buffer.release();
+      throw e;
+    }
+    transfer.transferId = UUID.randomUUID().toString();
+    transfer.size = buffer.length();
+    transfers.put(transfer.transferId, new Transfer(buffer));
+    logger.debug("Open transfer {} of {} bytes, spilled {}",
+        transfer.transferId, transfer.size, buffer.isSpilled());
+    return transfer;
+  }
+
+  /**
+   * Read next chunk of the transfer
+   * @return up to maxBytes bytes. empty when there's no more bytes or no such transfer
+   */
+  public ByteBuffer read(String transferId, int maxBytes) throws IOException {
+    Transfer transfer = transfers.get(transferId);
+    if (transfer == null) {
+      return ByteBuffer.allocate(0);
+    }
+    synchronized (transfer) {
+      transfer.lastAccessTime = System.currentTimeMillis();
+      ByteBuffer chunk = transfer.buffer.read(transfer.position, maxBytes);
+      transfer.position += chunk.remaining();
+      if (transfer.position >= transfer.buffer.length()) {
+        close(transferId);
+      }
+      return chunk;
+    }
+  }
+
+  public void close(String transferId) {
+    Transfer transfer = transfers.remove(transferId);
+    if (transfer != null) {
+      transfer.buffer.release();
+    }
+  }
+
+  /**
+   * Number of open transfers
+   */
+  public int size() {
+    return transfers.size();
+  }
+
+  private void releaseIdle() {
+    long now = System.currentTimeMillis();
+    Iterator<ConcurrentMap.Entry<String, Transfer>> it = transfers.entrySet().iterator();
+    while (it.hasNext()) {
+      ConcurrentMap.Entry<String, Transfer> entry = it.next();
+      if (now - entry.getValue().lastAccessTime > idleTimeoutMs) {
+        logger.warn("Release transfer {} not read for {} ms", entry.getKey(), idleTimeoutMs);
+        it.remove();
+        entry.getValue().buffer.release();
+      }
+    }
+  }
+
+  private static class Transfer {
+    final SpillBuffer buffer;
+    long position;
+    volatile long lastAccessTime = System.currentTimeMillis();
+
+    Transfer(SpillBuffer buffer) {
+      this.buffer = buffer;
+    }
+  }
+}
@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.resource;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+/**
+ * Buffer of a serialized resource in transfer.
+ * Bytes are kept in memory until the length reaches spillThreshold, then everything is moved
+ * to a temp file, so a large resource doesn't have to fit in the heap.
+ * Write, then close() and read with read() or getInputStream(). release() deletes the temp file.
+ */
+public class SpillBuffer extends OutputStream {
+  private static final int INITIAL_SIZE = 8 * 1024;
+  private static final int FILE_BUFFER_SIZE = 64 * 1024;
+  private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+  private final long spillThreshold;
+  private byte[] buf = new byte[INITIAL_SIZE];
+  private long length;
+  private File file;
+  private OutputStream fileOut;
+  private RandomAccessFile fileIn;
+  private boolean closed;
+  private boolean released;
+
+  public SpillBuffer(long spillThreshold) {
+    this.spillThreshold = spillThreshold;
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    write(new byte[]{(byte) b}, 0, 1);
+  }
+
+  @Override
+  public synchronized void write(byte[] b, int off, int len) throws IOException {
+    if (closed) {
+      throw new IOException(released ? "Buffer released" : "Buffer closed");
+    }
+    if (file == null && length + len > Math.min(spillThreshold, MAX_ARRAY_SIZE)) {
+      spill();
+    }
+    if (file == null) {
+      int count = (int) length;
+      if (count + len > buf.length) {
+        buf = Arrays.copyOf(buf, (int) Math.min(
+            Math.max((long) buf.length * 2, count + len), MAX_ARRAY_SIZE));
+      }
+      System.arraycopy(b, off, buf, count, len);
+    } else {
+      fileOut.write(b, off, len);
+    }
+    length += len;
+  }
+
+  /**
+   * Write remaining bytes of the buffer
+   */
+  public void write(ByteBuffer bytes) throws IOException {
+    if (bytes.hasArray()) {
+      write(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+    } else {
+      byte[] b = new byte[bytes.remaining()];
+      bytes.duplicate().get(b);
+      write(b);
+    }
+  }
+
+  private void spill() throws IOException {
+    file = File.createTempFile("zeppelin-resource-", ".transfer");
+    fileOut = new BufferedOutputStream(new FileOutputStream(file), FILE_BUFFER_SIZE);
+    fileOut.write(buf, 0, (int) length);
+    buf = null;
+  }
+
+  @Override
+  public synchronized void flush() throws IOException {
+    if (fileOut != null) {
+      fileOut.flush();
+    }
+  }
+
+  /**
+   * Finish writing. Written bytes can be read after close.
+   */
+  @Override
+  public synchronized void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    if (fileOut != null) {
+      fileOut.close();
+    }
+  }
+
+  public synchronized long length() {
+    return length;
+  }
+
+  public synchronized boolean isSpilled() {
+    return file != null;
+  }
+
+  /**
+   * Read bytes of the closed buffer
+   * @param position position to start reading
+   * @param maxBytes max number of bytes to read
+   * @return bytes read. empty when position is at the end
+   */
+  public synchronized ByteBuffer read(long position, int maxBytes) throws IOException {
+    checkReadable();
+    int size = (int) Math.max(0, Math.min(maxBytes, length - position));
+    if (file == null) {
+      return ByteBuffer.wrap(buf, (int) position, size).slice();
+    }
+    if (fileIn == null) {
+      fileIn = new RandomAccessFile(file, "r");
+    }
+    ByteBuffer bytes = ByteBuffer.allocate(size);
+    FileChannel channel = fileIn.getChannel();
+    while (bytes.hasRemaining()) {
+      if (channel.read(bytes, position + bytes.position()) < 0) {
+        throw new IOException("Unexpected end of " + file);
+      }
+    }
+    bytes.flip();
+    return bytes;
+  }
+
+  /**
+   * Stream of all bytes of the closed buffer
+   */
+  public synchronized InputStream getInputStream() throws IOException {
+    checkReadable();
+    if (file == null) {
+      return new ByteArrayInputStream(buf, 0, (int) length);
+    } else {
+      return new BufferedInputStream(new FileInputStream(file), FILE_BUFFER_SIZE);
+    }
+  }
+
+  private void checkReadable() throws IOException {
+    if (released) {
+      throw new IOException("Buffer released");
+    }
+    if (!closed) {
+      throw new IOException("Buffer is not closed");
+    }
+  }
+
+  /**
+   * Free memory and delete temp file
+   */
+  public synchronized void release() {
+    if (released) {
+      return;
+    }
+    released = true;
+    closed = true;
+    buf = null;
+    try {
+      if (fileOut != null) {
+        fileOut.close();
+      }
+      if (fileIn != null) {
+        fileIn.close();
+      }
+    } catch (IOException e) {
+      // nothing to do
+    }
+    if (file != null && !file.delete()) {
+      file.deleteOnExit();
+    }
+  }
+}
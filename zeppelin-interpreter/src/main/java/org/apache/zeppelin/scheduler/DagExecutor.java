@@ -0,0 +1,287 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.scheduler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs the tasks of a directed acyclic graph, each one once all the tasks it depends on have
+ * finished. Up to parallelism tasks run at the same time. When a task fails, the tasks depending
+ * on it, directly or not, are skipped.
+ */
+public class DagExecutor {
+  private static final Logger LOGGER = LoggerFactory.getLogger(DagExecutor.class);
+
+  /**
+   * Task of a node. Failed when it throws an exception.
+   */
+  public interface Task {
+    void run() throws Exception;
+  }
+
+  /**
+   * FINISHED - Task ran successfully
+   * ERROR - Task failed
+   * SKIPPED - Task didn't run because a task it depends on failed
+   */
+  public enum NodeStatus {
+    FINISHED, ERROR, SKIPPED
+  }
+
+  /**
+   * Status and timing of a node
+   */
+  public static class NodeResult {
+    private final String id;
+    private final NodeStatus status;
+    private final long startedAt;
+    private final long durationMs;
+    private final String error;
+
+    NodeResult(String id, NodeStatus status, long startedAt, long durationMs, String error) {
+      this.id = id;
+      this.status = status;
+      this.startedAt = startedAt;
+      this.durationMs = durationMs;
+      this.error = error;
+    }
+
+    public String getId() {
+      return id;
+    }
+
+    public NodeStatus getStatus() {
+      return status;
+    }
+
+    /**
+     * @return start time in ms, 0 when skipped
+     */
+    public long getStartedAt() {
+      return startedAt;
+    }
+
+    public long getDurationMs() {
+      return durationMs;
+    }
+
+    /**
+     * @return null unless failed
+     */
+    public String getError() {
+      return error;
+    }
+  }
+
+  private final ExecutorService executor;
+  private final int parallelism;
+  private final Map<String, Task> tasks = new LinkedHashMap<>();
+  private final Map<String, Set<String>> downstream = new HashMap<>();
+  private final Map<String, Set<String>> upstream = new HashMap<>();
+
+  public DagExecutor(int parallelism) {
+    // tasks usually block on other jobs, so they don't share a bounded pool with them
+    this(ExecutorFactory.singleton().createOrGetDispatcher("DagExecutor"), parallelism);
+  }
+
+  public DagExecutor(ExecutorService executor, int parallelism) {
+    if (parallelism <= 0) {
+      throw new IllegalArgumentException("parallelism can't be " + parallelism);
+    }
+    this.executor = executor;
+    this.parallelism = parallelism;
+  }
+
+  public void addNode(String id, Task task) {
+    if (tasks.containsKey(id)) {
+      throw new IllegalArgumentException("Node " + id + " already exists");
+    }
+    tasks.put(id, task);
+    downstream.put(id, new LinkedHashSet<String>());
+    upstream.put(id, new LinkedHashSet<String>());
+  }
+
+  public boolean hasNode(String id) {
+    return tasks.containsKey(id);
+  }
+
+  /**
+   * Make node 'to' run after node 'from' finished
+   */
+  public void addEdge(String from, String to) {
+    if (!tasks.containsKey(from) || !tasks.containsKey(to)) {
+      throw new IllegalArgumentException("Unknown node in edge " + from + " -> " + to);
+    }
+    downstream.get(from).add(to);
+    upstream.get(to).add(from);
+  }
+
+  /**
+   * Whether node 'id' runs after node 'of', directly or not.
+   * Adding an edge from 'id' to 'of' would then create a cycle.
+   */
+  public boolean isDownstream(String id, String of) {
+    if (!tasks.containsKey(id) || !tasks.containsKey(of)) {
+      return false;
+    }
+    Set<String> visited = new HashSet<>();
+    LinkedList<String> toVisit = new LinkedList<>(downstream.get(of));
+    while (!toVisit.isEmpty()) {
+      String next = toVisit.poll();
+      if (next.equals(id)) {
+        return true;
+      }
+      if (visited.add(next)) {
+        toVisit.addAll(downstream.get(next));
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Run all tasks and wait until each one finished or is skipped
+   * @return result of each node, in the order they completed
+   * @throws IllegalArgumentException when the graph has a cycle
+   */
+  public List<NodeResult> run() throws InterruptedException {
+    checkAcyclic();
+    return new Execution().run();
+  }
+
+  private void checkAcyclic() {
+    Map<String, Integer> inDegree = new HashMap<>();
+    LinkedList<String> ready = new LinkedList<>();
+    for (String id : tasks.keySet()) {
+      inDegree.put(id, upstream.get(id).size());
+      if (upstream.get(id).isEmpty()) {
+        ready.add(id);
+      }
+    }
+    int sorted = 0;
+    while (!ready.isEmpty()) {
+      String id = ready.poll();
+      sorted++;
+      for (String next : downstream.get(id)) {
+        int degree = inDegree.get(next) - 1;
+        inDegree.put(next, degree);
+        if (degree == 0) {
+          ready.add(next);
+        }
+      }
+    }
+    if (sorted < tasks.size()) {
+      throw new IllegalArgumentException("Cycle detected");
+    }
+  }
+
+  /**
+   * State of a single run
+   */
+  private class Execution {
+    private final Map<String, Integer> waitingFor = new HashMap<>();
+    private final LinkedList<String> ready = new LinkedList<>();
+    private final Map<String, NodeResult> results = new LinkedHashMap<>();
+    private int running = 0;
+
+    synchronized List<NodeResult> run() throws InterruptedException {
+      for (String id : tasks.keySet()) {
+        waitingFor.put(id, upstream.get(id).size());
+        if (upstream.get(id).isEmpty()) {
+          ready.add(id);
+        }
+      }
+
+      while (results.size() < tasks.size()) {
+        while (running < parallelism && !ready.isEmpty()) {
+          start(ready.poll());
+        }
+        if (results.size() < tasks.size()) {
+          wait();
+        }
+      }
+      return new ArrayList<>(results.values());
+    }
+
+    private void start(final String id) {
+      final Task task = tasks.get(id);
+      running++;
+      try {
+        executor.execute(new Runnable() {
+          @Override
+          public void run() {
+            long startedAt = System.currentTimeMillis();
+            String error = null;
+            try {
+              task.run();
+            } catch (Exception e) {
+              LOGGER.error("Node " + id + " failed", e);
+              error = e.getMessage() == null ? e.getClass().getName() : e.getMessage();
+            }
+            completed(new NodeResult(id, error == null ? NodeStatus.FINISHED : NodeStatus.ERROR,
+                startedAt, System.currentTimeMillis() - startedAt, error));
+          }
+        });
+      } catch (RejectedExecutionException e) {
+        LOGGER.error("Can't run node " + id, e);
+        completed(new NodeResult(id, NodeStatus.ERROR, System.currentTimeMillis(), 0,
+            e.getMessage()));
+      }
+    }
+
+    private synchronized void completed(NodeResult result) {
+      running--;
+      results.put(result.getId(), result);
+      if (result.getStatus() == NodeStatus.ERROR) {
+        skipDownstream(result.getId());
+      } else {
+        for (String next : downstream.get(result.getId())) {
+          int waiting = waitingFor.get(next) - 1;
+          waitingFor.put(next, waiting);
+          if (waiting == 0 && !results.containsKey(next)) {
+            ready.add(next);
+          }
+        }
+      }
+      notifyAll();
+    }
+
+    private void skipDownstream(String failed) {
+      LinkedList<String> toSkip = new LinkedList<>(downstream.get(failed));
+      while (!toSkip.isEmpty()) {
+        String id = toSkip.poll();
+        if (!results.containsKey(id)) {
+          results.put(id, new NodeResult(id, NodeStatus.SKIPPED, 0, 0, null));
+          toSkip.addAll(downstream.get(id));
+        }
+      }
+    }
+  }
+}
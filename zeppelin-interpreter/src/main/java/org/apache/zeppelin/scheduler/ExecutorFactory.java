@@ -14,21 +14,52 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
+
 package org.apache.zeppelin.scheduler;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- *
+ * Named executors shared across Zeppelin, built for what their threads do, see Type.
+ * Each executor counts its tasks, how long they waited for a thread and how many were rejected,
+ * see getMetrics().
  */
 public class ExecutorFactory {
   private static ExecutorFactory _executor;
   private static Long _executorLock = new Long(0);
 
+  // idle threads of DISPATCH and JOB executors stop after this
+  private static final long KEEP_ALIVE_SEC = 60;
+
+  /**
+   * What the threads of an executor do
+   */
+  public enum Type {
+    // long running loops, each on a thread of its own, started right away
+    DISPATCH,
+    // blocking work, on up to numThread threads started on demand and stopped when idle
+    JOB,
+    // delayed and periodic tasks, on numThread threads
+    TIMER
+  }
+
   Map<String, ExecutorService> executor = new HashMap<>();
+  private Map<String, Metrics> metrics = new HashMap<>();
 
   public ExecutorFactory() {
 
@@ -54,20 +85,67 @@ public class ExecutorFactory {
   }
 
   public ExecutorService createOrGet(String name, int numThread) {
+    return createOrGet(name, Type.TIMER, numThread);
+  }
+
+  /**
+   * Executor running each task on a thread of its own, for loops that live as long as
+   * what they serve
+   */
+  public ExecutorService createOrGetDispatcher(String name) {
+    return createOrGet(name, Type.DISPATCH, 0);
+  }
+
+  /**
+   * Executor for blocking tasks, running up to maxThread of them at a time. Threads are started
+   * on demand and stopped when idle, further tasks wait in the queue
+   */
+  public ExecutorService createOrGetJobExecutor(String name, int maxThread) {
+    return createOrGet(name, Type.JOB, maxThread);
+  }
+
+  public ScheduledExecutorService createOrGetTimer(String name, int numThread) {
+    ExecutorService e = createOrGet(name, Type.TIMER, numThread);
+    if (!(e instanceof ScheduledExecutorService)) {
+      throw new IllegalStateException(name + " is not a timer executor");
+    }
+    return (ScheduledExecutorService) e;
+  }
+
+  private ExecutorService createOrGet(String name, Type type, int numThread) {
     synchronized (executor) {
       if (!executor.containsKey(name)) {
-        executor.put(name, Executors.newScheduledThreadPool(numThread));
+        Metrics m = new Metrics(type);
+        executor.put(name, newExecutor(name, type, numThread, m));
+        metrics.put(name, m);
       }
       return executor.get(name);
     }
   }
 
+  private static ExecutorService newExecutor(String name, Type type, int numThread, Metrics m) {
+    ThreadFactory threadFactory = new NamedThreadFactory(name);
+    switch (type) {
+      case DISPATCH:
+        return new InstrumentedThreadPoolExecutor(0, Integer.MAX_VALUE,
+            new SynchronousQueue<Runnable>(), threadFactory, m);
+      case JOB:
+        ThreadPoolExecutor pool = new InstrumentedThreadPoolExecutor(numThread, numThread,
+            new LinkedBlockingQueue<Runnable>(), threadFactory, m);
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+      default:
+        return new InstrumentedScheduledExecutor(numThread, threadFactory, m);
+    }
+  }
+
   public void shutdown(String name) {
     synchronized (executor) {
       if (executor.containsKey(name)) {
         ExecutorService e = executor.get(name);
         e.shutdown();
         executor.remove(name);
+        metrics.remove(name);
       }
     }
   }
@@ -75,9 +153,130 @@ public class ExecutorFactory {
 
   public void shutdownAll() {
     synchronized (executor) {
-      for (String name : executor.keySet()){
+      for (String name : executor.keySet().toArray(new String[0])) {
         shutdown(name);
       }
     }
   }
+
+  /**
+   * Threads, active threads, queued tasks, task wait time and rejected tasks of each executor
+   */
+  public Map<String, Map<String, Object>> getMetrics() {
+    Map<String, Map<String, Object>> all = new LinkedHashMap<>();
+    synchronized (executor) {
+      for (Map.Entry<String, ExecutorService> e : executor.entrySet()) {
+        all.put(e.getKey(),
+            metrics.get(e.getKey()).toMap((ThreadPoolExecutor) e.getValue()));
+      }
+    }
+    return all;
+  }
+
+  private static class Metrics implements RejectedExecutionHandler {
+    private final Type type;
+    private final RejectedExecutionHandler rejectionPolicy = new ThreadPoolExecutor.AbortPolicy();
+    private final AtomicLong started = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    Metrics(Type type) {
+      this.type = type;
+    }
+
+    void started(long waitNanos) {
+      started.incrementAndGet();
+      totalWaitNanos.addAndGet(waitNanos);
+      long max = maxWaitNanos.get();
+      while (waitNanos > max && !maxWaitNanos.compareAndSet(max, waitNanos)) {
+        max = maxWaitNanos.get();
+      }
+    }
+
+    @Override
+    public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+      rejected.incrementAndGet();
+      rejectionPolicy.rejectedExecution(r, executor);
+    }
+
+    Map<String, Object> toMap(ThreadPoolExecutor e) {
+      long n = started.get();
+      Map<String, Object> m = new LinkedHashMap<>();
+      m.put("type", type.name().toLowerCase());
+      m.put("poolSize", e.getPoolSize());
+      m.put("maxPoolSize", e.getMaximumPoolSize());
+      m.put("activeCount", e.getActiveCount());
+      m.put("queueDepth", e.getQueue().size());
+      m.put("startedTasks", n);
+      m.put("completedTasks", e.getCompletedTaskCount());
+      m.put("rejectedTasks", rejected.get());
+      m.put("avgWaitMs", n == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalWaitNanos.get() / n));
+      m.put("maxWaitMs", TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get()));
+      return m;
+    }
+  }
+
+  /**
+   * Measures how long each task waited between execute() and a thread picking it up
+   */
+  private static class InstrumentedThreadPoolExecutor extends ThreadPoolExecutor {
+    private final Metrics metrics;
+
+    InstrumentedThreadPoolExecutor(int corePoolSize, int maxPoolSize,
+        BlockingQueue<Runnable> queue, ThreadFactory threadFactory,
+        Metrics metrics) {
+      super(corePoolSize, maxPoolSize, KEEP_ALIVE_SEC, TimeUnit.SECONDS, queue, threadFactory,
+          metrics);
+      this.metrics = metrics;
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+      final long queued = System.nanoTime();
+      super.execute(new Runnable() {
+        @Override
+        public void run() {
+          metrics.started(System.nanoTime() - queued);
+          command.run();
+        }
+      });
+    }
+  }
+
+  /**
+   * Measures how late each run of a task started compared to its scheduled time
+   */
+  private static class InstrumentedScheduledExecutor extends ScheduledThreadPoolExecutor {
+    private final Metrics metrics;
+
+    InstrumentedScheduledExecutor(int corePoolSize, ThreadFactory threadFactory,
+        Metrics metrics) {
+      super(corePoolSize, threadFactory, metrics);
+      this.metrics = metrics;
+    }
+
+    @Override
+    protected void beforeExecute(Thread t, Runnable r) {
+      super.beforeExecute(t, r);
+      if (r instanceof RunnableScheduledFuture) {
+        long late = -((RunnableScheduledFuture<?>) r).getDelay(TimeUnit.NANOSECONDS);
+        metrics.started(Math.max(0, late));
+      }
+    }
+  }
+
+  private static class NamedThreadFactory implements ThreadFactory {
+    private final String name;
+    private final AtomicInteger count = new AtomicInteger();
+
+    NamedThreadFactory(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public Thread newThread(Runnable r) {
+      return new Thread(r, name + "-" + count.incrementAndGet());
+    }
+  }
 }
@@ -0,0 +1,267 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.scheduler;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.zeppelin.scheduler.Job.Priority;
+
+/**
+ * Shares the slots of a scheduler fairly between users, or between notes.
+ *
+ * Priority classes take turns by weighted round robin. With weights interactive:4,rest:2,cron:1
+ * four interactive jobs start for each cron job while both are waiting. Within a class the users
+ * take turns, one job each, so a user running all paragraphs of a large note doesn't hold back
+ * the others. A user already running maxConcurrencyPerShare jobs is skipped until one of them
+ * finishes.
+ */
+public class FairJobQueue extends JobQueue {
+  private final boolean shareByNote;
+  private final int maxConcurrencyPerShare;
+  private final Map<Priority, ClassQueue> classes = new EnumMap<>(Priority.class);
+  private final Map<String, Integer> runningPerShare = new HashMap<>();
+  // keyed by job id, hashCode of a job like Paragraph changes once it has a result
+  private final Map<String, String> runningJobShares = new HashMap<>();
+
+  /**
+   * @param shareBy user or note
+   * @param weights weight of each priority class
+   * @param maxConcurrencyPerShare max running jobs of a single user or note, 0 for no limit
+   */
+  public FairJobQueue(String shareBy, Map<Priority, Integer> weights,
+      int maxConcurrencyPerShare) {
+    if ("note".equalsIgnoreCase(shareBy)) {
+      this.shareByNote = true;
+    } else if ("user".equalsIgnoreCase(shareBy)) {
+      this.shareByNote = false;
+    } else {
+      throw new IllegalArgumentException("Unknown " + FAIR_SHARE_BY + ": " + shareBy);
+    }
+    this.maxConcurrencyPerShare = maxConcurrencyPerShare;
+    for (Priority priority : Priority.values()) {
+      classes.put(priority, new ClassQueue(weights.get(priority)));
+    }
+  }
+
+  /**
+   * Parse weights like 'interactive:4,rest:2,cron:1'. Missing classes get their default weight.
+   */
+  public static Map<Priority, Integer> parseWeights(String weights) {
+    Map<Priority, Integer> parsed = new EnumMap<>(Priority.class);
+    parsed.put(Priority.INTERACTIVE, 4);
+    parsed.put(Priority.REST, 2);
+    parsed.put(Priority.CRON, 1);
+    for (String weight : weights.split(",")) {
+      if (weight.trim().isEmpty()) {
+        continue;
+      }
+      String[] kv = weight.split(":");
+      int value = kv.length == 2 ? Integer.parseInt(kv[1].trim()) : 0;
+      if (value <= 0) {
+        throw new IllegalArgumentException("Invalid " + FAIR_WEIGHTS + ": " + weights);
+      }
+      parsed.put(Priority.valueOf(kv[0].trim().toUpperCase()), value);
+    }
+    return parsed;
+  }
+
+  @Override
+  public synchronized void add(Job job) {
+    Entry entry = new Entry(job, shareOf(job), System.currentTimeMillis());
+    classes.get(job.getPriority()).waitingJobs(entry.share).addLast(entry);
+  }
+
+  @Override
+  public synchronized void addFirst(Job job) {
+    Entry entry = new Entry(job, shareOf(job), System.currentTimeMillis());
+    classes.get(job.getPriority()).waitingJobs(entry.share).addFirst(entry);
+  }
+
+  @Override
+  public synchronized Job poll() {
+    // smooth weighted round robin between the classes having a job to start
+    ClassQueue next = null;
+    int totalWeight = 0;
+    for (ClassQueue c : classes.values()) {
+      if (c.readyShare() != null) {
+        c.currentWeight += c.weight;
+        totalWeight += c.weight;
+        if (next == null || c.currentWeight > next.currentWeight) {
+          next = c;
+        }
+      }
+    }
+    if (next == null) {
+      return null;
+    }
+    next.currentWeight -= totalWeight;
+
+    String share = next.readyShare();
+    ArrayDeque<Entry> jobs = next.shares.remove(share);
+    Entry entry = jobs.poll();
+    if (!jobs.isEmpty()) {
+      // the share takes its next turn after the others
+      next.shares.put(share, jobs);
+    }
+
+    runningJobShares.put(entry.job.getId(), share);
+    Integer running = runningPerShare.get(share);
+    runningPerShare.put(share, running == null ? 1 : running + 1);
+    recordWait(entry.job, entry.queuedAt);
+    return entry.job;
+  }
+
+  @Override
+  public synchronized boolean hasReady() {
+    for (ClassQueue c : classes.values()) {
+      if (c.readyShare() != null) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public synchronized void finished(Job job) {
+    String share = runningJobShares.remove(job.getId());
+    if (share == null) {
+      return;
+    }
+    int running = runningPerShare.get(share) - 1;
+    if (running == 0) {
+      runningPerShare.remove(share);
+    } else {
+      runningPerShare.put(share, running);
+    }
+  }
+
+  @Override
+  public synchronized Job remove(String jobId) {
+    for (ClassQueue c : classes.values()) {
+      Iterator<ArrayDeque<Entry>> shares = c.shares.values().iterator();
+      while (shares.hasNext()) {
+        ArrayDeque<Entry> jobs = shares.next();
+        Iterator<Entry> it = jobs.iterator();
+        while (it.hasNext()) {
+          Entry entry = it.next();
+          if (entry.job.getId().equals(jobId)) {
+            it.remove();
+            if (jobs.isEmpty()) {
+              shares.remove();
+            }
+            return entry.job;
+          }
+        }
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public synchronized List<Job> getJobs() {
+    List<Job> jobs = new LinkedList<>();
+    for (ClassQueue c : classes.values()) {
+      for (ArrayDeque<Entry> entries : c.shares.values()) {
+        for (Entry entry : entries) {
+          jobs.add(entry.job);
+        }
+      }
+    }
+    return jobs;
+  }
+
+  @Override
+  public synchronized boolean isEmpty() {
+    for (ClassQueue c : classes.values()) {
+      if (!c.shares.isEmpty()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public synchronized Map<String, Object> getMetrics() {
+    Map<String, Object> metrics = super.getMetrics();
+    metrics.put("runningPerShare", new HashMap<>(runningPerShare));
+    return metrics;
+  }
+
+  private String shareOf(Job job) {
+    String share = shareByNote ? job.getNoteId() : job.getUser();
+    return share == null ? "" : share;
+  }
+
+  private boolean isUnderLimit(String share) {
+    Integer running = runningPerShare.get(share);
+    return maxConcurrencyPerShare <= 0 || running == null || running < maxConcurrencyPerShare;
+  }
+
+  /**
+   * Waiting jobs of a priority class, per share in the order of their turns
+   */
+  private class ClassQueue {
+    final int weight;
+    int currentWeight = 0;
+    final LinkedHashMap<String, ArrayDeque<Entry>> shares = new LinkedHashMap<>();
+
+    ClassQueue(int weight) {
+      this.weight = weight;
+    }
+
+    ArrayDeque<Entry> waitingJobs(String share) {
+      ArrayDeque<Entry> jobs = shares.get(share);
+      if (jobs == null) {
+        jobs = new ArrayDeque<>();
+        shares.put(share, jobs);
+      }
+      return jobs;
+    }
+
+    /**
+     * @return first share in turn that can start a job, null if none
+     */
+    String readyShare() {
+      for (String share : shares.keySet()) {
+        if (isUnderLimit(share)) {
+          return share;
+        }
+      }
+      return null;
+    }
+  }
+
+  private static class Entry {
+    final Job job;
+    final String share;
+    final long queuedAt;
+
+    Entry(Job job, String share, long queuedAt) {
+      this.job = job;
+      this.share = share;
+      this.queuedAt = queuedAt;
+    }
+  }
+}
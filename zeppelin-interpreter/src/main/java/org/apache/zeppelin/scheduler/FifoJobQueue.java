@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.scheduler;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * Jobs start in submission order
+ */
+public class FifoJobQueue extends JobQueue {
+  private final ConcurrentLinkedDeque<Entry> queue = new ConcurrentLinkedDeque<>();
+
+  @Override
+  public void add(Job job) {
+    queue.add(new Entry(job, System.currentTimeMillis()));
+  }
+
+  @Override
+  public void addFirst(Job job) {
+    queue.addFirst(new Entry(job, System.currentTimeMillis()));
+  }
+
+  @Override
+  public Job poll() {
+    Entry entry = queue.poll();
+    if (entry == null) {
+      return null;
+    }
+    recordWait(entry.job, entry.queuedAt);
+    return entry.job;
+  }
+
+  @Override
+  public boolean hasReady() {
+    return !queue.isEmpty();
+  }
+
+  @Override
+  public void finished(Job job) {
+  }
+
+  @Override
+  public Job remove(String jobId) {
+    Iterator<Entry> it = queue.iterator();
+    while (it.hasNext()) {
+      Entry entry = it.next();
+      // the job may be polled meanwhile, then it's not waiting anymore
+      if (entry.job.getId().equals(jobId) && queue.removeFirstOccurrence(entry)) {
+        return entry.job;
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public List<Job> getJobs() {
+    List<Job> jobs = new LinkedList<>();
+    for (Entry entry : queue) {
+      jobs.add(entry.job);
+    }
+    return jobs;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return queue.isEmpty();
+  }
+
+  private static class Entry {
+    final Job job;
+    final long queuedAt;
+
+    Entry(Job job, long queuedAt) {
+      this.job = job;
+      this.queuedAt = queuedAt;
+    }
+  }
+}
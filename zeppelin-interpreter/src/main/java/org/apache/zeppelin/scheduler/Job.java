@@ -20,6 +20,7 @@ package org.apache.zeppelin.scheduler;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
 
 import org.apache.commons.lang.exception.ExceptionUtils;
 import org.slf4j.Logger;
@@ -69,6 +70,17 @@ public abstract class Job {
     }
   }
 
+  /**
+   * Where the job is run from. Fair share schedulers weight waiting jobs by their priority.
+   *
+   * INTERACTIVE - Run by a user from the notebook
+   * REST - Run through the REST api
+   * CRON - Run by the note's cron schedule
+   */
+  public enum Priority {
+    INTERACTIVE, REST, CRON
+  }
+
   private String jobName;
   String id;
 
@@ -85,6 +97,8 @@ public abstract class Job {
   private transient volatile Throwable exception;
   private transient JobListener listener;
   private long progressUpdateIntervalMs;
+  private transient volatile Priority priority = Priority.INTERACTIVE;
+  private transient volatile boolean progressPushed = false;
 
   public Job(String jobName, JobListener listener, long progressUpdateIntervalMs) {
     this.jobName = jobName;
@@ -169,6 +183,50 @@ public abstract class Job {
     return listener;
   }
 
+  public Priority getPriority() {
+    return priority;
+  }
+
+  public void setPriority(Priority priority) {
+    this.priority = priority;
+  }
+
+  /**
+   * User the job runs for, null when unknown
+   */
+  public String getUser() {
+    return null;
+  }
+
+  /**
+   * Note the job belongs to, null when unknown
+   */
+  public String getNoteId() {
+    return null;
+  }
+
+  /**
+   * Progress pushed by the process running the job. Once pushed, progress() isn't polled anymore.
+   */
+  public void updateProgress(int progress) {
+    progressPushed = true;
+    JobListener listener = this.listener;
+    if (listener != null && isRunning()) {
+      listener.onProgressUpdate(this, progress);
+    }
+  }
+
+  /**
+   * Mark progress of the job is pushed by the process running it, without a progress yet
+   */
+  public void setProgressPushed(boolean progressPushed) {
+    this.progressPushed = progressPushed;
+  }
+
+  public boolean isProgressPushed() {
+    return progressPushed;
+  }
+
   public boolean isTerminated() {
     return !this.status.isReady() && !this.status.isRunning() && !this.status.isPending();
   }
@@ -178,18 +236,17 @@ public abstract class Job {
   }
 
   public void run() {
-    JobProgressPoller progressUpdator = null;
+    ScheduledFuture<?> progressUpdator = null;
     dateStarted = new Date();
     try {
-      progressUpdator = new JobProgressPoller(this, progressUpdateIntervalMs);
-      progressUpdator.start();
+      progressUpdator = new JobProgressPoller(this, progressUpdateIntervalMs).start();
       completeWithSuccess(jobRun());
     } catch (Throwable e) {
       LOGGER.error("Job failed", e);
       completeWithError(e);
     } finally {
       if (progressUpdator != null) {
-        progressUpdator.interrupt();
+        progressUpdator.cancel(false);
       }
       //aborted = false;
     }
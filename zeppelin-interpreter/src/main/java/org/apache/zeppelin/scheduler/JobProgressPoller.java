@@ -17,26 +17,32 @@
 
 package org.apache.zeppelin.scheduler;
 
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Polls job progress with given interval
  *
+ * Pollers of all jobs share one timer instead of a thread per job. Jobs whose progress is pushed
+ * by the process running them are skipped.
+ *
  * @see Job#progress()
+ * @see Job#updateProgress(int)
  * @see JobListener#onProgressUpdate(org.apache.zeppelin.scheduler.Job, int)
- *
- * TODO(moon) : add description.
  */
-public class JobProgressPoller extends Thread {
+public class JobProgressPoller implements Runnable {
   public static final long DEFAULT_INTERVAL_MSEC = 500;
   private static final Logger logger = LoggerFactory.getLogger(JobProgressPoller.class);
+  private static final String TIMER = "JobProgressPoller";
+  private static final int TIMER_THREADS = 2;
 
   private Job job;
   private long intervalMs;
 
   public JobProgressPoller(Job job, long intervalMs) {
-    super("JobProgressPoller, jobId=" + job.getId());
     this.job = job;
     if (intervalMs < 0) {
       throw new IllegalArgumentException("polling interval can't be " + intervalMs);
@@ -44,22 +50,25 @@ public class JobProgressPoller extends Thread {
     this.intervalMs = intervalMs == 0 ? DEFAULT_INTERVAL_MSEC : intervalMs;
   }
 
+  /**
+   * Start polling on the shared timer
+   * @return cancel it to stop polling
+   */
+  public ScheduledFuture<?> start() {
+    return ExecutorFactory.singleton().createOrGetTimer(TIMER, TIMER_THREADS)
+        .scheduleWithFixedDelay(this, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+  }
+
   @Override
   public void run() {
+    JobListener listener = job.getListener();
+    if (listener == null || !job.isRunning() || job.isProgressPushed()) {
+      return;
+    }
     try {
-      while (!Thread.interrupted()) {
-        JobListener listener = job.getListener();
-        if (listener != null) {
-          try {
-            if (job.isRunning()) {
-              listener.onProgressUpdate(job, job.progress());
-            }
-          } catch (Exception e) {
-            logger.error("Can not get or update progress", e);
-          }
-        }
-        Thread.sleep(intervalMs);
-      }
-    } catch (InterruptedException ignored) {}
+      listener.onProgressUpdate(job, job.progress());
+    } catch (Exception e) {
+      logger.error("Can not get or update progress", e);
+    }
   }
 }
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.scheduler;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.zeppelin.scheduler.Job.Priority;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Waiting jobs of a scheduler. The policy of the queue decides which job starts next.
+ *
+ * The policy is set by interpreter properties, so it's configured per interpreter setting.
+ * <ul>
+ *   <li>zeppelin.scheduler.policy - fifo (default) or fair, see {@link FairJobQueue}</li>
+ *   <li>zeppelin.scheduler.fair.shareBy - user (default) or note</li>
+ *   <li>zeppelin.scheduler.fair.weights - weight of each priority class,
+ *     'interactive:4,rest:2,cron:1' by default</li>
+ *   <li>zeppelin.scheduler.fair.maxConcurrencyPerShare - running jobs of a single user or
+ *     note, 0 (default) for no limit</li>
+ * </ul>
+ */
+public abstract class JobQueue {
+  private static final Logger LOGGER = LoggerFactory.getLogger(JobQueue.class);
+
+  public static final String POLICY = "zeppelin.scheduler.policy";
+  public static final String FAIR_SHARE_BY = "zeppelin.scheduler.fair.shareBy";
+  public static final String FAIR_WEIGHTS = "zeppelin.scheduler.fair.weights";
+  public static final String FAIR_MAX_CONCURRENCY_PER_SHARE =
+      "zeppelin.scheduler.fair.maxConcurrencyPerShare";
+
+  private final Map<Priority, WaitTime> waitTimes = new EnumMap<>(Priority.class);
+
+  protected JobQueue() {
+    for (Priority priority : Priority.values()) {
+      waitTimes.put(priority, new WaitTime());
+    }
+  }
+
+  /**
+   * Create the queue of the policy set in the properties. Invalid settings fall back to fifo
+   * with a warning, so they don't fail every job submitted to the scheduler.
+   */
+  public static JobQueue create(Properties properties) {
+    String policy = properties.getProperty(POLICY, "fifo").trim();
+    try {
+      if ("fifo".equalsIgnoreCase(policy)) {
+        return new FifoJobQueue();
+      } else if ("fair".equalsIgnoreCase(policy)) {
+        return new FairJobQueue(
+            properties.getProperty(FAIR_SHARE_BY, "user").trim(),
+            FairJobQueue.parseWeights(properties.getProperty(FAIR_WEIGHTS, "")),
+            parseMaxConcurrencyPerShare(properties));
+      } else {
+        throw new IllegalArgumentException("Unknown " + POLICY + ": " + policy);
+      }
+    } catch (IllegalArgumentException e) {
+      LOGGER.warn("Invalid scheduler settings, using fifo. {}", e.getMessage());
+      return new FifoJobQueue();
+    }
+  }
+
+  private static int parseMaxConcurrencyPerShare(Properties properties) {
+    String value = properties.getProperty(FAIR_MAX_CONCURRENCY_PER_SHARE, "0").trim();
+    try {
+      int max = Integer.parseInt(value);
+      if (max >= 0) {
+        return max;
+      }
+    } catch (NumberFormatException e) {
+      // reported below
+    }
+    throw new IllegalArgumentException(
+        "Invalid " + FAIR_MAX_CONCURRENCY_PER_SHARE + ": " + value);
+  }
+
+  public abstract void add(Job job);
+
+  /**
+   * Put back a job returned by poll() that couldn't be started, ahead of the other jobs
+   */
+  public abstract void addFirst(Job job);
+
+  /**
+   * Take the job to start next
+   * @return null when no job can start now
+   */
+  public abstract Job poll();
+
+  /**
+   * @return true when poll() would return a job
+   */
+  public abstract boolean hasReady();
+
+  /**
+   * Notify a job returned by poll() is not running anymore
+   */
+  public abstract void finished(Job job);
+
+  public abstract Job remove(String jobId);
+
+  public abstract List<Job> getJobs();
+
+  public abstract boolean isEmpty();
+
+  protected void recordWait(Job job, long queuedAt) {
+    waitTimes.get(job.getPriority()).record(System.currentTimeMillis() - queuedAt);
+  }
+
+  /**
+   * Number of started jobs and their wait time in the queue, per priority class
+   */
+  public Map<String, Object> getMetrics() {
+    Map<String, Object> metrics = new HashMap<>();
+    for (Map.Entry<Priority, WaitTime> e : waitTimes.entrySet()) {
+      metrics.put(e.getKey().name().toLowerCase(), e.getValue().toMap());
+    }
+    return metrics;
+  }
+
+  private static class WaitTime {
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong totalMs = new AtomicLong();
+    private final AtomicLong maxMs = new AtomicLong();
+
+    void record(long waitMs) {
+      count.incrementAndGet();
+      totalMs.addAndGet(waitMs);
+      long max = maxMs.get();
+      while (waitMs > max && !maxMs.compareAndSet(max, waitMs)) {
+        max = maxMs.get();
+      }
+    }
+
+    Map<String, Object> toMap() {
+      Map<String, Object> map = new HashMap<>();
+      long started = count.get();
+      map.put("startedJobs", started);
+      map.put("avgWaitMs", started == 0 ? 0 : totalMs.get() / started);
+      map.put("maxWaitMs", maxMs.get());
+      return map;
+    }
+  }
+}
@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.scheduler;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.zeppelin.scheduler.Job.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Scheduler running up to maxConcurrency jobs at a time on a shared executor. The JobQueue
+ * decides which waiting job starts next, in submission order by default.
+ *
+ * There's no dispatcher thread. Jobs are handed to the executor by the thread submitting a job
+ * or finishing one, so a scheduler without jobs costs no thread and a job starts as soon as
+ * a slot is free. run() returns right away.
+ */
+public abstract class QueueScheduler implements Scheduler {
+  private static final Logger LOGGER = LoggerFactory.getLogger(QueueScheduler.class);
+
+  private final String name;
+  private final ExecutorService executor;
+  private final SchedulerListener listener;
+  private final JobQueue queue;
+  private final ConcurrentLinkedQueue<Job> running = new ConcurrentLinkedQueue<>();
+  // running jobs plus slots taken by dispatch() before it polls the queue
+  private final AtomicInteger slots = new AtomicInteger();
+  private volatile int maxConcurrency;
+  private volatile boolean terminate = false;
+
+  protected QueueScheduler(String name, ExecutorService executor, SchedulerListener listener,
+      int maxConcurrency) {
+    this(name, executor, listener, maxConcurrency, new FifoJobQueue());
+  }
+
+  protected QueueScheduler(String name, ExecutorService executor, SchedulerListener listener,
+      int maxConcurrency, JobQueue queue) {
+    this.name = name;
+    this.executor = executor;
+    this.listener = listener;
+    this.maxConcurrency = maxConcurrency;
+    this.queue = queue;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public Collection<Job> getJobsWaiting() {
+    return queue.getJobs();
+  }
+
+  @Override
+  public Collection<Job> getJobsRunning() {
+    return new LinkedList<>(running);
+  }
+
+  @Override
+  public void submit(Job job) {
+    job.setStatus(Status.PENDING);
+    queue.add(job);
+    dispatch();
+  }
+
+  @Override
+  public Job removeFromWaitingQueue(String jobId) {
+    return queue.remove(jobId);
+  }
+
+  @Override
+  public JobQueue getQueue() {
+    return queue;
+  }
+
+  /**
+   * Jobs are dispatched when submitted or finished, there's no loop to run
+   */
+  @Override
+  public void run() {
+  }
+
+  @Override
+  public void stop() {
+    terminate = true;
+  }
+
+  protected void setMaxConcurrency(int maxConcurrency) {
+    this.maxConcurrency = maxConcurrency;
+    dispatch();
+  }
+
+  /**
+   * Start waiting jobs while there are free slots. Called by any thread changing the queue or
+   * the number of running jobs, each call rechecks the queue after releasing a slot, so no job
+   * is left waiting with a free slot.
+   */
+  private void dispatch() {
+    while (!terminate && queue.hasReady()) {
+      int taken = slots.get();
+      if (taken >= maxConcurrency) {
+        return;
+      }
+      if (!slots.compareAndSet(taken, taken + 1)) {
+        continue;
+      }
+
+      Job job = queue.poll();
+      if (job == null) {
+        // taken by another thread, or removed from the waiting queue
+        slots.decrementAndGet();
+        continue;
+      }
+      running.add(job);
+      try {
+        executor.execute(new JobRunner(job));
+      } catch (RejectedExecutionException e) {
+        LOGGER.error("Can't run job " + job.getId() + " of scheduler " + name, e);
+        running.remove(job);
+        queue.finished(job);
+        queue.addFirst(job);
+        slots.decrementAndGet();
+        return;
+      }
+    }
+  }
+
+  private class JobRunner implements Runnable {
+    private final Job job;
+
+    JobRunner(Job job) {
+      this.job = job;
+    }
+
+    @Override
+    public void run() {
+      try {
+        runJob();
+      } finally {
+        running.remove(job);
+        queue.finished(job);
+        slots.decrementAndGet();
+        dispatch();
+      }
+    }
+
+    private void runJob() {
+      Scheduler scheduler = QueueScheduler.this;
+      if (job.isAborted()) {
+        job.setStatus(Status.ABORT);
+        job.aborted = false;
+        return;
+      }
+
+      job.setStatus(Status.RUNNING);
+      if (listener != null) {
+        listener.jobStarted(scheduler, job);
+      }
+      job.run();
+      if (job.isAborted()) {
+        job.setStatus(Status.ABORT);
+      } else {
+        if (job.getException() != null) {
+          job.setStatus(Status.ERROR);
+        } else {
+          job.setStatus(Status.FINISHED);
+        }
+      }
+
+      if (listener != null) {
+        listener.jobFinished(scheduler, job);
+      }
+
+      // reset aborted flag to allow retry
+      job.aborted = false;
+    }
+  }
+}
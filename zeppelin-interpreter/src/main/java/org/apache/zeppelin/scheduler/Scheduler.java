@@ -33,5 +33,7 @@ public interface Scheduler extends Runnable {
 
   public Job removeFromWaitingQueue(String jobId);
 
+  public JobQueue getQueue();
+
   public void stop();
 }
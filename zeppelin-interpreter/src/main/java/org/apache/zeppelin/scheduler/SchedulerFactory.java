@@ -30,7 +30,10 @@ import org.slf4j.LoggerFactory;
  */
 public class SchedulerFactory implements SchedulerListener {
   private static final Logger logger = LoggerFactory.getLogger(SchedulerFactory.class);
+  // runs jobs
   protected ExecutorService executor;
+  // runs scheduler loops, like the one of RemoteScheduler
+  protected ExecutorService dispatcher;
   protected Map<String, Scheduler> schedulers = new LinkedHashMap<>();
 
   private static SchedulerFactory singleton;
@@ -52,11 +55,13 @@ public class SchedulerFactory implements SchedulerListener {
   }
 
   SchedulerFactory() throws Exception {
-    executor = ExecutorFactory.singleton().createOrGet("SchedulerFactory", 100);
+    executor = ExecutorFactory.singleton().createOrGetJobExecutor("SchedulerFactory", 100);
+    dispatcher = ExecutorFactory.singleton().createOrGetDispatcher("SchedulerFactory.dispatch");
   }
 
   public void destroy() {
     ExecutorFactory.singleton().shutdown("SchedulerFactory");
+    ExecutorFactory.singleton().shutdown("SchedulerFactory.dispatch");
   }
 
   public Scheduler createOrGetFIFOScheduler(String name) {
@@ -64,18 +69,24 @@ public class SchedulerFactory implements SchedulerListener {
       if (!schedulers.containsKey(name)) {
         Scheduler s = new FIFOScheduler(name, executor, this);
         schedulers.put(name, s);
-        executor.execute(s);
       }
       return schedulers.get(name);
     }
   }
 
   public Scheduler createOrGetParallelScheduler(String name, int maxConcurrency) {
+    return createOrGetParallelScheduler(name, maxConcurrency, new FifoJobQueue());
+  }
+
+  /**
+   * @param queue decides which waiting job starts next, see {@link JobQueue#create}
+   */
+  public Scheduler createOrGetParallelScheduler(String name, int maxConcurrency,
+      JobQueue queue) {
     synchronized (schedulers) {
       if (!schedulers.containsKey(name)) {
-        Scheduler s = new ParallelScheduler(name, executor, this, maxConcurrency);
+        Scheduler s = new ParallelScheduler(name, executor, this, maxConcurrency, queue);
         schedulers.put(name, s);
-        executor.execute(s);
       }
       return schedulers.get(name);
     }
@@ -85,12 +96,24 @@ public class SchedulerFactory implements SchedulerListener {
     synchronized (schedulers) {
       if (!schedulers.containsKey(scheduler.getName())) {
         schedulers.put(scheduler.getName(), scheduler);
-        executor.execute(scheduler);
+        // QueueScheduler dispatches jobs without a thread of its own
+        if (!(scheduler instanceof QueueScheduler)) {
+          dispatcher.execute(scheduler);
+        }
       }
       return schedulers.get(scheduler.getName());
     }
   }
 
+  /**
+   * @return null when there's no scheduler of the name
+   */
+  public Scheduler getScheduler(String name) {
+    synchronized (schedulers) {
+      return schedulers.get(name);
+    }
+  }
+
   public void removeScheduler(String name) {
     synchronized (schedulers) {
       Scheduler s = schedulers.remove(name);
@@ -104,6 +127,23 @@ public class SchedulerFactory implements SchedulerListener {
     return executor;
   }
 
+  /**
+   * Queue policy, running and waiting jobs, and wait time per priority class of each scheduler
+   */
+  public Map<String, Map<String, Object>> getMetrics() {
+    Map<String, Map<String, Object>> metrics = new LinkedHashMap<>();
+    synchronized (schedulers) {
+      for (Scheduler s : schedulers.values()) {
+        Map<String, Object> schedulerMetrics = s.getQueue().getMetrics();
+        schedulerMetrics.put("policy", s.getQueue().getClass().getSimpleName());
+        schedulerMetrics.put("runningJobs", s.getJobsRunning().size());
+        schedulerMetrics.put("waitingJobs", s.getJobsWaiting().size());
+        metrics.put(s.getName(), schedulerMetrics);
+      }
+    }
+    return metrics;
+  }
+
   @Override
   public void jobStarted(Scheduler scheduler, Job job) {
     logger.info("Job " + job.getId() + " started by scheduler " + scheduler.getName());
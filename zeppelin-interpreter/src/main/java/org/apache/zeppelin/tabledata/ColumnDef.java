@@ -28,7 +28,9 @@ public class ColumnDef implements Serializable {
   public static enum TYPE {
     STRING,
     LONG,
-    INT
+    INT,
+    DOUBLE,
+    DATE
   }
 
   private String name;
@@ -0,0 +1,529 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.tabledata;
+
+import org.apache.zeppelin.interpreter.InterpreterResultMessage;
+
+import java.io.Serializable;
+import java.util.BitSet;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Table data with interpreter result type 'TABLE', stored by column.
+ *
+ * Nothing is parsed until the table is read. Then the cell boundaries are indexed in one pass
+ * over the message, and each column is parsed the first time it is read. The type of a column
+ * is inferred from its cells (LONG, DOUBLE, DATE, otherwise STRING) and its values are kept in a
+ * primitive array. Empty and missing cells of LONG, DOUBLE and DATE columns are null, STRING
+ * columns keep empty cells as "" and only missing cells are null.
+ *
+ * Only the message is serialized, the columns are parsed again on the receiving side.
+ */
+public class ColumnarTableData implements TableData, Serializable {
+  private static final String DATE_FORMAT = "yyyy-MM-dd";
+  private static final String DATETIME_FORMAT = "yyyy-MM-dd HH:mm:ss";
+
+  private final InterpreterResultMessage msg;
+
+  private transient ColumnDef[] columnDef;
+  private transient Column[] columns;
+  private transient int rowCount;
+  // cell boundaries, start and end of cell [row * columnDef.length + column], -1 when missing.
+  // released when all columns are parsed
+  private transient int[] cellStarts;
+  private transient int[] cellEnds;
+  private transient int unparsedColumns;
+
+  public ColumnarTableData(InterpreterResultMessage msg) {
+    this.msg = msg;
+  }
+
+  /**
+   * Get column definitions with the inferred types. Parses all columns.
+   */
+  @Override
+  public ColumnDef[] columns() {
+    index();
+    for (int c = 0; c < columnDef.length; c++) {
+      column(c);
+    }
+    return columnDef;
+  }
+
+  public int rowCount() {
+    index();
+    return rowCount;
+  }
+
+  /**
+   * Get a column, parsing it if it is read the first time
+   */
+  public synchronized Column column(int index) {
+    index();
+    Column column = columns[index];
+    if (column == null) {
+      column = parseColumn(index);
+      columns[index] = column;
+      columnDef[index] = new ColumnDef(columnDef[index].name(), column.type);
+      if (--unparsedColumns == 0) {
+        cellStarts = null;
+        cellEnds = null;
+      }
+    }
+    return column;
+  }
+
+  /**
+   * Row iterator. Creates a Row for every row, use cursor() to read the rows without that.
+   */
+  @Override
+  public Iterator<Row> rows() {
+    final RowCursor cursor = cursor();
+    return new Iterator<Row>() {
+      @Override
+      public boolean hasNext() {
+        return cursor.hasNext();
+      }
+
+      @Override
+      public Row next() {
+        if (!cursor.next()) {
+          throw new NoSuchElementException();
+        }
+        Object[] values = new Object[cursor.columns.length];
+        for (int c = 0; c < values.length; c++) {
+          values[c] = cursor.get(c);
+        }
+        return new Row(values);
+      }
+
+      @Override
+      public void remove() {
+        // operation not supported
+      }
+    };
+  }
+
+  /**
+   * Cursor that reads the table row by row without creating Row objects
+   */
+  public RowCursor cursor() {
+    index();
+    Column[] cols = new Column[columnDef.length];
+    for (int c = 0; c < cols.length; c++) {
+      cols[c] = column(c);
+    }
+    return new RowCursor(cols, rowCount);
+  }
+
+  private synchronized void index() {
+    if (columnDef != null) {
+      return;
+    }
+
+    String data = msg.getData();
+    int end = data.length();
+    while (end > 0 && data.charAt(end - 1) == '\n') {
+      end--;
+    }
+    if (end == 0) {
+      columnDef = new ColumnDef[0];
+      columns = new Column[0];
+      return;
+    }
+
+    int headerEnd = lineEnd(data, 0, end);
+    int numColumns = 1;
+    for (int i = 0; i < headerEnd; i++) {
+      if (data.charAt(i) == '\t') {
+        numColumns++;
+      }
+    }
+    ColumnDef[] defs = new ColumnDef[numColumns];
+    int start = 0;
+    for (int c = 0; c < numColumns; c++) {
+      int cellEnd = cellEnd(data, start, headerEnd);
+      defs[c] = new ColumnDef(data.substring(start, cellEnd), ColumnDef.TYPE.STRING);
+      start = cellEnd + 1;
+    }
+
+    int rows = 0;
+    for (int i = headerEnd; i < end; i++) {
+      if (data.charAt(i) == '\n') {
+        rows++;
+      }
+    }
+    int[] starts = new int[rows * numColumns];
+    int[] ends = new int[rows * numColumns];
+    int lineStart = headerEnd + 1;
+    for (int r = 0; r < rows; r++) {
+      int lineEnd = lineEnd(data, lineStart, end);
+      int cellStart = lineStart;
+      for (int c = 0; c < numColumns; c++) {
+        int i = r * numColumns + c;
+        if (cellStart > lineEnd) {
+          starts[i] = -1;
+          ends[i] = -1;
+        } else {
+          int cellEnd = cellEnd(data, cellStart, lineEnd);
+          starts[i] = cellStart;
+          ends[i] = cellEnd;
+          cellStart = cellEnd + 1;
+        }
+      }
+      lineStart = lineEnd + 1;
+    }
+
+    rowCount = rows;
+    cellStarts = starts;
+    cellEnds = ends;
+    columns = new Column[numColumns];
+    unparsedColumns = numColumns;
+    columnDef = defs;
+  }
+
+  private static int lineEnd(String data, int from, int end) {
+    int i = data.indexOf('\n', from);
+    return (i < 0 || i > end) ? end : i;
+  }
+
+  private static int cellEnd(String data, int from, int lineEnd) {
+    int i = data.indexOf('\t', from);
+    return (i < 0 || i > lineEnd) ? lineEnd : i;
+  }
+
+  private Column parseColumn(int index) {
+    String data = msg.getData();
+    int numColumns = columnDef.length;
+    BitSet nulls = new BitSet(rowCount);
+    boolean isLong = true;
+    boolean isDouble = true;
+    boolean isDate = true;
+    for (int r = 0; r < rowCount; r++) {
+      int start = cellStarts[r * numColumns + index];
+      int end = cellEnds[r * numColumns + index];
+      if (start < 0 || start == end) {
+        nulls.set(r);
+        continue;
+      }
+      isLong = isLong && isLong(data, start, end);
+      isDouble = isDouble && (isLong || isDouble(data, start, end));
+      isDate = isDate && isDate(data, start, end);
+      if (!isLong && !isDouble && !isDate) {
+        break;
+      }
+    }
+    if (nulls.cardinality() == rowCount) {
+      isLong = isDouble = isDate = false;
+    }
+
+    Column column = null;
+    if (isLong) {
+      column = parseLongColumn(data, index, nulls);
+    } else if (isDouble) {
+      column = parseDoubleColumn(data, index, nulls);
+    } else if (isDate) {
+      column = parseDateColumn(data, index, nulls);
+    }
+    // column that looked like numbers or dates but didn't parse as such is STRING
+    return column != null ? column : parseStringColumn(data, index, nulls);
+  }
+
+  private Column parseLongColumn(String data, int index, BitSet nulls) {
+    long[] values = new long[rowCount];
+    for (int r = 0; r < rowCount; r++) {
+      if (!nulls.get(r)) {
+        int i = r * columnDef.length + index;
+        values[r] = parseLong(data, cellStarts[i], cellEnds[i]);
+      }
+    }
+    return new Column(ColumnDef.TYPE.LONG, rowCount, nulls, values, null, null);
+  }
+
+  private Column parseDoubleColumn(String data, int index, BitSet nulls) {
+    double[] values = new double[rowCount];
+    try {
+      for (int r = 0; r < rowCount; r++) {
+        if (!nulls.get(r)) {
+          int i = r * columnDef.length + index;
+          values[r] = Double.parseDouble(data.substring(cellStarts[i], cellEnds[i]));
+        }
+      }
+    } catch (NumberFormatException e) {
+      return null;
+    }
+    return new Column(ColumnDef.TYPE.DOUBLE, rowCount, nulls, null, values, null);
+  }
+
+  private Column parseDateColumn(String data, int index, BitSet nulls) {
+    Calendar calendar = new GregorianCalendar();
+    calendar.setLenient(false);
+    long[] values = new long[rowCount];
+    try {
+      for (int r = 0; r < rowCount; r++) {
+        if (!nulls.get(r)) {
+          int i = r * columnDef.length + index;
+          values[r] = parseDate(calendar, data, cellStarts[i], cellEnds[i]);
+        }
+      }
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+    return new Column(ColumnDef.TYPE.DATE, rowCount, nulls, values, null, null);
+  }
+
+  /**
+   * Parse 'yyyy-MM-dd' or 'yyyy-MM-dd HH:mm:ss' in the default time zone
+   */
+  private static long parseDate(Calendar calendar, String data, int start, int end) {
+    calendar.clear();
+    calendar.set(Calendar.YEAR, parseDigits(data, start, 4));
+    calendar.set(Calendar.MONTH, parseDigits(data, start + 5, 2) - 1);
+    calendar.set(Calendar.DAY_OF_MONTH, parseDigits(data, start + 8, 2));
+    if (end - start == DATETIME_FORMAT.length()) {
+      if (data.charAt(start + 13) != ':' || data.charAt(start + 16) != ':') {
+        throw new IllegalArgumentException();
+      }
+      calendar.set(Calendar.HOUR_OF_DAY, parseDigits(data, start + 11, 2));
+      calendar.set(Calendar.MINUTE, parseDigits(data, start + 14, 2));
+      calendar.set(Calendar.SECOND, parseDigits(data, start + 17, 2));
+    }
+    // non-lenient calendar throws IllegalArgumentException on out of range fields
+    return calendar.getTimeInMillis();
+  }
+
+  private static int parseDigits(String data, int start, int length) {
+    int value = 0;
+    for (int i = start; i < start + length; i++) {
+      char ch = data.charAt(i);
+      if (ch < '0' || ch > '9') {
+        throw new IllegalArgumentException();
+      }
+      value = value * 10 + (ch - '0');
+    }
+    return value;
+  }
+
+  private Column parseStringColumn(String data, int index, BitSet nulls) {
+    String[] values = new String[rowCount];
+    BitSet missing = new BitSet(rowCount);
+    for (int r = 0; r < rowCount; r++) {
+      int i = r * columnDef.length + index;
+      if (cellStarts[i] < 0) {
+        missing.set(r);
+      } else {
+        values[r] = data.substring(cellStarts[i], cellEnds[i]);
+      }
+    }
+    return new Column(ColumnDef.TYPE.STRING, rowCount, missing, null, null, values);
+  }
+
+  private static boolean isLong(String data, int start, int end) {
+    if (data.charAt(start) == '-') {
+      start++;
+    }
+    // up to 18 digits never overflows
+    if (start == end || end - start > 18) {
+      return false;
+    }
+    for (int i = start; i < end; i++) {
+      char ch = data.charAt(i);
+      if (ch < '0' || ch > '9') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static long parseLong(String data, int start, int end) {
+    boolean negative = data.charAt(start) == '-';
+    long value = 0;
+    for (int i = negative ? start + 1 : start; i < end; i++) {
+      value = value * 10 + (data.charAt(i) - '0');
+    }
+    return negative ? -value : value;
+  }
+
+  private static boolean isDouble(String data, int start, int end) {
+    boolean digit = false;
+    for (int i = start; i < end; i++) {
+      char ch = data.charAt(i);
+      if (ch >= '0' && ch <= '9') {
+        digit = true;
+      } else if (ch != '.' && ch != '-' && ch != '+' && ch != 'e' && ch != 'E') {
+        return false;
+      }
+    }
+    return digit;
+  }
+
+  private static boolean isDate(String data, int start, int end) {
+    int length = end - start;
+    if (length != DATE_FORMAT.length() && length != DATETIME_FORMAT.length()) {
+      return false;
+    }
+    return data.charAt(start + 4) == '-' && data.charAt(start + 7) == '-'
+        && (length == DATE_FORMAT.length() || data.charAt(start + 10) == ' ');
+  }
+
+  /**
+   * Values of a column. Only the array of the column type is set.
+   */
+  public static class Column {
+    private final ColumnDef.TYPE type;
+    private final int size;
+    private final BitSet nulls;
+    private final long[] longs;
+    private final double[] doubles;
+    private final String[] strings;
+
+    Column(ColumnDef.TYPE type, int size, BitSet nulls,
+           long[] longs, double[] doubles, String[] strings) {
+      this.type = type;
+      this.size = size;
+      this.nulls = nulls;
+      this.longs = longs;
+      this.doubles = doubles;
+      this.strings = strings;
+    }
+
+    public ColumnDef.TYPE type() {
+      return type;
+    }
+
+    public int size() {
+      return size;
+    }
+
+    public boolean isNull(int row) {
+      return nulls.get(row);
+    }
+
+    /**
+     * Value of LONG column, or milliseconds since epoch of DATE column
+     * @throws IllegalStateException on DOUBLE or STRING column
+     */
+    public long getLong(int row) {
+      if (longs == null) {
+        throw new IllegalStateException("getLong on " + type + " column");
+      }
+      return longs[row];
+    }
+
+    /**
+     * Value of DOUBLE or LONG column, or milliseconds since epoch of DATE column
+     * @throws IllegalStateException on STRING column
+     */
+    public double getDouble(int row) {
+      if (type == ColumnDef.TYPE.STRING) {
+        throw new IllegalStateException("getDouble on " + type + " column");
+      }
+      return type == ColumnDef.TYPE.DOUBLE ? doubles[row] : longs[row];
+    }
+
+    public String getString(int row) {
+      Object value = get(row);
+      return value == null ? null : (type == ColumnDef.TYPE.STRING ?
+          (String) value : String.valueOf(value));
+    }
+
+    /**
+     * Boxed value, Long, Double, Date or String. null when the cell is missing, or empty in a
+     * column other than STRING.
+     */
+    public Object get(int row) {
+      if (nulls.get(row)) {
+        return null;
+      }
+      switch (type) {
+        case LONG:
+          return longs[row];
+        case DOUBLE:
+          return doubles[row];
+        case DATE:
+          return new Date(longs[row]);
+        default:
+          return strings[row];
+      }
+    }
+  }
+
+  /**
+   * Reads the table row by row.
+   * <pre>
+   *   RowCursor cursor = table.cursor();
+   *   while (cursor.next()) {
+   *     long value = cursor.getLong(0);
+   *   }
+   * </pre>
+   */
+  public static class RowCursor {
+    private final Column[] columns;
+    private final int rowCount;
+    private int row = -1;
+
+    RowCursor(Column[] columns, int rowCount) {
+      this.columns = columns;
+      this.rowCount = rowCount;
+    }
+
+    public boolean hasNext() {
+      return row + 1 < rowCount;
+    }
+
+    /**
+     * Move to the next row
+     * @return false when there's no more row
+     */
+    public boolean next() {
+      if (!hasNext()) {
+        return false;
+      }
+      row++;
+      return true;
+    }
+
+    public int getRow() {
+      return row;
+    }
+
+    public boolean isNull(int column) {
+      return columns[column].isNull(row);
+    }
+
+    public long getLong(int column) {
+      return columns[column].getLong(row);
+    }
+
+    public double getDouble(int column) {
+      return columns[column].getDouble(row);
+    }
+
+    public String getString(int column) {
+      return columns[column].getString(row);
+    }
+
+    public Object get(int column) {
+      return columns[column].get(row);
+    }
+  }
+}
@@ -14,36 +14,139 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
+
 package org.apache.zeppelin.tabledata;
 
 import org.apache.zeppelin.resource.Resource;
+import org.apache.zeppelin.scheduler.ExecutorFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 /**
- * Proxy row iterator
+ * Proxy row iterator.
+ * Reads rows from the ResourceIterator of the table in pages of pageSize rows, one
+ * invokeMethod() per page, and fetches the next page while the current one is being read.
+ * Call close() when not reading all rows, to release the iterator in the resource pool.
  */
 public class ProxyRowIterator implements Iterator<Row> {
+  private static final Logger logger = LoggerFactory.getLogger(ProxyRowIterator.class);
+  // threads fetching the next page, shared by all proxy iterators
+  static final int READ_AHEAD_THREADS = 10;
 
   private final Resource rows;
+  private final int pageSize;
+  private final ExecutorService readAheadService;
+
+  private List<Row> page = Collections.emptyList();
+  private int position;
+  private Future<List<Row>> nextPage;
+  // the remote iterator removes itself from the pool when it returns the last page
+  private boolean exhausted;
 
   public ProxyRowIterator(Resource rows) {
+    this(rows, TableDataProxy.DEFAULT_PAGE_SIZE);
+  }
+
+  public ProxyRowIterator(Resource rows, int pageSize) {
     this.rows = rows;
+    this.pageSize = pageSize;
+    this.readAheadService = ExecutorFactory.singleton().createOrGetJobExecutor(
+        "ProxyRowIterator", READ_AHEAD_THREADS);
+    this.exhausted = (rows == null);
+    if (!exhausted) {
+      nextPage = readAheadService.submit(new PageFetch());
+    }
   }
 
   @Override
   public boolean hasNext() {
-    rows.invokeMethod("hasNext", null, null);
-    return false;
+    while (position >= page.size()) {
+      if (nextPage == null) {
+        return false;
+      }
+      page = takeNextPage();
+      position = 0;
+    }
+    return true;
   }
 
   @Override
   public Row next() {
-    return (Row) rows.invokeMethod("next", null, null);
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return page.get(position++);
   }
 
   @Override
   public void remove() {
     // operation not supported
   }
+
+  /**
+   * Stop reading and release the iterator in the resource pool
+   */
+  public void close() {
+    if (nextPage != null) {
+      nextPage.cancel(false);
+      nextPage = null;
+    }
+    page = Collections.emptyList();
+    synchronized (this) {
+      if (!exhausted) {
+        exhausted = true;
+        rows.invokeMethod("close", null, null);
+      }
+    }
+  }
+
+  private List<Row> takeNextPage() {
+    List<Row> fetched;
+    try {
+      fetched = nextPage.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      fetched = null;
+    } catch (ExecutionException e) {
+      logger.error("Can't fetch rows", e.getCause());
+      fetched = null;
+    }
+
+    if (fetched == null) {
+      close();
+      return Collections.emptyList();
+    }
+    synchronized (this) {
+      if (!exhausted) {
+        // read ahead
+        nextPage = readAheadService.submit(new PageFetch());
+      } else {
+        nextPage = null;
+      }
+    }
+    return fetched;
+  }
+
+  private class PageFetch implements Callable<List<Row>> {
+    @Override
+    public List<Row> call() {
+      List<Row> fetched = (List<Row>) rows.invokeMethod(
+          "next", new Class[]{int.class}, new Object[]{pageSize});
+      synchronized (ProxyRowIterator.this) {
+        if (fetched == null || fetched.size() < pageSize) {
+          exhausted = true;
+        }
+      }
+      return fetched;
+    }
+  }
 }
@@ -19,15 +19,25 @@ package org.apache.zeppelin.tabledata;
 import org.apache.zeppelin.resource.Resource;
 
 import java.util.Iterator;
+import java.util.UUID;
 
 /**
  * Proxy TableData for ResourcePool
  */
 public class TableDataProxy implements TableData {
+  // number of rows fetched by one invokeMethod()
+  public static final int DEFAULT_PAGE_SIZE = 1000;
+
   private final Resource resource;
+  private final int pageSize;
 
   public TableDataProxy(Resource tableDataRemoteResource) {
+    this(tableDataRemoteResource, DEFAULT_PAGE_SIZE);
+  }
+
+  public TableDataProxy(Resource tableDataRemoteResource, int pageSize) {
     this.resource = tableDataRemoteResource;
+    this.pageSize = pageSize;
   }
 
   @Override
@@ -36,12 +46,16 @@ public class TableDataProxy implements TableData {
         "columns", null, null);
   }
 
+  /**
+   * Row iterator. It is a ProxyRowIterator, close it when not reading all rows
+   */
   @Override
   public Iterator<Row> rows() {
-    String resourceName = resource.getResourceId().getName() + ".rows";
+    // unique name, the same table can be read by many iterators at the same time
+    String resourceName = resource.getResourceId().getName() + ".rows." + UUID.randomUUID();
     Resource rows = resource.invokeMethod("rows", null, null, resourceName);
 
-    ProxyRowIterator it = new ProxyRowIterator(rows);
+    ProxyRowIterator it = new ProxyRowIterator(rows, pageSize);
     return it;
   }
 }
@@ -59,7 +59,11 @@ enum RemoteInterpreterEventType {
   META_INFOS = 13,
   REMOTE_ZEPPELIN_SERVER_RESOURCE = 14,
   RESOURCE_INVOKE_METHOD = 15,
-  PARA_INFOS = 16
+  PARA_INFOS = 16,
+  RESOURCE_LOOKUP = 17,
+  RESOURCE_PUT = 18,
+  RESOURCE_REMOVE = 19,
+  JOB_STATUS_UPDATE = 20
 }
 
 
@@ -110,17 +114,28 @@ service RemoteInterpreterService {
   string getStatus(1: string sessionKey, 2:string jobId);
 
   RemoteInterpreterEvent getEvent();
+  // get up to maxBatch events, waiting up to maxWaitMs for the first one
+  list<RemoteInterpreterEvent> getEvents(1: i32 maxBatch, 2: i32 maxWaitMs);
 
-  // as a response, ZeppelinServer send list of resources to Interpreter process
-  void resourcePoolResponseGetAll(1: list<string> resources);
+  // as a response, ZeppelinServer send list of resources to Interpreter process.
+  // requestId is the data of the RESOURCE_POOL_GET_ALL event being answered
+  void resourcePoolResponseGetAll(1: list<string> resources, 2: string requestId);
   // as a response, ZeppelinServer send serialized value of resource
   void resourceResponseGet(1: string resourceId, 2: binary object);
+  // as a response, ZeppelinServer relays a serialized resource chunk by chunk
+  void resourceResponseGetChunk(1: string getResourceMessage, 2: string transfer, 3: binary chunk, 4: bool last);
   // as a response, ZeppelinServer send return object
   void resourceResponseInvokeMethod(1: string invokeMessage, 2: binary object);
   // get all resources in the interpreter process
   list<string> resourcePoolGetAll();
   // get value of resource
   binary resourceGet(1: string sessionKey, 2: string paragraphId, 3: string resourceName);
+  // serialize value of resource for a chunked transfer. returns json of ResourceTransfer
+  string resourceTransferOpen(1: string sessionKey, 2: string paragraphId, 3: string resourceName, 4: string transfer);
+  // read next chunk of a transfer. empty when transfer is complete
+  binary resourceTransferRead(1: string transferId, 2: i32 maxBytes);
+  // release a transfer before reading it to the end
+  void resourceTransferClose(1: string transferId);
   // remove resource
   bool resourceRemove(1: string sessionKey, 2: string paragraphId, 3:string resourceName);
   // invoke method on resource
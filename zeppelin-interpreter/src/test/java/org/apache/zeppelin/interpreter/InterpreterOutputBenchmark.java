@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.interpreter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures InterpreterOutput write throughput.
+ * Every operation writes 1 MB of output, so the reported ops/s is MB/s.
+ *
+ * Run with
+ *   mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=org.apache.zeppelin.interpreter.InterpreterOutputBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class InterpreterOutputBenchmark {
+  private static final int PAYLOAD_SIZE = 1024 * 1024;
+  private static final int CHUNK_SIZE = 8192;
+
+  @Param({"TEXT", "TABLE", "MIXED"})
+  public String content;
+
+  private byte[] payload;
+  private InterpreterOutput out;
+  private int previousLimit;
+
+  @Setup(Level.Trial)
+  public void createPayload() {
+    previousLimit = InterpreterOutput.limit;
+    InterpreterOutput.limit = Integer.MAX_VALUE;
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(PAYLOAD_SIZE);
+    StringBuilder line = new StringBuilder();
+    if ("TABLE".equals(content)) {
+      line.append("%table id\tname\tvalue\n");
+    }
+    int row = 0;
+    while (bytes.size() + line.length() < PAYLOAD_SIZE) {
+      bytes.write(line.toString().getBytes(), 0, line.length());
+      line.setLength(0);
+      if ("TEXT".equals(content)) {
+        line.append("INFO 17/10/18 12:00:00 Executor: finished task ").append(row)
+            .append(" in stage 1.0\n");
+      } else if ("TABLE".equals(content)) {
+        line.append(row).append("\trow-").append(row).append('\t').append(row * 0.5)
+            .append('\n');
+      } else {
+        switch (row % 4) {
+          case 0:
+            line.append("%text line ").append(row).append('\n');
+            break;
+          case 1:
+            line.append("%html <div>").append(row).append("</div>\n");
+            break;
+          case 2:
+            line.append("%table a\tb\n").append(row).append('\t').append(row).append("\n\n");
+            break;
+          default:
+            line.append("%myspell ").append(row).append('\n');
+        }
+      }
+      row++;
+    }
+    while (bytes.size() < PAYLOAD_SIZE) {
+      bytes.write(' ');
+    }
+    payload = bytes.toByteArray();
+  }
+
+  @TearDown(Level.Trial)
+  public void restoreLimit() {
+    InterpreterOutput.limit = previousLimit;
+  }
+
+  @Setup(Level.Invocation)
+  public void createOutput() {
+    out = new InterpreterOutput(null);
+  }
+
+  @TearDown(Level.Invocation)
+  public void closeOutput() throws IOException {
+    out.close();
+  }
+
+  @Benchmark
+  public InterpreterOutput bulkWrite() throws IOException {
+    for (int pos = 0; pos < payload.length; pos += CHUNK_SIZE) {
+      out.write(payload, pos, Math.min(CHUNK_SIZE, payload.length - pos));
+    }
+    out.flush();
+    return out;
+  }
+
+  @Benchmark
+  public InterpreterOutput perByteWrite() throws IOException {
+    for (byte b : payload) {
+      out.write(b);
+    }
+    out.flush();
+    return out;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+        .include(InterpreterOutputBenchmark.class.getSimpleName())
+        .build();
+    new Runner(opt).run();
+  }
+}
@@ -19,6 +19,7 @@ package org.apache.zeppelin.interpreter;
 import static org.junit.Assert.*;
 
 import java.io.IOException;
+import java.util.List;
 
 import org.junit.After;
 import org.junit.Before;
@@ -191,6 +192,53 @@ public class InterpreterOutputTest implements InterpreterOutputListener {
     InterpreterOutput.limit = Constants.ZEPPELIN_INTERPRETER_OUTPUT_LIMIT;
   }
 
+  @Test
+  public void testBulkWriteMatchesPerByteWrite() throws IOException {
+    String[] samples = new String[] {
+        "hello\nworld\n%html <div>a</div>\n%text done",
+        "%table key\tvalue\nhello\t100\n\nworld\t200\n\n%html x\n",
+        "%table a\tb\n1\t2\n\n\n%text after\n\n\n",
+        "%unknown spell body\nline2\n%text\n\n%html\n%table\n",
+        "%text one\ntwo\nthree\nfour\nfive\nsix\nseven\n"
+    };
+    int[] limits = new int[] {Constants.ZEPPELIN_INTERPRETER_OUTPUT_LIMIT, 12, 3};
+    java.util.Random random = new java.util.Random(1);
+
+    try {
+      for (int limit : limits) {
+        InterpreterOutput.limit = limit;
+        for (String sample : samples) {
+          byte[] data = sample.getBytes();
+
+          InterpreterOutput perByte = new InterpreterOutput(this);
+          for (byte b : data) {
+            perByte.write(b);
+          }
+          perByte.flush();
+
+          InterpreterOutput bulk = new InterpreterOutput(this);
+          int pos = 0;
+          while (pos < data.length) {
+            int len = Math.min(data.length - pos, 1 + random.nextInt(8));
+            bulk.write(data, pos, len);
+            pos += len;
+          }
+          bulk.flush();
+
+          List<InterpreterResultMessage> expected = perByte.toInterpreterResultMessage();
+          List<InterpreterResultMessage> actual = bulk.toInterpreterResultMessage();
+          assertEquals(sample, expected.size(), actual.size());
+          for (int i = 0; i < expected.size(); i++) {
+            assertEquals(sample, expected.get(i).getType(), actual.get(i).getType());
+            assertEquals(sample, expected.get(i).getData(), actual.get(i).getData());
+          }
+        }
+      }
+    } finally {
+      InterpreterOutput.limit = Constants.ZEPPELIN_INTERPRETER_OUTPUT_LIMIT;
+    }
+  }
+
 
   @Override
   public void onUpdateAll(InterpreterOutput out) {
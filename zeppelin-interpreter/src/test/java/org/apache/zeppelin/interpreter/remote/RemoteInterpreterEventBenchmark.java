@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.interpreter.remote;
+
+import org.apache.thrift.TException;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.transport.TSocket;
+import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterEvent;
+import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterEventType;
+import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how many events/s the server side can drain from one interpreter process,
+ * comparing getEvent() (one event per RPC) with getEvents() (batch per RPC).
+ * Every operation drains one output append event, so the reported ops/s is events/s.
+ *
+ * Run with
+ *   mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=org.apache.zeppelin.interpreter.remote.RemoteInterpreterEventBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class RemoteInterpreterEventBenchmark {
+  private static final int EVENTS_PER_INVOCATION = 10000;
+
+  @Param({"1", "100", "1000"})
+  public int batchSize;
+
+  private RemoteInterpreterServer server;
+  private TSocket transport;
+  private RemoteInterpreterService.Client client;
+  private String line;
+
+  @Setup(Level.Trial)
+  public void startServer() throws Exception {
+    server = new RemoteInterpreterServer("localhost",
+        RemoteInterpreterUtils.findRandomAvailablePortOnAllLocalInterfaces(), ":", true);
+    server.start();
+    long startTime = System.currentTimeMillis();
+    while (!server.isRunning()) {
+      if (System.currentTimeMillis() - startTime > 10 * 1000) {
+        throw new IllegalStateException("RemoteInterpreterServer did not start");
+      }
+      Thread.sleep(100);
+    }
+
+    transport = new TSocket("localhost", server.getPort());
+    transport.open();
+    client = new RemoteInterpreterService.Client(new TBinaryProtocol(transport));
+
+    StringBuilder sb = new StringBuilder();
+    while (sb.length() < 120) {
+      sb.append("INFO executor finished task in stage 1.0 ");
+    }
+    line = sb.append('\n').toString();
+  }
+
+  @TearDown(Level.Trial)
+  public void stopServer() throws TException {
+    transport.close();
+    server.shutdown();
+  }
+
+  @Setup(Level.Invocation)
+  public void produceEvents() {
+    RemoteInterpreterEventClient eventClient = server.getEventClient();
+    for (int i = 0; i < EVENTS_PER_INVOCATION; i++) {
+      eventClient.onInterpreterOutputAppend("note", "paragraph", 0, line);
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(EVENTS_PER_INVOCATION)
+  public int drainEvents() throws TException {
+    int received = 0;
+    if (batchSize == 1) {
+      while (received < EVENTS_PER_INVOCATION) {
+        RemoteInterpreterEvent event = client.getEvent();
+        if (event.getType() != RemoteInterpreterEventType.NO_OP) {
+          received++;
+        }
+      }
+    } else {
+      while (received < EVENTS_PER_INVOCATION) {
+        List<RemoteInterpreterEvent> events = client.getEvents(batchSize, 1000);
+        received += events.size();
+      }
+    }
+    return received;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+        .include(RemoteInterpreterEventBenchmark.class.getSimpleName())
+        .build();
+    new Runner(opt).run();
+  }
+}
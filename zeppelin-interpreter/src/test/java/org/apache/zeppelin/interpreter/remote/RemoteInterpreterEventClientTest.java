@@ -0,0 +1,233 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.interpreter.remote;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterEvent;
+import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterEventType;
+import org.apache.zeppelin.resource.DistributedResourcePool;
+import org.apache.zeppelin.resource.JavaResourceSerializer;
+import org.apache.zeppelin.resource.LocalResourcePool;
+import org.apache.zeppelin.resource.Resource;
+import org.apache.zeppelin.resource.ResourceId;
+import org.apache.zeppelin.resource.ResourceSet;
+import org.apache.zeppelin.resource.ResourceTransfer;
+import org.apache.zeppelin.resource.ResourceTransferManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RemoteInterpreterEventClientTest {
+  private RemoteInterpreterEventClient eventClient;
+  private ExecutorService executor;
+
+  @Before
+  public void setUp() {
+    eventClient = new RemoteInterpreterEventClient();
+    executor = Executors.newCachedThreadPool();
+  }
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void testConcurrentReadResourceCompletedOutOfOrder() throws Exception {
+    final ResourceId first = resourceId("first");
+    final ResourceId second = resourceId("second");
+    Future<Object> firstRead = readResourceAsync(first);
+    Future<Object> secondRead = readResourceAsync(second);
+
+    // both requests are in flight at the same time
+    List<RemoteInterpreterEvent> events = pollEvents(2);
+    assertEquals(RemoteInterpreterEventType.RESOURCE_GET, events.get(0).getType());
+    assertEquals(RemoteInterpreterEventType.RESOURCE_GET, events.get(1).getType());
+
+    // answer in reverse order
+    for (int i = events.size() - 1; i >= 0; i--) {
+      String message = events.get(i).getData();
+      String name = GetResourceEventMessage.fromJson(message).resourceId.getName();
+      eventClient.putResponseGetResource(message, Resource.serializeObject("value of " + name));
+    }
+
+    assertEquals("value of first", firstRead.get());
+    assertEquals("value of second", secondRead.get());
+  }
+
+  @Test
+  public void testReadResourceInChunks() throws Exception {
+    Future<Object> read = readResourceAsync(resourceId("large"));
+    String message = pollEvents(1).get(0).getData();
+
+    // transfer of the owner process, compressed and spilled to a temp file on both sides
+    StringBuilder value = new StringBuilder();
+    for (int i = 0; i < 10000; i++) {
+      value.append("value ").append(i).append('\n');
+    }
+    ResourceTransferManager owner = new ResourceTransferManager();
+    ResourceTransfer transfer = owner.open(value.toString(), new ResourceTransfer(true, 1024));
+    assertEquals(JavaResourceSerializer.NAME, transfer.serializer);
+
+    long sent = 0;
+    while (sent < transfer.size) {
+      ByteBuffer chunk = owner.read(transfer.transferId, 1000);
+      sent += chunk.remaining();
+      eventClient.putResponseGetResourceChunk(
+          message, transfer.toJson(), chunk, sent >= transfer.size);
+    }
+
+    assertEquals(value.toString(), read.get());
+    assertEquals(0, owner.size());
+  }
+
+  @Test
+  public void testConcurrentInvokeMethod() throws Exception {
+    final ResourceId resourceId = resourceId("str");
+    List<Future<Object>> invokes = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      final int length = i;
+      invokes.add(executor.submit(new Callable<Object>() {
+        @Override
+        public Object call() throws Exception {
+          return eventClient.invokeMethod(resourceId, "substring",
+              new Class[]{int.class}, new Object[]{length});
+        }
+      }));
+    }
+
+    // same method on the same resource is still correlated by requestId
+    List<RemoteInterpreterEvent> events = pollEvents(3);
+    for (int i = events.size() - 1; i >= 0; i--) {
+      InvokeResourceMethodEventMessage message =
+          InvokeResourceMethodEventMessage.fromJson(events.get(i).getData());
+      int length = ((Number) message.params[0]).intValue();
+      eventClient.putResponseInvokeMethod(message, Resource.serializeObject("result " + length));
+    }
+
+    for (int i = 0; i < invokes.size(); i++) {
+      assertEquals("result " + i, invokes.get(i).get());
+    }
+  }
+
+  @Test
+  public void testGetAllResources() throws Exception {
+    Future<ResourceSet> getAll = executor.submit(new Callable<ResourceSet>() {
+      @Override
+      public ResourceSet call() throws Exception {
+        return eventClient.getAllResources();
+      }
+    });
+
+    RemoteInterpreterEvent event = pollEvents(1).get(0);
+    assertEquals(RemoteInterpreterEventType.RESOURCE_POOL_GET_ALL, event.getType());
+    eventClient.putResponseGetAllResources(new LinkedList<String>(), event.getData());
+
+    assertEquals(0, getAll.get().size());
+  }
+
+  @Test
+  public void testFindResources() throws Exception {
+    Future<ResourceSet> find = executor.submit(new Callable<ResourceSet>() {
+      @Override
+      public ResourceSet call() throws Exception {
+        return eventClient.findResources("note1", "paragraph1", "key1");
+      }
+    });
+
+    RemoteInterpreterEvent event = pollEvents(1).get(0);
+    assertEquals(RemoteInterpreterEventType.RESOURCE_LOOKUP, event.getType());
+    LookupResourceEventMessage lookup = LookupResourceEventMessage.fromJson(event.getData());
+    assertEquals("key1", lookup.name);
+    assertFalse(lookup.nameOnly);
+
+    LocalResourcePool pool = new LocalResourcePool("pool2");
+    pool.put("note1", "paragraph1", "key1", "value1");
+    List<String> found = new LinkedList<>();
+    found.add(pool.get("note1", "paragraph1", "key1").toJson());
+    eventClient.putResponseGetAllResources(found, lookup.requestId);
+
+    ResourceSet resources = find.get();
+    assertEquals(1, resources.size());
+    assertTrue(resources.get(0).isRemote());
+  }
+
+  @Test
+  public void testAnnounceResourcePutAndRemove() {
+    DistributedResourcePool pool = new DistributedResourcePool("pool1", eventClient);
+    pool.put("key1", "value1");
+    pool.remove("key1");
+    // removing resource that is not in the pool is not announced
+    pool.remove("key1");
+
+    List<RemoteInterpreterEvent> events = pollEvents(2);
+    assertEquals(RemoteInterpreterEventType.RESOURCE_PUT, events.get(0).getType());
+    assertEquals("key1", Resource.fromJson(events.get(0).getData()).getResourceId().getName());
+    assertEquals(RemoteInterpreterEventType.RESOURCE_REMOVE, events.get(1).getType());
+    assertEquals("key1", ResourceId.fromJson(events.get(1).getData()).getName());
+    assertEquals(0, eventClient.pollEvents(1, 0).size());
+  }
+
+  @Test
+  public void testReadResourceTimeout() throws Exception {
+    eventClient.setResourceRequestTimeout(100);
+    assertNull(eventClient.readResource(resourceId("noResponse")));
+
+    // late response of timed out request is discarded
+    RemoteInterpreterEvent event = pollEvents(1).get(0);
+    eventClient.putResponseGetResource(event.getData(), Resource.serializeObject("late"));
+  }
+
+  private ResourceId resourceId(String name) {
+    // resource of another interpreter process
+    LocalResourcePool pool = new LocalResourcePool("pool2");
+    pool.put(name, name);
+    return pool.get(name).getResourceId();
+  }
+
+  private Future<Object> readResourceAsync(final ResourceId resourceId) {
+    return executor.submit(new Callable<Object>() {
+      @Override
+      public Object call() throws Exception {
+        return eventClient.readResource(resourceId);
+      }
+    });
+  }
+
+  private List<RemoteInterpreterEvent> pollEvents(int count) {
+    List<RemoteInterpreterEvent> events = new ArrayList<>();
+    long startTime = System.currentTimeMillis();
+    while (events.size() < count && System.currentTimeMillis() - startTime < 10 * 1000) {
+      events.addAll(eventClient.pollEvents(count - events.size(), 100));
+    }
+    assertEquals(count, events.size());
+    return events;
+  }
+}
@@ -18,8 +18,10 @@
 package org.apache.zeppelin.interpreter.remote;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -27,6 +29,7 @@ import java.util.concurrent.TimeUnit;
 import org.apache.thrift.TException;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterServer;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterUtils;
+import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterEvent;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -136,4 +139,25 @@ public class RemoteInterpreterServerTest {
     assertEquals(false, running);
   }
 
+  @Test
+  public void testGetEventsInBatch() throws IOException, TException {
+    RemoteInterpreterServer server = new RemoteInterpreterServer("localhost",
+        RemoteInterpreterUtils.findRandomAvailablePortOnAllLocalInterfaces(), ":", true);
+
+    // nothing in the queue
+    assertEquals(0, server.getEvents(10, 0).size());
+
+    for (int i = 0; i < 5; i++) {
+      server.eventClient.onAppStatusUpdate("note", "paragraph", "app" + i, "LOADED");
+    }
+
+    List<RemoteInterpreterEvent> events = server.getEvents(3, 0);
+    assertEquals(3, events.size());
+    assertTrue(events.get(0).getData().contains("app0"));
+    assertTrue(events.get(2).getData().contains("app2"));
+
+    events = server.getEvents(10, 1000);
+    assertEquals(2, events.size());
+    assertTrue(events.get(1).getData().contains("app4"));
+  }
 }
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.resource;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ResourceDirectoryTest {
+  private ResourceDirectory directory;
+  private LocalResourcePool pool1;
+  private LocalResourcePool pool2;
+
+  @Before
+  public void setUp() {
+    directory = new ResourceDirectory();
+    pool1 = new LocalResourcePool("pool1");
+    pool2 = new LocalResourcePool("pool2");
+  }
+
+  @Test
+  public void testFind() {
+    directory.put(put(pool1, null, null, "key1"));
+    directory.put(put(pool2, "note1", "paragraph1", "key1"));
+    directory.put(put(pool2, "note1", "paragraph1", "key2"));
+
+    assertEquals(2, directory.find(null, null, null, "key1", true).size());
+    assertEquals(1, directory.find("pool1", null, null, "key1", true).size());
+    assertEquals(1, directory.find(null, "note1", "paragraph1", "key1", false).size());
+    assertEquals("pool1", directory.find(null, null, null, "key1", false)
+        .get(0).getResourceId().getResourcePoolId());
+    assertEquals(0, directory.find(null, "note1", "paragraph2", "key2", false).size());
+  }
+
+  @Test
+  public void testRemove() {
+    directory.put(put(pool1, null, null, "key1"));
+    directory.put(put(pool2, null, null, "key1"));
+    directory.put(put(pool2, null, null, "key2"));
+
+    directory.remove(pool1.get("key1").getResourceId());
+    assertEquals(1, directory.find(null, null, null, "key1", true).size());
+
+    directory.removeResourcePool("pool2");
+    assertEquals(0, directory.size());
+    assertEquals(0, directory.find(null, null, null, "key1", true).size());
+  }
+
+  @Test
+  public void testMiss() throws InterruptedException {
+    directory.addMiss("pool1", null, null, "key1", true);
+    assertTrue(directory.isMiss("pool1", null, null, "key1", true));
+    assertFalse(directory.isMiss("pool2", null, null, "key1", true));
+    assertFalse(directory.isMiss("pool1", "note1", "paragraph1", "key1", false));
+
+    // put of the same name invalidates the miss
+    directory.put(put(pool2, null, null, "key1"));
+    assertFalse(directory.isMiss("pool1", null, null, "key1", true));
+
+    ResourceDirectory shortTtl = new ResourceDirectory(10);
+    shortTtl.addMiss(null, null, null, "key1", true);
+    Thread.sleep(50);
+    assertFalse(shortTtl.isMiss(null, null, null, "key1", true));
+  }
+
+  private Resource put(LocalResourcePool pool, String noteId, String paragraphId, String name) {
+    pool.put(noteId, paragraphId, name, "value");
+    return pool.get(noteId, paragraphId, name);
+  }
+}
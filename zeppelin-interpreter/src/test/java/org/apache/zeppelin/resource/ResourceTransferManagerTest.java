@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.resource;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ResourceTransferManagerTest {
+
+  @Test
+  public void testSpillBuffer() throws IOException {
+    byte[] bytes = new byte[1000];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = (byte) i;
+    }
+
+    SpillBuffer memory = new SpillBuffer(2000);
+    memory.write(bytes);
+    memory.close();
+    assertFalse(memory.isSpilled());
+    assertArrayEquals(bytes, readAll(memory));
+
+    SpillBuffer spilled = new SpillBuffer(500);
+    spilled.write(bytes, 0, 400);
+    assertFalse(spilled.isSpilled());
+    spilled.write(ByteBuffer.wrap(bytes, 400, 600));
+    spilled.close();
+    assertTrue(spilled.isSpilled());
+    assertEquals(1000, spilled.length());
+    assertArrayEquals(bytes, readAll(spilled));
+    ByteBuffer chunk = spilled.read(990, 100);
+    assertEquals(10, chunk.remaining());
+    assertEquals((byte) 990, chunk.get());
+
+    spilled.release();
+    try {
+      spilled.getInputStream();
+      assertTrue("released buffer should not be readable", false);
+    } catch (IOException e) {
+      // expected
+    }
+  }
+
+  @Test
+  public void testReadInChunks() throws Exception {
+    ResourceTransferManager manager = new ResourceTransferManager();
+    ResourceTransfer transfer = manager.open("value", new ResourceTransfer(false, 1024));
+    assertEquals(1, manager.size());
+
+    SpillBuffer received = new SpillBuffer(transfer.spillThreshold);
+    ByteBuffer chunk;
+    while ((chunk = manager.read(transfer.transferId, 3)).hasRemaining()) {
+      received.write(chunk);
+    }
+    received.close();
+    assertEquals(transfer.size, received.length());
+    assertEquals(0, manager.size());
+    assertEquals("value", transfer.deserialize(received.getInputStream()));
+
+    // not serializable
+    assertNull(manager.open(new Object(), new ResourceTransfer(false, 1024)));
+  }
+
+  @Test
+  public void testCloseAndIdleTimeout() throws Exception {
+    ResourceTransferManager manager = new ResourceTransferManager(10);
+    ResourceTransfer transfer = manager.open("value", new ResourceTransfer(false, 1024));
+    manager.close(transfer.transferId);
+    assertEquals(0, manager.size());
+    assertEquals(0, manager.read(transfer.transferId, 100).remaining());
+
+    manager.open("value", new ResourceTransfer(false, 1024));
+    Thread.sleep(50);
+    // idle transfers are released when a new transfer is opened
+    manager.open("value", new ResourceTransfer(false, 1024));
+    assertEquals(1, manager.size());
+  }
+
+  @Test
+  public void testCustomSerializer() throws Exception {
+    ResourceSerializer serializer = new StringBuilderSerializer();
+    ResourceSerializers.register(serializer);
+    try {
+      LocalResourcePool pool = new LocalResourcePool("pool1");
+      pool.put("sb", new StringBuilder("value"));
+      assertTrue(pool.get("sb").isSerializable());
+
+      ResourceTransfer transfer = new ResourceTransfer(true, 1024);
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      assertTrue(transfer.serialize(new StringBuilder("value"), out));
+      assertEquals("stringbuilder", transfer.serializer);
+
+      ResourceTransfer received = ResourceTransfer.fromJson(transfer.toJson());
+      Object o = received.deserialize(new ByteArrayInputStream(out.toByteArray()));
+      assertEquals("value", o.toString());
+    } finally {
+      ResourceSerializers.unregister(serializer);
+    }
+  }
+
+  private byte[] readAll(SpillBuffer buffer) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    InputStream in = buffer.getInputStream();
+    byte[] b = new byte[100];
+    int n;
+    while ((n = in.read(b)) > 0) {
+      out.write(b, 0, n);
+    }
+    in.close();
+    return out.toByteArray();
+  }
+
+  private static class StringBuilderSerializer implements ResourceSerializer {
+    @Override
+    public String getName() {
+      return "stringbuilder";
+    }
+
+    @Override
+    public boolean canSerialize(Object o) {
+      return o instanceof StringBuilder;
+    }
+
+    @Override
+    public void serialize(Object o, OutputStream out) throws IOException {
+      out.write(o.toString().getBytes(StandardCharsets.UTF_8));
+      out.flush();
+    }
+
+    @Override
+    public Object deserialize(InputStream in) throws IOException {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      byte[] b = new byte[100];
+      int n;
+      while ((n = in.read(b)) > 0) {
+        out.write(b, 0, n);
+      }
+      return new StringBuilder(new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+  }
+}
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.zeppelin.scheduler.DagExecutor.NodeResult;
+import org.apache.zeppelin.scheduler.DagExecutor.NodeStatus;
+import org.junit.Test;
+
+public class DagExecutorTest {
+
+  @Test
+  public void testIndependentBranchesRunConcurrently() throws InterruptedException {
+    // a -> b, a -> c, b and c -> d. b and c wait for each other to start
+    final CountDownLatch bothBranches = new CountDownLatch(2);
+    final List<String> order = Collections.synchronizedList(new LinkedList<String>());
+    DagExecutor dag = new DagExecutor(4);
+    dag.addNode("a", recording("a", order, null));
+    dag.addNode("b", recording("b", order, bothBranches));
+    dag.addNode("c", recording("c", order, bothBranches));
+    dag.addNode("d", recording("d", order, null));
+    dag.addEdge("a", "b");
+    dag.addEdge("a", "c");
+    dag.addEdge("b", "d");
+    dag.addEdge("c", "d");
+
+    Map<String, NodeResult> results = byId(dag.run());
+    assertEquals(4, results.size());
+    for (NodeResult result : results.values()) {
+      assertEquals(NodeStatus.FINISHED, result.getStatus());
+    }
+    assertEquals("a", order.get(0));
+    assertEquals("d", order.get(3));
+    assertTrue(results.get("b").getDurationMs() >= 0);
+    assertTrue(results.get("d").getStartedAt()
+        >= results.get("b").getStartedAt() + results.get("b").getDurationMs());
+  }
+
+  @Test
+  public void testFailureSkipsDownstreamOnly() throws InterruptedException {
+    final List<String> order = Collections.synchronizedList(new LinkedList<String>());
+    DagExecutor dag = new DagExecutor(2);
+    dag.addNode("a", new DagExecutor.Task() {
+      @Override
+      public void run() throws Exception {
+        throw new RuntimeException("a failed");
+      }
+    });
+    dag.addNode("b", recording("b", order, null));
+    dag.addNode("c", recording("c", order, null));
+    dag.addNode("other", recording("other", order, null));
+    dag.addEdge("a", "b");
+    dag.addEdge("b", "c");
+
+    Map<String, NodeResult> results = byId(dag.run());
+    assertEquals(NodeStatus.ERROR, results.get("a").getStatus());
+    assertEquals("a failed", results.get("a").getError());
+    assertEquals(NodeStatus.SKIPPED, results.get("b").getStatus());
+    assertEquals(NodeStatus.SKIPPED, results.get("c").getStatus());
+    assertEquals(NodeStatus.FINISHED, results.get("other").getStatus());
+    assertEquals(1, order.size());
+  }
+
+  @Test
+  public void testParallelism() throws InterruptedException {
+    final AtomicInteger running = new AtomicInteger();
+    final AtomicInteger maxRunning = new AtomicInteger();
+    DagExecutor dag = new DagExecutor(2);
+    for (int i = 0; i < 6; i++) {
+      dag.addNode("n" + i, new DagExecutor.Task() {
+        @Override
+        public void run() throws Exception {
+          int now = running.incrementAndGet();
+          synchronized (maxRunning) {
+            maxRunning.set(Math.max(maxRunning.get(), now));
+          }
+          Thread.sleep(50);
+          running.decrementAndGet();
+        }
+      });
+    }
+
+    assertEquals(6, dag.run().size());
+    assertEquals(2, maxRunning.get());
+  }
+
+  @Test
+  public void testCycle() throws InterruptedException {
+    DagExecutor dag = new DagExecutor(2);
+    dag.addNode("a", recording("a", new LinkedList<String>(), null));
+    dag.addNode("b", recording("b", new LinkedList<String>(), null));
+    dag.addNode("c", recording("c", new LinkedList<String>(), null));
+    dag.addEdge("a", "b");
+    dag.addEdge("b", "c");
+    assertTrue(dag.isDownstream("c", "a"));
+    assertFalse(dag.isDownstream("a", "c"));
+    assertFalse(dag.isDownstream("a", "a"));
+
+    dag.addEdge("c", "a");
+    try {
+      dag.run();
+      fail();
+    } catch (IllegalArgumentException e) {
+      assertEquals("Cycle detected", e.getMessage());
+    }
+  }
+
+  private DagExecutor.Task recording(final String id, final List<String> order,
+      final CountDownLatch latch) {
+    return new DagExecutor.Task() {
+      @Override
+      public void run() throws Exception {
+        if (latch != null) {
+          latch.countDown();
+          if (!latch.await(5, TimeUnit.SECONDS)) {
+            throw new RuntimeException(id + " didn't run with the other branch");
+          }
+        }
+        order.add(id);
+      }
+    };
+  }
+
+  private Map<String, NodeResult> byId(List<NodeResult> results) {
+    Map<String, NodeResult> map = new HashMap<>();
+    for (NodeResult result : results) {
+      map.put(result.getId(), result);
+    }
+    return map;
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ExecutorFactoryTest {
+  private ExecutorFactory factory;
+
+  @Before
+  public void setUp() {
+    factory = new ExecutorFactory();
+  }
+
+  @After
+  public void tearDown() {
+    factory.shutdownAll();
+  }
+
+  @Test
+  public void testJobExecutorQueuesBeyondMaxThreads() throws InterruptedException {
+    ExecutorService executor = factory.createOrGetJobExecutor("jobs", 2);
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch done = new CountDownLatch(4);
+    for (int i = 0; i < 4; i++) {
+      executor.execute(awaiting(release, done));
+    }
+    Thread.sleep(100);
+
+    Map<String, Object> metrics = factory.getMetrics().get("jobs");
+    assertEquals("job", metrics.get("type"));
+    assertEquals(2, metrics.get("activeCount"));
+    assertEquals(2, metrics.get("queueDepth"));
+
+    release.countDown();
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+    metrics = factory.getMetrics().get("jobs");
+    assertEquals(4L, metrics.get("startedTasks"));
+    // queued tasks waited for the first two to be released
+    assertTrue((Long) metrics.get("maxWaitMs") >= 100);
+  }
+
+  @Test
+  public void testDispatcherRunsEveryTaskRightAway() throws InterruptedException {
+    ExecutorService executor = factory.createOrGetDispatcher("dispatch");
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch done = new CountDownLatch(10);
+    for (int i = 0; i < 10; i++) {
+      executor.execute(awaiting(release, done));
+    }
+    Thread.sleep(100);
+
+    Map<String, Object> metrics = factory.getMetrics().get("dispatch");
+    assertEquals(10, metrics.get("activeCount"));
+    assertEquals(0, metrics.get("queueDepth"));
+    release.countDown();
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testTimerAndRejections() throws InterruptedException {
+    ScheduledExecutorService timer = factory.createOrGetTimer("timer", 1);
+    final CountDownLatch done = new CountDownLatch(1);
+    timer.schedule(new Runnable() {
+      @Override
+      public void run() {
+        done.countDown();
+      }
+    }, 50, TimeUnit.MILLISECONDS);
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+
+    Map<String, Object> metrics = factory.getMetrics().get("timer");
+    assertEquals("timer", metrics.get("type"));
+    assertEquals(1L, metrics.get("startedTasks"));
+    assertEquals(0L, metrics.get("rejectedTasks"));
+
+    timer.shutdown();
+    try {
+      timer.execute(awaiting(new CountDownLatch(0), new CountDownLatch(1)));
+    } catch (RuntimeException e) {
+      // rejected
+    }
+    assertEquals(1L, factory.getMetrics().get("timer").get("rejectedTasks"));
+  }
+
+  private Runnable awaiting(final CountDownLatch release, final CountDownLatch done) {
+    return new Runnable() {
+      @Override
+      public void run() {
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        done.countDown();
+      }
+    };
+  }
+}
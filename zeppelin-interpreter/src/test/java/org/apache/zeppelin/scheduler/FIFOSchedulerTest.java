@@ -114,4 +114,44 @@ public class FIFOSchedulerTest extends TestCase {
 	    assertTrue((500 > (Long)job1.getReturn()));
 	    assertEquals(null, job2.getReturn());
 	  }
-}
\ No newline at end of file
+
+	public void testRemoveJobBeforeItStarts() throws InterruptedException{
+		Scheduler s = schedulerSvc.createOrGetFIFOScheduler("test");
+
+		Job job1 = new SleepingJob("job1", null, 300);
+		Job job2 = new SleepingJob("job2", null, 300);
+		Job job3 = new SleepingJob("job3", null, 300);
+
+		s.submit(job1);
+		s.submit(job2);
+		s.submit(job3);
+		Thread.sleep(100);
+
+		assertEquals(job2, s.removeFromWaitingQueue(job2.getId()));
+		assertNull(s.removeFromWaitingQueue(job2.getId()));
+		assertEquals(1, s.getJobsWaiting().size());
+
+		Thread.sleep(600);
+		assertEquals(Status.FINISHED, job1.getStatus());
+		assertEquals(Status.PENDING, job2.getStatus());
+		assertEquals(Status.FINISHED, job3.getStatus());
+	}
+
+	public void testSchedulersDoNotHoldThreads() throws InterruptedException{
+		int numSchedulers = 300;
+		Job[] jobs = new Job[numSchedulers];
+		for (int i = 0; i < numSchedulers; i++) {
+			jobs[i] = new SleepingJob("job" + i, null, 10);
+			schedulerSvc.createOrGetFIFOScheduler("test" + i).submit(jobs[i]);
+		}
+
+		// more schedulers than the 100 threads of the executor, all their jobs still run
+		long deadline = System.currentTimeMillis() + 10000;
+		for (Job job : jobs) {
+			while (!job.isTerminated() && System.currentTimeMillis() < deadline) {
+				Thread.sleep(10);
+			}
+			assertEquals(Status.FINISHED, job.getStatus());
+		}
+	}
+}
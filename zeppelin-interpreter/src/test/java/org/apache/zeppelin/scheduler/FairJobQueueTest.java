@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+import java.util.Properties;
+
+import org.apache.zeppelin.scheduler.Job.Priority;
+import org.junit.Test;
+
+public class FairJobQueueTest {
+
+  @Test
+  public void testUsersTakeTurns() {
+    JobQueue queue = fairQueue("user", "", 0);
+    for (int i = 0; i < 5; i++) {
+      queue.add(job("a" + i, "userA", "note1", Priority.INTERACTIVE));
+    }
+    queue.add(job("b0", "userB", "note2", Priority.INTERACTIVE));
+    queue.add(job("b1", "userB", "note2", Priority.INTERACTIVE));
+
+    assertEquals("a0", queue.poll().getId());
+    assertEquals("b0", queue.poll().getId());
+    assertEquals("a1", queue.poll().getId());
+    assertEquals("b1", queue.poll().getId());
+    assertEquals("a2", queue.poll().getId());
+    assertEquals("a3", queue.poll().getId());
+  }
+
+  @Test
+  public void testShareByNote() {
+    JobQueue queue = fairQueue("note", "", 0);
+    queue.add(job("a0", "userA", "note1", Priority.INTERACTIVE));
+    queue.add(job("a1", "userA", "note1", Priority.INTERACTIVE));
+    queue.add(job("a2", "userA", "note2", Priority.INTERACTIVE));
+
+    assertEquals("a0", queue.poll().getId());
+    assertEquals("a2", queue.poll().getId());
+    assertEquals("a1", queue.poll().getId());
+  }
+
+  @Test
+  public void testWeightedPriorityClasses() {
+    JobQueue queue = fairQueue("user", "interactive:3,cron:1", 0);
+    for (int i = 0; i < 8; i++) {
+      queue.add(job("cron" + i, "cronUser", "note1", Priority.CRON));
+      queue.add(job("int" + i, "userA", "note2", Priority.INTERACTIVE));
+    }
+
+    int interactive = 0;
+    for (int i = 0; i < 8; i++) {
+      Job job = queue.poll();
+      if (job.getPriority() == Priority.INTERACTIVE) {
+        interactive++;
+      }
+    }
+    assertEquals(6, interactive);
+  }
+
+  @Test
+  public void testMaxConcurrencyPerShare() {
+    JobQueue queue = fairQueue("user", "", 1);
+    Job a0 = job("a0", "userA", "note1", Priority.INTERACTIVE);
+    queue.add(a0);
+    queue.add(job("a1", "userA", "note1", Priority.INTERACTIVE));
+
+    assertEquals("a0", queue.poll().getId());
+    // a0 is still running
+    assertFalse(queue.hasReady());
+    assertNull(queue.poll());
+    assertEquals(1, queue.getJobs().size());
+
+    // other users aren't limited by userA
+    queue.add(job("b0", "userB", "note2", Priority.REST));
+    assertEquals("b0", queue.poll().getId());
+
+    queue.finished(a0);
+    assertTrue(queue.hasReady());
+    assertEquals("a1", queue.poll().getId());
+    assertTrue(queue.isEmpty());
+  }
+
+  @Test
+  public void testFinishedAfterHashCodeChanged() {
+    JobQueue queue = fairQueue("user", "", 1);
+    // like Paragraph, hashCode covers the result
+    Job a0 = new SleepingJob("a0", null, 0) {
+      @Override
+      public String getUser() {
+        return "userA";
+      }
+
+      @Override
+      public int hashCode() {
+        return getReturn() == null ? 0 : getReturn().hashCode();
+      }
+
+      @Override
+      public boolean equals(Object o) {
+        return o == this;
+      }
+    };
+    queue.add(a0);
+    queue.add(job("a1", "userA", "note1", Priority.INTERACTIVE));
+
+    assertEquals(a0, queue.poll());
+    a0.run();
+    queue.finished(a0);
+    assertEquals("a1", queue.poll().getId());
+    queue.finished(a0);
+    assertNull(queue.poll());
+    assertEquals(1, ((Map<String, Object>) queue.getMetrics().get("runningPerShare")).size());
+  }
+
+  @Test
+  public void testRemoveAndMetrics() {
+    JobQueue queue = fairQueue("user", "", 0);
+    queue.add(job("a0", "userA", "note1", Priority.INTERACTIVE));
+    queue.add(job("a1", "userA", "note1", Priority.CRON));
+
+    assertEquals("a1", queue.remove("a1").getId());
+    assertNull(queue.remove("a1"));
+    assertEquals("a0", queue.poll().getId());
+    assertTrue(queue.isEmpty());
+
+    Map<String, Object> interactive = (Map<String, Object>) queue.getMetrics().get("interactive");
+    assertEquals(1L, interactive.get("startedJobs"));
+    Map<String, Object> cron = (Map<String, Object>) queue.getMetrics().get("cron");
+    assertEquals(0L, cron.get("startedJobs"));
+  }
+
+  @Test
+  public void testCreate() {
+    assertTrue(JobQueue.create(new Properties()) instanceof FifoJobQueue);
+    assertTrue(fairQueue("user", "rest:5", 2) instanceof FairJobQueue);
+
+    // invalid settings fall back to fifo instead of failing every job
+    assertTrue(fairQueue("user", "rest", 0) instanceof FifoJobQueue);
+    assertTrue(fairQueue("group", "", 0) instanceof FifoJobQueue);
+    assertTrue(fairQueue("user", "", -1) instanceof FifoJobQueue);
+    Properties properties = new Properties();
+    properties.setProperty(JobQueue.POLICY, "fair");
+    properties.setProperty(JobQueue.FAIR_MAX_CONCURRENCY_PER_SHARE, "two");
+    assertTrue(JobQueue.create(properties) instanceof FifoJobQueue);
+    properties.setProperty(JobQueue.POLICY, "lifo");
+    assertTrue(JobQueue.create(properties) instanceof FifoJobQueue);
+  }
+
+  private JobQueue fairQueue(String shareBy, String weights, int maxConcurrencyPerShare) {
+    Properties properties = new Properties();
+    properties.setProperty(JobQueue.POLICY, "fair");
+    properties.setProperty(JobQueue.FAIR_SHARE_BY, shareBy);
+    properties.setProperty(JobQueue.FAIR_WEIGHTS, weights);
+    properties.setProperty(JobQueue.FAIR_MAX_CONCURRENCY_PER_SHARE,
+        Integer.toString(maxConcurrencyPerShare));
+    return JobQueue.create(properties);
+  }
+
+  static Job job(String id, String user, String noteId, Priority priority) {
+    return job(id, user, noteId, priority, 0);
+  }
+
+  static Job job(String id, final String user, final String noteId, Priority priority,
+      int time) {
+    Job job = new SleepingJob(id, null, time) {
+      @Override
+      public String getUser() {
+        return user;
+      }
+
+      @Override
+      public String getNoteId() {
+        return noteId;
+      }
+    };
+    job.setId(id);
+    job.setPriority(priority);
+    return job;
+  }
+}
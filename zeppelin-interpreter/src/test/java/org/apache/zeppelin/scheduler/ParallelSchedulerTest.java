@@ -18,6 +18,10 @@
 package org.apache.zeppelin.scheduler;
 
 
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Properties;
+
 import org.apache.zeppelin.scheduler.Job;
 import org.apache.zeppelin.scheduler.Scheduler;
 import org.apache.zeppelin.scheduler.SchedulerFactory;
@@ -68,4 +72,34 @@ public class ParallelSchedulerTest extends TestCase {
 
 	}
 
+	public void testFairShareBetweenUsers() throws InterruptedException{
+		Properties properties = new Properties();
+		properties.setProperty(JobQueue.POLICY, "fair");
+		Scheduler s = schedulerSvc.createOrGetParallelScheduler("fair", 2,
+				JobQueue.create(properties));
+
+		List<Job> jobsOfA = new LinkedList<>();
+		for (int i = 0; i < 6; i++) {
+			Job job = FairJobQueueTest.job("a" + i, "userA", "note1",
+					Job.Priority.INTERACTIVE, 200);
+			jobsOfA.add(job);
+			s.submit(job);
+		}
+		Job jobOfB = FairJobQueueTest.job("b0", "userB", "note2",
+				Job.Priority.INTERACTIVE, 200);
+		s.submit(jobOfB);
+
+		// userB's job starts before the jobs userA submitted earlier
+		while (!jobOfB.isTerminated()) {
+			Thread.sleep(10);
+		}
+		int finishedOfA = 0;
+		for (Job job : jobsOfA) {
+			if (job.isTerminated()) {
+				finishedOfA++;
+			}
+		}
+		assertTrue(finishedOfA <= 3);
+	}
+
 }
@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.scheduler;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Scheduling overhead with 1,000 schedulers of the SchedulerFactory, running empty jobs.
+ *
+ * submitToStart submits a job to a random scheduler and waits until it starts running,
+ * jobsPerSecond submits a job to every scheduler and waits for all of them to finish.
+ *
+ * Run with
+ *   mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=org.apache.zeppelin.scheduler.SchedulerBenchmark
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class SchedulerBenchmark {
+  private static final int SCHEDULERS = 1000;
+
+  @Param({"fifo", "parallel"})
+  public String scheduler;
+
+  private SchedulerFactory factory;
+  private Scheduler[] schedulers;
+
+  @Setup(Level.Trial)
+  public void createSchedulers() throws Exception {
+    factory = new SchedulerFactory() {
+      @Override
+      public void jobStarted(Scheduler scheduler, Job job) {
+      }
+
+      @Override
+      public void jobFinished(Scheduler scheduler, Job job) {
+      }
+    };
+    schedulers = new Scheduler[SCHEDULERS];
+    for (int i = 0; i < SCHEDULERS; i++) {
+      schedulers[i] = "fifo".equals(scheduler) ?
+          factory.createOrGetFIFOScheduler("fifo" + i) :
+          factory.createOrGetParallelScheduler("parallel" + i, 10);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void destroy() {
+    for (Scheduler s : schedulers) {
+      factory.removeScheduler(s.getName());
+    }
+    factory.destroy();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public void submitToStart() throws InterruptedException {
+    CountDownLatch started = new CountDownLatch(1);
+    schedulers[ThreadLocalRandom.current().nextInt(SCHEDULERS)].submit(
+        new LatchJob(started, null));
+    started.await();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  @OperationsPerInvocation(SCHEDULERS)
+  public void jobsPerSecond() throws InterruptedException {
+    CountDownLatch finished = new CountDownLatch(SCHEDULERS);
+    for (Scheduler s : schedulers) {
+      s.submit(new LatchJob(null, finished));
+    }
+    finished.await();
+  }
+
+  private static class LatchJob extends Job {
+    private final CountDownLatch started;
+    private final CountDownLatch finished;
+
+    LatchJob(CountDownLatch started, CountDownLatch finished) {
+      super("benchmark", null);
+      this.started = started;
+      this.finished = finished;
+    }
+
+    @Override
+    protected Object jobRun() {
+      if (started != null) {
+        started.countDown();
+      }
+      return null;
+    }
+
+    @Override
+    public void setStatus(Status status) {
+      super.setStatus(status);
+      if (finished != null && status.isCompleted()) {
+        finished.countDown();
+      }
+    }
+
+    @Override
+    protected boolean jobAbort() {
+      return false;
+    }
+
+    @Override
+    public Object getReturn() {
+      return null;
+    }
+
+    @Override
+    public int progress() {
+      return 0;
+    }
+
+    @Override
+    public Map<String, Object> info() {
+      return new HashMap<>();
+    }
+
+    @Override
+    public void setResult(Object results) {
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+        .include(SchedulerBenchmark.class.getSimpleName())
+        .build();
+    new Runner(opt).run();
+  }
+}
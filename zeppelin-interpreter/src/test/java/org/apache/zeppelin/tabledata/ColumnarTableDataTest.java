@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.tabledata;
+
+import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.interpreter.InterpreterResultMessage;
+import org.apache.zeppelin.resource.LocalResourcePool;
+import org.junit.Test;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Iterator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ColumnarTableDataTest {
+  private static final String TABLE =
+      "key\tvalue\tratio\tday\n" +
+      "sun\t100\t0.5\t2017-07-01\n" +
+      "moon\t-200\t1\t2017-07-02 10:20:30\n" +
+      "star\t\t1e3\n";
+
+  @Test
+  public void testInferTypes() {
+    ColumnarTableData table = new ColumnarTableData(table(TABLE));
+
+    ColumnDef[] cols = table.columns();
+    assertEquals(4, cols.length);
+    assertEquals("key", cols[0].name());
+    assertEquals(ColumnDef.TYPE.STRING, cols[0].type());
+    assertEquals("value", cols[1].name());
+    assertEquals(ColumnDef.TYPE.LONG, cols[1].type());
+    assertEquals(ColumnDef.TYPE.DOUBLE, cols[2].type());
+    assertEquals(ColumnDef.TYPE.DATE, cols[3].type());
+    assertEquals(3, table.rowCount());
+  }
+
+  @Test
+  public void testRows() throws Exception {
+    ColumnarTableData table = new ColumnarTableData(table(TABLE));
+
+    Iterator<Row> it = table.rows();
+    Row row = it.next();
+    assertEquals(4, row.get().length);
+    assertEquals("sun", row.get()[0]);
+    assertEquals(100L, row.get()[1]);
+    assertEquals(0.5, row.get()[2]);
+    assertEquals(new SimpleDateFormat("yyyy-MM-dd").parse("2017-07-01"), row.get()[3]);
+
+    row = it.next();
+    assertEquals(-200L, row.get()[1]);
+    assertEquals(1.0, row.get()[2]);
+    assertEquals(new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").parse("2017-07-02 10:20:30"),
+        row.get()[3]);
+
+    // empty and missing cells
+    row = it.next();
+    assertEquals("star", row.get()[0]);
+    assertNull(row.get()[1]);
+    assertEquals(1000.0, row.get()[2]);
+    assertNull(row.get()[3]);
+
+    assertFalse(it.hasNext());
+  }
+
+  @Test
+  public void testCursorAndColumn() {
+    ColumnarTableData table = new ColumnarTableData(table(TABLE));
+
+    ColumnarTableData.RowCursor cursor = table.cursor();
+    long sum = 0;
+    while (cursor.next()) {
+      if (!cursor.isNull(1)) {
+        sum += cursor.getLong(1);
+      }
+    }
+    assertEquals(-100, sum);
+
+    ColumnarTableData.Column ratio = table.column(2);
+    assertEquals(ColumnDef.TYPE.DOUBLE, ratio.type());
+    assertEquals(3, ratio.size());
+    assertEquals(1000.0, ratio.getDouble(2), 0);
+    assertEquals("sun", table.column(0).getString(0));
+  }
+
+  @Test
+  public void testStringColumn() {
+    ColumnarTableData table = new ColumnarTableData(table(
+        "key\tvalue\n" +
+        "\t1\n" +
+        "moon\n"));
+
+    ColumnarTableData.Column key = table.column(0);
+    assertEquals(ColumnDef.TYPE.STRING, key.type());
+    // empty cell of STRING column is kept, missing cell is null
+    assertFalse(key.isNull(0));
+    assertEquals("", key.get(0));
+    assertTrue(table.column(1).isNull(1));
+    assertNull(table.column(1).get(1));
+
+    try {
+      key.getDouble(0);
+      fail("getDouble on STRING column");
+    } catch (IllegalStateException e) {
+      // expected
+    }
+    try {
+      key.getLong(0);
+      fail("getLong on STRING column");
+    } catch (IllegalStateException e) {
+      // expected
+    }
+  }
+
+  @Test
+  public void testFallbackToString() {
+    ColumnarTableData table = new ColumnarTableData(table(
+        "id\tdate\tversion\n" +
+        "1\t2017-13-45\t1.2.3\n" +
+        "a\t2017-01-01\t2\n"));
+
+    ColumnDef[] cols = table.columns();
+    assertEquals(ColumnDef.TYPE.STRING, cols[0].type());
+    assertEquals(ColumnDef.TYPE.STRING, cols[1].type());
+    assertEquals(ColumnDef.TYPE.STRING, cols[2].type());
+    assertEquals("2017-13-45", table.column(1).get(0));
+    assertEquals("1.2.3", table.column(2).get(0));
+  }
+
+  @Test
+  public void testEmptyTable() {
+    assertEquals(0, new ColumnarTableData(table("")).columns().length);
+
+    ColumnarTableData headerOnly = new ColumnarTableData(table("key\tvalue\n"));
+    assertEquals(2, headerOnly.columns().length);
+    assertFalse(headerOnly.rows().hasNext());
+  }
+
+  @Test
+  public void testResourcePool() {
+    LocalResourcePool pool = new LocalResourcePool("p1");
+    pool.put("table", new ColumnarTableData(table(TABLE)));
+
+    TableDataProxy proxy = new TableDataProxy(pool.get("table"));
+    ColumnDef[] cols = proxy.columns();
+    assertEquals(4, cols.length);
+    assertTrue(cols[1].type() == ColumnDef.TYPE.LONG);
+  }
+
+  private InterpreterResultMessage table(String data) {
+    return new InterpreterResultMessage(InterpreterResult.Type.TABLE, data);
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.tabledata;
+
+import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.interpreter.InterpreterResultMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares InterpreterResultTableData with ColumnarTableData on a table of 1M cells
+ * (100k rows of long, double, date and string columns, repeated to 10 columns).
+ *
+ * parseAndScanRows parses the table and reads every cell row by row, sumColumn parses the table
+ * and sums one numeric column. Retained heap of each parsed table is printed in setup,
+ * add '-prof gc' to the options for the allocation rate.
+ *
+ * Run with
+ *   mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=org.apache.zeppelin.tabledata.TableDataBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class TableDataBenchmark {
+  private static final int ROWS = 100000;
+  private static final int COLUMNS = 10;
+
+  @Param({"current", "columnar"})
+  public String tableData;
+
+  private InterpreterResultMessage msg;
+
+  @Setup(Level.Trial)
+  public void createTable() {
+    StringBuilder sb = new StringBuilder();
+    for (int c = 0; c < COLUMNS; c++) {
+      sb.append(c == 0 ? "" : "\t").append("col").append(c);
+    }
+    sb.append('\n');
+    for (int r = 0; r < ROWS; r++) {
+      for (int c = 0; c < COLUMNS; c++) {
+        if (c > 0) {
+          sb.append('\t');
+        }
+        switch (c % 4) {
+          case 0:
+            sb.append(r * 31L);
+            break;
+          case 1:
+            sb.append(r / 7.0);
+            break;
+          case 2:
+            sb.append("2017-07-").append(10 + r % 20);
+            break;
+          default:
+            sb.append("name").append(r % 1000);
+        }
+      }
+      sb.append('\n');
+    }
+    msg = new InterpreterResultMessage(InterpreterResult.Type.TABLE, sb.toString());
+
+    System.out.println("\nretained heap of " + tableData + " table: "
+        + retainedHeap() / 1024 / 1024 + " MB, message itself: "
+        + (long) msg.getData().length() * 2 / 1024 / 1024 + " MB");
+  }
+
+  private long retainedHeap() {
+    Runtime runtime = Runtime.getRuntime();
+    System.gc();
+    long before = runtime.totalMemory() - runtime.freeMemory();
+    TableData table = parse();
+    System.gc();
+    long after = runtime.totalMemory() - runtime.freeMemory();
+    // keep the table reachable until measured
+    return table.columns().length > 0 ? after - before : 0;
+  }
+
+  private TableData parse() {
+    if ("current".equals(tableData)) {
+      return new InterpreterResultTableData(msg);
+    } else {
+      ColumnarTableData table = new ColumnarTableData(msg);
+      table.columns();
+      return table;
+    }
+  }
+
+  @Benchmark
+  public long parseAndScanRows() {
+    long cells = 0;
+    if ("current".equals(tableData)) {
+      Iterator<Row> it = new InterpreterResultTableData(msg).rows();
+      while (it.hasNext()) {
+        for (Object cell : it.next().get()) {
+          if (cell != null) {
+            cells++;
+          }
+        }
+      }
+    } else {
+      ColumnarTableData.RowCursor cursor = new ColumnarTableData(msg).cursor();
+      while (cursor.next()) {
+        for (int c = 0; c < COLUMNS; c++) {
+          if (!cursor.isNull(c)) {
+            cells++;
+          }
+        }
+      }
+    }
+    return cells;
+  }
+
+  @Benchmark
+  public double sumColumn() {
+    double sum = 0;
+    if ("current".equals(tableData)) {
+      Iterator<Row> it = new InterpreterResultTableData(msg).rows();
+      while (it.hasNext()) {
+        sum += Double.parseDouble((String) it.next().get()[1]);
+      }
+    } else {
+      ColumnarTableData.Column column = new ColumnarTableData(msg).column(1);
+      for (int r = 0; r < column.size(); r++) {
+        sum += column.getDouble(r);
+      }
+    }
+    return sum;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+        .include(TableDataBenchmark.class.getSimpleName())
+        .build();
+    new Runner(opt).run();
+  }
+}
@@ -26,6 +26,7 @@ import java.util.Iterator;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 public class TableDataProxyTest {
   private LocalResourcePool pool;
@@ -63,4 +64,42 @@ public class TableDataProxyTest {
 
     assertFalse(it.hasNext());
   }
+
+  @Test
+  public void testRowsInPages() {
+    StringBuilder data = new StringBuilder("id\n");
+    for (int i = 0; i < 5; i++) {
+      data.append(i).append('\n');
+    }
+    pool.put("table", new InterpreterResultTableData(
+        new InterpreterResultMessage(InterpreterResult.Type.TABLE, data.toString())));
+    TableDataProxy proxy = new TableDataProxy(pool.get("table"), 2);
+
+    Iterator<Row> it = proxy.rows();
+    for (int i = 0; i < 5; i++) {
+      assertTrue(it.hasNext());
+      assertEquals(Integer.toString(i), it.next().get()[0]);
+    }
+    assertFalse(it.hasNext());
+
+    // iterator is released after the last page
+    assertEquals(1, pool.getAll().size());
+  }
+
+  @Test
+  public void testCloseReleasesRows() {
+    InterpreterResultMessage msg = new InterpreterResultMessage(
+        InterpreterResult.Type.TABLE,
+        "key\tvalue\nsun\t100\nmoon\t200\nstar\t300\n");
+    pool.put("table", new InterpreterResultTableData(msg));
+    TableDataProxy proxy = new TableDataProxy(pool.get("table"), 1);
+
+    ProxyRowIterator it = (ProxyRowIterator) proxy.rows();
+    assertEquals("sun", it.next().get()[0]);
+    assertEquals(2, pool.getAll().size());
+
+    it.close();
+    assertFalse(it.hasNext());
+    assertEquals(1, pool.getAll().size());
+  }
 }
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.rest;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status;
+
+import org.apache.zeppelin.annotation.ZeppelinApi;
+import org.apache.zeppelin.interpreter.InterpreterSettingManager;
+import org.apache.zeppelin.interpreter.ManagedInterpreterGroup;
+import org.apache.zeppelin.interpreter.remote.RemoteInterpreterEventPoller;
+import org.apache.zeppelin.interpreter.remote.RemoteInterpreterProcess;
+import org.apache.zeppelin.notebook.Notebook;
+import org.apache.zeppelin.scheduler.ExecutorFactory;
+import org.apache.zeppelin.scheduler.SchedulerFactory;
+import org.apache.zeppelin.server.JsonResponse;
+import org.apache.zeppelin.socket.NotebookServer;
+
+/**
+ * Runtime metrics rest API endpoint.
+ */
+@Path("/metrics")
+@Produces("application/json")
+public class MetricsRestApi {
+  private NotebookServer notebookWsServer;
+  private InterpreterSettingManager interpreterSettingManager;
+  private Notebook notebook;
+
+  public MetricsRestApi() {}
+
+  public MetricsRestApi(NotebookServer notebookWsServer,
+      InterpreterSettingManager interpreterSettingManager, Notebook notebook) {
+    this.notebookWsServer = notebookWsServer;
+    this.interpreterSettingManager = interpreterSettingManager;
+    this.notebook = notebook;
+  }
+
+  /**
+   * Outbound queue depth and send latency of each websocket connection
+   */
+  @GET
+  @Path("websocket")
+  @ZeppelinApi
+  public Response getWebsocketMetrics() {
+    return new JsonResponse<>(Status.OK, "", notebookWsServer.getSocketMetrics()).build();
+  }
+
+  /**
+   * Buffered paragraph output of each running interpreter process
+   */
+  @GET
+  @Path("output")
+  @ZeppelinApi
+  public Response getOutputMetrics() {
+    List<Map<String, Object>> metrics = new LinkedList<>();
+    for (ManagedInterpreterGroup group : interpreterSettingManager.getAllInterpreterGroup()) {
+      RemoteInterpreterProcess process = group.getRemoteInterpreterProcess();
+      if (process == null || process.getRemoteInterpreterEventPoller() == null) {
+        continue;
+      }
+      RemoteInterpreterEventPoller poller = process.getRemoteInterpreterEventPoller();
+      Map<String, Object> groupMetrics = new LinkedHashMap<>();
+      groupMetrics.put("interpreterGroupId", group.getId());
+      groupMetrics.putAll(poller.getAppendOutputMetrics());
+      metrics.add(groupMetrics);
+    }
+    return new JsonResponse<>(Status.OK, "", metrics).build();
+  }
+
+  /**
+   * Queue depth, write latency and written bytes of note persistence
+   */
+  @GET
+  @Path("persist")
+  @ZeppelinApi
+  public Response getPersistMetrics() {
+    return new JsonResponse<>(Status.OK, "", notebook.getPersistMetrics()).build();
+  }
+
+  /**
+   * Threads, queue depth, task wait time and rejections of each shared executor
+   */
+  @GET
+  @Path("executor")
+  @ZeppelinApi
+  public Response getExecutorMetrics() {
+    return new JsonResponse<>(Status.OK, "", ExecutorFactory.singleton().getMetrics()).build();
+  }
+
+  /**
+   * Running and waiting jobs, and queue wait time per priority class of each scheduler
+   */
+  @GET
+  @Path("scheduler")
+  @ZeppelinApi
+  public Response getSchedulerMetrics() {
+    return new JsonResponse<>(Status.OK, "", SchedulerFactory.singleton().getMetrics()).build();
+  }
+}
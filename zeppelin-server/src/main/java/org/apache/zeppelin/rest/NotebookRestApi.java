@@ -37,6 +37,7 @@ import javax.ws.rs.core.Response.Status;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.zeppelin.annotation.ZeppelinApi;
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.interpreter.InterpreterResult;
 import org.apache.zeppelin.notebook.Note;
 import org.apache.zeppelin.notebook.Notebook;
@@ -47,6 +48,8 @@ import org.apache.zeppelin.rest.exception.BadRequestException;
 import org.apache.zeppelin.rest.exception.NotFoundException;
 import org.apache.zeppelin.rest.exception.ForbiddenException;
 import org.apache.zeppelin.rest.message.*;
+import org.apache.zeppelin.scheduler.DagExecutor;
+import org.apache.zeppelin.scheduler.Job;
 import org.apache.zeppelin.search.SearchService;
 import org.apache.zeppelin.server.JsonResponse;
 import org.apache.zeppelin.socket.NotebookServer;
@@ -62,7 +65,6 @@ import com.google.common.collect.Sets;
 import com.google.common.reflect.TypeToken;
 import com.google.gson.Gson;
 
-import org.apache.zeppelin.rest.graph.TopologicalSort;
 
 /**
  * Rest api endpoint for the notebook.
@@ -663,7 +665,7 @@ public class NotebookRestApi {
     checkIfUserCanRun(noteId, "Insufficient privileges you cannot run job for this note");
 
     try {
-      note.runAll(subject, true);
+      note.runAll(subject, true, Job.Priority.REST);
     } catch (Exception ex) {
       LOG.error("Exception from run", ex);
       return new JsonResponse<>(Status.PRECONDITION_FAILED,
@@ -708,31 +710,49 @@ public class NotebookRestApi {
     List<Map<String, String>> nodes = (List<Map<String, String>>) flow.get("nodes");
     List<Map<String, String>> edges = (List<Map<String, String>>) flow.get("edges");
 
-    List<TopologicalSort.Node> nl = new ArrayList<TopologicalSort.Node>();
-    Map<String, TopologicalSort.Node> nmap = new HashMap<String, TopologicalSort.Node>();
-    for (Map<String, String> n: nodes) {
-      String noteId = n.get("noteId");
-      TopologicalSort.Node node = new TopologicalSort.Node(noteId);
-      nl.add(node);
-      nmap.put(noteId, node);
-    }
-    for (Map<String, String> e: edges) {
-      String source = e.get("source");
-      TopologicalSort.Node sourceNode = nmap.get(source);
-      String target = e.get("target");
-      TopologicalSort.Node targeteNode = nmap.get(target);
-      sourceNode.addEdge(targeteNode);
+    // notes run concurrently once the notes they depend on finished
+    final HashMap<String, Object> params = this.MAPPER.readValue(message, typeRef);
+    final AuthenticationInfo subject = new AuthenticationInfo(SecurityUtils.getPrincipal());
+    final String request = message;
+    DagExecutor dag = new DagExecutor(notebook.getConf()
+        .getInt(ZeppelinConfiguration.ConfVars.ZEPPELIN_NOTEBOOK_DAG_PARALLELISM));
+    List<DagExecutor.NodeResult> results;
+    try {
+      for (Map<String, String> n: nodes) {
+        final String noteId = n.get("noteId");
+        if (dag.hasNode(noteId)) {
+          // the same note can be placed more than once in a flow
+          continue;
+        }
+        final Note note = notebook.getNote(noteId);
+        checkIfNoteIsNotNull(note);
+        checkIfUserCanWrite(noteId, "Insufficient privileges you cannot run job for this note");
+        dag.addNode(noteId, new DagExecutor.Task() {
+          @Override
+          public void run() throws Exception {
+            if (!runParagraphsSync(note, params, request, subject)) {
+              throw new RuntimeException("Note " + noteId + " has failed paragraphs");
+            }
+          }
+        });
+      }
+      for (Map<String, String> e: edges) {
+        dag.addEdge(e.get("source"), e.get("target"));
+      }
+      results = dag.run();
+    } catch (IllegalArgumentException e) {
+      return new JsonResponse<>(Status.BAD_REQUEST, e.getMessage()).build();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while running flow " + flowId, e);
     }
 
-    TopologicalSort.Node[] sortedNodes = TopologicalSort.sort(nmap.values().toArray(new TopologicalSort.Node[]{}));
-
-    for (TopologicalSort.Node node: sortedNodes) {
-      runNoteSync(node.name, message);
+    for (DagExecutor.NodeResult result : results) {
+      if (result.getStatus() != DagExecutor.NodeStatus.FINISHED) {
+        return new JsonResponse<>(Status.INTERNAL_SERVER_ERROR, "", results).build();
+      }
     }
-
-
-    return new JsonResponse<>(Status.OK).build();
-
+    return new JsonResponse<>(Status.OK, "", results).build();
   }
 
   @POST
@@ -747,25 +767,33 @@ public class NotebookRestApi {
     AuthenticationInfo subject = new AuthenticationInfo(SecurityUtils.getPrincipal());
     checkIfNoteIsNotNull(note);
     checkIfUserCanWrite(noteId, "Insufficient privileges you cannot run job for this note");
+    runParagraphsSync(note, params, message, subject);
+    return new JsonResponse<>(Status.OK).build();
+  }
+
+  /**
+   * Run all paragraphs of the note one after another, on the calling thread
+   *
+   * @return false when a paragraph failed
+   */
+  private boolean runParagraphsSync(Note note, Map<String, Object> params, String message,
+      AuthenticationInfo subject) throws IOException {
+    boolean succeeded = true;
     for (Paragraph paragraph: note.getParagraphs()) {
       paragraph.settings.getParams().putAll(params);
-      checkIfNoteIsNotNull(note);
-      checkIfUserCanWrite(noteId, "Insufficient privileges you cannot run paragraph");
-      checkIfParagraphIsNotNull(paragraph);
       // handle params if presented
-      handleParagraphParams(message, note, paragraph);
+      handleParagraphParams(message, note, paragraph, subject);
       if (paragraph.getListener() == null) {
         note.initializeJobListenerForParagraph(paragraph);
       }
       paragraph.run();
-//      final InterpreterResult result = paragraph.getResult();
-//      if (result.code() == InterpreterResult.Code.SUCCESS) {
-//        return new JsonResponse<>(Status.OK, result).build();
-//      } else {
-//        return new JsonResponse<>(Status.INTERNAL_SERVER_ERROR, result).build();
-//      }
+      Object result = paragraph.getReturn();
+      if (paragraph.getException() != null || (result instanceof InterpreterResult
+          && ((InterpreterResult) result).code() == InterpreterResult.Code.ERROR)) {
+        succeeded = false;
+      }
     }
-    return new JsonResponse<>(Status.OK).build();
+    return succeeded;
   }
 
   @POST
@@ -783,7 +811,7 @@ public class NotebookRestApi {
     for (Paragraph p: note.getParagraphs()) {
       try {
         p.settings.getParams().putAll(params);
-        note.run(p.getId());
+        note.run(p.getId(), false, Job.Priority.REST);
       } catch (Exception ex) {
         LOG.error("Exception from run", ex);
         return new JsonResponse<>(Status.PRECONDITION_FAILED,
@@ -896,7 +924,7 @@ public class NotebookRestApi {
     paragraph.setAuthenticationInfo(subject);
     note.persist(subject);
 
-    note.run(paragraph.getId());
+    note.run(paragraph.getId(), false, Job.Priority.REST);
     return new JsonResponse<>(Status.OK).build();
   }
 
@@ -1129,6 +1157,12 @@ public class NotebookRestApi {
 
   private void handleParagraphParams(String message, Note note, Paragraph paragraph)
       throws IOException {
+    handleParagraphParams(message, note, paragraph,
+        new AuthenticationInfo(SecurityUtils.getPrincipal()));
+  }
+
+  private void handleParagraphParams(String message, Note note, Paragraph paragraph,
+      AuthenticationInfo subject) throws IOException {
     // handle params if presented
     if (!StringUtils.isEmpty(message)) {
       RunParagraphWithParametersRequest request =
@@ -1136,7 +1170,6 @@ public class NotebookRestApi {
       Map<String, Object> paramsForUpdating = request.getParams();
       if (paramsForUpdating != null) {
         paragraph.settings.getParams().putAll(paramsForUpdating);
-        AuthenticationInfo subject = new AuthenticationInfo(SecurityUtils.getPrincipal());
         note.persist(subject);
       }
     }
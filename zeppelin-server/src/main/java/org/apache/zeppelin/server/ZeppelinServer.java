@@ -53,6 +53,7 @@ import org.apache.zeppelin.rest.CredentialRestApi;
 import org.apache.zeppelin.rest.HeliumRestApi;
 import org.apache.zeppelin.rest.InterpreterRestApi;
 import org.apache.zeppelin.rest.LoginRestApi;
+import org.apache.zeppelin.rest.MetricsRestApi;
 import org.apache.zeppelin.rest.NotebookRepoRestApi;
 import org.apache.zeppelin.rest.NotebookRestApi;
 import org.apache.zeppelin.rest.SecurityRestApi;
@@ -146,7 +147,7 @@ public class ZeppelinServer extends Application {
         notebookWsServer, notebookWsServer);
     this.replFactory = new InterpreterFactory(interpreterSettingManager);
     this.notebookRepo = new NotebookRepoSync(conf);
-    this.noteSearchService = new LuceneSearch();
+    this.noteSearchService = new LuceneSearch(conf);
     this.notebookAuthorization = NotebookAuthorization.init(conf);
     this.credentials = new Credentials(
         conf.credentialsPersist(),
@@ -442,6 +443,10 @@ public class ZeppelinServer extends Application {
     ConfigurationsRestApi settingsApi = new ConfigurationsRestApi(notebook);
     singletons.add(settingsApi);
 
+    MetricsRestApi metricsApi = new MetricsRestApi(notebookWsServer, interpreterSettingManager,
+        notebook);
+    singletons.add(metricsApi);
+
     return singletons;
   }
 
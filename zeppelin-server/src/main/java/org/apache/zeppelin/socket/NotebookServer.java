@@ -67,6 +67,8 @@ import org.apache.zeppelin.user.AuthenticationInfo;
 import org.apache.zeppelin.util.WatcherSecurityKey;
 import org.apache.zeppelin.utils.InterpreterBindingUtils;
 import org.apache.zeppelin.utils.SecurityUtils;
+import org.eclipse.jetty.websocket.api.extensions.ExtensionFactory;
+import org.eclipse.jetty.websocket.common.extensions.compress.PerMessageDeflateExtension;
 import org.eclipse.jetty.websocket.servlet.WebSocketServlet;
 import org.eclipse.jetty.websocket.servlet.WebSocketServletFactory;
 import org.joda.time.DateTime;
@@ -88,7 +90,8 @@ import com.google.gson.reflect.TypeToken;
  */
 public class NotebookServer extends WebSocketServlet
     implements NotebookSocketListener, JobListenerFactory, AngularObjectRegistryListener,
-    RemoteInterpreterProcessListener, ApplicationEventListener {
+    RemoteInterpreterProcessListener, RemoteInterpreterProcessListener.OutputBacklog,
+    ApplicationEventListener {
 
   /**
    * Job manager service type
@@ -108,11 +111,10 @@ public class NotebookServer extends WebSocketServlet
 
 
   private static final Logger LOG = LoggerFactory.getLogger(NotebookServer.class);
-  private static Gson gson = new GsonBuilder()
-      .setDateFormat("yyyy-MM-dd'T'HH:mm:ssZ")
-      .registerTypeAdapter(Date.class, new NotebookImportDeserializer())
-      .setPrettyPrinting()
-      .registerTypeAdapterFactory(Input.TypeAdapterFactory).create();
+  // websocket messages are always compact. indentation only makes every frame bigger
+  private static Gson gson = createGsonBuilder().create();
+  // for files people may read, not for messages
+  private static Gson prettyGson = createGsonBuilder().setPrettyPrinting().create();
 
   final Map<String, List<NotebookSocket>> noteSocketMap = new HashMap<>();
   final Queue<NotebookSocket> connectedSockets = new ConcurrentLinkedQueue<>();
@@ -156,9 +158,27 @@ public class NotebookServer extends WebSocketServlet
     return ZeppelinServer.notebook;
   }
 
+  static GsonBuilder createGsonBuilder() {
+    return new GsonBuilder()
+        .setDateFormat("yyyy-MM-dd'T'HH:mm:ssZ")
+        .registerTypeAdapter(Date.class, new NotebookImportDeserializer())
+        .registerTypeAdapterFactory(Input.TypeAdapterFactory);
+  }
+
   @Override
   public void configure(WebSocketServletFactory factory) {
     factory.setCreator(new NotebookWebSocketCreator(this));
+
+    // compression is negotiated per connection in the handshake,
+    // so it is used only when the browser offers permessage-deflate
+    ExtensionFactory extensions = factory.getExtensionFactory();
+    if (ZeppelinConfiguration.create().isWebsocketCompressionEnabled()) {
+      extensions.register("permessage-deflate", PerMessageDeflateExtension.class);
+    } else {
+      extensions.unregister("permessage-deflate");
+      extensions.unregister("deflate-frame");
+      extensions.unregister("x-webkit-deflate-frame");
+    }
   }
 
   public boolean checkOrigin(HttpServletRequest request, String origin) {
@@ -388,7 +408,7 @@ public class NotebookServer extends WebSocketServlet
           break;
         case SAVE_LAYOUT:
           this.layout = messagereceived.data;
-          String l = gson.toJson(messagereceived.data);
+          String l = prettyGson.toJson(messagereceived.data);
           Files.write(Paths.get(notesLayoutPath()), l.getBytes());
           unicast(new Message(OP.SAVE_LAYOUT).put("layout", layout), conn);
           break;
@@ -532,9 +552,12 @@ public class NotebookServer extends WebSocketServlet
       socketsToBroadcast = new ArrayList<>(socketLists);
     }
     LOG.debug("SEND >> " + m);
+    // serialize once for all connections
+    String serialized = serializeMessage(m);
+    String supersedeKey = getSupersedeKey(m);
     for (NotebookSocket conn : socketsToBroadcast) {
       try {
-        conn.send(serializeMessage(m));
+        send(conn, serialized, supersedeKey);
       } catch (IOException e) {
         LOG.error("socket error", e);
       }
@@ -553,26 +576,60 @@ public class NotebookServer extends WebSocketServlet
     }
 
     LOG.debug("SEND >> " + m);
+    String serialized = serializeMessage(m);
+    String supersedeKey = getSupersedeKey(m);
     for (NotebookSocket conn : socketsToBroadcast) {
       if (exclude.equals(conn)) {
         continue;
       }
       try {
-        conn.send(serializeMessage(m));
+        send(conn, serialized, supersedeKey);
       } catch (IOException e) {
         LOG.error("socket error", e);
       }
     }
   }
 
+  private void send(NotebookSocket conn, String serialized, String supersedeKey)
+      throws IOException {
+    if (supersedeKey == null) {
+      conn.send(serialized);
+    } else {
+      conn.send(serialized, supersedeKey);
+    }
+  }
+
+  /**
+   * Messages that carry the full latest state of something can replace an older message
+   * of the same key that is still waiting in the outbound queue of a slow connection.
+   * @return key, or null when the message must be delivered
+   */
+  static String getSupersedeKey(Message m) {
+    switch (m.op) {
+      case PARAGRAPH_UPDATE_OUTPUT:
+        return m.op + "/" + m.get("noteId") + "/" + m.get("paragraphId") + "/" + m.get("index");
+      case PROGRESS:
+        return m.op + "/" + m.get("id");
+      default:
+        return null;
+    }
+  }
+
   private void multicastToUser(String user, Message m) {
     if (!userConnectedSockets.containsKey(user)) {
       LOG.warn("Multicasting to user {} that is not in connections map", user);
       return;
     }
 
+    String serialized = serializeMessage(m);
+    String supersedeKey = getSupersedeKey(m);
     for (NotebookSocket conn : userConnectedSockets.get(user)) {
-      unicast(m, conn);
+      try {
+        send(conn, serialized, supersedeKey);
+      } catch (IOException e) {
+        LOG.error("socket error", e);
+      }
+      broadcastToWatchers(StringUtils.EMPTY, StringUtils.EMPTY, m);
     }
   }
 
@@ -2146,6 +2203,23 @@ public class NotebookServer extends WebSocketServlet
     broadcast(noteId, msg);
   }
 
+  @Override
+  public int getOutputBacklog(String noteId) {
+    List<NotebookSocket> sockets;
+    synchronized (noteSocketMap) {
+      List<NotebookSocket> socketLists = noteSocketMap.get(noteId);
+      if (socketLists == null) {
+        return 0;
+      }
+      sockets = new ArrayList<>(socketLists);
+    }
+    int backlog = 0;
+    for (NotebookSocket conn : sockets) {
+      backlog = Math.max(backlog, conn.getQueueDepth());
+    }
+    return backlog;
+  }
+
   /**
    * This callback is for the paragraph that runs on ZeppelinServer
    *
@@ -2615,6 +2689,22 @@ public class NotebookServer extends WebSocketServlet
         .equals(WatcherSecurityKey.getKey()));
   }
 
+  /**
+   * @return outbound queue depth and send latency of every connection
+   */
+  public List<Map<String, Object>> getSocketMetrics() {
+    List<Map<String, Object>> metrics = new LinkedList<>();
+    for (NotebookSocket conn : connectedSockets) {
+      metrics.add(conn.getMetrics());
+    }
+    for (NotebookSocket conn : watcherSockets) {
+      Map<String, Object> watcherMetrics = conn.getMetrics();
+      watcherMetrics.put("watcher", true);
+      metrics.add(watcherMetrics);
+    }
+    return metrics;
+  }
+
   /**
    * Send websocket message to all connections regardless of notebook id
    */
@@ -2640,11 +2730,14 @@ public class NotebookServer extends WebSocketServlet
 
   private void broadcastToWatchers(String noteId, String subject, Message message) {
     synchronized (watcherSockets) {
+      if (watcherSockets.isEmpty()) {
+        return;
+      }
+      String serialized = WatcherMessage.builder(noteId).subject(subject)
+          .message(serializeMessage(message)).build().toJson();
       for (NotebookSocket watcher : watcherSockets) {
         try {
-          watcher.send(
-              WatcherMessage.builder(noteId).subject(subject).message(serializeMessage(message))
-                  .build().toJson());
+          watcher.send(serialized);
         } catch (IOException e) {
           LOG.error("Cannot broadcast message to watcher", e);
         }
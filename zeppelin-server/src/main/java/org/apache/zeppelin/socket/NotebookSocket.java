@@ -17,17 +17,43 @@
 package org.apache.zeppelin.socket;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import javax.servlet.http.HttpServletRequest;
 
 import org.apache.commons.lang.StringUtils;
 import org.eclipse.jetty.websocket.api.Session;
+import org.eclipse.jetty.websocket.api.StatusCode;
 import org.eclipse.jetty.websocket.api.WebSocketAdapter;
+import org.eclipse.jetty.websocket.api.WriteCallback;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Notebook websocket
+ *
+ * Messages are written asynchronously, one at a time, from a bounded outbound queue.
+ * A slow client therefore never blocks the thread that broadcasts to it.
  */
 public class NotebookSocket extends WebSocketAdapter {
+  private static final Logger LOG = LoggerFactory.getLogger(NotebookSocket.class);
+
+  public static final int DEFAULT_MAX_QUEUE_SIZE = 1000;
+
+  /**
+   * What to do when the outbound queue of a client that does not read fast enough is full
+   */
+  public enum SlowConsumerPolicy {
+    // drop a queued paragraph output or progress update, or the new one. other messages are
+    // never dropped, when there's nothing to drop the connection is closed like DISCONNECT
+    DROP,
+    // close the connection. browser reconnects and reloads the note
+    DISCONNECT
+  }
 
   private Session connection;
   private NotebookSocketListener listener;
@@ -35,6 +61,24 @@ public class NotebookSocket extends WebSocketAdapter {
   private String protocol;
   private String user;
 
+  private int maxQueueSize = DEFAULT_MAX_QUEUE_SIZE;
+  private SlowConsumerPolicy slowConsumerPolicy = SlowConsumerPolicy.DISCONNECT;
+
+  // messages waiting to be written. guarded by itself, as are all the fields below
+  private final Deque<Outbound> outbound = new ArrayDeque<>();
+  // queued messages that a later message with the same key replaces
+  private final Map<String, Outbound> supersedable = new HashMap<>();
+  private int queueDepth;
+  private boolean writing;
+
+  private int maxQueueDepth;
+  private long sentMessages;
+  private long supersededMessages;
+  private long droppedMessages;
+  private long failedMessages;
+  private long totalSendLatencyMs;
+  private long maxSendLatencyMs;
+
   public NotebookSocket(HttpServletRequest req, String protocol,
       NotebookSocketListener listener) {
     this.listener = listener;
@@ -45,6 +89,9 @@ public class NotebookSocket extends WebSocketAdapter {
 
   @Override
   public void onWebSocketClose(int closeCode, String message) {
+    synchronized (outbound) {
+      clearQueue();
+    }
     listener.onClose(this, closeCode, message);
   }
 
@@ -68,8 +115,212 @@ public class NotebookSocket extends WebSocketAdapter {
     return protocol;
   }
 
-  public synchronized void send(String serializeMessage) throws IOException {
-    connection.getRemote().sendString(serializeMessage);
+  public void setOutboundQueue(int maxQueueSize, SlowConsumerPolicy slowConsumerPolicy) {
+    synchronized (outbound) {
+      this.maxQueueSize = maxQueueSize;
+      this.slowConsumerPolicy = slowConsumerPolicy;
+    }
+  }
+
+  public void send(String serializeMessage) throws IOException {
+    send(serializeMessage, null);
+  }
+
+  /**
+   * Queue message to be sent to the client.
+   * @param serializeMessage serialized message
+   * @param supersedeKey when not null, a message with the same key still waiting in the queue
+   *                     is dropped because this message replaces it
+   * @throws IOException when the connection is not open
+   */
+  public void send(String serializeMessage, String supersedeKey) throws IOException {
+    if (connection == null || !connection.isOpen()) {
+      throw new IOException("Connection is not open");
+    }
+
+    Outbound next;
+    boolean disconnect = false;
+    synchronized (outbound) {
+      Outbound superseded = (supersedeKey == null) ? null : supersedable.get(supersedeKey);
+      int depth = (superseded == null) ? queueDepth : queueDepth - 1;
+      if (depth >= maxQueueSize && !makeRoom(superseded)) {
+        if (slowConsumerPolicy == SlowConsumerPolicy.DROP && supersedeKey != null) {
+          onDropped();
+          return;
+        }
+        LOG.warn("Outbound queue of {} is full. Disconnect", getRemoteAddress());
+        clearQueue();
+        disconnect = true;
+        next = null;
+      } else {
+
+        Outbound message = new Outbound(serializeMessage, supersedeKey);
+        if (superseded != null) {
+          superseded.superseded = true;
+          supersededMessages++;
+          queueDepth--;
+        }
+        if (supersedeKey != null) {
+          supersedable.put(supersedeKey, message);
+        }
+        outbound.add(message);
+        queueDepth++;
+        maxQueueDepth = Math.max(maxQueueDepth, queueDepth);
+
+        if (writing) {
+          return;
+        }
+        writing = true;
+        next = pollOutbound();
+      }
+    }
+
+    if (disconnect) {
+      // outside of the lock, because close may call back onWebSocketClose()
+      connection.close(StatusCode.POLICY_VIOLATION, "Outbound queue is full");
+    } else {
+      write(next);
+    }
+  }
+
+  /**
+   * With DROP policy, drop the oldest queued message that could be superseded, to make room
+   * for a new message. Caller holds outbound lock
+   * @param replaced queued message the new message replaces anyway
+   * @return true when a message was dropped
+   */
+  private boolean makeRoom(Outbound replaced) {
+    if (slowConsumerPolicy != SlowConsumerPolicy.DROP) {
+      return false;
+    }
+    for (Outbound message : outbound) {
+      if (message.supersedeKey != null && !message.superseded && message != replaced) {
+        message.superseded = true;
+        supersedable.remove(message.supersedeKey);
+        queueDepth--;
+        onDropped();
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // caller holds outbound lock
+  private void onDropped() {
+    droppedMessages++;
+    // log the 1st, 2nd, 4th, 8th... dropped message
+    if (Long.bitCount(droppedMessages) == 1) {
+      LOG.warn("Outbound queue of {} is full. {} messages dropped so far",
+          getRemoteAddress(), droppedMessages);
+    }
+  }
+
+  /**
+   * Write messages until the queue is empty or a write did not complete synchronously,
+   * in which case the write callback continues from its own thread.
+   * Looping here instead of writing from the callback keeps the stack flat when
+   * Jetty completes writes inline.
+   */
+  private void write(Outbound message) {
+    while (message != null) {
+      try {
+        connection.getRemote().sendString(message.message, message);
+      } catch (RuntimeException e) {
+        message.writeFailed(e);
+      }
+
+      synchronized (outbound) {
+        if (!message.completed) {
+          message.continueInCallback = true;
+          return;
+        }
+        message = pollOutbound();
+      }
+    }
+  }
+
+  private void onWriteComplete(Outbound message, Throwable failure) {
+    Outbound next;
+    synchronized (outbound) {
+      long latency = System.currentTimeMillis() - message.queuedAt;
+      totalSendLatencyMs += latency;
+      maxSendLatencyMs = Math.max(maxSendLatencyMs, latency);
+      if (failure == null) {
+        sentMessages++;
+      } else {
+        failedMessages++;
+        LOG.error("Can't send message to " + getRemoteAddress(), failure);
+        // connection is broken. don't try the rest
+        clearQueue();
+      }
+
+      message.completed = true;
+      if (!message.continueInCallback) {
+        // write() is still running and picks up the next message
+        return;
+      }
+      next = pollOutbound();
+    }
+    write(next);
+  }
+
+  // caller holds outbound lock
+  private Outbound pollOutbound() {
+    Outbound message = outbound.poll();
+    while (message != null && message.superseded) {
+      message = outbound.poll();
+    }
+    if (message == null) {
+      writing = false;
+      return null;
+    }
+    queueDepth--;
+    if (message.supersedeKey != null && supersedable.get(message.supersedeKey) == message) {
+      supersedable.remove(message.supersedeKey);
+    }
+    return message;
+  }
+
+  // caller holds outbound lock
+  private void clearQueue() {
+    failedMessages += queueDepth;
+    outbound.clear();
+    supersedable.clear();
+    queueDepth = 0;
+  }
+
+  public int getQueueDepth() {
+    synchronized (outbound) {
+      return queueDepth;
+    }
+  }
+
+  /**
+   * @return outbound queue depth and send latency of this connection
+   */
+  public Map<String, Object> getMetrics() {
+    Map<String, Object> metrics = new LinkedHashMap<>();
+    metrics.put("remoteAddress", getRemoteAddress());
+    metrics.put("user", user);
+    synchronized (outbound) {
+      long completed = sentMessages + failedMessages;
+      metrics.put("queueDepth", queueDepth);
+      metrics.put("maxQueueDepth", maxQueueDepth);
+      metrics.put("sentMessages", sentMessages);
+      metrics.put("supersededMessages", supersededMessages);
+      metrics.put("droppedMessages", droppedMessages);
+      metrics.put("failedMessages", failedMessages);
+      metrics.put("avgSendLatencyMs", completed == 0 ? 0 : totalSendLatencyMs / completed);
+      metrics.put("maxSendLatencyMs", maxSendLatencyMs);
+    }
+    return metrics;
+  }
+
+  private String getRemoteAddress() {
+    if (request == null) {
+      return StringUtils.EMPTY;
+    }
+    return request.getRemoteAddr() + ":" + request.getRemotePort();
   }
 
   public String getUser() {
@@ -79,4 +330,32 @@ public class NotebookSocket extends WebSocketAdapter {
   public void setUser(String user) {
     this.user = user;
   }
+
+  /**
+   * Message in the outbound queue. Also the callback of its own write.
+   */
+  private class Outbound implements WriteCallback {
+    final String message;
+    final String supersedeKey;
+    final long queuedAt = System.currentTimeMillis();
+    // guarded by outbound lock
+    boolean superseded;
+    boolean completed;
+    boolean continueInCallback;
+
+    Outbound(String message, String supersedeKey) {
+      this.message = message;
+      this.supersedeKey = supersedeKey;
+    }
+
+    @Override
+    public void writeFailed(Throwable x) {
+      onWriteComplete(this, x);
+    }
+
+    @Override
+    public void writeSuccess() {
+      onWriteComplete(this, null);
+    }
+  }
 }
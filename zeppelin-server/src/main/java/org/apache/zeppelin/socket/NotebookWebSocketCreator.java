@@ -16,6 +16,7 @@
  */
 package org.apache.zeppelin.socket;
 
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.eclipse.jetty.websocket.servlet.ServletUpgradeRequest;
 import org.eclipse.jetty.websocket.servlet.ServletUpgradeResponse;
 import org.eclipse.jetty.websocket.servlet.WebSocketCreator;
@@ -23,6 +24,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars.ZEPPELIN_ALLOWED_ORIGINS;
+import static org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars.ZEPPELIN_WEBSOCKET_OUTBOUND_QUEUE_SIZE;
+import static org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars.ZEPPELIN_WEBSOCKET_SLOW_CONSUMER_POLICY;
 
 /**
  * Responsible to create the WebSockets for the NotebookServer.
@@ -31,14 +34,43 @@ public class NotebookWebSocketCreator implements WebSocketCreator {
 
   private static final Logger LOG = LoggerFactory.getLogger(NotebookWebSocketCreator.class);
   private NotebookServer notebookServer;
+  private final int outboundQueueSize;
+  private final NotebookSocket.SlowConsumerPolicy slowConsumerPolicy;
 
   public NotebookWebSocketCreator(NotebookServer notebookServer) {
     this.notebookServer = notebookServer;
+    ZeppelinConfiguration conf = ZeppelinConfiguration.create();
+    this.outboundQueueSize = checkOutboundQueueSize(conf.getWebsocketOutboundQueueSize());
+    this.slowConsumerPolicy = parseSlowConsumerPolicy(conf.getWebsocketSlowConsumerPolicy());
+  }
+
+  static int checkOutboundQueueSize(int value) {
+    if (value > 0) {
+      return value;
+    }
+    int defaultValue = ZEPPELIN_WEBSOCKET_OUTBOUND_QUEUE_SIZE.getIntValue();
+    LOG.warn("Invalid {} {}, using {}",
+        ZEPPELIN_WEBSOCKET_OUTBOUND_QUEUE_SIZE.getVarName(), value, defaultValue);
+    return defaultValue;
+  }
+
+  static NotebookSocket.SlowConsumerPolicy parseSlowConsumerPolicy(String value) {
+    try {
+      return NotebookSocket.SlowConsumerPolicy.valueOf(value.trim().toUpperCase());
+    } catch (IllegalArgumentException e) {
+      String defaultValue = ZEPPELIN_WEBSOCKET_SLOW_CONSUMER_POLICY.getStringValue();
+      LOG.warn("Invalid {} '{}', using {}",
+          ZEPPELIN_WEBSOCKET_SLOW_CONSUMER_POLICY.getVarName(), value, defaultValue);
+      return NotebookSocket.SlowConsumerPolicy.valueOf(defaultValue.toUpperCase());
+    }
   }
   public Object createWebSocket(ServletUpgradeRequest request, ServletUpgradeResponse response) {
     String origin = request.getHeader("Origin");
     if (notebookServer.checkOrigin(request.getHttpServletRequest(), origin)) {
-      return new NotebookSocket(request.getHttpServletRequest(), "", notebookServer);
+      NotebookSocket socket =
+          new NotebookSocket(request.getHttpServletRequest(), "", notebookServer);
+      socket.setOutboundQueue(outboundQueueSize, slowConsumerPolicy);
+      return socket;
     } else {
       LOG.error("Websocket request is not allowed by {} settings. Origin: {}",
           ZEPPELIN_ALLOWED_ORIGINS, origin);
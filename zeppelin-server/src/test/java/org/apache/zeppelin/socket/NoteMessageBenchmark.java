@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.socket;
+
+import com.google.gson.Gson;
+import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.notebook.Note;
+import org.apache.zeppelin.notebook.Paragraph;
+import org.apache.zeppelin.notebook.socket.Message;
+import org.apache.zeppelin.notebook.socket.Message.OP;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+
+/**
+ * Measures the server side cost of opening a note: serializing the NOTE message of a
+ * 200 paragraph note with table outputs and, with compression, deflating it the way
+ * permessage-deflate does. Bytes on the wire of each combination are printed before
+ * the measurement starts.
+ *
+ * Run with
+ *   mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=org.apache.zeppelin.socket.NoteMessageBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class NoteMessageBenchmark {
+  private static final int PARAGRAPHS = 200;
+  private static final int ROWS = 100;
+
+  @Param({"true", "false"})
+  public boolean prettyPrinting;
+
+  @Param({"true", "false"})
+  public boolean compression;
+
+  private Gson gson;
+  private Message message;
+  private Deflater deflater;
+  private byte[] compressed;
+
+  @Setup(Level.Trial)
+  public void createNote() {
+    if (prettyPrinting) {
+      gson = NotebookServer.createGsonBuilder().setPrettyPrinting().create();
+    } else {
+      gson = NotebookServer.createGsonBuilder().create();
+    }
+
+    Note note = new Note();
+    note.setName("benchmark");
+    for (int i = 0; i < PARAGRAPHS; i++) {
+      Paragraph p = new Paragraph(note, null, null);
+      p.setText("%sql\nselect id, name, value, ts from table_" + i);
+      StringBuilder table = new StringBuilder("id\tname\tvalue\tts\n");
+      for (int row = 0; row < ROWS; row++) {
+        table.append(row).append("\tname_").append(row).append('\t').append(row * 0.25)
+            .append("\t2017-10-18 12:00:").append(row % 60).append('\n');
+      }
+      p.setReturn(new InterpreterResult(InterpreterResult.Code.SUCCESS,
+          InterpreterResult.Type.TABLE, table.toString()), null);
+      note.addParagraph(p);
+    }
+    message = new Message(OP.NOTE).put("note", note);
+    deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+    compressed = new byte[64 * 1024];
+
+    System.out.println(String.format("%nprettyPrinting=%s compression=%s: %d bytes on the wire",
+        prettyPrinting, compression, openNote()));
+  }
+
+  /**
+   * @return bytes sent to the browser
+   */
+  @Benchmark
+  public int openNote() {
+    byte[] payload = gson.toJson(message).getBytes(StandardCharsets.UTF_8);
+    if (!compression) {
+      return payload.length;
+    }
+
+    int size = 0;
+    deflater.reset();
+    deflater.setInput(payload);
+    deflater.finish();
+    while (!deflater.finished()) {
+      size += deflater.deflate(compressed);
+    }
+    return size;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+        .include(NoteMessageBenchmark.class.getSimpleName())
+        .build();
+    new Runner(opt).run();
+  }
+}
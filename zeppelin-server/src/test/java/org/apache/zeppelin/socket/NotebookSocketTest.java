@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.socket;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.eclipse.jetty.websocket.api.RemoteEndpoint;
+import org.eclipse.jetty.websocket.api.Session;
+import org.eclipse.jetty.websocket.api.WriteCallback;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+public class NotebookSocketTest {
+  private Session session;
+  private NotebookSocket socket;
+  private List<String> written;
+  private List<WriteCallback> callbacks;
+  private boolean completeInline;
+
+  @Before
+  public void setUp() {
+    written = new ArrayList<>();
+    callbacks = new ArrayList<>();
+    completeInline = false;
+
+    RemoteEndpoint remote = mock(RemoteEndpoint.class);
+    doAnswer(new Answer<Void>() {
+      @Override
+      public Void answer(InvocationOnMock invocation) throws Throwable {
+        written.add((String) invocation.getArguments()[0]);
+        WriteCallback callback = (WriteCallback) invocation.getArguments()[1];
+        if (completeInline) {
+          callback.writeSuccess();
+        } else {
+          callbacks.add(callback);
+        }
+        return null;
+      }
+    }).when(remote).sendString(anyString(), any(WriteCallback.class));
+
+    session = mock(Session.class);
+    when(session.isOpen()).thenReturn(true);
+    when(session.getRemote()).thenReturn(remote);
+
+    socket = new NotebookSocket(
+        mock(HttpServletRequest.class), "", mock(NotebookSocketListener.class));
+    socket.onWebSocketConnect(session);
+  }
+
+  @Test
+  public void testOneWriteInFlight() throws IOException {
+    socket.send("1");
+    socket.send("2");
+    socket.send("3");
+
+    // next message is written only after the previous write completes
+    assertEquals(1, written.size());
+    assertEquals(2, socket.getQueueDepth());
+
+    completeWrites();
+    assertEquals("[1, 2, 3]", written.toString());
+    assertEquals(0, socket.getQueueDepth());
+    assertEquals(3L, socket.getMetrics().get("sentMessages"));
+  }
+
+  @Test
+  public void testInlineCompletedWrites() throws IOException {
+    completeInline = true;
+    for (int i = 0; i < 5000; i++) {
+      socket.send(Integer.toString(i));
+    }
+    assertEquals(5000, written.size());
+    assertEquals(0, socket.getQueueDepth());
+  }
+
+  @Test
+  public void testSupersededMessageIsNotSent() throws IOException {
+    socket.send("first");
+    socket.send("output v1", "p1");
+    socket.send("other", "p2");
+    socket.send("output v2", "p1");
+    assertEquals(2, socket.getQueueDepth());
+
+    completeWrites();
+    assertEquals("[first, other, output v2]", written.toString());
+    assertEquals(1L, socket.getMetrics().get("supersededMessages"));
+  }
+
+  @Test
+  public void testDropPolicy() throws IOException {
+    socket.setOutboundQueue(2, NotebookSocket.SlowConsumerPolicy.DROP);
+    socket.send("in flight");
+    socket.send("output p1", "p1");
+    socket.send("note");
+    // full. queued output is dropped to make room
+    socket.send("paragraph");
+    // full of messages that can't be dropped. new output is dropped
+    socket.send("output p2", "p2");
+
+    assertEquals(2, socket.getQueueDepth());
+    assertEquals(2L, socket.getMetrics().get("droppedMessages"));
+    verify(session, never()).close(anyInt(), anyString());
+    completeWrites();
+    assertEquals("[in flight, note, paragraph]", written.toString());
+  }
+
+  @Test
+  public void testDropPolicyDisconnectsWhenNothingToDrop() throws IOException {
+    socket.setOutboundQueue(2, NotebookSocket.SlowConsumerPolicy.DROP);
+    socket.send("in flight");
+    socket.send("note");
+    socket.send("paragraph");
+    socket.send("status");
+
+    verify(session).close(anyInt(), anyString());
+    assertEquals(0, socket.getQueueDepth());
+    assertEquals(0L, socket.getMetrics().get("droppedMessages"));
+  }
+
+  @Test
+  public void testDisconnectPolicy() throws IOException {
+    socket.setOutboundQueue(2, NotebookSocket.SlowConsumerPolicy.DISCONNECT);
+    socket.send("in flight");
+    socket.send("queued 1");
+    socket.send("queued 2");
+    socket.send("overflow");
+
+    verify(session).close(anyInt(), anyString());
+    assertEquals(0, socket.getQueueDepth());
+  }
+
+  @Test
+  public void testParseSlowConsumerPolicy() {
+    assertEquals(NotebookSocket.SlowConsumerPolicy.DROP,
+        NotebookWebSocketCreator.parseSlowConsumerPolicy(" drop"));
+    // invalid value falls back to the default instead of failing every handshake
+    assertEquals(NotebookSocket.SlowConsumerPolicy.DISCONNECT,
+        NotebookWebSocketCreator.parseSlowConsumerPolicy("block"));
+  }
+
+  @Test
+  public void testCheckOutboundQueueSize() {
+    assertEquals(10, NotebookWebSocketCreator.checkOutboundQueueSize(10));
+    assertEquals(NotebookSocket.DEFAULT_MAX_QUEUE_SIZE,
+        NotebookWebSocketCreator.checkOutboundQueueSize(0));
+    assertEquals(NotebookSocket.DEFAULT_MAX_QUEUE_SIZE,
+        NotebookWebSocketCreator.checkOutboundQueueSize(-1));
+  }
+
+  private void completeWrites() {
+    // completing a write starts the next one, which adds its callback
+    for (int i = 0; i < callbacks.size(); i++) {
+      callbacks.get(i).writeSuccess();
+    }
+  }
+}
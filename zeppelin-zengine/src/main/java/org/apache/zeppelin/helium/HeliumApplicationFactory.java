@@ -40,7 +40,7 @@ public class HeliumApplicationFactory implements ApplicationEventListener, Noteb
   private ApplicationEventListener applicationEventListener;
 
   public HeliumApplicationFactory() {
-    executor = ExecutorFactory.singleton().createOrGet(
+    executor = ExecutorFactory.singleton().createOrGetJobExecutor(
         HeliumApplicationFactory.class.getName(), 10);
   }
 
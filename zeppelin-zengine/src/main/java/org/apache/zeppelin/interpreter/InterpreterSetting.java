@@ -64,6 +64,7 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import static org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_MAX_POOL_SIZE;
 import static org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_OUTPUT_LIMIT;
+import static org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_RESOURCE_REQUEST_TIMEOUT;
 import static org.apache.zeppelin.util.IdHashes.generateId;
 
 /**
@@ -535,6 +536,11 @@ public class InterpreterSetting {
           conf.getInt(ZEPPELIN_INTERPRETER_OUTPUT_LIMIT) + "");
     }
 
+    if (!jProperties.containsKey("zeppelin.interpreter.resource.request.timeout")) {
+      jProperties.setProperty("zeppelin.interpreter.resource.request.timeout",
+          conf.getInt(ZEPPELIN_INTERPRETER_RESOURCE_REQUEST_TIMEOUT) + "");
+    }
+
     if (!jProperties.containsKey("zeppelin.interpreter.max.poolsize")) {
       jProperties.setProperty("zeppelin.interpreter.max.poolsize",
           conf.getInt(ZEPPELIN_INTERPRETER_MAX_POOL_SIZE) + "");
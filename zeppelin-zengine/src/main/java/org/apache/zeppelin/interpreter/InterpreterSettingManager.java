@@ -41,6 +41,7 @@ import org.apache.zeppelin.interpreter.remote.RemoteInterpreterProcess;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterProcessListener;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterService;
 import org.apache.zeppelin.resource.Resource;
+import org.apache.zeppelin.resource.ResourceDirectory;
 import org.apache.zeppelin.resource.ResourcePool;
 import org.apache.zeppelin.resource.ResourceSet;
 import org.apache.zeppelin.util.ReflectionUtils;
@@ -123,6 +124,7 @@ public class InterpreterSettingManager {
   private DependencyResolver dependencyResolver;
   private LifecycleManager lifecycleManager;
   private RecoveryStorage recoveryStorage;
+  private final ResourceDirectory resourceDirectory = new ResourceDirectory();
 
   public InterpreterSettingManager(ZeppelinConfiguration zeppelinConfiguration,
                                    AngularObjectRegistryListener angularObjectRegistryListener,
@@ -525,6 +527,47 @@ public class InterpreterSettingManager {
     return resourceSet;
   }
 
+  public ResourceDirectory getResourceDirectory() {
+    return resourceDirectory;
+  }
+
+  /**
+   * Find resources in the resource pools of all interpreter groups but one.
+   * Answered from the resource directory. When the directory has nothing, e.g. for processes
+   * that were started before this server and recovered, all resource pools are asked once,
+   * and a miss is remembered in the directory.
+   * @param interpreterGroupExclusion interpreter group that looks up. null to include all
+   * @param nameOnly true to find resources of the name in any note and paragraph
+   */
+  public ResourceSet findResources(String interpreterGroupExclusion, String noteId,
+                                   String paragraphId, String name, boolean nameOnly) {
+    ResourceSet found = resourceDirectory.find(
+        interpreterGroupExclusion, noteId, paragraphId, name, nameOnly);
+    if (!found.isEmpty()
+        || resourceDirectory.isMiss(interpreterGroupExclusion, noteId, paragraphId, name,
+        nameOnly)) {
+      return found;
+    }
+
+    found = getAllResourcesExcept(interpreterGroupExclusion).filterByName(name);
+    if (!nameOnly) {
+      found = found.filterByNoteId(noteId).filterByParagraphId(paragraphId);
+    }
+    if (found.isEmpty()) {
+      resourceDirectory.addMiss(interpreterGroupExclusion, noteId, paragraphId, name, nameOnly);
+    } else {
+      for (Resource resource : found) {
+        ManagedInterpreterGroup owner =
+            getInterpreterGroupById(resource.getResourceId().getResourcePoolId());
+        // resource pools in this process don't announce their resources, don't cache them
+        if (owner != null && owner.getRemoteInterpreterProcess() != null) {
+          resourceDirectory.put(resource);
+        }
+      }
+    }
+    return found;
+  }
+
   public RecoveryStorage getRecoveryStorage() {
     return recoveryStorage;
   }
@@ -20,97 +20,369 @@ package org.apache.zeppelin.interpreter.remote;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.List;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * This thread sends paragraph's append-data
- * periodically, rather than continously, with
- * a period of BUFFER_TIME_MS. It handles append-data
- * for all paragraphs across all notebooks.
+ * periodically, rather than continously. It handles append-data
+ * for all paragraphs of one interpreter process.
+ *
+ * Appended data is coalesced per paragraph output as it arrives. The flush interval adapts
+ * between MIN_BUFFER_TIME_MS and MAX_BUFFER_TIME_MS: it shortens while output is small and
+ * delivered quickly, and lengthens when flushes are large or slow. A paragraph output reaching
+ * its budget is flushed early. When the buffered total reaches its budget, appendBuffer() blocks
+ * the caller (the event poller) until a flush makes room, and drops what still doesn't fit.
+ *
+ * When the listener delivers asynchronously and reports its backlog
+ * ({@link RemoteInterpreterProcessListener.OutputBacklog}), output of a note whose connections
+ * have more than MAX_OUTPUT_BACKLOG messages queued is held back, up to MAX_BUFFER_TIME_MS per
+ * flush. The buffer then fills up and the event poller is throttled.
  */
 public class AppendOutputRunner implements Runnable {
 
   private static final Logger logger =
       LoggerFactory.getLogger(AppendOutputRunner.class);
   public static final Long BUFFER_TIME_MS = new Long(100);
-  private static final Long SAFE_PROCESSING_TIME = new Long(10);
+  public static final long MIN_BUFFER_TIME_MS = 10;
+  public static final long MAX_BUFFER_TIME_MS = 1000;
   private static final Long SAFE_PROCESSING_STRING_SIZE = new Long(100000);
+  // default budgets, in characters
+  static final int DEFAULT_MAX_PARAGRAPH_CHARS = 1024 * 1024;
+  static final int DEFAULT_MAX_BUFFERED_CHARS = 16 * 1024 * 1024;
+  // max time appendBuffer() waits for room before dropping output
+  static final long DEFAULT_MAX_BLOCK_MS = 5000;
+  // messages queued for the connections of a note above which its output is held back
+  static final int MAX_OUTPUT_BACKLOG = 100;
 
-  private final BlockingQueue<AppendOutputBuffer> queue = new LinkedBlockingQueue<>();
   private final RemoteInterpreterProcessListener listener;
+  private final int maxParagraphChars;
+  private final int maxBufferedChars;
+  private final long maxBlockMs;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  // signalled when there is data to flush, or it should be flushed early
+  private final Condition flushable = lock.newCondition();
+  // signalled when a flush freed the buffer
+  private final Condition flushed = lock.newCondition();
+
+  // guarded by lock
+  private Map<OutputKey, StringBuilder> pending = new LinkedHashMap<>();
+  private int bufferedChars;
+  private long firstAppendTime;
+  private boolean flushRequested;
+
+  private volatile long flushIntervalMs = BUFFER_TIME_MS;
+
+  // metrics
+  private long appendedChars;
+  private long appendedChunks;
+  private long droppedChars;
+  private long blockedMs;
+  private long heldBackMs;
+  private long flushes;
+  private long flushedChars;
+  private long flushedOutputs;
+  private long totalFlushLatencyMs;
+  private long maxFlushLatencyMs;
 
   public AppendOutputRunner(RemoteInterpreterProcessListener listener) {
+    this(listener, DEFAULT_MAX_PARAGRAPH_CHARS, DEFAULT_MAX_BUFFERED_CHARS, DEFAULT_MAX_BLOCK_MS);
+  }
+
+  AppendOutputRunner(RemoteInterpreterProcessListener listener,
+      int maxParagraphChars, int maxBufferedChars, long maxBlockMs) {
     this.listener = listener;
+    this.maxParagraphChars = maxParagraphChars;
+    this.maxBufferedChars = maxBufferedChars;
+    this.maxBlockMs = maxBlockMs;
   }
 
+  /**
+   * Waits for buffered data, then for the current flush interval, and sends everything
+   * buffered until then. Schedule it with a delay of MIN_BUFFER_TIME_MS or less, the interval
+   * itself is applied here.
+   */
   @Override
   public void run() {
+    Map<OutputKey, StringBuilder> batch;
+    int batchChars;
+    boolean early;
 
-    Map<String, StringBuilder> stringBufferMap = new HashMap<>();
-    List<AppendOutputBuffer> list = new LinkedList<>();
-
-    /* "drainTo" method does not wait for any element
-     * to be present in the queue, and thus this loop would
-     * continuosly run (with period of BUFFER_TIME_MS). "take()" method
-     * waits for the queue to become non-empty and then removes
-     * one element from it. Rest elements from queue (if present) are
-     * removed using "drainTo" method. Thus we save on some un-necessary
-     * cpu-cycles.
-     */
+    lock.lock();
     try {
-      list.add(queue.take());
+      /* Waiting here, rather than returning when there is nothing to send,
+       * saves on un-necessary cpu-cycles of an idle runner.
+       */
+      while (pending.isEmpty()) {
+        flushable.await();
+      }
+      long deadline = firstAppendTime + flushIntervalMs;
+      long remaining;
+      while (!flushRequested && (remaining = deadline - System.currentTimeMillis()) > 0) {
+        flushable.await(remaining, TimeUnit.MILLISECONDS);
+      }
     } catch (InterruptedException e) {
       logger.error("Wait for OutputBuffer queue interrupted: " + e.getMessage());
+      return;
+    } finally {
+      lock.unlock();
     }
-    Long processingStartTime = System.currentTimeMillis();
-    queue.drainTo(list);
 
-    for (AppendOutputBuffer buffer: list) {
-      String noteId = buffer.getNoteId();
-      String paragraphId = buffer.getParagraphId();
-      int index = buffer.getIndex();
-      String stringBufferKey = noteId + ":" + paragraphId + ":" + index;
-
-      StringBuilder builder = stringBufferMap.containsKey(stringBufferKey) ?
-          stringBufferMap.get(stringBufferKey) : new StringBuilder();
-
-      builder.append(buffer.getData());
-      stringBufferMap.put(stringBufferKey, builder);
+    long heldBack;
+    try {
+      heldBack = waitForBacklog();
+    } catch (InterruptedException e) {
+      logger.error("Wait for output backlog interrupted: " + e.getMessage());
+      return;
     }
-    Long processingTime = System.currentTimeMillis() - processingStartTime;
 
-    if (processingTime > SAFE_PROCESSING_TIME) {
-      logger.warn("Processing time for buffered append-output is high: " +
-          processingTime + " milliseconds.");
-    } else {
-      logger.debug("Processing time for append-output took "
-          + processingTime + " milliseconds");
+    lock.lock();
+    try {
+      batch = pending;
+      batchChars = bufferedChars;
+      early = flushRequested;
+      pending = new LinkedHashMap<>();
+      bufferedChars = 0;
+      flushRequested = false;
+      flushed.signalAll();
+    } finally {
+      lock.unlock();
     }
 
-    Long sizeProcessed = new Long(0);
-    for (String stringBufferKey : stringBufferMap.keySet()) {
-      StringBuilder buffer = stringBufferMap.get(stringBufferKey);
-      sizeProcessed += buffer.length();
-      String[] keys = stringBufferKey.split(":");
-      listener.onOutputAppend(keys[0], keys[1], Integer.parseInt(keys[2]), buffer.toString());
+    long flushStartTime = System.currentTimeMillis();
+    for (Map.Entry<OutputKey, StringBuilder> entry : batch.entrySet()) {
+      OutputKey key = entry.getKey();
+      listener.onOutputAppend(key.noteId, key.paragraphId, key.index, entry.getValue().toString());
     }
+    long flushLatency = System.currentTimeMillis() - flushStartTime;
 
-    if (sizeProcessed > SAFE_PROCESSING_STRING_SIZE) {
+    if (batchChars > SAFE_PROCESSING_STRING_SIZE) {
       logger.warn("Processing size for buffered append-output is high: " +
-          sizeProcessed + " characters.");
+          batchChars + " characters.");
     } else {
       logger.debug("Processing size for append-output is " +
-          sizeProcessed + " characters");
+          batchChars + " characters");
+    }
+    if (flushLatency > flushIntervalMs) {
+      logger.warn("Sending buffered append-output is falling behind: " +
+          flushLatency + " milliseconds for " + batch.size() + " outputs.");
+    }
+
+    adaptFlushInterval(batchChars, flushLatency, early || heldBack > 0);
+
+    lock.lock();
+    try {
+      flushes++;
+      flushedChars += batchChars;
+      flushedOutputs += batch.size();
+      totalFlushLatencyMs += flushLatency;
+      maxFlushLatencyMs = Math.max(maxFlushLatencyMs, flushLatency);
+      heldBackMs += heldBack;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Wait while connections of a note with buffered output lag behind, up to MAX_BUFFER_TIME_MS
+   * @return time waited
+   */
+  private long waitForBacklog() throws InterruptedException {
+    if (!(listener instanceof RemoteInterpreterProcessListener.OutputBacklog)) {
+      return 0;
+    }
+    RemoteInterpreterProcessListener.OutputBacklog backlog =
+        (RemoteInterpreterProcessListener.OutputBacklog) listener;
+    Set<String> noteIds = new HashSet<>();
+    lock.lock();
+    try {
+      for (OutputKey key : pending.keySet()) {
+        noteIds.add(key.noteId);
+      }
+    } finally {
+      lock.unlock();
+    }
+
+    long startTime = System.currentTimeMillis();
+    long deadline = startTime + MAX_BUFFER_TIME_MS;
+    while (isLagging(backlog, noteIds) && System.currentTimeMillis() < deadline) {
+      Thread.sleep(MIN_BUFFER_TIME_MS);
+    }
+    long waited = System.currentTimeMillis() - startTime;
+    if (waited >= MAX_BUFFER_TIME_MS) {
+      logger.warn("Connections of notes " + noteIds + " are falling behind, held back output "
+          + waited + " milliseconds");
+    }
+    return waited;
+  }
+
+  private boolean isLagging(RemoteInterpreterProcessListener.OutputBacklog backlog,
+      Set<String> noteIds) {
+    for (String noteId : noteIds) {
+      if (backlog.getOutputBacklog(noteId) > MAX_OUTPUT_BACKLOG) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void adaptFlushInterval(int batchChars, long flushLatency, boolean early) {
+    long interval = flushIntervalMs;
+    if (early || batchChars > SAFE_PROCESSING_STRING_SIZE || flushLatency * 2 > interval) {
+      // under load, coalesce more per flush
+      interval = Math.min(interval * 2, MAX_BUFFER_TIME_MS);
+    } else if (batchChars < SAFE_PROCESSING_STRING_SIZE / 10 && flushLatency * 10 <= interval) {
+      // idle, send as soon as possible
+      interval = Math.max(interval / 2, MIN_BUFFER_TIME_MS);
     }
+    flushIntervalMs = interval;
   }
 
   public void appendBuffer(String noteId, String paragraphId, int index, String outputToAppend) {
-    queue.offer(new AppendOutputBuffer(noteId, paragraphId, index, outputToAppend));
+    OutputKey key = new OutputKey(noteId, paragraphId, index);
+    int length = outputToAppend.length();
+
+    lock.lock();
+    try {
+      StringBuilder builder = pending.get(key);
+      if (bufferedChars + length > maxBufferedChars
+          || (builder != null && builder.length() + length > maxParagraphChars)) {
+        builder = waitForRoom(key, length);
+      }
+
+      int room = maxBufferedChars - bufferedChars;
+      if (room < length) {
+        if (room > 0 && Character.isHighSurrogate(outputToAppend.charAt(room - 1))) {
+          // don't split a surrogate pair
+          room--;
+        }
+        droppedChars += length - Math.max(room, 0);
+        logger.warn("Append-output buffer is full, dropped " + (length - Math.max(room, 0))
+            + " characters of " + key);
+        if (room <= 0) {
+          return;
+        }
+        outputToAppend = outputToAppend.substring(0, room);
+        length = room;
+      }
+
+      if (builder == null) {
+        builder = new StringBuilder(length);
+        pending.put(key, builder);
+      }
+      if (bufferedChars == 0) {
+        firstAppendTime = System.currentTimeMillis();
+      }
+      builder.append(outputToAppend);
+      bufferedChars += length;
+      appendedChars += length;
+      appendedChunks++;
+      flushable.signal();
+      if (builder.length() >= maxParagraphChars) {
+        flushRequested = true;
+      }
+    } finally {
+      lock.unlock();
+    }
   }
 
+  /**
+   * Blocks the caller until a flush makes room for the output or maxBlockMs elapsed.
+   * Called with the lock held.
+   */
+  private StringBuilder waitForRoom(OutputKey key, int length) {
+    long startTime = System.currentTimeMillis();
+    long deadline = startTime + maxBlockMs;
+    StringBuilder builder = pending.get(key);
+    try {
+      while (bufferedChars + length > maxBufferedChars
+          || (builder != null && builder.length() + length > maxParagraphChars)) {
+        flushRequested = true;
+        flushable.signal();
+        long remaining = deadline - System.currentTimeMillis();
+        if (remaining <= 0) {
+          break;
+        }
+        flushed.await(remaining, TimeUnit.MILLISECONDS);
+        builder = pending.get(key);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    blockedMs += System.currentTimeMillis() - startTime;
+    return pending.get(key);
+  }
+
+  public long getFlushIntervalMs() {
+    return flushIntervalMs;
+  }
+
+  public Map<String, Object> getMetrics() {
+    Map<String, Object> metrics = new LinkedHashMap<>();
+    lock.lock();
+    try {
+      metrics.put("bufferedChars", bufferedChars);
+      metrics.put("bufferedOutputs", pending.size());
+      metrics.put("flushIntervalMs", flushIntervalMs);
+      metrics.put("appendedChunks", appendedChunks);
+      metrics.put("appendedChars", appendedChars);
+      metrics.put("flushes", flushes);
+      metrics.put("flushedOutputs", flushedOutputs);
+      metrics.put("flushedChars", flushedChars);
+      metrics.put("avgFlushLatencyMs", flushes == 0 ? 0 : totalFlushLatencyMs / flushes);
+      metrics.put("maxFlushLatencyMs", maxFlushLatencyMs);
+      metrics.put("blockedMs", blockedMs);
+      metrics.put("heldBackMs", heldBackMs);
+      metrics.put("droppedChars", droppedChars);
+    } finally {
+      lock.unlock();
+    }
+    return metrics;
+  }
+
+  /**
+   * Paragraph output the append-data belongs to
+   */
+  static final class OutputKey {
+    final String noteId;
+    final String paragraphId;
+    final int index;
+
+    OutputKey(String noteId, String paragraphId, int index) {
+      this.noteId = noteId;
+      this.paragraphId = paragraphId;
+      this.index = index;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof OutputKey)) {
+        return false;
+      }
+      OutputKey that = (OutputKey) o;
+      return index == that.index && noteId.equals(that.noteId)
+          && paragraphId.equals(that.paragraphId);
+    }
+
+    @Override
+    public int hashCode() {
+      int result = noteId.hashCode();
+      result = 31 * result + paragraphId.hashCode();
+      return 31 * result + index;
+    }
+
+    @Override
+    public String toString() {
+      return noteId + ":" + paragraphId + ":" + index;
+    }
+  }
 }
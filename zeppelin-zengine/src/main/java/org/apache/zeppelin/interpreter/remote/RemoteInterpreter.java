@@ -39,6 +39,7 @@ import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterResult;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterResultMessage;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterService.Client;
 import org.apache.zeppelin.scheduler.Job;
+import org.apache.zeppelin.scheduler.JobQueue;
 import org.apache.zeppelin.scheduler.RemoteScheduler;
 import org.apache.zeppelin.scheduler.Scheduler;
 import org.apache.zeppelin.scheduler.SchedulerFactory;
@@ -380,20 +381,29 @@ public class RemoteInterpreter extends Interpreter {
         });
   }
 
+  public static String getSchedulerName(String sessionId) {
+    return RemoteInterpreter.class.getName() + "-" + sessionId;
+  }
+
   //TODO(zjffdu) Share the Scheduler in the same session or in the same InterpreterGroup ?
   @Override
   public Scheduler getScheduler() {
+    Scheduler scheduler = SchedulerFactory.singleton().getScheduler(getSchedulerName(sessionId));
+    if (scheduler != null) {
+      return scheduler;
+    }
     int maxConcurrency = Integer.parseInt(
         getProperty("zeppelin.interpreter.max.poolsize",
             ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_MAX_POOL_SIZE.getIntValue() + ""));
 
     Scheduler s = new RemoteScheduler(
-        RemoteInterpreter.class.getName() + "-" + sessionId,
+        getSchedulerName(sessionId),
         SchedulerFactory.singleton().getExecutor(),
         sessionId,
         this,
         SchedulerFactory.singleton(),
-        maxConcurrency);
+        maxConcurrency,
+        JobQueue.create(getProperties()));
     return SchedulerFactory.singleton().createOrGetScheduler(s);
   }
 
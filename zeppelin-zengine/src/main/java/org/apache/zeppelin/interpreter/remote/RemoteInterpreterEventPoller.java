@@ -20,6 +20,7 @@ package org.apache.zeppelin.interpreter.remote;
 import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
 import org.apache.thrift.TException;
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.display.AngularObject;
 import org.apache.zeppelin.display.AngularObjectRegistry;
 import org.apache.zeppelin.helium.ApplicationEventListener;
@@ -33,9 +34,15 @@ import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterEventType;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterService.Client;
 import org.apache.zeppelin.interpreter.thrift.ZeppelinServerResourceParagraphRunner;
 import org.apache.zeppelin.resource.Resource;
+import org.apache.zeppelin.resource.ResourceDirectory;
 import org.apache.zeppelin.resource.ResourceId;
 import org.apache.zeppelin.resource.ResourcePool;
 import org.apache.zeppelin.resource.ResourceSet;
+import org.apache.zeppelin.resource.ResourceTransfer;
+import org.apache.zeppelin.scheduler.ExecutorFactory;
+import org.apache.zeppelin.scheduler.RemoteScheduler;
+import org.apache.zeppelin.scheduler.Scheduler;
+import org.apache.zeppelin.scheduler.SchedulerFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,20 +50,35 @@ import java.nio.ByteBuffer;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
+import static org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_RESOURCE_TRANSFER_CHUNK_SIZE;
+import static org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_RESOURCE_TRANSFER_COMPRESS;
+import static org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_RESOURCE_TRANSFER_SPILL_THRESHOLD;
+
 /**
  * Processes message from RemoteInterpreter process
  */
 public class RemoteInterpreterEventPoller extends Thread {
   private static final Logger logger = LoggerFactory.getLogger(RemoteInterpreterEventPoller.class);
+  // max number of events fetched from interpreter process in a single getEvents() call
+  static final int EVENT_BATCH_SIZE = 1000;
+  // how long getEvents() waits in interpreter process when there's no event
+  static final int EVENT_WAIT_MS = 1000;
+  // max number of resource requests answered at the same time, shared by all pollers
+  static final int RESOURCE_REQUEST_THREADS = 20;
   private final ScheduledExecutorService appendService =
       Executors.newSingleThreadScheduledExecutor();
+  private final ExecutorService resourceService =
+      ExecutorFactory.singleton().createOrGetJobExecutor(
+          "RemoteInterpreterEventPoller.resource", RESOURCE_REQUEST_THREADS);
   private final RemoteInterpreterProcessListener listener;
   private final ApplicationEventListener appListener;
+  private final AppendOutputRunner appendOutputRunner;
 
   private volatile boolean shutdown;
 
@@ -70,6 +92,7 @@ public class RemoteInterpreterEventPoller extends Thread {
       ApplicationEventListener appListener) {
     this.listener = listener;
     this.appListener = appListener;
+    this.appendOutputRunner = new AppendOutputRunner(listener);
     shutdown = false;
   }
 
@@ -81,11 +104,19 @@ public class RemoteInterpreterEventPoller extends Thread {
     this.interpreterGroup = interpreterGroup;
   }
 
+  /**
+   * Coalescing, flush latency and dropped output of paragraph output appended by this process
+   */
+  public Map<String, Object> getAppendOutputMetrics() {
+    return appendOutputRunner.getMetrics();
+  }
+
   @Override
   public void run() {
-    AppendOutputRunner runner = new AppendOutputRunner(listener);
+    // the runner applies its own, adaptive, flush interval
+    AppendOutputRunner runner = appendOutputRunner;
     ScheduledFuture<?> appendFuture = appendService.scheduleWithFixedDelay(
-        runner, 0, AppendOutputRunner.BUFFER_TIME_MS, TimeUnit.MILLISECONDS);
+        runner, 0, AppendOutputRunner.MIN_BUFFER_TIME_MS, TimeUnit.MILLISECONDS);
 
     while (!shutdown) {
       // wait and retry
@@ -98,156 +129,27 @@ public class RemoteInterpreterEventPoller extends Thread {
         continue;
       }
 
-      RemoteInterpreterEvent event = interpreterProcess.callRemoteFunction(
-          new RemoteInterpreterProcess.RemoteFunction<RemoteInterpreterEvent>() {
+      List<RemoteInterpreterEvent> events = interpreterProcess.callRemoteFunction(
+          new RemoteInterpreterProcess.RemoteFunction<List<RemoteInterpreterEvent>>() {
             @Override
-            public RemoteInterpreterEvent call(Client client) throws Exception {
-              return client.getEvent();
+            public List<RemoteInterpreterEvent> call(Client client) throws Exception {
+              return client.getEvents(EVENT_BATCH_SIZE, EVENT_WAIT_MS);
             }
           }
       );
 
-      AngularObjectRegistry angularObjectRegistry = interpreterGroup.getAngularObjectRegistry();
+      if (events == null || events.isEmpty()) {
+        continue;
+      }
+      logger.debug("Receive {} messages from RemoteInterpreter Process", events.size());
 
-      try {
-        if (event.getType() != RemoteInterpreterEventType.NO_OP) {
-          logger.debug("Receive message from RemoteInterpreter Process: " + event.toString());
-        }
-        if (event.getType() == RemoteInterpreterEventType.NO_OP) {
-          continue;
-        } else if (event.getType() == RemoteInterpreterEventType.ANGULAR_OBJECT_ADD) {
-          AngularObject angularObject = AngularObject.fromJson(event.getData());
-          angularObjectRegistry.add(angularObject.getName(),
-              angularObject.get(), angularObject.getNoteId(), angularObject.getParagraphId());
-        } else if (event.getType() == RemoteInterpreterEventType.ANGULAR_OBJECT_UPDATE) {
-          AngularObject angularObject = AngularObject.fromJson(event.getData());
-          AngularObject localAngularObject = angularObjectRegistry.get(
-              angularObject.getName(), angularObject.getNoteId(), angularObject.getParagraphId());
-          if (localAngularObject instanceof RemoteAngularObject) {
-            // to avoid ping-pong loop
-            ((RemoteAngularObject) localAngularObject).set(
-                angularObject.get(), true, false);
-          } else {
-            localAngularObject.set(angularObject.get());
-          }
-        } else if (event.getType() == RemoteInterpreterEventType.ANGULAR_OBJECT_REMOVE) {
-          AngularObject angularObject = AngularObject.fromJson(event.getData());
-          angularObjectRegistry.remove(angularObject.getName(), angularObject.getNoteId(),
-                  angularObject.getParagraphId());
-        } else if (event.getType() == RemoteInterpreterEventType.RUN_INTERPRETER_CONTEXT_RUNNER) {
-          InterpreterContextRunner runnerFromRemote = gson.fromJson(
-              event.getData(), RemoteInterpreterContextRunner.class);
-
-          listener.onRemoteRunParagraph(
-              runnerFromRemote.getNoteId(), runnerFromRemote.getParagraphId());
-
-        } else if (event.getType() == RemoteInterpreterEventType.RESOURCE_POOL_GET_ALL) {
-          ResourceSet resourceSet = getAllResourcePoolExcept();
-          sendResourcePoolResponseGetAll(resourceSet);
-        } else if (event.getType() == RemoteInterpreterEventType.RESOURCE_GET) {
-          String resourceIdString = event.getData();
-          ResourceId resourceId = ResourceId.fromJson(resourceIdString);
-          logger.debug("RESOURCE_GET {} {}", resourceId.getResourcePoolId(), resourceId.getName());
-          Object o = getResource(resourceId);
-          sendResourceResponseGet(resourceId, o);
-        } else if (event.getType() == RemoteInterpreterEventType.RESOURCE_INVOKE_METHOD) {
-          String message = event.getData();
-          InvokeResourceMethodEventMessage invokeMethodMessage =
-              InvokeResourceMethodEventMessage.fromJson(message);
-          Object ret = invokeResourceMethod(invokeMethodMessage);
-          sendInvokeMethodResult(invokeMethodMessage, ret);
-        } else if (event.getType() == RemoteInterpreterEventType.OUTPUT_APPEND) {
-          // on output append
-          Map<String, String> outputAppend = gson.fromJson(
-                  event.getData(), new TypeToken<Map<String, Object>>() {}.getType());
-          String noteId = (String) outputAppend.get("noteId");
-          String paragraphId = (String) outputAppend.get("paragraphId");
-          int index = Integer.parseInt(outputAppend.get("index"));
-          String outputToAppend = (String) outputAppend.get("data");
-
-          String appId = (String) outputAppend.get("appId");
-
-          if (appId == null) {
-            runner.appendBuffer(noteId, paragraphId, index, outputToAppend);
-          } else {
-            appListener.onOutputAppend(noteId, paragraphId, index, appId, outputToAppend);
-          }
-        } else if (event.getType() == RemoteInterpreterEventType.OUTPUT_UPDATE_ALL) {
-          Map<String, Object> outputUpdate = gson.fromJson(
-              event.getData(), new TypeToken<Map<String, Object>>() {}.getType());
-          String noteId = (String) outputUpdate.get("noteId");
-          String paragraphId = (String) outputUpdate.get("paragraphId");
-
-          // clear the output
-          List<Map<String, String>> messages =
-              (List<Map<String, String>>) outputUpdate.get("messages");
-
-          if (messages != null) {
-            listener.onOutputClear(noteId, paragraphId);
-            for (int i = 0; i < messages.size(); i++) {
-              Map<String, String> m = messages.get(i);
-              InterpreterResult.Type type =
-                  InterpreterResult.Type.valueOf((String) m.get("type"));
-              String outputToUpdate = (String) m.get("data");
-
-              listener.onOutputUpdated(noteId, paragraphId, i, type, outputToUpdate);
-            }
-          }
-        } else if (event.getType() == RemoteInterpreterEventType.OUTPUT_UPDATE) {
-          // on output update
-          Map<String, String> outputAppend = gson.fromJson(
-              event.getData(), new TypeToken<Map<String, Object>>() {}.getType());
-          String noteId = (String) outputAppend.get("noteId");
-          String paragraphId = (String) outputAppend.get("paragraphId");
-          int index = Integer.parseInt(outputAppend.get("index"));
-          InterpreterResult.Type type =
-              InterpreterResult.Type.valueOf((String) outputAppend.get("type"));
-          String outputToUpdate = (String) outputAppend.get("data");
-          String appId = (String) outputAppend.get("appId");
-
-          if (appId == null) {
-            listener.onOutputUpdated(noteId, paragraphId, index, type, outputToUpdate);
-          } else {
-            appListener.onOutputUpdated(noteId, paragraphId, index, appId, type, outputToUpdate);
-          }
-        } else if (event.getType() == RemoteInterpreterEventType.APP_STATUS_UPDATE) {
-          // on output update
-          Map<String, String> appStatusUpdate = gson.fromJson(
-              event.getData(), new TypeToken<Map<String, String>>() {}.getType());
-
-          String noteId = appStatusUpdate.get("noteId");
-          String paragraphId = appStatusUpdate.get("paragraphId");
-          String appId = appStatusUpdate.get("appId");
-          String status = appStatusUpdate.get("status");
-
-          appListener.onStatusChange(noteId, paragraphId, appId, status);
-        } else if (event.getType() == RemoteInterpreterEventType.REMOTE_ZEPPELIN_SERVER_RESOURCE) {
-          RemoteZeppelinServerResource reqResourceBody = RemoteZeppelinServerResource.fromJson(
-              event.getData());
-          progressRemoteZeppelinControlEvent(
-              reqResourceBody.getResourceType(), listener, reqResourceBody);
-
-        } else if (event.getType() == RemoteInterpreterEventType.META_INFOS) {
-          Map<String, String> metaInfos = gson.fromJson(event.getData(),
-              new TypeToken<Map<String, String>>() {
-              }.getType());
-          String settingId = RemoteInterpreterUtils.
-              getInterpreterSettingId(interpreterGroup.getId());
-          listener.onMetaInfosReceived(settingId, metaInfos);
-        } else if (event.getType() == RemoteInterpreterEventType.PARA_INFOS) {
-          Map<String, String> paraInfos = gson.fromJson(event.getData(),
-              new TypeToken<Map<String, String>>() {
-              }.getType());
-          String noteId = paraInfos.get("noteId");
-          String paraId = paraInfos.get("paraId");
-          String settingId = RemoteInterpreterUtils.
-              getInterpreterSettingId(interpreterGroup.getId());
-          if (noteId != null && paraId != null && settingId != null) {
-            listener.onParaInfosReceived(noteId, paraId, settingId, paraInfos);
-          }
+      AngularObjectRegistry angularObjectRegistry = interpreterGroup.getAngularObjectRegistry();
+      for (RemoteInterpreterEvent event : events) {
+        try {
+          handleEvent(event, runner, angularObjectRegistry);
+        } catch (Exception e) {
+          logger.error("Can't handle event " + event, e);
         }
-      } catch (Exception e) {
-        logger.error("Can't handle event " + event, e);
       }
     }
     try {
@@ -262,10 +164,177 @@ public class RemoteInterpreterEventPoller extends Thread {
     if (appendFuture != null) {
       appendFuture.cancel(true);
     }
+    if (interpreterGroup != null) {
+      getResourceDirectory().removeResourcePool(interpreterGroup.getId());
+    }
+  }
+
+  private ResourceDirectory getResourceDirectory() {
+    return interpreterGroup.getInterpreterSetting().getInterpreterSettingManager()
+        .getResourceDirectory();
   }
 
   private void clearUnreadEvents(Client client) throws TException {
-    while (client.getEvent().getType() != RemoteInterpreterEventType.NO_OP) {}
+    while (!client.getEvents(EVENT_BATCH_SIZE, 0).isEmpty()) {}
+  }
+
+  private void handleEvent(final RemoteInterpreterEvent event, AppendOutputRunner runner,
+                           AngularObjectRegistry angularObjectRegistry) throws Exception {
+    if (event.getType() != RemoteInterpreterEventType.NO_OP) {
+      logger.debug("Receive message from RemoteInterpreter Process: " + event.toString());
+    }
+    if (event.getType() == RemoteInterpreterEventType.NO_OP) {
+      return;
+    } else if (event.getType() == RemoteInterpreterEventType.ANGULAR_OBJECT_ADD) {
+      AngularObject angularObject = AngularObject.fromJson(event.getData());
+      angularObjectRegistry.add(angularObject.getName(),
+          angularObject.get(), angularObject.getNoteId(), angularObject.getParagraphId());
+    } else if (event.getType() == RemoteInterpreterEventType.ANGULAR_OBJECT_UPDATE) {
+      AngularObject angularObject = AngularObject.fromJson(event.getData());
+      AngularObject localAngularObject = angularObjectRegistry.get(
+          angularObject.getName(), angularObject.getNoteId(), angularObject.getParagraphId());
+      if (localAngularObject instanceof RemoteAngularObject) {
+        // to avoid ping-pong loop
+        ((RemoteAngularObject) localAngularObject).set(
+            angularObject.get(), true, false);
+      } else {
+        localAngularObject.set(angularObject.get());
+      }
+    } else if (event.getType() == RemoteInterpreterEventType.ANGULAR_OBJECT_REMOVE) {
+      AngularObject angularObject = AngularObject.fromJson(event.getData());
+      angularObjectRegistry.remove(angularObject.getName(), angularObject.getNoteId(),
+              angularObject.getParagraphId());
+    } else if (event.getType() == RemoteInterpreterEventType.RUN_INTERPRETER_CONTEXT_RUNNER) {
+      InterpreterContextRunner runnerFromRemote = gson.fromJson(
+          event.getData(), RemoteInterpreterContextRunner.class);
+
+      listener.onRemoteRunParagraph(
+          runnerFromRemote.getNoteId(), runnerFromRemote.getParagraphId());
+
+    } else if (event.getType() == RemoteInterpreterEventType.RESOURCE_POOL_GET_ALL
+        || event.getType() == RemoteInterpreterEventType.RESOURCE_GET
+        || event.getType() == RemoteInterpreterEventType.RESOURCE_INVOKE_METHOD
+        || event.getType() == RemoteInterpreterEventType.RESOURCE_LOOKUP) {
+      // answered from resourceService, so a slow resource does not block other events and
+      // other resource requests of the same interpreter process
+      resourceService.execute(new Runnable() {
+        @Override
+        public void run() {
+          try {
+            handleResourceEvent(event);
+          } catch (Exception e) {
+            logger.error("Can't handle event " + event, e);
+          }
+        }
+      });
+    } else if (event.getType() == RemoteInterpreterEventType.RESOURCE_PUT) {
+      // handled in order of the events, so a put and remove of the same resource don't race
+      getResourceDirectory().put(Resource.fromJson(event.getData()));
+    } else if (event.getType() == RemoteInterpreterEventType.RESOURCE_REMOVE) {
+      getResourceDirectory().remove(ResourceId.fromJson(event.getData()));
+    } else if (event.getType() == RemoteInterpreterEventType.OUTPUT_APPEND) {
+      // on output append
+      Map<String, String> outputAppend = gson.fromJson(
+              event.getData(), new TypeToken<Map<String, Object>>() {}.getType());
+      String noteId = (String) outputAppend.get("noteId");
+      String paragraphId = (String) outputAppend.get("paragraphId");
+      int index = Integer.parseInt(outputAppend.get("index"));
+      String outputToAppend = (String) outputAppend.get("data");
+
+      String appId = (String) outputAppend.get("appId");
+
+      if (appId == null) {
+        // blocks while the output buffer is full, so this process is not polled faster than
+        // its output can be delivered
+        runner.appendBuffer(noteId, paragraphId, index, outputToAppend);
+      } else {
+        appListener.onOutputAppend(noteId, paragraphId, index, appId, outputToAppend);
+      }
+    } else if (event.getType() == RemoteInterpreterEventType.OUTPUT_UPDATE_ALL) {
+      Map<String, Object> outputUpdate = gson.fromJson(
+          event.getData(), new TypeToken<Map<String, Object>>() {}.getType());
+      String noteId = (String) outputUpdate.get("noteId");
+      String paragraphId = (String) outputUpdate.get("paragraphId");
+
+      // clear the output
+      List<Map<String, String>> messages =
+          (List<Map<String, String>>) outputUpdate.get("messages");
+
+      if (messages != null) {
+        listener.onOutputClear(noteId, paragraphId);
+        for (int i = 0; i < messages.size(); i++) {
+          Map<String, String> m = messages.get(i);
+          InterpreterResult.Type type =
+              InterpreterResult.Type.valueOf((String) m.get("type"));
+          String outputToUpdate = (String) m.get("data");
+
+          listener.onOutputUpdated(noteId, paragraphId, i, type, outputToUpdate);
+        }
+      }
+    } else if (event.getType() == RemoteInterpreterEventType.OUTPUT_UPDATE) {
+      // on output update
+      Map<String, String> outputAppend = gson.fromJson(
+          event.getData(), new TypeToken<Map<String, Object>>() {}.getType());
+      String noteId = (String) outputAppend.get("noteId");
+      String paragraphId = (String) outputAppend.get("paragraphId");
+      int index = Integer.parseInt(outputAppend.get("index"));
+      InterpreterResult.Type type =
+          InterpreterResult.Type.valueOf((String) outputAppend.get("type"));
+      String outputToUpdate = (String) outputAppend.get("data");
+      String appId = (String) outputAppend.get("appId");
+
+      if (appId == null) {
+        listener.onOutputUpdated(noteId, paragraphId, index, type, outputToUpdate);
+      } else {
+        appListener.onOutputUpdated(noteId, paragraphId, index, appId, type, outputToUpdate);
+      }
+    } else if (event.getType() == RemoteInterpreterEventType.APP_STATUS_UPDATE) {
+      // on output update
+      Map<String, String> appStatusUpdate = gson.fromJson(
+          event.getData(), new TypeToken<Map<String, String>>() {}.getType());
+
+      String noteId = appStatusUpdate.get("noteId");
+      String paragraphId = appStatusUpdate.get("paragraphId");
+      String appId = appStatusUpdate.get("appId");
+      String status = appStatusUpdate.get("status");
+
+      appListener.onStatusChange(noteId, paragraphId, appId, status);
+    } else if (event.getType() == RemoteInterpreterEventType.REMOTE_ZEPPELIN_SERVER_RESOURCE) {
+      RemoteZeppelinServerResource reqResourceBody = RemoteZeppelinServerResource.fromJson(
+          event.getData());
+      progressRemoteZeppelinControlEvent(
+          reqResourceBody.getResourceType(), listener, reqResourceBody);
+
+    } else if (event.getType() == RemoteInterpreterEventType.META_INFOS) {
+      Map<String, String> metaInfos = gson.fromJson(event.getData(),
+          new TypeToken<Map<String, String>>() {
+          }.getType());
+      String settingId = RemoteInterpreterUtils.
+          getInterpreterSettingId(interpreterGroup.getId());
+      listener.onMetaInfosReceived(settingId, metaInfos);
+    } else if (event.getType() == RemoteInterpreterEventType.PARA_INFOS) {
+      Map<String, String> paraInfos = gson.fromJson(event.getData(),
+          new TypeToken<Map<String, String>>() {
+          }.getType());
+      String noteId = paraInfos.get("noteId");
+      String paraId = paraInfos.get("paraId");
+      String settingId = RemoteInterpreterUtils.
+          getInterpreterSettingId(interpreterGroup.getId());
+      if (noteId != null && paraId != null && settingId != null) {
+        listener.onParaInfosReceived(noteId, paraId, settingId, paraInfos);
+      }
+    } else if (event.getType() == RemoteInterpreterEventType.JOB_STATUS_UPDATE) {
+      Map<String, Object> jobStatus = gson.fromJson(event.getData(),
+          new TypeToken<Map<String, Object>>() {
+          }.getType());
+      String sessionId = (String) jobStatus.get("sessionId");
+      Scheduler scheduler = SchedulerFactory.singleton().getScheduler(
+          RemoteInterpreter.getSchedulerName(sessionId));
+      if (scheduler instanceof RemoteScheduler) {
+        ((RemoteScheduler) scheduler).onJobStatusUpdate((String) jobStatus.get("jobId"),
+            (String) jobStatus.get("status"), ((Number) jobStatus.get("progress")).intValue());
+      }
+    }
   }
 
   private void progressRemoteZeppelinControlEvent(
@@ -337,7 +406,35 @@ public class RemoteInterpreterEventPoller extends Thread {
     }
   }
 
-  private void sendResourcePoolResponseGetAll(final ResourceSet resourceSet) {
+  private void handleResourceEvent(RemoteInterpreterEvent event) throws Exception {
+    if (event.getType() == RemoteInterpreterEventType.RESOURCE_POOL_GET_ALL) {
+      ResourceSet resourceSet = getAllResourcePoolExcept();
+      sendResourcePoolResponseGetAll(resourceSet, event.getData());
+    } else if (event.getType() == RemoteInterpreterEventType.RESOURCE_GET) {
+      String message = event.getData();
+      ResourceId resourceId = GetResourceEventMessage.fromJson(message).resourceId;
+      logger.debug("RESOURCE_GET {} {}", resourceId.getResourcePoolId(), resourceId.getName());
+      if (!transferResource(message, resourceId)) {
+        Object o = getResource(resourceId);
+        sendResourceResponseGet(message, o);
+      }
+    } else if (event.getType() == RemoteInterpreterEventType.RESOURCE_LOOKUP) {
+      LookupResourceEventMessage lookup = LookupResourceEventMessage.fromJson(event.getData());
+      ResourceSet resourceSet = interpreterGroup.getInterpreterSetting()
+          .getInterpreterSettingManager().findResources(interpreterGroup.getId(),
+              lookup.noteId, lookup.paragraphId, lookup.name, lookup.nameOnly);
+      sendResourcePoolResponseGetAll(resourceSet, lookup.requestId);
+    } else if (event.getType() == RemoteInterpreterEventType.RESOURCE_INVOKE_METHOD) {
+      String message = event.getData();
+      InvokeResourceMethodEventMessage invokeMethodMessage =
+          InvokeResourceMethodEventMessage.fromJson(message);
+      Object ret = invokeResourceMethod(invokeMethodMessage);
+      sendInvokeMethodResult(invokeMethodMessage, ret);
+    }
+  }
+
+  private void sendResourcePoolResponseGetAll(final ResourceSet resourceSet,
+                                              final String requestId) {
     interpreterProcess.callRemoteFunction(
         new RemoteInterpreterProcess.RemoteFunction<Void>() {
           @Override
@@ -346,7 +443,7 @@ public class RemoteInterpreterEventPoller extends Thread {
             for (Resource r : resourceSet) {
               resourceList.add(r.toJson());
             }
-            client.resourcePoolResponseGetAll(resourceList);
+            client.resourcePoolResponseGetAll(resourceList, requestId);
             return null;
           }
         }
@@ -384,25 +481,115 @@ public class RemoteInterpreterEventPoller extends Thread {
     return resourceSet;
   }
 
-  private void sendResourceResponseGet(final ResourceId resourceId, final Object o) {
+  private void sendResourceResponseGet(final String getResourceMessage, final Object o) {
     interpreterProcess.callRemoteFunction(
         new RemoteInterpreterProcess.RemoteFunction<Void>() {
           @Override
           public Void call(Client client) throws Exception {
-            String rid = resourceId.toJson();
             ByteBuffer obj;
             if (o == null) {
               obj = ByteBuffer.allocate(0);
             } else {
               obj = Resource.serializeObject(o);
             }
-            client.resourceResponseGet(rid, obj);
+            client.resourceResponseGet(getResourceMessage, obj);
             return null;
           }
         }
     );
   }
 
+  /**
+   * Relay the serialized resource from the interpreter process that owns it, chunk by chunk.
+   * Chunks are passed through without being deserialized here, so only one chunk at a time
+   * is held in ZeppelinServer.
+   * @return false when the resource is not in a remote interpreter process
+   */
+  private boolean transferResource(final String getResourceMessage,
+                                   final ResourceId resourceId) {
+    ManagedInterpreterGroup intpGroup = interpreterGroup.getInterpreterSetting()
+        .getInterpreterSettingManager()
+        .getInterpreterGroupById(resourceId.getResourcePoolId());
+    if (intpGroup == null || intpGroup.getRemoteInterpreterProcess() == null) {
+      return false;
+    }
+    RemoteInterpreterProcess owner = intpGroup.getRemoteInterpreterProcess();
+
+    ZeppelinConfiguration conf = interpreterGroup.getInterpreterSetting().getConf();
+    final int chunkSize = conf.getInt(ZEPPELIN_INTERPRETER_RESOURCE_TRANSFER_CHUNK_SIZE);
+    final ResourceTransfer options = new ResourceTransfer(
+        conf.getBoolean(ZEPPELIN_INTERPRETER_RESOURCE_TRANSFER_COMPRESS),
+        conf.getLong(ZEPPELIN_INTERPRETER_RESOURCE_TRANSFER_SPILL_THRESHOLD));
+
+    final String transferJson = owner.callRemoteFunction(
+        new RemoteInterpreterProcess.RemoteFunction<String>() {
+          @Override
+          public String call(Client client) throws Exception {
+            return client.resourceTransferOpen(
+                resourceId.getNoteId(),
+                resourceId.getParagraphId(),
+                resourceId.getName(),
+                options.toJson());
+          }
+        }
+    );
+    if (transferJson == null || transferJson.isEmpty()) {
+      // no such resource or it can't be serialized
+      sendResourceResponseGet(getResourceMessage, null);
+      return true;
+    }
+
+    final ResourceTransfer transfer = ResourceTransfer.fromJson(transferJson);
+    long sent = 0;
+    boolean last = false;
+    try {
+      while (!last) {
+        final ByteBuffer chunk = owner.callRemoteFunction(
+            new RemoteInterpreterProcess.RemoteFunction<ByteBuffer>() {
+              @Override
+              public ByteBuffer call(Client client) throws Exception {
+                return client.resourceTransferRead(transfer.transferId, chunkSize);
+              }
+            }
+        );
+        if (chunk == null) {
+          throw new RuntimeException("Can't read from " + resourceId.getResourcePoolId());
+        }
+        sent += chunk.remaining();
+        final boolean lastChunk = sent >= transfer.size || !chunk.hasRemaining();
+        interpreterProcess.callRemoteFunction(
+            new RemoteInterpreterProcess.RemoteFunction<Void>() {
+              @Override
+              public Void call(Client client) throws Exception {
+                client.resourceResponseGetChunk(
+                    getResourceMessage, transferJson, chunk, lastChunk);
+                return null;
+              }
+            }
+        );
+        last = lastChunk;
+      }
+      logger.debug("Transferred {} bytes of {}", sent, resourceId.getName());
+    } catch (RuntimeException e) {
+      logger.error("Transfer of " + resourceId.getName() + " failed after " + sent + " bytes", e);
+      try {
+        owner.callRemoteFunction(
+            new RemoteInterpreterProcess.RemoteFunction<Void>() {
+              @Override
+              public Void call(Client client) throws Exception {
+                client.resourceTransferClose(transfer.transferId);
+                return null;
+              }
+            }
+        );
+      } finally {
+        // let the requesting interpreter stop waiting
+        sendResourceResponseGet(getResourceMessage, null);
+      }
+    }
+    return true;
+  }
+
   private Object getResource(final ResourceId resourceId) {
     ManagedInterpreterGroup intpGroup = interpreterGroup.getInterpreterSetting()
         .getInterpreterSettingManager()
@@ -470,7 +657,7 @@ public class RemoteInterpreterEventPoller extends Thread {
             return res.invokeMethod(
                 message.methodName,
                 message.getParamTypes(),
-                message.params,
+                message.getParams(),
                 message.returnResourceName);
           } catch (Exception e) {
             logger.error(e.getMessage(), e);
@@ -485,8 +672,8 @@ public class RemoteInterpreterEventPoller extends Thread {
         logger.error("no resource pool");
         return null;
       }
-    } else if (interpreterProcess.isRunning()) {
-      ByteBuffer res = interpreterProcess.callRemoteFunction(
+    } else if (remoteInterpreterProcess.isRunning()) {
+      ByteBuffer res = remoteInterpreterProcess.callRemoteFunction(
           new RemoteInterpreterProcess.RemoteFunction<ByteBuffer>() {
             @Override
             public ByteBuffer call(Client client) throws Exception {
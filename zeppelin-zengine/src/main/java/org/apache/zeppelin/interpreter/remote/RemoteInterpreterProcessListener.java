@@ -42,4 +42,15 @@ public interface RemoteInterpreterProcessListener {
   }
   public void onParaInfosReceived(String noteId, String paragraphId,
                                   String interpreterSettingId, Map<String, String> metaInfos);
+
+  /**
+   * Implemented by listeners delivering output asynchronously, so appended output is held back
+   * while delivery lags behind
+   */
+  public interface OutputBacklog {
+    /**
+     * @return max number of messages queued for a connection of the note
+     */
+    public int getOutputBacklog(String noteId);
+  }
 }
@@ -105,6 +105,15 @@ public class FileSystemStorage {
     });
   }
 
+  public boolean exists(final Path path) throws IOException {
+    return callHdfsOperation(new HdfsOperation<Boolean>() {
+      @Override
+      public Boolean call() throws IOException {
+        return fs.exists(path);
+      }
+    });
+  }
+
   public boolean delete(final Path path) throws IOException {
     return callHdfsOperation(new HdfsOperation<Boolean>() {
       @Override
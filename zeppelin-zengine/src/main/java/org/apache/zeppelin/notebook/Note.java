@@ -21,11 +21,7 @@ import static java.lang.String.format;
 
 import java.io.IOException;
 import java.util.*;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
 
-import com.google.common.annotations.VisibleForTesting;
 import com.google.gson.GsonBuilder;
 import org.apache.commons.lang.StringUtils;
 import org.apache.zeppelin.common.JsonSerializable;
@@ -39,6 +35,7 @@ import org.apache.zeppelin.interpreter.remote.RemoteAngularObjectRegistry;
 import org.apache.zeppelin.interpreter.thrift.InterpreterCompletion;
 import org.apache.zeppelin.notebook.repo.NotebookRepo;
 import org.apache.zeppelin.notebook.utility.IdHashes;
+import org.apache.zeppelin.scheduler.DagExecutor;
 import org.apache.zeppelin.scheduler.Job;
 import org.apache.zeppelin.scheduler.Job.Status;
 import org.apache.zeppelin.search.SearchService;
@@ -62,14 +59,6 @@ public class Note implements ParagraphJobListener, JsonSerializable {
       .registerTypeAdapter(Date.class, new NotebookImportDeserializer())
       .registerTypeAdapterFactory(Input.TypeAdapterFactory).create();
 
-  // threadpool for delayed persist of note
-  private static final ScheduledThreadPoolExecutor delayedPersistThreadPool =
-      new ScheduledThreadPoolExecutor(0);
-
-  static {
-    delayedPersistThreadPool.setRemoveOnCancelPolicy(true);
-  }
-
   final List<Paragraph> paragraphs = new LinkedList<>();
 
   private String name = "";
@@ -87,7 +76,7 @@ public class Note implements ParagraphJobListener, JsonSerializable {
   private transient JobListenerFactory jobListenerFactory;
   private transient NotebookRepo repo;
   private transient SearchService index;
-  private transient ScheduledFuture delayedPersist;
+  private transient NotePersister persister;
   private transient NoteEventListener noteEventListener;
   private transient Credentials credentials;
   private transient NoteNameListener noteNameListener;
@@ -104,6 +93,11 @@ public class Note implements ParagraphJobListener, JsonSerializable {
    */
   private Map<String, Object> info = new HashMap<>();
 
+  /*
+   * false while paragraphs, forms and angular objects are not in memory, see NoteCache.
+   */
+  private transient volatile boolean loaded = true;
+
 
   public Note() {
     generateId();
@@ -606,22 +600,110 @@ public class Note implements ParagraphJobListener, JsonSerializable {
     }
     AuthenticationInfo authenticationInfo = new AuthenticationInfo();
     authenticationInfo.setUser(cronExecutingUser);
-    runAll(authenticationInfo, true);
+    runAll(authenticationInfo, true, Job.Priority.CRON);
   }
 
   public void runAll(AuthenticationInfo authenticationInfo, boolean blocking) {
+    runAll(authenticationInfo, blocking, Job.Priority.INTERACTIVE);
+  }
+
+  /**
+   * Run all enabled paragraphs. When blocking and any paragraph declares the paragraphs it
+   * depends on, paragraphs run as soon as those finished, see {@link Paragraph#getDependsOn()}.
+   */
+  public void runAll(AuthenticationInfo authenticationInfo, boolean blocking,
+      Job.Priority priority) {
+    if (blocking && hasParagraphDependencies()) {
+      runAllByDependencies(authenticationInfo, priority);
+      return;
+    }
     for (Paragraph p : getParagraphs()) {
       if (!p.isEnabled()) {
         continue;
       }
       p.setAuthenticationInfo(authenticationInfo);
-      if (!run(p.getId(), blocking)) {
+      if (!run(p.getId(), blocking, priority)) {
         logger.warn("Skip running the remain notes because paragraph {} fails", p.getId());
         break;
       }
     }
   }
 
+  private boolean hasParagraphDependencies() {
+    for (Paragraph p : getParagraphs()) {
+      if (p.isEnabled() && p.getDependsOn() != null) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Run enabled paragraphs concurrently, up to zeppelin.notebook.dag.parallelism at a time.
+   * A paragraph without dependencies declared waits for the enabled paragraph above it, and
+   * the paragraphs depending on a failed paragraph are skipped.
+   */
+  private void runAllByDependencies(AuthenticationInfo authenticationInfo,
+      final Job.Priority priority) {
+    DagExecutor dag = new DagExecutor(
+        conf.getInt(ZeppelinConfiguration.ConfVars.ZEPPELIN_NOTEBOOK_DAG_PARALLELISM));
+    List<Paragraph> paragraphs = new LinkedList<>();
+    for (final Paragraph p : getParagraphs()) {
+      if (!p.isEnabled()) {
+        continue;
+      }
+      p.setAuthenticationInfo(authenticationInfo);
+      paragraphs.add(p);
+      dag.addNode(p.getId(), new DagExecutor.Task() {
+        @Override
+        public void run() throws Exception {
+          if (!Note.this.run(p.getId(), true, priority)) {
+            throw new RuntimeException("Paragraph " + p.getId() + " is " + p.getStatus());
+          }
+        }
+      });
+    }
+
+    Paragraph above = null;
+    for (Paragraph p : paragraphs) {
+      List<String> dependsOn = p.getDependsOn();
+      if (dependsOn == null) {
+        if (above != null) {
+          addParagraphDependency(dag, above.getId(), p.getId());
+        }
+      } else {
+        for (String paragraphId : dependsOn) {
+          if (dag.hasNode(paragraphId)) {
+            addParagraphDependency(dag, paragraphId, p.getId());
+          } else {
+            logger.warn("Paragraph {} depends on {} which is not an enabled paragraph of note {}",
+                p.getId(), paragraphId, getId());
+          }
+        }
+      }
+      above = p;
+    }
+
+    try {
+      for (DagExecutor.NodeResult result : dag.run()) {
+        logger.info("Paragraph {} of note {} {} in {} ms", result.getId(), getId(),
+            result.getStatus(), result.getDurationMs());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      logger.warn("Interrupted while running note " + getId(), e);
+    }
+  }
+
+  private void addParagraphDependency(DagExecutor dag, String paragraphId, String dependentId) {
+    if (paragraphId.equals(dependentId) || dag.isDownstream(paragraphId, dependentId)) {
+      logger.warn("Ignore dependency of paragraph {} on {} of note {}, it would create a cycle",
+          dependentId, paragraphId, getId());
+      return;
+    }
+    dag.addEdge(paragraphId, dependentId);
+  }
+
   public boolean run(String paragraphId) {
     return run(paragraphId, false);
   }
@@ -632,7 +714,18 @@ public class Note implements ParagraphJobListener, JsonSerializable {
    * @param paragraphId ID of paragraph
    */
   public boolean run(String paragraphId, boolean blocking) {
+    return run(paragraphId, blocking, Job.Priority.INTERACTIVE);
+  }
+
+  /**
+   * Run a single paragraph.
+   *
+   * @param paragraphId ID of paragraph
+   * @param priority where the paragraph is run from, for the interpreter's scheduler
+   */
+  public boolean run(String paragraphId, boolean blocking, Job.Priority priority) {
     Paragraph p = getParagraph(paragraphId);
+    p.setPriority(priority);
     p.setListener(jobListenerFactory.getParagraphJobListener(this));
     return p.execute(blocking);
   }
@@ -764,19 +857,92 @@ public class Note implements ParagraphJobListener, JsonSerializable {
     }
   }
 
+  void setPersister(NotePersister persister) {
+    this.persister = persister;
+  }
+
+  private NotePersister getPersister() {
+    return persister == null ? NotePersister.DEFAULT : persister;
+  }
+
   public void persist(AuthenticationInfo subject) throws IOException {
     Preconditions.checkNotNull(subject, "AuthenticationInfo should not be null");
-    stopDelayedPersistTimer();
+    getPersister().persist(this, subject);
+  }
+
+  /**
+   * Write this note to the repo now, see NotePersister.
+   */
+  void save(AuthenticationInfo subject) throws IOException {
+    if (!loaded) {
+      persistUnloaded(subject);
+      return;
+    }
     snapshotAngularObjectRegistry(subject.getUser());
     index.updateIndexDoc(this);
     repo.save(this, subject);
   }
 
+  /**
+   * An unloaded note only holds name, config and info. Save them on the stored note,
+   * keeping its paragraphs.
+   */
+  private void persistUnloaded(AuthenticationInfo subject) throws IOException {
+    Note stored = repo.get(id, subject);
+    if (stored == null) {
+      throw new IOException("Note " + id + " is not loaded and not found in the notebook repo");
+    }
+    stored.name = name;
+    stored.config = config;
+    stored.info = info;
+    index.updateIndexDoc(stored);
+    repo.save(stored, subject);
+  }
+
+  /**
+   * Whether paragraphs, forms and angular objects of this note are in memory.
+   * With zeppelin.notebook.cache.maxBytes set, Notebook unloads idle notes and loads them
+   * back on getNote().
+   */
+  public boolean isLoaded() {
+    return loaded;
+  }
+
+  /**
+   * Take paragraphs, forms and angular objects of this note as read from the repo.
+   */
+  void load(Note stored) {
+    synchronized (paragraphs) {
+      paragraphs.clear();
+      for (Paragraph p : stored.paragraphs) {
+        p.setNote(this);
+        paragraphs.add(p);
+      }
+      noteParams = stored.noteParams;
+      noteForms = stored.noteForms;
+      angularObjects = stored.angularObjects;
+      loaded = true;
+    }
+  }
+
+  /**
+   * Drop paragraphs, forms and angular objects, keeping id, name, config and info.
+   */
+  void unload() {
+    synchronized (paragraphs) {
+      paragraphs.clear();
+      noteParams = new HashMap<>();
+      noteForms = new LinkedHashMap<>();
+      angularObjects = new HashMap<>();
+      loaded = false;
+    }
+  }
+
   /**
    * Persist this note with maximum delay.
    */
   public void persist(int maxDelaySec, AuthenticationInfo subject) {
-    startDelayedPersistTimer(maxDelaySec, subject);
+    getPersister().persistLater(this, subject, maxDelaySec * 1000L);
   }
 
   void unpersist(AuthenticationInfo subject) throws IOException {
@@ -810,36 +976,6 @@ public class Note implements ParagraphJobListener, JsonSerializable {
     return newNote;
   }
 
-  private void startDelayedPersistTimer(int maxDelaySec, final AuthenticationInfo subject) {
-    synchronized (this) {
-      if (delayedPersist != null) {
-        return;
-      }
-
-      delayedPersist = delayedPersistThreadPool.schedule(new Runnable() {
-
-        @Override
-        public void run() {
-          try {
-            persist(subject);
-          } catch (IOException e) {
-            logger.error(e.getMessage(), e);
-          }
-        }
-      }, maxDelaySec, TimeUnit.SECONDS);
-    }
-  }
-
-  private void stopDelayedPersistTimer() {
-    synchronized (this) {
-      if (delayedPersist == null) {
-        return;
-      }
-
-      delayedPersist.cancel(false);
-    }
-  }
-
   public Map<String, Object> getConfig() {
     if (config == null) {
       config = new HashMap<>();
@@ -998,7 +1134,6 @@ public class Note implements ParagraphJobListener, JsonSerializable {
     return result;
   }
 
-  @VisibleForTesting
   public static Gson getGson() {
     return gson;
   }
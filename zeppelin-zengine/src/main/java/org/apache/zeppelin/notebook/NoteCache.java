@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.interpreter.InterpreterResultMessage;
+
+/**
+ * Bookkeeping of loaded notes, when zeppelin.notebook.cache.maxBytes is set.
+ *
+ * Tracks estimated size and last access of every loaded note in access order, and hands out
+ * the least recently used notes, idle for at least minIdleMs, once the total exceeds maxBytes.
+ * Notebook decides whether a candidate can actually be unloaded.
+ */
+class NoteCache {
+  static final long DEFAULT_MIN_IDLE_MS = 60 * 1000;
+  // rough size of paragraph config, settings and dates
+  private static final int PARAGRAPH_OVERHEAD_BYTES = 1024;
+
+  private final long maxBytes;
+  private final long minIdleMs;
+  // loaded notes by id, least recently used first
+  private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long loadedBytes;
+
+  NoteCache(long maxBytes, long minIdleMs) {
+    this.maxBytes = maxBytes;
+    this.minIdleMs = minIdleMs;
+  }
+
+  /**
+   * Record an access to a loaded note and update its estimated size.
+   *
+   * @param accessTime 0 for a note loaded on startup and not used yet,
+   *                   which can be unloaded right away
+   */
+  void touch(Note note, long accessTime) {
+    long size = estimateSize(note);
+    synchronized (this) {
+      Entry entry = entries.get(note.getId());
+      if (entry == null) {
+        entry = new Entry(note);
+        entries.put(note.getId(), entry);
+      }
+      loadedBytes += size - entry.size;
+      entry.note = note;
+      entry.size = size;
+      entry.accessTime = Math.max(entry.accessTime, accessTime);
+    }
+  }
+
+  synchronized void remove(String noteId) {
+    Entry entry = entries.remove(noteId);
+    if (entry != null) {
+      loadedBytes -= entry.size;
+    }
+  }
+
+  synchronized void clear() {
+    entries.clear();
+    loadedBytes = 0;
+  }
+
+  synchronized boolean isFull() {
+    return loadedBytes > maxBytes;
+  }
+
+  /**
+   * Loaded notes idle for at least minIdleMs, least recently used first.
+   */
+  synchronized List<Note> evictionCandidates(long now) {
+    List<Note> candidates = new ArrayList<>();
+    for (Entry entry : entries.values()) {
+      if (now - entry.accessTime >= minIdleMs) {
+        candidates.add(entry.note);
+      }
+    }
+    return candidates;
+  }
+
+  synchronized long getLoadedBytes() {
+    return loadedBytes;
+  }
+
+  synchronized int getLoadedCount() {
+    return entries.size();
+  }
+
+  /**
+   * Estimated heap size of paragraph texts and results of the note, in bytes.
+   */
+  static long estimateSize(Note note) {
+    long chars = 0;
+    long size = 0;
+    for (Paragraph p : note.getParagraphs()) {
+      size += PARAGRAPH_OVERHEAD_BYTES;
+      if (p.getText() != null) {
+        chars += p.getText().length();
+      }
+      Object ret = p.getReturn();
+      if (ret instanceof InterpreterResult) {
+        for (InterpreterResultMessage msg : ((InterpreterResult) ret).message()) {
+          if (msg.getData() != null) {
+            chars += msg.getData().length();
+          }
+        }
+      }
+    }
+    return size + chars * 2;
+  }
+
+  private static class Entry {
+    Note note;
+    long size;
+    long accessTime;
+
+    Entry(Note note) {
+      this.note = note;
+    }
+  }
+}
@@ -17,16 +17,32 @@
 
 package org.apache.zeppelin.notebook;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Type;
 import java.util.HashMap;
 import java.util.Map;
 
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
 /**
  *
  */
 public class NoteInfo {
+  private static final Gson gson = new Gson();
+  private static final Type CONFIG_TYPE = new TypeToken<Map<String, Object>>() {}.getType();
+
   String id;
   String name;
   private Map<String, Object> config = new HashMap<>();
+  // last modified time and size of the stored note this info is read from,
+  // for repositories that store it (0 otherwise)
+  private long lastModified;
+  private long size;
 
   public NoteInfo(String id, String name, Map<String, Object> config) {
     super();
@@ -41,6 +57,40 @@ public class NoteInfo {
     config = note.getConfig();
   }
 
+  /**
+   * Read id, name and config of note.json without deserializing paragraphs
+   */
+  public static NoteInfo readHeader(Reader in) throws IOException {
+    String id = null;
+    String name = "";
+    Map<String, Object> config = new HashMap<>();
+
+    JsonReader reader = new JsonReader(in);
+    reader.setLenient(true);
+    try {
+      reader.beginObject();
+      while (reader.hasNext()) {
+        String field = reader.nextName();
+        if (reader.peek() == JsonToken.NULL) {
+          reader.skipValue();
+        } else if ("id".equals(field)) {
+          id = reader.nextString();
+        } else if ("name".equals(field)) {
+          name = reader.nextString();
+        } else if ("config".equals(field)) {
+          config = gson.fromJson(reader, CONFIG_TYPE);
+        } else {
+          reader.skipValue();
+        }
+      }
+    } catch (IllegalStateException | JsonParseException e) {
+      throw new IOException("Invalid note.json", e);
+    } finally {
+      reader.close();
+    }
+    return new NoteInfo(id, name, config);
+  }
+
   public String getId() {
     return id;
   }
@@ -65,4 +115,20 @@ public class NoteInfo {
     this.config = config;
   }
 
+  public long getLastModified() {
+    return lastModified;
+  }
+
+  public void setLastModified(long lastModified) {
+    this.lastModified = lastModified;
+  }
+
+  public long getSize() {
+    return size;
+  }
+
+  public void setSize(long size) {
+    this.size = size;
+  }
+
 }
@@ -0,0 +1,402 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.zeppelin.user.AuthenticationInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.util.concurrent.SettableFuture;
+
+/**
+ * Writes notes to the notebook repo for Note.persist(), see zeppelin.notebook.persist.mode.
+ *
+ *  - sync   the note is written on the calling thread.
+ *  - batch  the note is queued and the caller waits until it is written. The writer thread saves
+ *           all notes queued meanwhile, each note once however many times it was persisted,
+ *           so callers persisting the same note at once share a single write.
+ *  - async  the note is queued and the caller returns right away. A note persisted again before
+ *           it is written is written once. Queued changes are lost if the process dies.
+ *
+ * Delayed persist queues the note to be written after the delay, in every mode.
+ * close() writes everything queued before returning.
+ */
+public class NotePersister {
+  private static final Logger logger = LoggerFactory.getLogger(NotePersister.class);
+
+  /**
+   * Persister of notes created outside of a Notebook
+   */
+  static final NotePersister DEFAULT = new NotePersister(Mode.SYNC);
+
+  /**
+   * See zeppelin.notebook.persist.mode
+   */
+  public enum Mode {
+    SYNC, BATCH, ASYNC
+  }
+
+  private final Mode mode;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  // signalled when a note is queued, or on close
+  private final Condition queued = lock.newCondition();
+
+  // guarded by lock
+  // notes to write by id, in the order they were queued
+  private final Map<String, PendingWrite> queue = new LinkedHashMap<>();
+  private Thread writer;
+  private boolean closed;
+
+  // metrics, guarded by lock
+  private long persists;
+  private long coalesced;
+  private long writes;
+  private long failures;
+  private long batches;
+  private int maxQueueDepth;
+  private long totalWriteLatencyMs;
+  private long maxWriteLatencyMs;
+  private long estimatedBytesWritten;
+
+  public NotePersister(Mode mode) {
+    this.mode = mode;
+  }
+
+  /**
+   * Parse zeppelin.notebook.persist.mode, sync when it's not valid.
+   */
+  public static Mode parseMode(String mode) {
+    try {
+      return Mode.valueOf(mode.trim().toUpperCase());
+    } catch (IllegalArgumentException | NullPointerException e) {
+      logger.warn("Invalid persist mode {}, using sync", mode);
+      return Mode.SYNC;
+    }
+  }
+
+  public Mode getMode() {
+    return mode;
+  }
+
+  /**
+   * Write the note according to the mode.
+   */
+  public void persist(Note note, AuthenticationInfo subject) throws IOException {
+    if (mode == Mode.SYNC || closed()) {
+      PendingWrite pending = dequeue(note);
+      countPersist(pending != null);
+      write(note, subject, pending);
+    } else if (mode == Mode.BATCH) {
+      waitFor(enqueue(note, subject, 0));
+    } else {
+      enqueue(note, subject, 0);
+    }
+  }
+
+  /**
+   * Write the note within delayMs, together with everything persisted meanwhile.
+   */
+  public void persistLater(Note note, AuthenticationInfo subject, long delayMs) {
+    if (closed()) {
+      countPersist(false);
+      write(new PendingWrite(note, subject, 0));
+    } else {
+      enqueue(note, subject, delayMs);
+    }
+  }
+
+  /**
+   * Write the note now when it is queued.
+   */
+  public void flush(Note note) throws IOException {
+    PendingWrite pending = dequeue(note);
+    if (pending != null) {
+      write(note, pending.subject, pending);
+    }
+  }
+
+  /**
+   * Drop the queued write of a removed note.
+   */
+  public void discard(Note note) {
+    PendingWrite pending = dequeue(note);
+    if (pending != null) {
+      pending.done.set(null);
+    }
+  }
+
+  /**
+   * Write every queued note and stop the writer thread.
+   */
+  public void close() {
+    Thread writerToJoin;
+    lock.lock();
+    try {
+      closed = true;
+      queued.signalAll();
+      writerToJoin = writer;
+    } finally {
+      lock.unlock();
+    }
+    if (writerToJoin != null) {
+      try {
+        writerToJoin.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    // notes queued after the writer stopped
+    for (PendingWrite pending : takeDue(true)) {
+      write(pending);
+    }
+  }
+
+  private PendingWrite enqueue(Note note, AuthenticationInfo subject, long delayMs) {
+    long dueTime = System.currentTimeMillis() + delayMs;
+    lock.lock();
+    try {
+      PendingWrite pending = queue.get(note.getId());
+      countPersist(pending != null);
+      if (pending == null) {
+        pending = new PendingWrite(note, subject, dueTime);
+        queue.put(note.getId(), pending);
+        maxQueueDepth = Math.max(maxQueueDepth, queue.size());
+      } else {
+        pending.note = note;
+        pending.subject = subject;
+        pending.dueTime = Math.min(pending.dueTime, dueTime);
+      }
+      if (writer == null && !closed) {
+        writer = new Thread(new Runnable() {
+          @Override
+          public void run() {
+            writeQueuedNotes();
+          }
+        }, "NotePersister");
+        writer.setDaemon(true);
+        writer.start();
+      }
+      queued.signal();
+      return pending;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private PendingWrite dequeue(Note note) {
+    lock.lock();
+    try {
+      return queue.remove(note.getId());
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void countPersist(boolean coalescedWithQueued) {
+    lock.lock();
+    try {
+      persists++;
+      if (coalescedWithQueued) {
+        coalesced++;
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void waitFor(PendingWrite pending) throws IOException {
+    try {
+      pending.done.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while persisting note " + pending.note.getId());
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      throw new IOException(e.getCause());
+    }
+  }
+
+  private void writeQueuedNotes() {
+    while (true) {
+      lock.lock();
+      try {
+        while (!closed && !hasDueWrite()) {
+          if (queue.isEmpty()) {
+            queued.await();
+          } else {
+            queued.await(nextDueTime() - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+          }
+        }
+        if (closed && queue.isEmpty()) {
+          writer = null;
+          return;
+        }
+      } catch (InterruptedException e) {
+        logger.error("Note persister interrupted, {} notes not written", queue.size());
+        writer = null;
+        return;
+      } finally {
+        lock.unlock();
+      }
+
+      for (PendingWrite pending : takeDue(closed())) {
+        write(pending);
+      }
+      lock.lock();
+      try {
+        batches++;
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  private boolean closed() {
+    lock.lock();
+    try {
+      return closed;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  // called with the lock held
+  private boolean hasDueWrite() {
+    return !queue.isEmpty() && nextDueTime() <= System.currentTimeMillis();
+  }
+
+  // called with the lock held
+  private long nextDueTime() {
+    long next = Long.MAX_VALUE;
+    for (PendingWrite pending : queue.values()) {
+      next = Math.min(next, pending.dueTime);
+    }
+    return next;
+  }
+
+  private List<PendingWrite> takeDue(boolean all) {
+    List<PendingWrite> due = new ArrayList<>();
+    long now = System.currentTimeMillis();
+    lock.lock();
+    try {
+      Iterator<PendingWrite> it = queue.values().iterator();
+      while (it.hasNext()) {
+        PendingWrite pending = it.next();
+        if (all || pending.dueTime <= now) {
+          due.add(pending);
+          it.remove();
+        }
+      }
+    } finally {
+      lock.unlock();
+    }
+    return due;
+  }
+
+  private void write(PendingWrite pending) {
+    try {
+      write(pending.note, pending.subject, pending);
+    } catch (IOException e) {
+      logger.error("Failed to persist note " + pending.note.getId(), e);
+    }
+  }
+
+  private void write(Note note, AuthenticationInfo subject, PendingWrite pending)
+      throws IOException {
+    long start = System.currentTimeMillis();
+    try {
+      note.save(subject);
+    } catch (IOException | RuntimeException e) {
+      lock.lock();
+      try {
+        failures++;
+      } finally {
+        lock.unlock();
+      }
+      if (pending != null) {
+        pending.done.setException(e);
+      }
+      throw e;
+    }
+    long latency = System.currentTimeMillis() - start;
+    long size = NoteCache.estimateSize(note);
+    lock.lock();
+    try {
+      writes++;
+      totalWriteLatencyMs += latency;
+      maxWriteLatencyMs = Math.max(maxWriteLatencyMs, latency);
+      estimatedBytesWritten += size;
+    } finally {
+      lock.unlock();
+    }
+    if (pending != null) {
+      pending.done.set(null);
+    }
+  }
+
+  public Map<String, Object> getMetrics() {
+    Map<String, Object> metrics = new LinkedHashMap<>();
+    lock.lock();
+    try {
+      metrics.put("mode", mode.name().toLowerCase());
+      metrics.put("queueDepth", queue.size());
+      metrics.put("maxQueueDepth", maxQueueDepth);
+      metrics.put("persists", persists);
+      metrics.put("coalesced", coalesced);
+      metrics.put("writes", writes);
+      metrics.put("failures", failures);
+      metrics.put("batches", batches);
+      metrics.put("avgWriteLatencyMs", writes == 0 ? 0 : totalWriteLatencyMs / writes);
+      metrics.put("maxWriteLatencyMs", maxWriteLatencyMs);
+      metrics.put("estimatedBytesWritten", estimatedBytesWritten);
+    } finally {
+      lock.unlock();
+    }
+    return metrics;
+  }
+
+  /**
+   * A queued note, written once for every persist since it was queued
+   */
+  private static class PendingWrite {
+    Note note;
+    AuthenticationInfo subject;
+    long dueTime;
+    final SettableFuture<Void> done = SettableFuture.create();
+
+    PendingWrite(Note note, AuthenticationInfo subject, long dueTime) {
+      this.note = note;
+      this.subject = subject;
+      this.dueTime = dueTime;
+    }
+  }
+}
@@ -18,6 +18,7 @@
 package org.apache.zeppelin.notebook;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
@@ -28,6 +29,11 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 import com.google.common.base.Preconditions;
@@ -56,6 +62,7 @@ import org.apache.zeppelin.display.AngularObjectRegistry;
 import org.apache.zeppelin.notebook.repo.NotebookRepo;
 import org.apache.zeppelin.notebook.repo.NotebookRepo.Revision;
 import org.apache.zeppelin.notebook.repo.NotebookRepoSync;
+import org.apache.zeppelin.scheduler.ExecutorFactory;
 import org.apache.zeppelin.scheduler.Job;
 import org.apache.zeppelin.scheduler.SchedulerFactory;
 import org.apache.zeppelin.search.SearchService;
@@ -78,6 +85,13 @@ public class Notebook implements NoteEventListener {
    */
   private final Map<String, Note> notes = new LinkedHashMap<>();
   private final FolderView folders = new FolderView();
+  /**
+   * Loaded notes, when zeppelin.notebook.cache.maxBytes is set. null keeps all notes loaded.
+   */
+  private NoteCache noteCache;
+  // job manager items of unloaded notes
+  private final Map<String, NoteJobs> unloadedNoteJobs = new ConcurrentHashMap<>();
+  private final NotePersister persister;
   private ZeppelinConfiguration conf;
   private StdSchedulerFactory quertzSchedFact;
   private org.quartz.Scheduler quartzSched;
@@ -115,9 +129,21 @@ public class Notebook implements NoteEventListener {
     quartzSched.start();
     CronJob.notebook = this;
 
+    long cacheMaxBytes = conf.getLong(ConfVars.ZEPPELIN_NOTEBOOK_CACHE_MAX_BYTES);
+    if (cacheMaxBytes > 0) {
+      // notes are indexed one by one while loading, before they can be unloaded
+      noteCache = new NoteCache(cacheMaxBytes, NoteCache.DEFAULT_MIN_IDLE_MS);
+    }
+    persister = new NotePersister(
+        NotePersister.parseMode(conf.getString(ConfVars.ZEPPELIN_NOTEBOOK_PERSIST_MODE)));
+
     AuthenticationInfo anonymous = AuthenticationInfo.ANONYMOUS;
-    loadAllNotes(anonymous);
-    if (this.noteSearchService != null) {
+    List<NoteInfo> noteInfos = loadAllNotes(anonymous);
+    if (this.noteSearchService != null && noteCache != null) {
+      // loaded notes are indexed already, drop the ones deleted while the server was down
+      noteSearchService.retainIndexDocs(noteIds(noteInfos));
+    }
+    if (this.noteSearchService != null && noteCache == null) {
       long start = System.nanoTime();
       logger.info("Notebook indexing started...");
       noteSearchService.addIndexDocs(notes.values());
@@ -154,10 +180,14 @@ public class Notebook implements NoteEventListener {
         new Note(notebookRepo, replFactory, interpreterSettingManager, jobListenerFactory,
                 noteSearchService, credentials, this);
     note.setNoteNameListener(folders);
+    note.setPersister(persister);
 
     synchronized (notes) {
       notes.put(note.getId(), note);
     }
+    if (noteCache != null) {
+      noteCache.touch(note, System.currentTimeMillis());
+    }
     if (interpreterIds != null) {
       bindInterpretersToNote(subject.getUser(), note.getId(), interpreterIds);
     }
@@ -290,9 +320,96 @@ public class Notebook implements NoteEventListener {
   }
 
   public Note getNote(String id) {
+    Note note;
     synchronized (notes) {
-      return notes.get(id);
+      note = notes.get(id);
+    }
+    if (note != null && noteCache != null) {
+      loadNote(note);
+      noteCache.touch(note, System.currentTimeMillis());
+      evictNotes();
+    }
+    return note;
+  }
+
+  /**
+   * Load paragraphs, forms and angular objects of an unloaded note back from the repo.
+   * Angular objects stay in the interpreter registries while a note is unloaded,
+   * so they are not restored again.
+   */
+  private void loadNote(Note note) {
+    if (note.isLoaded()) {
+      return;
     }
+    synchronized (note.paragraphs) {
+      if (note.isLoaded()) {
+        return;
+      }
+      Note stored;
+      try {
+        stored = notebookRepo.get(note.getId(), AuthenticationInfo.ANONYMOUS);
+      } catch (IOException e) {
+        logger.error("Failed to load " + note.getId(), e);
+        return;
+      }
+      if (stored == null) {
+        logger.error("Failed to load {}, not found in the notebook repo", note.getId());
+        return;
+      }
+      convertFromSingleResultToMultipleResultsFormat(stored);
+      note.load(stored);
+      note.setInterpreterFactory(replFactory);
+      for (Paragraph p : note.getParagraphs()) {
+        p.clearRuntimeInfo(null);
+      }
+    }
+    unloadedNoteJobs.remove(note.getId());
+  }
+
+  /**
+   * Unload least recently used idle notes until the loaded notes fit in
+   * zeppelin.notebook.cache.maxBytes.
+   */
+  private void evictNotes() {
+    if (!noteCache.isFull()) {
+      return;
+    }
+    for (Note note : noteCache.evictionCandidates(System.currentTimeMillis())) {
+      unloadNote(note);
+      if (!noteCache.isFull()) {
+        break;
+      }
+    }
+  }
+
+  /**
+   * Notes with a running or pending paragraph or a cron schedule stay loaded.
+   * A queued persist is written before unloading, every other change has already been
+   * persisted by the caller that made it.
+   */
+  private void unloadNote(Note note) {
+    if (!note.isLoaded() || note.isRunningOrPending() || hasCron(note)) {
+      return;
+    }
+    try {
+      persister.flush(note);
+    } catch (IOException e) {
+      logger.error("Failed to persist " + note.getId() + ", keep it loaded", e);
+      return;
+    }
+    synchronized (note.paragraphs) {
+      if (!note.isLoaded() || note.isRunningOrPending()) {
+        return;
+      }
+      unloadedNoteJobs.put(note.getId(), getNoteJobs(note));
+      note.unload();
+    }
+    noteCache.remove(note.getId());
+  }
+
+  private boolean hasCron(Note note) {
+    Object cronExpr = note.getConfig().get("cron");
+    return cronExpr instanceof String && ((String) cronExpr).trim().length() > 0;
   }
 
   public Folder getFolder(String folderId) {
@@ -324,6 +441,12 @@ public class Notebook implements NoteEventListener {
       note = notes.remove(id);
       folders.removeNote(note);
     }
+    if (noteCache != null && note != null) {
+      // paragraphs are needed below to remove angular objects of an unloaded note
+      loadNote(note);
+      noteCache.remove(id);
+      unloadedNoteJobs.remove(id);
+    }
     try {
       interpreterSettingManager.removeNoteInterpreterSettingBinding(subject.getUser(), id);
     } catch (IOException e) {
@@ -377,6 +500,7 @@ public class Notebook implements NoteEventListener {
     fireNoteRemoveEvent(note);
 
     try {
+      persister.discard(note);
       note.unpersist(subject);
     } catch (IOException e) {
       logger.error(e.toString(), e);
@@ -473,8 +597,16 @@ public class Notebook implements NoteEventListener {
     }
   }
 
-  @SuppressWarnings("rawtypes")
   public Note loadNoteFromRepo(String id, AuthenticationInfo subject) {
+    return loadNoteFromRepo(id, subject, System.currentTimeMillis());
+  }
+
+  /**
+   * @param accessTime last access of the note for the note cache,
+   *                   0 when it is loaded on startup and can be unloaded right away
+   */
+  @SuppressWarnings("rawtypes")
+  private Note loadNoteFromRepo(String id, AuthenticationInfo subject, long accessTime) {
     Note note = null;
     try {
       note = notebookRepo.get(id, subject);
@@ -527,6 +659,7 @@ public class Notebook implements NoteEventListener {
 
     note.setNoteEventListener(this);
     note.setNoteNameListener(folders);
+    note.setPersister(persister);
 
     synchronized (notes) {
       notes.put(note.getId(), note);
@@ -553,15 +686,69 @@ public class Notebook implements NoteEventListener {
       }
     }
 
+    if (noteCache != null) {
+      if (noteSearchService != null) {
+        try {
+          noteSearchService.updateIndexDoc(note);
+        } catch (IOException e) {
+          logger.error("Failed to index " + note.getId(), e);
+        }
+      }
+      unloadedNoteJobs.remove(note.getId());
+      noteCache.touch(note, accessTime);
+      evictNotes();
+    }
+
     return note;
   }
 
-  void loadAllNotes(AuthenticationInfo subject) throws IOException {
+  List<NoteInfo> loadAllNotes(AuthenticationInfo subject) throws IOException {
     List<NoteInfo> noteInfos = notebookRepo.list(subject);
+    loadNotesFromRepo(noteInfos, subject);
+    return noteInfos;
+  }
 
+  private static List<String> noteIds(List<NoteInfo> noteInfos) {
+    List<String> ids = new ArrayList<>(noteInfos.size());
     for (NoteInfo info : noteInfos) {
-      loadNoteFromRepo(info.getId(), subject);
+      ids.add(info.getId());
     }
+    return ids;
+  }
+
+  /**
+   * Load notes in parallel, zeppelin.notebook.load.threads at a time.
+   * A note that fails to load is logged and skipped.
+   */
+  private void loadNotesFromRepo(List<NoteInfo> noteInfos, final AuthenticationInfo subject)
+      throws IOException {
+    long start = System.currentTimeMillis();
+    List<Callable<Note>> tasks = new ArrayList<>(noteInfos.size());
+    for (final NoteInfo info : noteInfos) {
+      tasks.add(new Callable<Note>() {
+        @Override
+        public Note call() throws Exception {
+          return loadNoteFromRepo(info.getId(), subject, 0);
+        }
+      });
+    }
+
+    ExecutorService executor = ExecutorFactory.singleton().createOrGetJobExecutor(
+        "Notebook.loadNotes", Math.max(1, conf.getInt(ConfVars.ZEPPELIN_NOTEBOOK_LOAD_THREADS)));
+    try {
+      List<Future<Note>> futures = executor.invokeAll(tasks);
+      for (int i = 0; i < futures.size(); i++) {
+        try {
+          futures.get(i).get();
+        } catch (ExecutionException e) {
+          logger.error("Failed to load " + noteInfos.get(i).getId(), e.getCause());
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while loading notes");
+    }
+    logger.info("{} notes loaded in {} ms", noteInfos.size(), System.currentTimeMillis() - start);
   }
 
   /**
@@ -574,6 +761,10 @@ public class Notebook implements NoteEventListener {
     synchronized (notes) {
       notes.clear();
     }
+    if (noteCache != null) {
+      noteCache.clear();
+      unloadedNoteJobs.clear();
+    }
     synchronized (folders) {
       folders.clear();
     }
@@ -586,9 +777,9 @@ public class Notebook implements NoteEventListener {
     }
 
     List<NoteInfo> noteInfos = notebookRepo.list(subject);
-
-    for (NoteInfo info : noteInfos) {
-      loadNoteFromRepo(info.getId(), subject);
+    loadNotesFromRepo(noteInfos, subject);
+    if (noteSearchService != null && noteCache != null) {
+      noteSearchService.retainIndexDocs(noteIds(noteInfos));
     }
   }
 
@@ -652,11 +843,12 @@ public class Notebook implements NoteEventListener {
       entities.addAll(userAndRoles);
     }
 
+    final Predicate<String> readable = notebookAuthorization.readableBy(entities);
     synchronized (notes) {
       return FluentIterable.from(notes.values()).filter(new Predicate<Note>() {
         @Override
         public boolean apply(Note input) {
-          return input != null && notebookAuthorization.isReader(input.getId(), entities);
+          return input != null && readable.apply(input.getId());
         }
       }).toSortedList(new Comparator<Note>() {
         @Override
@@ -729,7 +921,7 @@ public class Notebook implements NoteEventListener {
     List<Note> notes = getAllNotes();
     for (Note note : notes) {
       Paragraph p = note.getParagraph(paragraphId);
-      if (p != null) {
+      if (p != null || hasUnloadedParagraph(note.getId(), paragraphId)) {
         gotNoteId = note.getId();
       }
     }
@@ -836,24 +1028,12 @@ public class Notebook implements NoteEventListener {
       }
 
       // set paragraphs
-      List<Map<String, Object>> paragraphsInfo = new LinkedList<>();
-      for (Paragraph paragraph : note.getParagraphs()) {
-        // check paragraph's status.
-        if (paragraph.getStatus().isRunning()) {
-          isNoteRunning = true;
-          isUpdateNote = true;
-        }
-
-        // get data for the job manager.
-        Map<String, Object> paragraphItem = getParagraphForJobManagerItem(paragraph);
-        lastRunningUnixTime = Math.max(getUnixTimeLastRunParagraph(paragraph), lastRunningUnixTime);
-
-        // is update note for last server update time.
-        if (lastRunningUnixTime > lastUpdateServerUnixTime) {
-          isUpdateNote = true;
-        }
-        paragraphsInfo.add(paragraphItem);
-      }
+      NoteJobs jobs = getNoteJobs(note);
+      List<Map<String, Object>> paragraphsInfo = jobs.paragraphs;
+      isNoteRunning = jobs.running;
+      lastRunningUnixTime = jobs.lastRunUnixTime;
+      // is update note for last server update time.
+      isUpdateNote = isNoteRunning || lastRunningUnixTime > lastUpdateServerUnixTime;
 
       // set interpreter bind type
       String interpreterGroupName = null;
@@ -879,6 +1059,49 @@ public class Notebook implements NoteEventListener {
     return notesInfo;
   }
 
+  /**
+   * Job manager items of the paragraphs of a note. Kept for unloaded notes.
+   */
+  private static class NoteJobs {
+    final List<Map<String, Object>> paragraphs = new LinkedList<>();
+    long lastRunUnixTime;
+    boolean running;
+  }
+
+  private NoteJobs getNoteJobs(Note note) {
+    if (!note.isLoaded()) {
+      NoteJobs jobs = unloadedNoteJobs.get(note.getId());
+      if (jobs != null) {
+        return jobs;
+      }
+    }
+    NoteJobs jobs = new NoteJobs();
+    for (Paragraph paragraph : note.getParagraphs()) {
+      // check paragraph's status.
+      if (paragraph.getStatus().isRunning()) {
+        jobs.running = true;
+      }
+      // get data for the job manager.
+      jobs.paragraphs.add(getParagraphForJobManagerItem(paragraph));
+      jobs.lastRunUnixTime =
+          Math.max(getUnixTimeLastRunParagraph(paragraph), jobs.lastRunUnixTime);
+    }
+    return jobs;
+  }
+
+  private boolean hasUnloadedParagraph(String noteId, String paragraphId) {
+    NoteJobs jobs = unloadedNoteJobs.get(noteId);
+    if (jobs == null) {
+      return false;
+    }
+    for (Map<String, Object> paragraph : jobs.paragraphs) {
+      if (paragraphId.equals(paragraph.get("id"))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   /**
    * Cron task for the note.
    */
@@ -997,7 +1220,18 @@ public class Notebook implements NoteEventListener {
     return conf;
   }
 
+  /**
+   * Metrics of note writes, see zeppelin.notebook.persist.mode
+   */
+  public Map<String, Object> getPersistMetrics() {
+    return persister.getMetrics();
+  }
+
   public void close() {
+    if (CronJob.notebook == this) {
+      CronJob.notebook = null;
+    }
+    persister.close();
     this.notebookRepo.close();
     this.noteSearchService.close();
   }
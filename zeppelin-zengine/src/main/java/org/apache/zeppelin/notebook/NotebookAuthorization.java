@@ -17,13 +17,9 @@
 
 package org.apache.zeppelin.notebook;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.OutputStreamWriter;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -31,6 +27,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.lang.StringUtils;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
@@ -40,13 +37,16 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.base.Predicate;
+import com.google.common.base.Predicates;
 import com.google.common.collect.FluentIterable;
 import com.google.common.collect.Sets;
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 
 /**
  * Contains authorization information for notes
+ *
+ * Changes are appended to a journal, see NotebookAuthorizationJournal. Notes are indexed by the
+ * users and roles they list, so the notes a user can read are found without checking the
+ * permissions of every note.
  */
 public class NotebookAuthorization {
   private static final Logger LOG = LoggerFactory.getLogger(NotebookAuthorization.class);
@@ -55,14 +55,29 @@ public class NotebookAuthorization {
    * { "note1": { "owners": ["u1"], "readers": ["u1", "u2"], "runners": ["u2"],
    * "writers": ["u1"] },  "note2": ... } }
    */
-  private static Map<String, Map<String, Set<String>>> authInfo = new HashMap<>();
+  private static Map<String, Map<String, Set<String>>> authInfo = new ConcurrentHashMap<>();
+  private static final String[] PERMISSIONS = {"owners", "readers", "runners", "writers"};
+  /*
+   * user or role -> notes listing it as owner, reader, runner or writer
+   */
+  private static Map<String, Set<String>> principalNotes = new HashMap<>();
+  /*
+   * note -> users and roles indexed in principalNotes for it, a set is replaced and never changed
+   * so isReader can check it without the lock
+   */
+  private static Map<String, Set<String>> notePrincipals = new ConcurrentHashMap<>();
+  /*
+   * notes with an empty permission, readable by everyone
+   */
+  private static Set<String> openNotes =
+      Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
   /*
    * contains roles for each user
    */
   private static Map<String, Set<String>> userRoles = new HashMap<>();
   private static ZeppelinConfiguration conf;
-  private static Gson gson;
   private static String filePath;
+  private static NotebookAuthorizationJournal journal;
 
   private NotebookAuthorization() {}
 
@@ -71,9 +86,8 @@ public class NotebookAuthorization {
       instance = new NotebookAuthorization();
       conf = config;
       filePath = conf.getNotebookAuthorizationPath();
-      GsonBuilder builder = new GsonBuilder();
-      builder.setPrettyPrinting();
-      gson = builder.create();
+      journal = new NotebookAuthorizationJournal(new File(filePath),
+          conf.getInt(ConfVars.ZEPPELIN_NOTEBOOK_AUTHORIZATION_JOURNAL_SIZE));
       try {
         loadFromFile();
       } catch (IOException e) {
@@ -95,24 +109,24 @@ public class NotebookAuthorization {
   private static void loadFromFile() throws IOException {
     File settingFile = new File(filePath);
     LOG.info(settingFile.getAbsolutePath());
-    if (!settingFile.exists()) {
-      // nothing to read
-      return;
+    Map<String, Map<String, Set<String>>> loaded = journal.load();
+    synchronized (instance) {
+      authInfo = new ConcurrentHashMap<>();
+      for (Map.Entry<String, Map<String, Set<String>>> e : loaded.entrySet()) {
+        if (e.getValue() != null) {
+          authInfo.put(e.getKey(), e.getValue());
+        }
+      }
+      principalNotes.clear();
+      notePrincipals.clear();
+      openNotes.clear();
+      for (String noteId : authInfo.keySet()) {
+        updateIndex(noteId);
+      }
     }
-    FileInputStream fis = new FileInputStream(settingFile);
-    InputStreamReader isr = new InputStreamReader(fis);
-    BufferedReader bufferedReader = new BufferedReader(isr);
-    StringBuilder sb = new StringBuilder();
-    String line;
-    while ((line = bufferedReader.readLine()) != null) {
-      sb.append(line);
+    if (journal.size() > 0) {
+      journal.compact(authInfo);
     }
-    isr.close();
-    fis.close();
-
-    String json = sb.toString();
-    NotebookAuthorizationInfoSaving info = NotebookAuthorizationInfoSaving.fromJson(json);
-    authInfo = info.authInfo;
   }
   
   public void setRoles(String user, Set<String> roles) {
@@ -132,30 +146,64 @@ public class NotebookAuthorization {
     return roles;
   }
   
-  private void saveToFile() {
-    String jsonString;
-
-    synchronized (authInfo) {
-      NotebookAuthorizationInfoSaving info = new NotebookAuthorizationInfoSaving();
-      info.authInfo = authInfo;
-      jsonString = gson.toJson(info);
-    }
-
+  /**
+   * Index and journal the permissions of the note. Must be called with this locked
+   */
+  private void saveToFile(String noteId) {
+    updateIndex(noteId);
     try {
-      File settingFile = new File(filePath);
-      if (!settingFile.exists()) {
-        settingFile.createNewFile();
+      if (journal.append(noteId, authInfo.get(noteId))) {
+        journal.compact(authInfo);
       }
-
-      FileOutputStream fos = new FileOutputStream(settingFile, false);
-      OutputStreamWriter out = new OutputStreamWriter(fos);
-      out.append(jsonString);
-      out.close();
-      fos.close();
     } catch (IOException e) {
       LOG.error("Error saving notebook authorization file: " + e.getMessage());
     }
   }
+
+  private static void updateIndex(String noteId) {
+    Map<String, Set<String>> noteAuthInfo = authInfo.get(noteId);
+    Set<String> principals = new HashSet<>();
+    boolean open = false;
+    if (noteAuthInfo != null) {
+      for (String permission : PERMISSIONS) {
+        Set<String> entities = noteAuthInfo.get(permission);
+        if (entities == null || entities.isEmpty()) {
+          open = true;
+        } else {
+          principals.addAll(entities);
+        }
+      }
+    }
+
+    Set<String> indexed = notePrincipals.get(noteId);
+    if (indexed != null) {
+      for (String principal : Sets.difference(indexed, principals)) {
+        Set<String> notes = principalNotes.get(principal);
+        notes.remove(noteId);
+        if (notes.isEmpty()) {
+          principalNotes.remove(principal);
+        }
+      }
+    }
+    for (String principal : principals) {
+      Set<String> notes = principalNotes.get(principal);
+      if (notes == null) {
+        notes = new HashSet<>();
+        principalNotes.put(principal, notes);
+      }
+      notes.add(noteId);
+    }
+    if (!principals.isEmpty()) {
+      notePrincipals.put(noteId, principals);
+    } else {
+      notePrincipals.remove(noteId);
+    }
+    if (open) {
+      openNotes.add(noteId);
+    } else {
+      openNotes.remove(noteId);
+    }
+  }
   
   public boolean isPublic() {
     return conf.isNotebookPublic();
@@ -171,69 +219,38 @@ public class NotebookAuthorization {
     return returnUser;
   }
 
-  public void setOwners(String noteId, Set<String> entities) {
-    Map<String, Set<String>> noteAuthInfo = authInfo.get(noteId);
-    entities = validateUser(entities);
-    if (noteAuthInfo == null) {
-      noteAuthInfo = new LinkedHashMap();
-      noteAuthInfo.put("owners", new LinkedHashSet(entities));
-      noteAuthInfo.put("readers", new LinkedHashSet());
-      noteAuthInfo.put("runners", new LinkedHashSet());
-      noteAuthInfo.put("writers", new LinkedHashSet());
-    } else {
-      noteAuthInfo.put("owners", new LinkedHashSet(entities));
-    }
-    authInfo.put(noteId, noteAuthInfo);
-    saveToFile();
+  public synchronized void setOwners(String noteId, Set<String> entities) {
+    putEntities(noteId, "owners", entities);
+    saveToFile(noteId);
   }
 
-  public void setReaders(String noteId, Set<String> entities) {
-    Map<String, Set<String>> noteAuthInfo = authInfo.get(noteId);
-    entities = validateUser(entities);
-    if (noteAuthInfo == null) {
-      noteAuthInfo = new LinkedHashMap();
-      noteAuthInfo.put("owners", new LinkedHashSet());
-      noteAuthInfo.put("readers", new LinkedHashSet(entities));
-      noteAuthInfo.put("runners", new LinkedHashSet());
-      noteAuthInfo.put("writers", new LinkedHashSet());
-    } else {
-      noteAuthInfo.put("readers", new LinkedHashSet(entities));
-    }
-    authInfo.put(noteId, noteAuthInfo);
-    saveToFile();
+  public synchronized void setReaders(String noteId, Set<String> entities) {
+    putEntities(noteId, "readers", entities);
+    saveToFile(noteId);
   }
 
-  public void setRunners(String noteId, Set<String> entities) {
-    Map<String, Set<String>> noteAuthInfo = authInfo.get(noteId);
-    entities = validateUser(entities);
-    if (noteAuthInfo == null) {
-      noteAuthInfo = new LinkedHashMap();
-      noteAuthInfo.put("owners", new LinkedHashSet());
-      noteAuthInfo.put("readers", new LinkedHashSet());
-      noteAuthInfo.put("runners", new LinkedHashSet(entities));
-      noteAuthInfo.put("writers", new LinkedHashSet());
-    } else {
-      noteAuthInfo.put("runners", new LinkedHashSet(entities));
-    }
-    authInfo.put(noteId, noteAuthInfo);
-    saveToFile();
+  public synchronized void setRunners(String noteId, Set<String> entities) {
+    putEntities(noteId, "runners", entities);
+    saveToFile(noteId);
   }
 
+  public synchronized void setWriters(String noteId, Set<String> entities) {
+    putEntities(noteId, "writers", entities);
+    saveToFile(noteId);
+  }
 
-  public void setWriters(String noteId, Set<String> entities) {
+  private void putEntities(String noteId, String permission, Set<String> entities) {
     Map<String, Set<String>> noteAuthInfo = authInfo.get(noteId);
-    entities = validateUser(entities);
     if (noteAuthInfo == null) {
-      noteAuthInfo = new LinkedHashMap();
-      noteAuthInfo.put("owners", new LinkedHashSet());
-      noteAuthInfo.put("readers", new LinkedHashSet());
-      noteAuthInfo.put("runners", new LinkedHashSet());
-      noteAuthInfo.put("writers", new LinkedHashSet(entities));
+      noteAuthInfo = new LinkedHashMap<>();
+      for (String p : PERMISSIONS) {
+        noteAuthInfo.put(p, new LinkedHashSet<String>());
+      }
     } else {
-      noteAuthInfo.put("writers", new LinkedHashSet(entities));
+      noteAuthInfo = new LinkedHashMap<>(noteAuthInfo);
     }
+    noteAuthInfo.put(permission, new LinkedHashSet<>(validateUser(entities)));
     authInfo.put(noteId, noteAuthInfo);
-    saveToFile();
   }
 
   public Set<String> getOwners(String noteId) {
@@ -243,9 +260,7 @@ public class NotebookAuthorization {
       entities = new HashSet<>();
     } else {
       entities = noteAuthInfo.get("owners");
-      if (entities == null) {
-        entities = new HashSet<>();
-      }
+      entities = entities == null ? new HashSet<String>() : new LinkedHashSet<>(entities);
     }
     return entities;
   }
@@ -257,9 +272,7 @@ public class NotebookAuthorization {
       entities = new HashSet<>();
     } else {
       entities = noteAuthInfo.get("readers");
-      if (entities == null) {
-        entities = new HashSet<>();
-      }
+      entities = entities == null ? new HashSet<String>() : new LinkedHashSet<>(entities);
     }
     return entities;
   }
@@ -271,9 +284,7 @@ public class NotebookAuthorization {
       entities = new HashSet<>();
     } else {
       entities = noteAuthInfo.get("runners");
-      if (entities == null) {
-        entities = new HashSet<>();
-      }
+      entities = entities == null ? new HashSet<String>() : new LinkedHashSet<>(entities);
     }
     return entities;
   }
@@ -285,9 +296,7 @@ public class NotebookAuthorization {
       entities = new HashSet<>();
     } else {
       entities = noteAuthInfo.get("writers");
-      if (entities == null) {
-        entities = new HashSet<>();
-      }
+      entities = entities == null ? new HashSet<String>() : new LinkedHashSet<>(entities);
     }
     return entities;
   }
@@ -303,11 +312,35 @@ public class NotebookAuthorization {
   }
 
   public boolean isReader(String noteId, Set<String> entities) {
-    return isMember(entities, getReaders(noteId)) ||
-           isMember(entities, getOwners(noteId)) ||
-           isMember(entities, getWriters(noteId)) ||
-           isMember(entities, getRunners(noteId)) ||
-           isAdmin(entities);
+    if (openNotes.contains(noteId) || !authInfo.containsKey(noteId) || isAdmin(entities)) {
+      return true;
+    }
+    Set<String> principals = notePrincipals.get(noteId);
+    return principals != null && !Collections.disjoint(principals, entities);
+  }
+
+  /**
+   * Notes the given users and roles can read, that is notes listing one of them or leaving a
+   * permission empty, and notes without authorization info
+   */
+  public synchronized Predicate<String> readableBy(Set<String> entities) {
+    if (isAdmin(entities)) {
+      return Predicates.alwaysTrue();
+    }
+    final Set<String> readable = new HashSet<>();
+    for (String entity : entities) {
+      Set<String> notes = principalNotes.get(entity);
+      if (notes != null) {
+        readable.addAll(notes);
+      }
+    }
+    return new Predicate<String>() {
+      @Override
+      public boolean apply(String noteId) {
+        return openNotes.contains(noteId) || readable.contains(noteId)
+            || !authInfo.containsKey(noteId);
+      }
+    };
   }
 
   public boolean isRunner(String noteId, Set<String> entities) {
@@ -376,9 +409,9 @@ public class NotebookAuthorization {
     return isRunner(noteId, userAndRoles);
   }
 
-  public void removeNote(String noteId) {
+  public synchronized void removeNote(String noteId) {
     authInfo.remove(noteId);
-    saveToFile();
+    saveToFile(noteId);
   }
 
   public List<NoteInfo> filterByUser(List<NoteInfo> notes, AuthenticationInfo subject) {
@@ -386,36 +419,29 @@ public class NotebookAuthorization {
     if (subject != null) {
       entities.add(subject.getUser());
     }
+    final Predicate<String> readable = readableBy(entities);
     return FluentIterable.from(notes).filter(new Predicate<NoteInfo>() {
       @Override
       public boolean apply(NoteInfo input) {
-        return input != null && isReader(input.getId(), entities);
+        return input != null && readable.apply(input.getId());
       }
     }).toList();
   }
   
-  public void setNewNotePermissions(String noteId, AuthenticationInfo subject) {
+  public synchronized void setNewNotePermissions(String noteId, AuthenticationInfo subject) {
     if (!AuthenticationInfo.isAnonymous(subject)) {
-      if (isPublic()) {
-        // add current user to owners - can be public
-        Set<String> owners = getOwners(noteId);
-        owners.add(subject.getUser());
-        setOwners(noteId, owners);
-      } else {
-        // add current user to owners, readers, runners, writers - private note
-        Set<String> entities = getOwners(noteId);
-        entities.add(subject.getUser());
-        setOwners(noteId, entities);
-        entities = getReaders(noteId);
-        entities.add(subject.getUser());
-        setReaders(noteId, entities);
-        entities = getRunners(noteId);
-        entities.add(subject.getUser());
-        setRunners(noteId, entities);
-        entities = getWriters(noteId);
+      // add current user to owners - can be public
+      // and to readers, runners, writers as well - private note
+      String[] permissions = isPublic() ? new String[] {"owners"} : PERMISSIONS;
+      Map<String, Set<String>> noteAuthInfo = authInfo.get(noteId);
+      for (String permission : permissions) {
+        Set<String> entities = noteAuthInfo == null || noteAuthInfo.get(permission) == null ?
+            new HashSet<String>() : new HashSet<>(noteAuthInfo.get(permission));
         entities.add(subject.getUser());
-        setWriters(noteId, entities);
+        putEntities(noteId, permission, entities);
       }
+      // a single journal entry for all permissions
+      saveToFile(noteId);
     }
   }
 }
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+
+/**
+ * Persists NotebookAuthorization as a snapshot, notebook-authorization.json, and an append-only
+ * journal of the changes made since, notebook-authorization.json.journal.
+ *
+ * Each journal line holds all permissions of one note after a change, or none when the note was
+ * removed, so replaying a line twice gives the same result. Once the journal holds compactEvery
+ * lines, it's folded into a new snapshot, written to a temporary file and renamed over the old
+ * one, then emptied.
+ */
+class NotebookAuthorizationJournal implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(NotebookAuthorizationJournal.class);
+  private static final Gson gson = new Gson();
+  private static final Gson snapshotGson = new GsonBuilder().setPrettyPrinting().create();
+
+  private final File snapshot;
+  private final File journal;
+  private final int compactEvery;
+  private Writer writer;
+  private int size;
+
+  NotebookAuthorizationJournal(File snapshot, int compactEvery) {
+    this.snapshot = snapshot;
+    this.journal = new File(snapshot.getPath() + ".journal");
+    this.compactEvery = compactEvery;
+  }
+
+  /**
+   * Read the snapshot and replay the journal on top of it
+   */
+  synchronized Map<String, Map<String, Set<String>>> load() throws IOException {
+    Map<String, Map<String, Set<String>>> authInfo = null;
+    if (snapshot.exists()) {
+      NotebookAuthorizationInfoSaving info = NotebookAuthorizationInfoSaving.fromJson(
+          FileUtils.readFileToString(snapshot, StandardCharsets.UTF_8));
+      authInfo = info == null ? null : info.authInfo;
+    }
+    if (authInfo == null) {
+      authInfo = new HashMap<>();
+    }
+
+    size = 0;
+    if (journal.exists()) {
+      try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+          new FileInputStream(journal), StandardCharsets.UTF_8))) {
+        String line;
+        while ((line = reader.readLine()) != null) {
+          Entry entry;
+          try {
+            entry = gson.fromJson(line, Entry.class);
+          } catch (JsonParseException e) {
+            // last line is cut when the process died while appending it
+            LOG.warn("Ignoring the rest of {} from line {}", journal, size + 1, e);
+            break;
+          }
+          if (entry == null || entry.noteId == null) {
+            continue;
+          }
+          if (entry.authInfo == null) {
+            authInfo.remove(entry.noteId);
+          } else {
+            authInfo.put(entry.noteId, entry.authInfo);
+          }
+          size++;
+        }
+      }
+    }
+    return authInfo;
+  }
+
+  /**
+   * Number of changes in the journal
+   */
+  synchronized int size() {
+    return size;
+  }
+
+  /**
+   * Append permissions of the note to the journal
+   * @param noteAuthInfo permissions of the note, null when it was removed
+   * @return true when the journal is due for compaction
+   */
+  synchronized boolean append(String noteId, Map<String, Set<String>> noteAuthInfo)
+      throws IOException {
+    if (writer == null) {
+      writer = new OutputStreamWriter(new FileOutputStream(journal, true),
+          StandardCharsets.UTF_8);
+    }
+    Entry entry = new Entry();
+    entry.noteId = noteId;
+    entry.authInfo = noteAuthInfo;
+    writer.write(gson.toJson(entry));
+    writer.write('\n');
+    writer.flush();
+    size++;
+    return size >= compactEvery;
+  }
+
+  /**
+   * Replace the snapshot with the given permissions and empty the journal
+   */
+  synchronized void compact(Map<String, Map<String, Set<String>>> authInfo) throws IOException {
+    NotebookAuthorizationInfoSaving info = new NotebookAuthorizationInfoSaving();
+    info.authInfo = authInfo;
+    File tmp = new File(snapshot.getPath() + ".tmp");
+    FileUtils.writeStringToFile(tmp, snapshotGson.toJson(info), StandardCharsets.UTF_8);
+    Files.move(tmp.toPath(), snapshot.toPath(), StandardCopyOption.REPLACE_EXISTING,
+        StandardCopyOption.ATOMIC_MOVE);
+
+    close();
+    new FileOutputStream(journal, false).close();
+    size = 0;
+    LOG.debug("Compacted {} into {}", journal, snapshot);
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    if (writer != null) {
+      writer.close();
+      writer = null;
+    }
+  }
+
+  private static class Entry {
+    String noteId;
+    Map<String, Set<String>> authInfo;
+  }
+}
@@ -19,6 +19,7 @@ package org.apache.zeppelin.notebook;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -170,6 +171,7 @@ public class Paragraph extends Job implements Cloneable, JsonSerializable {
     userParagraphMap.put(user, p);
   }
 
+  @Override
   public String getUser() {
     return user;
   }
@@ -229,6 +231,29 @@ public class Paragraph extends Job implements Cloneable, JsonSerializable {
     return note;
   }
 
+  @Override
+  public String getNoteId() {
+    return note == null ? null : note.getId();
+  }
+
+  /**
+   * Paragraphs this paragraph waits for when the note is run all at once, declared with
+   * 'dependsOn' in the paragraph config.
+   *
+   * @return null when not declared, then the paragraph waits for the paragraph above it
+   */
+  public List<String> getDependsOn() {
+    Object dependsOn = config.get("dependsOn");
+    if (!(dependsOn instanceof Collection)) {
+      return null;
+    }
+    List<String> paragraphIds = new LinkedList<>();
+    for (Object paragraphId : (Collection<?>) dependsOn) {
+      paragraphIds.add(String.valueOf(paragraphId));
+    }
+    return paragraphIds;
+  }
+
   public boolean isEnabled() {
     Boolean enabled = (Boolean) config.get("enabled");
     return enabled == null || enabled.booleanValue();
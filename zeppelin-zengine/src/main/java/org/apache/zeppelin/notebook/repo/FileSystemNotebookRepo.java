@@ -8,6 +8,7 @@ import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.io.IOUtils;
 import org.apache.hadoop.security.UserGroupInformation;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars;
 import org.apache.zeppelin.notebook.FileSystemStorage;
 import org.apache.zeppelin.notebook.Note;
 import org.apache.zeppelin.notebook.NoteInfo;
@@ -34,15 +35,20 @@ import java.util.Map;
  *              - noteId/note.json
  *              - noteId/note.json
  *              - noteId/note.json
+ *
+ * With zeppelin.notebook.storage.splitResults, paragraph results are saved in
+ * noteId/results, see SplitNote.
  */
 public class FileSystemNotebookRepo implements NotebookRepo {
   private static final Logger LOGGER = LoggerFactory.getLogger(FileSystemNotebookRepo.class);
 
   private FileSystemStorage fs;
   private Path notebookDir;
+  private boolean splitResults;
 
   public FileSystemNotebookRepo(ZeppelinConfiguration zConf) throws IOException {
     this.fs = FileSystemStorage.get(zConf);
+    this.splitResults = zConf.getBoolean(ConfVars.ZEPPELIN_NOTEBOOK_STORAGE_SPLIT_RESULTS);
     this.notebookDir = this.fs.makeQualified(new Path(zConf.getNotebookDir()));
     LOGGER.info("Using folder {} to store notebook", notebookDir);
     this.fs.tryMkDir(notebookDir);
@@ -64,14 +70,50 @@ public class FileSystemNotebookRepo implements NotebookRepo {
   public Note get(final String noteId, AuthenticationInfo subject) throws IOException {
     String content = this.fs.readFile(
         new Path(notebookDir.toString() + "/" + noteId + "/note.json"));
-    return Note.fromJson(content);
+    final Path resultsDir = getResultsDir(noteId);
+    return SplitNote.join(content, new SplitNote.ResultReader() {
+      @Override
+      public String read(String fileName) throws IOException {
+        return fs.readFile(new Path(resultsDir, fileName));
+      }
+    });
   }
 
   @Override
   public void save(final Note note, AuthenticationInfo subject) throws IOException {
-    this.fs.writeFile(note.toJson(),
+    Path resultsDir = getResultsDir(note.getId());
+    if (!splitResults) {
+      this.fs.writeFile(note.toJson(),
+          new Path(notebookDir.toString() + "/" + note.getId() + "/note.json"),
+          true);
+      if (fs.exists(resultsDir)) {
+        fs.delete(resultsDir);
+      }
+      return;
+    }
+
+    SplitNote split = SplitNote.split(note);
+    // results first, note.json must not refer to a result that is not there
+    for (Map.Entry<String, String> result : split.getResults().entrySet()) {
+      Path resultFile = new Path(resultsDir, result.getKey());
+      if (!fs.exists(resultFile)) {
+        fs.writeFile(result.getValue(), resultFile, true);
+      }
+    }
+    this.fs.writeFile(split.getNoteJson(),
         new Path(notebookDir.toString() + "/" + note.getId() + "/note.json"),
         true);
+    if (fs.exists(resultsDir)) {
+      for (Path result : fs.list(new Path(resultsDir, "*"))) {
+        if (!split.getResults().containsKey(result.getName())) {
+          fs.delete(result);
+        }
+      }
+    }
+  }
+
+  private Path getResultsDir(String noteId) {
+    return new Path(notebookDir.toString() + "/" + noteId + "/" + SplitNote.RESULTS_DIR);
   }
 
   @Override
@@ -19,28 +19,48 @@ package org.apache.zeppelin.notebook.repo;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
+import org.apache.commons.io.FileUtils;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars;
 import org.apache.zeppelin.notebook.Note;
 import org.apache.zeppelin.user.AuthenticationInfo;
+import org.eclipse.jgit.api.AddCommand;
 import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.Status;
+import org.eclipse.jgit.api.StatusCommand;
 import org.eclipse.jgit.api.errors.GitAPIException;
-import org.eclipse.jgit.api.errors.NoHeadException;
-import org.eclipse.jgit.diff.DiffEntry;
-import org.eclipse.jgit.dircache.DirCache;
+import org.eclipse.jgit.errors.IncorrectObjectTypeException;
+import org.eclipse.jgit.errors.MissingObjectException;
+import org.eclipse.jgit.errors.RevisionSyntaxException;
 import org.eclipse.jgit.internal.storage.file.FileRepository;
 import org.eclipse.jgit.lib.Constants;
 import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectReader;
 import org.eclipse.jgit.lib.Repository;
 import org.eclipse.jgit.revwalk.RevCommit;
-import org.eclipse.jgit.treewalk.filter.PathFilter;
+import org.eclipse.jgit.revwalk.RevTree;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.treewalk.EmptyTreeIterator;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.eclipse.jgit.treewalk.filter.TreeFilter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.base.Joiner;
+import com.google.common.base.Objects;
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.Uninterruptibles;
 
 /**
  * NotebookRepo that hosts all the notebook FS in a single Git repo
@@ -49,16 +69,35 @@ import com.google.common.collect.Lists;
  *   - does not handle branches
  *   - only basic local git file repo, no remote Github push\pull yet
  *
- *   TODO(bzz): add default .gitignore
+ * Checkpoints requested within zeppelin.notebook.git.checkpointWindow are committed together,
+ * the commit message lists the message of each note. Revision history of every note is indexed
+ * once and then updated from the commits added on top of the indexed HEAD, and revisions are
+ * read straight from the object database instead of checking them out.
+ *
+ * .note.info next to each note.json is kept out of revisions by the .gitignore of the repo.
  */
 public class GitNotebookRepo extends VFSNotebookRepo {
   private static final Logger LOG = LoggerFactory.getLogger(GitNotebookRepo.class);
 
   private String localPath;
   private Git git;
+  private final String encoding;
+  private final long checkpointWindow;
+
+  private final List<PendingCheckpoint> pending = new ArrayList<>();
+
+  // guards reader and the revision index
+  private final Object readLock = new Object();
+  private ObjectReader reader;
+  // noteId -> revisions, oldest first
+  private final Map<String, List<Revision>> revisions = new HashMap<>();
+  private ObjectId indexedHead;
+  private boolean indexed;
 
   public GitNotebookRepo(ZeppelinConfiguration conf) throws IOException {
     super(conf);
+    encoding = conf.getString(ConfVars.ZEPPELIN_ENCODING);
+    checkpointWindow = conf.getInt(ConfVars.ZEPPELIN_NOTEBOOK_GIT_CHECKPOINT_WINDOW);
     localPath = getRootDir().getName().getPath();
     LOG.info("Opening a git repo at '{}'", localPath);
     Repository localRepo = new FileRepository(Joiner.on(File.separator).join(localPath, ".git"));
@@ -66,7 +105,26 @@ public class GitNotebookRepo extends VFSNotebookRepo {
       LOG.info("Git repo {} does not exist, creating a new one", localRepo.getDirectory());
       localRepo.create();
     }
-    git = new Git(localRepo);
+    ignoreNoteInfo();
+    setGit(new Git(localRepo));
+  }
+
+  /**
+   * Add NOTE_INFO_FILE to the .gitignore of the repo, unless it is there already
+   */
+  private void ignoreNoteInfo() throws IOException {
+    File gitignore = new File(localPath, Constants.GITIGNORE_FILENAME);
+    String content = gitignore.exists() ? FileUtils.readFileToString(gitignore, encoding) : "";
+    String pattern = NOTE_INFO_FILE + "*";
+    for (String line : content.split("\n")) {
+      if (line.trim().equals(pattern)) {
+        return;
+      }
+    }
+    if (!content.isEmpty() && !content.endsWith("\n")) {
+      content += "\n";
+    }
+    FileUtils.writeStringToFile(gitignore, content + pattern + "\n", encoding);
   }
 
   @Override
@@ -77,88 +135,292 @@ public class GitNotebookRepo extends VFSNotebookRepo {
   /* implemented as git add+commit
    * @param pattern is the noteId
    * @param commitMessage is a commit message (checkpoint message)
+   *
+   * The first request waits for the checkpoint window and then commits every request queued
+   * meanwhile, the others wait for that commit.
    * (non-Javadoc)
    * @see org.apache.zeppelin.notebook.repo.VFSNotebookRepo#checkpoint(String, String)
    */
   @Override
   public Revision checkpoint(String pattern, String commitMessage, AuthenticationInfo subject) {
-    Revision revision = Revision.EMPTY;
+    PendingCheckpoint request = new PendingCheckpoint(pattern, commitMessage);
+    boolean leader;
+    synchronized (pending) {
+      pending.add(request);
+      leader = pending.size() == 1;
+    }
+
+    if (leader) {
+      if (checkpointWindow > 0) {
+        Uninterruptibles.sleepUninterruptibly(checkpointWindow, TimeUnit.MILLISECONDS);
+      }
+      synchronized (this) {
+        List<PendingCheckpoint> batch;
+        synchronized (pending) {
+          batch = new ArrayList<>(pending);
+          pending.clear();
+        }
+        commit(batch);
+      }
+    }
+
+    try {
+      return Uninterruptibles.getUninterruptibly(request.revision);
+    } catch (ExecutionException e) {
+      LOG.error("Failed to checkpoint {}", pattern, e);
+      return Revision.EMPTY;
+    }
+  }
+
+  /**
+   * Commit changes of all notes in the batch at once. Must be called with this locked
+   */
+  private void commit(List<PendingCheckpoint> batch) {
+    // the last message wins when a note is checkpointed twice
+    Map<String, String> messages = new LinkedHashMap<>();
+    for (PendingCheckpoint request : batch) {
+      messages.put(request.noteId, request.message);
+    }
+    Map<String, Revision> committed = new HashMap<>();
     try {
-      List<DiffEntry> gitDiff = git.diff().call();
-      if (!gitDiff.isEmpty()) {
-        LOG.debug("Changes found for pattern '{}': {}", pattern, gitDiff);
-        DirCache added = git.add().addFilepattern(pattern).call();
-        LOG.debug("{} changes are about to be commited", added.getEntryCount());
-        RevCommit commit = git.commit().setMessage(commitMessage).call();
-        revision = new Revision(commit.getName(), commit.getShortMessage(), commit.getCommitTime());
+      AddCommand add = git.add();
+      AddCommand update = git.add().setUpdate(true);
+      StatusCommand status = git.status();
+      for (String noteId : messages.keySet()) {
+        add.addFilepattern(noteId);
+        update.addFilepattern(noteId);
+        status.addPath(noteId);
+      }
+      add.call();
+      // stage removed files as well, like results the note no longer refers to
+      update.call();
+
+      List<String> changed = stagedNotes(status.call(), messages.keySet());
+      if (!changed.isEmpty()) {
+        LOG.debug("Changes found for {}", changed);
+        RevCommit commit = git.commit().setMessage(commitMessage(changed, messages)).call();
+        for (String noteId : changed) {
+          committed.put(noteId,
+              new Revision(commit.getName(), messages.get(noteId), commit.getCommitTime()));
+        }
+        synchronized (readLock) {
+          updateRevisionIndex();
+        }
       } else {
-        LOG.debug("No changes found {}", pattern);
+        LOG.debug("No changes found {}", messages.keySet());
+      }
+    } catch (GitAPIException | IOException e) {
+      LOG.error("Failed to add+commit {} to Git", messages.keySet(), e);
+    } finally {
+      for (PendingCheckpoint request : batch) {
+        Revision revision = committed.get(request.noteId);
+        request.revision.set(revision == null ? Revision.EMPTY : revision);
+      }
+    }
+  }
+
+  private static List<String> stagedNotes(Status status, Set<String> noteIds) {
+    Set<String> paths = new HashSet<>();
+    paths.addAll(status.getAdded());
+    paths.addAll(status.getChanged());
+    paths.addAll(status.getRemoved());
+    Set<String> staged = new HashSet<>();
+    for (String path : paths) {
+      int slash = path.indexOf('/');
+      staged.add(slash < 0 ? path : path.substring(0, slash));
+    }
+    List<String> changed = new ArrayList<>();
+    for (String noteId : noteIds) {
+      if (staged.contains(noteId)) {
+        changed.add(noteId);
       }
-    } catch (GitAPIException e) {
-      LOG.error("Failed to add+commit {} to Git", pattern, e);
     }
-    return revision;
+    return changed;
+  }
+
+  private static String commitMessage(List<String> noteIds, Map<String, String> messages) {
+    if (noteIds.size() == 1) {
+      return messages.get(noteIds.get(0));
+    }
+    StringBuilder sb = new StringBuilder("Checkpoint of ").append(noteIds.size()).append(" notes\n");
+    for (String noteId : noteIds) {
+      sb.append('\n').append(noteId).append(": ").append(firstLine(messages.get(noteId)));
+    }
+    return sb.toString();
   }
 
   /**
-   * the idea is to:
-   * 1. stash current changes
-   * 2. remember head commit and checkout to the desired revision
-   * 3. get note and checkout back to the head
-   * 4. apply stash on top and remove it
+   * Message of a note in the given commit, the line starting with its noteId when the commit
+   * checkpointed several notes
+   */
+  private static String revisionMessage(RevCommit commit, String noteId) {
+    String prefix = noteId + ": ";
+    for (String line : commit.getFullMessage().split("\n")) {
+      if (line.startsWith(prefix)) {
+        return line.substring(prefix.length());
+      }
+    }
+    return commit.getShortMessage();
+  }
+
+  private static String firstLine(String message) {
+    if (message == null) {
+      return "";
+    }
+    int newline = message.indexOf('\n');
+    return newline < 0 ? message : message.substring(0, newline);
+  }
+
+  /**
+   * Read the note straight from the given revision
    */
   @Override
-  public synchronized Note get(String noteId, String revId, AuthenticationInfo subject)
+  public Note get(final String noteId, final String revId, AuthenticationInfo subject)
       throws IOException {
-    Note note = null;
-    RevCommit stash = null;
-    try {
-      List<DiffEntry> gitDiff = git.diff().setPathFilter(PathFilter.create(noteId)).call();
-      boolean modified = !gitDiff.isEmpty();
-      if (modified) {
-        // stash changes
-        stash = git.stashCreate().call();
-        Collection<RevCommit> stashes = git.stashList().call();
-        LOG.debug("Created stash : {}, stash size : {}", stash, stashes.size());
-      }
-      ObjectId head = git.getRepository().resolve(Constants.HEAD);
-      // checkout to target revision
-      git.checkout().setStartPoint(revId).addPath(noteId).call();
-      // get the note
-      note = super.get(noteId, subject);
-      // checkout back to head
-      git.checkout().setStartPoint(head.getName()).addPath(noteId).call();
-      if (modified && stash != null) {
-        // unstash changes
-        ObjectId applied = git.stashApply().setStashRef(stash.getName()).call();
-        ObjectId dropped = git.stashDrop().setStashRef(0).call();
-        Collection<RevCommit> stashes = git.stashList().call();
-        LOG.debug("Stash applied as : {}, and dropped : {}, stash size: {}", applied, dropped,
-            stashes.size());
-      }
-    } catch (GitAPIException e) {
-      LOG.error("Failed to return note from revision \"{}\"", revId, e);
-    }
-    return note;
+    synchronized (readLock) {
+      try (RevWalk walk = new RevWalk(reader)) {
+        ObjectId commitId = revId == null ? null : git.getRepository().resolve(revId);
+        if (commitId == null) {
+          LOG.error("Failed to return note from revision \"{}\", not found", revId);
+          return null;
+        }
+        final RevTree tree = walk.parseCommit(commitId).getTree();
+        String json = readBlob(tree, noteId + "/note.json");
+        if (json == null) {
+          LOG.error("Note {} does not exist in revision \"{}\"", noteId, revId);
+          return null;
+        }
+        Note note = SplitNote.join(json, new SplitNote.ResultReader() {
+          @Override
+          public String read(String fileName) throws IOException {
+            String result = readBlob(tree,
+                Joiner.on('/').join(noteId, SplitNote.RESULTS_DIR, fileName));
+            if (result == null) {
+              throw new IOException(fileName + " not found in revision " + revId);
+            }
+            return result;
+          }
+        });
+        resetStatus(note);
+        return note;
+      } catch (RevisionSyntaxException | MissingObjectException | IncorrectObjectTypeException e) {
+        LOG.error("Failed to return note from revision \"{}\"", revId, e);
+        return null;
+      }
+    }
+  }
+
+  private String readBlob(RevTree tree, String path) throws IOException {
+    try (TreeWalk walk = TreeWalk.forPath(reader, path, tree)) {
+      if (walk == null) {
+        return null;
+      }
+      byte[] bytes = reader.open(walk.getObjectId(0), Constants.OBJ_BLOB)
+          .getCachedBytes(Integer.MAX_VALUE);
+      return new String(bytes, encoding);
+    }
   }
 
   @Override
   public List<Revision> revisionHistory(String noteId, AuthenticationInfo subject) {
-    List<Revision> history = Lists.newArrayList();
     LOG.debug("Listing history for {}:", noteId);
-    try {
-      Iterable<RevCommit> logs = git.log().addPath(noteId).call();
-      for (RevCommit log: logs) {
-        history.add(new Revision(log.getName(), log.getShortMessage(), log.getCommitTime()));
-        LOG.debug(" - ({},{},{})", log.getName(), log.getCommitTime(), log.getFullMessage());
+    synchronized (readLock) {
+      try {
+        updateRevisionIndex();
+      } catch (IOException e) {
+        LOG.error("Failed to get logs for {}", noteId, e);
+      }
+      List<Revision> history = revisions.get(noteId);
+      if (history == null) {
+        return Lists.newArrayList();
       }
-    } catch (NoHeadException e) {
-      //when no initial commit exists
-      LOG.warn("No Head found for {}, {}", noteId, e.getMessage());
-    } catch (GitAPIException e) {
-      LOG.error("Failed to get logs for {}", noteId, e);
+      return Lists.newArrayList(Lists.reverse(history));
     }
-    return history;
+  }
+
+  /**
+   * Index the commits added since the last call, or all of them when HEAD was moved to a commit
+   * that does not descend from the indexed one. Must be called with readLock locked
+   */
+  private void updateRevisionIndex() throws IOException {
+    ObjectId head = git.getRepository().resolve(Constants.HEAD);
+    if (indexed && Objects.equal(head, indexedHead)) {
+      return;
+    }
+
+    // newest first
+    Map<String, List<Revision>> found = new HashMap<>();
+    boolean incremental = indexed && indexedHead != null;
+    if (head != null) {
+      try (RevWalk walk = new RevWalk(reader)) {
+        RevCommit headCommit = walk.parseCommit(head);
+        if (incremental) {
+          RevCommit oldHead = null;
+          try {
+            oldHead = walk.parseCommit(indexedHead);
+          } catch (MissingObjectException e) {
+            LOG.debug("Indexed head {} is gone", indexedHead.getName());
+          }
+          incremental = oldHead != null && walk.isMergedInto(oldHead, headCommit);
+          walk.reset();
+          if (incremental) {
+            walk.markUninteresting(oldHead);
+          }
+        }
+        walk.markStart(headCommit);
+        for (RevCommit commit : walk) {
+          for (String noteId : changedNotes(walk, commit)) {
+            List<Revision> noteRevisions = found.get(noteId);
+            if (noteRevisions == null) {
+              noteRevisions = new ArrayList<>();
+              found.put(noteId, noteRevisions);
+            }
+            noteRevisions.add(new Revision(commit.getName(), revisionMessage(commit, noteId),
+                commit.getCommitTime()));
+          }
+        }
+      }
+    } else {
+      incremental = false;
+    }
+
+    if (!incremental) {
+      revisions.clear();
+    }
+    for (Map.Entry<String, List<Revision>> e : found.entrySet()) {
+      List<Revision> noteRevisions = revisions.get(e.getKey());
+      if (noteRevisions == null) {
+        noteRevisions = new ArrayList<>();
+        revisions.put(e.getKey(), noteRevisions);
+      }
+      noteRevisions.addAll(Lists.reverse(e.getValue()));
+    }
+    LOG.debug("Indexed revisions from {} to {}, incremental: {}", indexedHead, head, incremental);
+    indexedHead = head;
+    indexed = true;
+  }
+
+  /**
+   * Top level directories, that is notes, the commit changed compared to its first parent
+   */
+  private Set<String> changedNotes(RevWalk walk, RevCommit commit) throws IOException {
+    Set<String> noteIds = new HashSet<>();
+    try (TreeWalk treeWalk = new TreeWalk(reader)) {
+      if (commit.getParentCount() > 0) {
+        RevCommit parent = commit.getParent(0);
+        walk.parseHeaders(parent);
+        treeWalk.addTree(parent.getTree());
+      } else {
+        treeWalk.addTree(new EmptyTreeIterator());
+      }
+      treeWalk.addTree(commit.getTree());
+      treeWalk.setFilter(TreeFilter.ANY_DIFF);
+      treeWalk.setRecursive(false);
+      while (treeWalk.next()) {
+        noteIds.add(treeWalk.getPathString());
+      }
+    }
+    return noteIds;
   }
 
   @Override
@@ -173,6 +435,9 @@ public class GitNotebookRepo extends VFSNotebookRepo {
   
   @Override
   public void close() {
+    synchronized (readLock) {
+      reader.close();
+    }
     git.getRepository().close();
   }
 
@@ -182,7 +447,26 @@ public class GitNotebookRepo extends VFSNotebookRepo {
   }
 
   void setGit(Git git) {
-    this.git = git;
+    synchronized (readLock) {
+      if (reader != null) {
+        reader.close();
+      }
+      this.git = git;
+      reader = git.getRepository().newObjectReader();
+      revisions.clear();
+      indexedHead = null;
+      indexed = false;
+    }
   }
 
+  private static class PendingCheckpoint {
+    final String noteId;
+    final String message;
+    final SettableFuture<Revision> revision = SettableFuture.create();
+
+    PendingCheckpoint(String noteId, String message) {
+      this.noteId = noteId;
+      this.message = message;
+    }
+  }
 }
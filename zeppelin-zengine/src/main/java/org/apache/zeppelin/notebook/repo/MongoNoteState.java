@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook.repo;
+
+import static com.mongodb.client.model.Filters.and;
+import static com.mongodb.client.model.Filters.eq;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+import com.google.common.base.Charsets;
+import com.google.common.hash.Hashing;
+import com.mongodb.client.model.Updates;
+
+/**
+ * Hashes of the fields and paragraphs of a note document, as last read or written by
+ * MongoNotebookRepo, so the next save only sends the fields and paragraphs that changed.
+ */
+class MongoNoteState {
+  private static final String PARAGRAPHS = "paragraphs";
+
+  // top level field -> hash of its value, paragraphs excluded
+  private final Map<String, String> fields;
+  // null when the document has no paragraph list
+  private final List<String> paragraphIds;
+  private final List<String> paragraphs;
+
+  private MongoNoteState(Map<String, String> fields, List<String> paragraphIds,
+                         List<String> paragraphs) {
+    this.fields = fields;
+    this.paragraphIds = paragraphIds;
+    this.paragraphs = paragraphs;
+  }
+
+  static MongoNoteState of(Document doc) {
+    Map<String, String> fields = new HashMap<>();
+    List<String> paragraphIds = null;
+    List<String> paragraphs = null;
+    for (Map.Entry<String, Object> field : doc.entrySet()) {
+      if (PARAGRAPHS.equals(field.getKey()) && field.getValue() instanceof List) {
+        paragraphIds = new ArrayList<>();
+        paragraphs = new ArrayList<>();
+        for (Object p : (List<?>) field.getValue()) {
+          paragraphIds.add(p instanceof Document ? ((Document) p).getString("id") : null);
+          paragraphs.add(hash(p));
+        }
+      } else {
+        fields.put(field.getKey(), hash(field.getValue()));
+      }
+    }
+    return new MongoNoteState(fields, paragraphIds, paragraphs);
+  }
+
+  /**
+   * Updates turning the document saved in this state into doc, of state 'to'.
+   * Changed paragraphs are set one by one, unless paragraphs were added, removed or moved.
+   * Empty when nothing changed.
+   */
+  List<Bson> updates(Document doc, MongoNoteState to) {
+    List<Bson> updates = new ArrayList<>();
+    for (Map.Entry<String, String> field : to.fields.entrySet()) {
+      if (!field.getValue().equals(fields.get(field.getKey()))) {
+        updates.add(Updates.set(field.getKey(), doc.get(field.getKey())));
+      }
+    }
+    for (String field : fields.keySet()) {
+      if (!to.fields.containsKey(field)) {
+        updates.add(Updates.unset(field));
+      }
+    }
+
+    if (to.paragraphIds == null) {
+      if (paragraphIds != null) {
+        updates.add(Updates.unset(PARAGRAPHS));
+      }
+    } else if (!to.paragraphIds.equals(paragraphIds)) {
+      updates.add(Updates.set(PARAGRAPHS, doc.get(PARAGRAPHS)));
+    } else {
+      List<?> docParagraphs = (List<?>) doc.get(PARAGRAPHS);
+      for (int i : changedParagraphs(to)) {
+        updates.add(Updates.set(PARAGRAPHS + "." + i, docParagraphs.get(i)));
+      }
+    }
+    return updates;
+  }
+
+  /**
+   * Filter of the document to update, which doesn't match when a paragraph set by position
+   * has been moved by someone else since.
+   */
+  Bson filter(String noteId, MongoNoteState to) {
+    List<Bson> filters = new ArrayList<>();
+    filters.add(eq("_id", noteId));
+    if (to.paragraphIds != null && to.paragraphIds.equals(paragraphIds)) {
+      for (int i : changedParagraphs(to)) {
+        filters.add(eq(PARAGRAPHS + "." + i + ".id", paragraphIds.get(i)));
+      }
+    }
+    return filters.size() == 1 ? filters.get(0) : and(filters);
+  }
+
+  private List<Integer> changedParagraphs(MongoNoteState to) {
+    if (paragraphs == null) {
+      return Collections.emptyList();
+    }
+    List<Integer> changed = new ArrayList<>();
+    for (int i = 0; i < to.paragraphs.size(); i++) {
+      if (!to.paragraphs.get(i).equals(paragraphs.get(i))) {
+        changed.add(i);
+      }
+    }
+    return changed;
+  }
+
+  private static String hash(Object value) {
+    String json = value instanceof Document
+        ? ((Document) value).toJson()
+        : new Document("v", value).toJson();
+    return Hashing.murmur3_128().hashString(json, Charsets.UTF_8).toString();
+  }
+}
@@ -10,10 +10,14 @@ import com.mongodb.client.MongoDatabase;
 import static com.mongodb.client.model.Filters.eq;
 import static com.mongodb.client.model.Filters.type;
 import static com.mongodb.client.model.Filters.in;
+import static com.mongodb.client.model.Projections.include;
 
+import com.mongodb.client.model.Indexes;
 import com.mongodb.client.model.InsertManyOptions;
 import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.Updates;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars;
 import org.apache.zeppelin.notebook.Note;
 import org.apache.zeppelin.notebook.NoteInfo;
 import org.apache.zeppelin.notebook.Paragraph;
@@ -22,17 +26,25 @@ import org.apache.zeppelin.scheduler.Job;
 import org.apache.zeppelin.user.AuthenticationInfo;
 import org.bson.BsonType;
 import org.bson.Document;
+import org.bson.conversions.Bson;
 import org.bson.types.ObjectId;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.StringReader;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
  * Backend for storing Notebook on MongoDB
+ *
+ * list() only reads id, name and config of each note. save() sets the fields and paragraphs
+ * that changed since the note was last read or saved, instead of replacing the whole document.
+ * When zeppelin.notebook.storage.splitResults is true, paragraph results are stored in the
+ * [collection]_results collection, see SplitNote, and only read by get().
  */
 public class MongoNotebookRepo implements NotebookRepo {
   private static final Logger LOG = LoggerFactory.getLogger(MongoNotebookRepo.class);
@@ -41,6 +53,10 @@ public class MongoNotebookRepo implements NotebookRepo {
   private final MongoClient mongo;
   private final MongoDatabase db;
   private final MongoCollection<Document> coll;
+  private final MongoCollection<Document> resultsColl;
+  private final boolean splitResults;
+  // state of the documents as last read or saved, by note id
+  private final Map<String, MongoNoteState> states = new ConcurrentHashMap<>();
 
   public MongoNotebookRepo(ZeppelinConfiguration conf) throws IOException {
     this.conf = conf;
@@ -48,6 +64,11 @@ public class MongoNotebookRepo implements NotebookRepo {
     mongo = new MongoClient(new MongoClientURI(conf.getMongoUri()));
     db = mongo.getDatabase(conf.getMongoDatabase());
     coll = db.getCollection(conf.getMongoCollection());
+    resultsColl = db.getCollection(conf.getMongoCollection() + "_results");
+    splitResults = conf.getBoolean(ConfVars.ZEPPELIN_NOTEBOOK_STORAGE_SPLIT_RESULTS);
+    if (splitResults) {
+      resultsColl.createIndex(Indexes.ascending("noteId"));
+    }
 
     if (conf.getMongoAutoimport()) {
       // import local notes into MongoDB
@@ -108,12 +129,13 @@ public class MongoNotebookRepo implements NotebookRepo {
     syncId();
 
     List<NoteInfo> infos = new LinkedList<>();
-    MongoCursor<Document> cursor = coll.find().iterator();
+    // paragraphs are not read
+    MongoCursor<Document> cursor = coll.find().projection(include("id", "name", "config"))
+        .iterator();
 
     while (cursor.hasNext()) {
       Document doc = cursor.next();
-      Note note = documentToNote(doc);
-      NoteInfo info = new NoteInfo(note);
+      NoteInfo info = NoteInfo.readHeader(new StringReader(doc.toJson()));
       infos.add(info);
     }
 
@@ -157,11 +179,25 @@ public class MongoNotebookRepo implements NotebookRepo {
   /**
    * Convert document to note
    */
-  private Note documentToNote(Document doc) {
+  private Note documentToNote(final String noteId, Document doc) throws IOException {
     // document to JSON
     String json = doc.toJson();
-    // JSON to note
-    Note note = Note.fromJson(json);
+    // JSON to note, reading the results stored apart in a single query
+    Note note = SplitNote.join(json, new SplitNote.ResultReader() {
+      private Map<String, String> results;
+
+      @Override
+      public String read(String fileName) throws IOException {
+        if (results == null) {
+          results = readResults(noteId);
+        }
+        String result = results.get(fileName);
+        if (result == null) {
+          throw new IOException("Result " + fileName + " of note " + noteId + " not found");
+        }
+        return result;
+      }
+    });
 
     for (Paragraph p : note.getParagraphs()) {
       if (p.getStatus() == Job.Status.PENDING || p.getStatus() == Job.Status.RUNNING) {
@@ -186,14 +222,71 @@ public class MongoNotebookRepo implements NotebookRepo {
    */
   private Document noteToDocument(Note note) {
     // note to JSON
-    String json = note.toJson();
+    return jsonToDocument(note.getId(), note.toJson());
+  }
+
+  private Document jsonToDocument(String noteId, String json) {
     // JSON to document
     Document doc = Document.parse(json);
     // set object id as note id
-    doc.put("_id", note.getId());
+    doc.put("_id", noteId);
     return doc;
   }
 
+  /**
+   * Results of a note by file name, see SplitNote
+   */
+  private Map<String, String> readResults(String noteId) {
+    Map<String, String> results = new HashMap<>();
+    MongoCursor<Document> cursor = resultsColl.find(eq("noteId", noteId)).iterator();
+    try {
+      while (cursor.hasNext()) {
+        Document doc = cursor.next();
+        results.put(doc.getString("name"), doc.getString("result"));
+      }
+    } finally {
+      cursor.close();
+    }
+    return results;
+  }
+
+  /**
+   * Insert the results of a split note that are not stored yet, in one bulk insert
+   * @return ids of the stored results of the note the split note doesn't refer to
+   */
+  private List<String> insertResults(String noteId, SplitNote split) {
+    Set<String> stored = new HashSet<>();
+    MongoCursor<Document> cursor = resultsColl.find(eq("noteId", noteId))
+        .projection(include("_id")).iterator();
+    try {
+      while (cursor.hasNext()) {
+        stored.add(cursor.next().getString("_id"));
+      }
+    } finally {
+      cursor.close();
+    }
+
+    List<Document> docs = new LinkedList<>();
+    for (Map.Entry<String, String> result : split.getResults().entrySet()) {
+      String id = noteId + "/" + result.getKey();
+      if (!stored.remove(id)) {
+        docs.add(new Document("_id", id)
+            .append("noteId", noteId)
+            .append("name", result.getKey())
+            .append("result", result.getValue()));
+      }
+    }
+    if (!docs.isEmpty()) {
+      try {
+        resultsColl.insertMany(docs, new InsertManyOptions().ordered(false));
+      } catch (MongoBulkWriteException e) {
+        // inserted concurrently, a result never changes once written
+        printDuplicatedException(e);
+      }
+    }
+    return new ArrayList<>(stored);
+  }
+
   @Override
   public Note get(String noteId, AuthenticationInfo subject) throws IOException {
     Document doc = coll.find(eq("_id", noteId)).first();
@@ -202,18 +295,45 @@ public class MongoNotebookRepo implements NotebookRepo {
       throw new IOException("Note " + noteId + "not found");
     }
 
-    return documentToNote(doc);
+    Note note = documentToNote(noteId, doc);
+    states.put(noteId, MongoNoteState.of(doc));
+    return note;
   }
 
   @Override
   public void save(Note note, AuthenticationInfo subject) throws IOException {
-    Document doc = noteToDocument(note);
-    coll.replaceOne(eq("_id", note.getId()), doc, new UpdateOptions().upsert(true));
+    String noteId = note.getId();
+    SplitNote split = splitResults ? SplitNote.split(note) : null;
+    Document doc = split == null ? noteToDocument(note)
+        : jsonToDocument(noteId, split.getNoteJson());
+    MongoNoteState state = MongoNoteState.of(doc);
+    // forgotten until saved, the next save replaces the document when this one fails
+    MongoNoteState saved = states.remove(noteId);
+
+    // results first, the note must not refer to a result that is not there
+    List<String> unusedResults = split == null ? null : insertResults(noteId, split);
+
+    boolean updated = false;
+    if (saved != null) {
+      List<Bson> updates = saved.updates(doc, state);
+      updated = updates.isEmpty() || coll.updateOne(saved.filter(noteId, state),
+          Updates.combine(updates)).getMatchedCount() > 0;
+    }
+    if (!updated) {
+      coll.replaceOne(eq("_id", noteId), doc, new UpdateOptions().upsert(true));
+    }
+    states.put(noteId, state);
+
+    if (unusedResults != null && !unusedResults.isEmpty()) {
+      resultsColl.deleteMany(in("_id", unusedResults));
+    }
   }
 
   @Override
   public void remove(String noteId, AuthenticationInfo subject) throws IOException {
+    states.remove(noteId);
     coll.deleteOne(eq("_id", noteId));
+    resultsColl.deleteMany(eq("noteId", noteId));
   }
 
   @Override
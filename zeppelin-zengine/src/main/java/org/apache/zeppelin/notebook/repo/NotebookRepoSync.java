@@ -18,15 +18,21 @@
 package org.apache.zeppelin.notebook.repo;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars;
@@ -34,6 +40,7 @@ import org.apache.zeppelin.notebook.Note;
 import org.apache.zeppelin.notebook.NoteInfo;
 import org.apache.zeppelin.notebook.NotebookAuthorization;
 import org.apache.zeppelin.notebook.Paragraph;
+import org.apache.zeppelin.scheduler.ExecutorFactory;
 import org.apache.zeppelin.user.AuthenticationInfo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -55,6 +62,8 @@ public class NotebookRepoSync implements NotebookRepo {
 
   private List<NotebookRepo> repos = new ArrayList<>();
   private final boolean oneWaySync;
+  private final int syncThreads;
+  private NotebookRepoSyncCheckpoint checkpoint;
 
   /**
    * @param conf
@@ -63,6 +72,7 @@ public class NotebookRepoSync implements NotebookRepo {
   public NotebookRepoSync(ZeppelinConfiguration conf) {
     config = conf;
     oneWaySync = conf.getBoolean(ConfVars.ZEPPELIN_NOTEBOOK_ONE_WAY_SYNC);
+    syncThreads = Math.max(1, conf.getInt(ConfVars.ZEPPELIN_NOTEBOOK_SYNC_THREADS));
     String allStorageClassNames = conf.getString(ConfVars.ZEPPELIN_NOTEBOOK_STORAGE).trim();
     if (allStorageClassNames.isEmpty()) {
       allStorageClassNames = defaultStorage;
@@ -215,27 +225,31 @@ public class NotebookRepoSync implements NotebookRepo {
    *
    * @throws IOException
    */
-  void sync(int sourceRepoIndex, int destRepoIndex, AuthenticationInfo subject) throws IOException {
+  synchronized void sync(int sourceRepoIndex, int destRepoIndex, AuthenticationInfo subject)
+      throws IOException {
     LOG.info("Sync started");
+    long start = System.currentTimeMillis();
     NotebookAuthorization auth = NotebookAuthorization.getInstance();
     NotebookRepo srcRepo = getRepo(sourceRepoIndex);
     NotebookRepo dstRepo = getRepo(destRepoIndex);
     List <NoteInfo> allSrcNotes = srcRepo.list(subject);
     List <NoteInfo> srcNotes = auth.filterByUser(allSrcNotes, subject);
     List <NoteInfo> dstNotes = dstRepo.list(subject);
+    NotebookRepoSyncCheckpoint checkpoint = getCheckpoint();
 
-    Map<String, List<String>> noteIds = notesCheckDiff(srcNotes, srcRepo, dstNotes, dstRepo,
-        subject);
+    Map<String, List<String>> noteIds = notesCheckDiff(srcNotes, sourceRepoIndex, dstNotes,
+        destRepoIndex, checkpoint, subject);
     List<String> pushNoteIds = noteIds.get(pushKey);
     List<String> pullNoteIds = noteIds.get(pullKey);
     List<String> delDstNoteIds = noteIds.get(delDstKey);
+    Set<String> failedNoteIds = new HashSet<>();
 
     if (!pushNoteIds.isEmpty()) {
       LOG.info("Notes with the following IDs will be pushed");
       for (String id : pushNoteIds) {
         LOG.info("ID : " + id);
       }
-      pushNotes(subject, pushNoteIds, srcRepo, dstRepo, false);
+      failedNoteIds.addAll(pushNotes(subject, pushNoteIds, srcRepo, dstRepo, false));
     } else {
       LOG.info("Nothing to push");
     }
@@ -245,7 +259,7 @@ public class NotebookRepoSync implements NotebookRepo {
       for (String id : pullNoteIds) {
         LOG.info("ID : " + id);
       }
-      pushNotes(subject, pullNoteIds, dstRepo, srcRepo, true);
+      failedNoteIds.addAll(pushNotes(subject, pullNoteIds, dstRepo, srcRepo, true));
     } else {
       LOG.info("Nothing to pull");
     }
@@ -260,25 +274,150 @@ public class NotebookRepoSync implements NotebookRepo {
       LOG.info("Nothing to delete from dest");
     }
 
-    LOG.info("Sync ended");
+    updateCheckpoint(checkpoint, srcNotes, srcRepo, sourceRepoIndex, dstNotes, dstRepo,
+        destRepoIndex, pushNoteIds, pullNoteIds, delDstNoteIds, failedNoteIds, subject);
+
+    LOG.info("Sync ended, {} pushed, {} pulled, {} deleted, {} failed in {} ms",
+        pushNoteIds.size(), pullNoteIds.size(), delDstNoteIds.size(), failedNoteIds.size(),
+        System.currentTimeMillis() - start);
   }
 
   public void sync(AuthenticationInfo subject) throws IOException {
     sync(0, 1, subject);
   }
 
-  private void pushNotes(AuthenticationInfo subject, List<String> ids, NotebookRepo localRepo,
-      NotebookRepo remoteRepo, boolean setPermissions) {
-    for (String id : ids) {
-      try {
-        remoteRepo.save(localRepo.get(id, subject), subject);
+  private NotebookRepoSyncCheckpoint getCheckpoint() {
+    if (checkpoint == null) {
+      List<String> repoClassNames = new ArrayList<>();
+      for (NotebookRepo repo : repos) {
+        repoClassNames.add(repo.getClass().getName());
+      }
+      checkpoint = NotebookRepoSyncCheckpoint.load(config.getNotebookSyncCheckpointPath(),
+          repoClassNames);
+    }
+    return checkpoint;
+  }
+
+  /**
+   * Record the synced notes in the checkpoint. Notes are recorded with the metadata listed
+   * before they were compared or copied, so a note saved while syncing differs from the
+   * checkpoint and is synced again next time.
+   */
+  private void updateCheckpoint(NotebookRepoSyncCheckpoint checkpoint, List<NoteInfo> srcNotes,
+      NotebookRepo srcRepo, int sourceRepoIndex, List<NoteInfo> dstNotes, NotebookRepo dstRepo,
+      int destRepoIndex, List<String> pushNoteIds, List<String> pullNoteIds,
+      List<String> delDstNoteIds, Set<String> failedNoteIds, AuthenticationInfo subject)
+      throws IOException {
+    Map<String, NoteInfo> srcNotesById = byId(srcNotes);
+    Map<String, NoteInfo> dstNotesById = byId(dstNotes);
+    long now = System.currentTimeMillis();
+
+    // skipped or compared, both storages are as listed
+    Set<String> copiedNoteIds = new HashSet<>(pushNoteIds);
+    copiedNoteIds.addAll(pullNoteIds);
+    for (NoteInfo srcNote : srcNotes) {
+      if (!copiedNoteIds.contains(srcNote.getId())) {
+        record(checkpoint, sourceRepoIndex, srcNote, dstNotesById.get(srcNote.getId()), now);
+      }
+    }
+
+    Set<String> existingNoteIds = dstNotesById.keySet();
+    if (!copiedNoteIds.isEmpty()) {
+      // copied, the copy is recorded as listed now if the original didn't change meanwhile
+      Map<String, NoteInfo> srcNotesAfter = byId(srcRepo.list(subject));
+      Map<String, NoteInfo> dstNotesAfter = byId(dstRepo.list(subject));
+      for (String id : pushNoteIds) {
+        recordCopy(checkpoint, id, sourceRepoIndex, srcNotesById.get(id), srcNotesAfter.get(id),
+            dstNotesAfter.get(id), now);
+      }
+      for (String id : pullNoteIds) {
+        recordCopy(checkpoint, id, destRepoIndex, dstNotesById.get(id), dstNotesAfter.get(id),
+            srcNotesAfter.get(id), now);
+      }
+      existingNoteIds = dstNotesAfter.keySet();
+    }
+
+    for (String id : failedNoteIds) {
+      checkpoint.remove(id);
+    }
+    for (String id : delDstNoteIds) {
+      checkpoint.remove(id);
+    }
+    // drop notes removed since
+    checkpoint.retain(existingNoteIds);
+    checkpoint.save();
+  }
+
+  private void recordCopy(NotebookRepoSyncCheckpoint checkpoint, String id, int fromRepoIndex,
+      NoteInfo fromBefore, NoteInfo fromAfter, NoteInfo to, long now) {
+    if (fromBefore == null || fromAfter == null
+        || fromBefore.getLastModified() != fromAfter.getLastModified()
+        || fromBefore.getSize() != fromAfter.getSize()) {
+      // saved while copying, the copy may be older
+      checkpoint.remove(id);
+      return;
+    }
+    record(checkpoint, fromRepoIndex, fromAfter, to, now);
+  }
+
+  private void record(NotebookRepoSyncCheckpoint checkpoint, int repoIndex, NoteInfo note,
+      NoteInfo otherNote, long now) {
+    if (otherNote == null) {
+      checkpoint.remove(note.getId());
+    } else if (repoIndex == 0) {
+      checkpoint.update(note, otherNote, now);
+    } else {
+      checkpoint.update(otherNote, note, now);
+    }
+  }
+
+  /**
+   * Copy notes in parallel, at most zeppelin.notebook.sync.threads at a time.
+   * @return ids of the notes that failed to copy
+   */
+  private List<String> pushNotes(final AuthenticationInfo subject, List<String> ids,
+      final NotebookRepo localRepo, final NotebookRepo remoteRepo, boolean setPermissions)
+      throws InterruptedIOException {
+    List<Callable<Void>> tasks = new ArrayList<>(ids.size());
+    for (final String id : ids) {
+      tasks.add(new Callable<Void>() {
+        @Override
+        public Void call() throws IOException {
+          Note note = localRepo.get(id, subject);
+          if (note == null) {
+            throw new IOException("Note " + id + " not found");
+          }
+          remoteRepo.save(note, subject);
+          return null;
+        }
+      });
+    }
+
+    List<String> failedIds = new ArrayList<>();
+    ExecutorService executor = ExecutorFactory.singleton().createOrGetJobExecutor(
+        "NotebookRepoSync", syncThreads);
+    try {
+      List<Future<Void>> futures = executor.invokeAll(tasks);
+      for (int i = 0; i < futures.size(); i++) {
+        String id = ids.get(i);
+        try {
+          futures.get(i).get();
+        } catch (ExecutionException e) {
+          LOG.error("Failed to push note " + id + " to storage, moving onto next one",
+              e.getCause());
+          failedIds.add(id);
+          continue;
+        }
+        // NotebookAuthorization isn't thread safe, permissions are set here
         if (setPermissions && emptyNoteAcl(id)) {
           makePrivate(id, subject);
         }
-      } catch (IOException e) {
-        LOG.error("Failed to push note to storage, moving onto next one", e);
       }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while syncing notes");
     }
+    return failedIds;
   }
 
   private boolean emptyNoteAcl(String noteId) {
@@ -333,19 +472,44 @@ public class NotebookRepoSync implements NotebookRepo {
   }
 
   private Map<String, List<String>> notesCheckDiff(List<NoteInfo> sourceNotes,
-      NotebookRepo sourceRepo, List<NoteInfo> destNotes, NotebookRepo destRepo,
-      AuthenticationInfo subject) {
+      int sourceRepoIndex, List<NoteInfo> destNotes, int destRepoIndex,
+      NotebookRepoSyncCheckpoint checkpoint, AuthenticationInfo subject) throws IOException {
+    NotebookRepo sourceRepo = getRepo(sourceRepoIndex);
+    NotebookRepo destRepo = getRepo(destRepoIndex);
     List <String> pushIDs = new ArrayList<>();
     List <String> pullIDs = new ArrayList<>();
     List <String> delDstIDs = new ArrayList<>();
+    Map<String, NoteInfo> sourceNotesById = byId(sourceNotes);
+    Map<String, NoteInfo> destNotesById = byId(destNotes);
 
     NoteInfo dnote;
     Date sdate, ddate;
+    int unchanged = 0;
     for (NoteInfo snote : sourceNotes) {
-      dnote = containsID(destNotes, snote.getId());
+      dnote = destNotesById.get(snote.getId());
       if (dnote != null) {
+        /* note exists in source and destination storage systems */
+        boolean sourceChanged = checkpoint.isChanged(sourceRepoIndex, snote);
+        boolean destChanged = checkpoint.isChanged(destRepoIndex, dnote);
+        if (!sourceChanged && !destChanged) {
+          /* same metadata as at the end of the last sync in both storages */
+          unchanged++;
+          continue;
+        }
+        if (sourceChanged != destChanged) {
+          /* changed in one storage only since the last sync */
+          if (sourceChanged || oneWaySync) {
+            pushIDs.add(snote.getId());
+            LOG.info("Note changed since last sync is added to push list : " + snote.getId());
+          } else {
+            pullIDs.add(snote.getId());
+            LOG.info("Note changed since last sync is added to pull list : " + snote.getId());
+          }
+          continue;
+        }
+
+        /* changed in both storages, or storage doesn't list metadata - compare notes */
         try {
-          /* note exists in source and destination storage systems */
           sdate = lastModificationDate(sourceRepo.get(snote.getId(), subject));
           ddate = lastModificationDate(destRepo.get(dnote.getId(), subject));
         } catch (IOException e) {
@@ -372,10 +536,10 @@ public class NotebookRepoSync implements NotebookRepo {
         pushIDs.add(snote.getId());
       }
     }
+    LOG.info("{} notes unchanged since last sync", unchanged);
 
     for (NoteInfo note : destNotes) {
-      dnote = containsID(sourceNotes, note.getId());
-      if (dnote == null) {
+      if (!sourceNotesById.containsKey(note.getId())) {
         /* note exists in destination storage, and absent in source */
         if (oneWaySync) {
           /* if oneWaySync is enabled, delete the note from destination */
@@ -396,14 +560,14 @@ public class NotebookRepoSync implements NotebookRepo {
     return map;
   }
 
-  private NoteInfo containsID(List <NoteInfo> notes, String id) {
+  private static Map<String, NoteInfo> byId(List<NoteInfo> notes) {
+    Map<String, NoteInfo> notesById = new HashMap<>();
     for (NoteInfo note : notes) {
-      if (note.getId().equals(id)) {
-        return note;
-      }
+      notesById.put(note.getId(), note);
     }
-    return null;
+    return notesById;
   }
+
   /**
    * checks latest modification date based on Paragraph fields
    * @return -Date
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook.repo;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.zeppelin.notebook.NoteInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonSyntaxException;
+
+/**
+ * Last modified time and size of each note in both repos of NotebookRepoSync, as listed at the
+ * end of the last sync. A note whose listed metadata still matches the checkpoint in both repos
+ * hasn't changed since, and is skipped without reading it.
+ */
+class NotebookRepoSyncCheckpoint {
+  private static final Logger LOG = LoggerFactory.getLogger(NotebookRepoSyncCheckpoint.class);
+  private static final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+
+  /**
+   * Metadata modified within this period isn't recorded, as another save in the same
+   * file system timestamp unit could keep the same metadata.
+   */
+  static final long SETTLE_TIME_MS = 2000;
+
+  // class names of the synced repos, a checkpoint of other repos is discarded
+  private List<String> repos;
+  // note id -> metadata in repo 0 and repo 1
+  private Map<String, NoteState[]> notes = new HashMap<>();
+
+  private transient String path;
+
+  static class NoteState {
+    long lastModified;
+    long size;
+
+    NoteState(NoteInfo info) {
+      lastModified = info.getLastModified();
+      size = info.getSize();
+    }
+  }
+
+  static NotebookRepoSyncCheckpoint load(String path, List<String> repos) {
+    NotebookRepoSyncCheckpoint checkpoint = null;
+    File file = new File(path);
+    if (file.exists()) {
+      try {
+        checkpoint = gson.fromJson(FileUtils.readFileToString(file, StandardCharsets.UTF_8),
+            NotebookRepoSyncCheckpoint.class);
+      } catch (IOException | JsonSyntaxException e) {
+        LOG.warn("Can't read notebook sync checkpoint " + path + ", syncing all notes", e);
+      }
+    }
+    if (checkpoint == null || checkpoint.notes == null || !repos.equals(checkpoint.repos)) {
+      checkpoint = new NotebookRepoSyncCheckpoint();
+      checkpoint.repos = repos;
+    }
+    checkpoint.path = path;
+    return checkpoint;
+  }
+
+  void save() {
+    try {
+      FileUtils.writeStringToFile(new File(path), gson.toJson(this), StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      LOG.warn("Can't write notebook sync checkpoint " + path, e);
+    }
+  }
+
+  /**
+   * Whether the note may have changed in the repo since the last sync.
+   * Always true when the repo doesn't list the metadata.
+   */
+  boolean isChanged(int repoIndex, NoteInfo info) {
+    NoteState[] states = notes.get(info.getId());
+    if (info.getLastModified() <= 0 || states == null || states[repoIndex] == null) {
+      return true;
+    }
+    NoteState state = states[repoIndex];
+    return state.lastModified != info.getLastModified() || state.size != info.getSize();
+  }
+
+  /**
+   * Record the note as in sync, with its metadata in repo 0 and repo 1.
+   */
+  void update(NoteInfo info0, NoteInfo info1, long now) {
+    if (isSettled(info0, now) && isSettled(info1, now)) {
+      notes.put(info0.getId(), new NoteState[] {new NoteState(info0), new NoteState(info1)});
+    } else {
+      notes.remove(info0.getId());
+    }
+  }
+
+  private boolean isSettled(NoteInfo info, long now) {
+    return info.getLastModified() > 0 && now - info.getLastModified() >= SETTLE_TIME_MS;
+  }
+
+  void remove(String noteId) {
+    notes.remove(noteId);
+  }
+
+  void retain(Set<String> noteIds) {
+    notes.keySet().retainAll(noteIds);
+  }
+
+  int size() {
+    return notes.size();
+  }
+}
@@ -17,16 +17,26 @@
 
 package org.apache.zeppelin.notebook.repo;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStreamWriter;
-import java.io.Writer;
+import java.io.InterruptedIOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
@@ -36,6 +46,7 @@ import org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars;
 import org.apache.zeppelin.notebook.Note;
 import org.apache.zeppelin.notebook.NoteInfo;
 import org.apache.zeppelin.notebook.Paragraph;
+import org.apache.zeppelin.scheduler.ExecutorFactory;
 import org.apache.zeppelin.scheduler.Job.Status;
 import org.apache.zeppelin.user.AuthenticationInfo;
 import org.slf4j.Logger;
@@ -61,9 +72,15 @@ import com.amazonaws.regions.Region;
 import com.amazonaws.regions.Regions;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerConfiguration;
 
 /**
  * Backend for storing Notebooks on S3
+ *
+ * note.json files read from S3 are kept in a local cache directory with their ETag.
+ * list() reads changed notes in parallel and only fetches notes whose ETag in the listing
+ * differs from the cached one, get() revalidates the cached note with a conditional GET.
  */
 public class S3NotebookRepo implements NotebookRepo {
   private static final Logger LOG = LoggerFactory.getLogger(S3NotebookRepo.class);
@@ -86,14 +103,40 @@ public class S3NotebookRepo implements NotebookRepo {
   private final String bucketName;
   private final String user;
   private final boolean useServerSideEncryption;
+  private final long multipartThreshold;
+  private final String encoding;
   private final ZeppelinConfiguration conf;
+  // local copies of note.json, null when disabled
+  private final File cacheDir;
+  // info of listed notes by note id, with the ETag they were read from
+  private final Map<String, CachedInfo> infos = new ConcurrentHashMap<>();
+  private TransferManager transferManager;
 
   public S3NotebookRepo(ZeppelinConfiguration conf) throws IOException {
+    this(conf, createClient(conf));
+  }
+
+  S3NotebookRepo(ZeppelinConfiguration conf, AmazonS3 s3client) {
     this.conf = conf;
+    this.s3client = s3client;
     bucketName = conf.getBucketName();
     user = conf.getUser();
     useServerSideEncryption = conf.isS3ServerSideEncryption();
+    multipartThreshold = conf.getLong(ConfVars.ZEPPELIN_NOTEBOOK_S3_MULTIPART_THRESHOLD);
+    encoding = conf.getString(ConfVars.ZEPPELIN_ENCODING);
+
+    // notes encrypted on the client side are not written to local disk in clear
+    if (StringUtils.isBlank(conf.getString(ConfVars.ZEPPELIN_NOTEBOOK_S3_CACHE_DIR))
+        || conf.getS3KMSKeyID() != null
+        || conf.getS3EncryptionMaterialsProviderClass() != null) {
+      cacheDir = null;
+    } else {
+      cacheDir = new File(conf.getRelativeDir(ConfVars.ZEPPELIN_NOTEBOOK_S3_CACHE_DIR),
+          bucketName + "/" + user);
+    }
+  }
 
+  private static AmazonS3 createClient(ZeppelinConfiguration conf) throws IOException {
     // always use the default provider chain
     AWSCredentialsProvider credentialsProvider = new DefaultAWSCredentialsProviderChain();
     CryptoConfiguration cryptoConf = new CryptoConfiguration();
@@ -103,34 +146,36 @@ public class S3NotebookRepo implements NotebookRepo {
       cryptoConf.setAwsKmsRegion(Region.getRegion(Regions.fromName(keyRegion)));
     }
 
-    ClientConfiguration cliConf = createClientConfiguration();
-    
+    ClientConfiguration cliConf = createClientConfiguration(conf);
+    AmazonS3 s3client;
+
     // see if we should be encrypting data in S3
     String kmsKeyID = conf.getS3KMSKeyID();
     if (kmsKeyID != null) {
       // use the AWS KMS to encrypt data
       KMSEncryptionMaterialsProvider emp = new KMSEncryptionMaterialsProvider(kmsKeyID);
-      this.s3client = new AmazonS3EncryptionClient(credentialsProvider, emp, cliConf, cryptoConf);
+      s3client = new AmazonS3EncryptionClient(credentialsProvider, emp, cliConf, cryptoConf);
     }
     else if (conf.getS3EncryptionMaterialsProviderClass() != null) {
       // use a custom encryption materials provider class
       EncryptionMaterialsProvider emp = createCustomProvider(conf);
-      this.s3client = new AmazonS3EncryptionClient(credentialsProvider, emp, cliConf, cryptoConf);
+      s3client = new AmazonS3EncryptionClient(credentialsProvider, emp, cliConf, cryptoConf);
     }
     else {
       // regular S3
-      this.s3client = new AmazonS3Client(credentialsProvider, cliConf);
+      s3client = new AmazonS3Client(credentialsProvider, cliConf);
     }
 
     // set S3 endpoint to use
     s3client.setEndpoint(conf.getEndpoint());
+    return s3client;
   }
 
   /**
    * Create an instance of a custom encryption materials provider class
    * which supplies encryption keys to use when reading/writing data in S3.
    */
-  private EncryptionMaterialsProvider createCustomProvider(ZeppelinConfiguration conf)
+  private static EncryptionMaterialsProvider createCustomProvider(ZeppelinConfiguration conf)
       throws IOException {
     // use a custom encryption materials provider class
     String empClassname = conf.getS3EncryptionMaterialsProviderClass();
@@ -157,7 +202,7 @@ public class S3NotebookRepo implements NotebookRepo {
    * Create AWS client configuration and return it.
    * @return AWS client configuration
    */
-  private ClientConfiguration createClientConfiguration() {
+  private static ClientConfiguration createClientConfiguration(ZeppelinConfiguration conf) {
     ClientConfigurationFactory configFactory = new ClientConfigurationFactory();
     ClientConfiguration config = configFactory.getConfig();
 
@@ -171,8 +216,7 @@ public class S3NotebookRepo implements NotebookRepo {
 
   @Override
   public List<NoteInfo> list(AuthenticationInfo subject) throws IOException {
-    List<NoteInfo> infos = new LinkedList<>();
-    NoteInfo info;
+    List<S3ObjectSummary> summaries = new ArrayList<>();
     try {
       ListObjectsRequest listObjectsRequest = new ListObjectsRequest()
               .withBucketName(bucketName)
@@ -181,11 +225,8 @@ public class S3NotebookRepo implements NotebookRepo {
       do {
         objectListing = s3client.listObjects(listObjectsRequest);
         for (S3ObjectSummary objectSummary : objectListing.getObjectSummaries()) {
-          if (objectSummary.getKey().endsWith("note.json")) {
-            info = getNoteInfo(objectSummary.getKey());
-            if (info != null) {
-              infos.add(info);
-            }
+          if (objectSummary.getKey().endsWith("/note.json")) {
+            summaries.add(objectSummary);
           }
         }
         listObjectsRequest.setMarker(objectListing.getNextMarker());
@@ -193,23 +234,73 @@ public class S3NotebookRepo implements NotebookRepo {
     } catch (AmazonClientException ace) {
       throw new IOException("Unable to list objects in S3: " + ace, ace);
     }
-    return infos;
-  }
 
-  private Note getNote(String key) throws IOException {
-    S3Object s3object;
+    Set<String> noteIds = new HashSet<>();
+    List<Callable<NoteInfo>> tasks = new ArrayList<>(summaries.size());
+    for (final S3ObjectSummary summary : summaries) {
+      noteIds.add(getNoteId(summary.getKey()));
+      tasks.add(new Callable<NoteInfo>() {
+        @Override
+        public NoteInfo call() throws Exception {
+          return getNoteInfo(summary);
+        }
+      });
+    }
+
+    ExecutorService executor = ExecutorFactory.singleton().createOrGetJobExecutor(
+        "S3NotebookRepo.list", Math.max(1, conf.getInt(ConfVars.ZEPPELIN_NOTEBOOK_LOAD_THREADS)));
+    List<Future<NoteInfo>> futures;
     try {
-      s3object = s3client.getObject(new GetObjectRequest(bucketName, key));
+      futures = executor.invokeAll(tasks);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while listing notes");
     }
-    catch (AmazonClientException ace) {
-      throw new IOException("Unable to retrieve object from S3: " + ace, ace);
+
+    List<NoteInfo> infoList = new LinkedList<>();
+    for (int i = 0; i < futures.size(); i++) {
+      try {
+        NoteInfo info = futures.get(i).get();
+        if (info != null) {
+          infoList.add(info);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while listing notes");
+      } catch (ExecutionException e) {
+        LOG.error("Can't read note " + summaries.get(i).getKey(), e.getCause());
+      }
     }
 
-    Note note;
-    try (InputStream ins = s3object.getObjectContent()) {
-      String json = IOUtils.toString(ins, conf.getString(ConfVars.ZEPPELIN_ENCODING));
-      note = Note.fromJson(json);
+    // forget notes removed from the bucket
+    infos.keySet().retainAll(noteIds);
+    pruneCache(noteIds);
+    return infoList;
+  }
+
+  private NoteInfo getNoteInfo(S3ObjectSummary summary) throws IOException {
+    String noteId = getNoteId(summary.getKey());
+    CachedInfo cached = infos.get(noteId);
+    if (cached != null && cached.etag.equals(summary.getETag())) {
+      return cached.info;
+    }
+
+    // only id, name and config are read, paragraphs are skipped
+    CachedNote note = fetch(noteId, summary.getETag());
+    NoteInfo info = NoteInfo.readHeader(new StringReader(note.json));
+    if (summary.getLastModified() != null) {
+      info.setLastModified(summary.getLastModified().getTime());
     }
+    info.setSize(summary.getSize());
+    if (note.etag != null) {
+      infos.put(noteId, new CachedInfo(note.etag, info));
+    }
+    return info;
+  }
+
+  @Override
+  public Note get(String noteId, AuthenticationInfo subject) throws IOException {
+    Note note = Note.fromJson(fetch(noteId, null).json);
 
     for (Paragraph p : note.getParagraphs()) {
       if (p.getStatus() == Status.PENDING || p.getStatus() == Status.RUNNING) {
@@ -220,44 +311,92 @@ public class S3NotebookRepo implements NotebookRepo {
     return note;
   }
 
-  private NoteInfo getNoteInfo(String key) throws IOException {
-    Note note = getNote(key);
-    return new NoteInfo(note);
-  }
+  /**
+   * Read note.json from the local cache when its ETag is the given one.
+   * Otherwise get it from S3, on condition that it has changed since it was cached.
+   */
+  private CachedNote fetch(String noteId, String etag) throws IOException {
+    CachedNote cached = readCache(noteId);
+    if (cached != null && cached.etag.equals(etag)) {
+      return cached;
+    }
 
-  @Override
-  public Note get(String noteId, AuthenticationInfo subject) throws IOException {
-    return getNote(user + "/" + "notebook" + "/" + noteId + "/" + "note.json");
+    GetObjectRequest request = new GetObjectRequest(bucketName, getKey(noteId));
+    if (cached != null) {
+      request.setNonmatchingETagConstraints(Collections.singletonList(cached.etag));
+    }
+    S3Object s3object;
+    try {
+      s3object = s3client.getObject(request);
+    }
+    catch (AmazonClientException ace) {
+      throw new IOException("Unable to retrieve object from S3: " + ace, ace);
+    }
+    if (s3object == null) {
+      // not modified since cached
+      return cached;
+    }
+
+    CachedNote note;
+    try (InputStream ins = s3object.getObjectContent()) {
+      note = new CachedNote(s3object.getObjectMetadata().getETag(),
+          IOUtils.toString(ins, encoding));
+    }
+    writeCache(noteId, note);
+    return note;
   }
 
   @Override
   public void save(Note note, AuthenticationInfo subject) throws IOException {
     String json = note.toJson();
-    String key = user + "/" + "notebook" + "/" + note.getId() + "/" + "note.json";
-
-    File file = File.createTempFile("note", "json");
-    try {
-      Writer writer = new OutputStreamWriter(new FileOutputStream(file));
-      writer.write(json);
-      writer.close();
+    String key = getKey(note.getId());
+    byte[] bytes = json.getBytes(encoding);
 
-      PutObjectRequest putRequest = new PutObjectRequest(bucketName, key, file);
+    ObjectMetadata objectMetadata = new ObjectMetadata();
+    if (useServerSideEncryption) {
+      // Request server-side encryption.
+      objectMetadata.setSSEAlgorithm(ObjectMetadata.AES_256_SERVER_SIDE_ENCRYPTION);
+    }
 
-      if (useServerSideEncryption) {
-        // Request server-side encryption.
-        ObjectMetadata objectMetadata = new ObjectMetadata();
-        objectMetadata.setSSEAlgorithm(ObjectMetadata.AES_256_SERVER_SIDE_ENCRYPTION);
+    String etag;
+    File file = null;
+    try {
+      if (bytes.length < multipartThreshold) {
+        objectMetadata.setContentLength(bytes.length);
+        etag = s3client.putObject(new PutObjectRequest(bucketName, key,
+            new ByteArrayInputStream(bytes), objectMetadata)).getETag();
+      } else {
+        // parts are uploaded in parallel from a file
+        file = File.createTempFile("note", "json");
+        FileUtils.writeByteArrayToFile(file, bytes);
+        PutObjectRequest putRequest = new PutObjectRequest(bucketName, key, file);
         putRequest.setMetadata(objectMetadata);
+        etag = getTransferManager().upload(putRequest).waitForUploadResult().getETag();
       }
-
-      s3client.putObject(putRequest);
     }
     catch (AmazonClientException ace) {
       throw new IOException("Unable to store note in S3: " + ace, ace);
     }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while storing note in S3");
+    }
     finally {
       FileUtils.deleteQuietly(file);
     }
+
+    infos.remove(note.getId());
+    writeCache(note.getId(), new CachedNote(etag, json));
+  }
+
+  private synchronized TransferManager getTransferManager() {
+    if (transferManager == null) {
+      TransferManagerConfiguration transferConf = new TransferManagerConfiguration();
+      transferConf.setMultipartUploadThreshold(multipartThreshold);
+      transferManager = new TransferManager(s3client);
+      transferManager.setConfiguration(transferConf);
+    }
+    return transferManager;
   }
 
   @Override
@@ -278,11 +417,107 @@ public class S3NotebookRepo implements NotebookRepo {
     catch (AmazonClientException ace) {
       throw new IOException("Unable to remove note in S3: " + ace, ace);
     }
+
+    infos.remove(noteId);
+    if (cacheDir != null) {
+      FileUtils.deleteQuietly(getCacheFile(noteId));
+    }
   }
 
   @Override
-  public void close() {
-    //no-op
+  public synchronized void close() {
+    if (transferManager != null) {
+      transferManager.shutdownNow(false);
+      transferManager = null;
+    }
+  }
+
+  private String getKey(String noteId) {
+    return user + "/" + "notebook" + "/" + noteId + "/" + "note.json";
+  }
+
+  private static String getNoteId(String key) {
+    String noteDir = key.substring(0, key.length() - "/note.json".length());
+    return noteDir.substring(noteDir.lastIndexOf('/') + 1);
+  }
+
+  private File getCacheFile(String noteId) {
+    return new File(cacheDir, noteId + ".json");
+  }
+
+  /**
+   * Cached note.json, stored as its ETag on the first line followed by the note
+   */
+  private CachedNote readCache(String noteId) {
+    if (cacheDir == null) {
+      return null;
+    }
+    File file = getCacheFile(noteId);
+    if (!file.isFile()) {
+      return null;
+    }
+    try {
+      String content = FileUtils.readFileToString(file, encoding);
+      int eol = content.indexOf('\n');
+      if (eol <= 0) {
+        return null;
+      }
+      return new CachedNote(content.substring(0, eol), content.substring(eol + 1));
+    } catch (IOException e) {
+      LOG.warn("Can't read cached note " + file, e);
+      return null;
+    }
+  }
+
+  private void writeCache(String noteId, CachedNote note) {
+    if (cacheDir == null || note.etag == null) {
+      return;
+    }
+    File tmp = null;
+    try {
+      cacheDir.mkdirs();
+      tmp = File.createTempFile(noteId, ".tmp", cacheDir);
+      FileUtils.writeStringToFile(tmp, note.etag + "\n" + note.json, encoding);
+      Files.move(tmp.toPath(), getCacheFile(noteId).toPath(),
+          StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      LOG.warn("Can't cache note " + noteId, e);
+      FileUtils.deleteQuietly(tmp);
+    }
+  }
+
+  private void pruneCache(Set<String> noteIds) {
+    File[] files = cacheDir == null ? null : cacheDir.listFiles();
+    if (files == null) {
+      return;
+    }
+    for (File file : files) {
+      String name = file.getName();
+      if (name.endsWith(".json")
+          && !noteIds.contains(name.substring(0, name.length() - ".json".length()))) {
+        FileUtils.deleteQuietly(file);
+      }
+    }
+  }
+
+  private static class CachedNote {
+    final String etag;
+    final String json;
+
+    CachedNote(String etag, String json) {
+      this.etag = etag;
+      this.json = json;
+    }
+  }
+
+  private static class CachedInfo {
+    final String etag;
+    final NoteInfo info;
+
+    CachedInfo(String etag, NoteInfo info) {
+      this.etag = etag;
+      this.info = info;
+    }
   }
 
   @Override
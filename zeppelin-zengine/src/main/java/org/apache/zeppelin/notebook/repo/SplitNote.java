@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook.repo;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.zeppelin.notebook.Note;
+
+import com.google.common.base.Charsets;
+import com.google.common.hash.Hashing;
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+/**
+ * Note stored with paragraph results apart from note.json,
+ * when zeppelin.notebook.storage.splitResults is true.
+ *
+ *   [NOTE_ID]/note.json               note, each paragraph result replaced by a reference
+ *   [NOTE_ID]/results/[SHA-1].json    paragraph result, named after the hash of its content
+ *
+ * A result file never changes once written, so saving a note only writes results that are new,
+ * typically the one of the paragraph that just ran. note.json without references, as written
+ * before splitting results, is read as is and split on its next save.
+ */
+public class SplitNote {
+  public static final String RESULTS_DIR = "results";
+  private static final String RESULTS_REF = "resultsRef";
+  private static final String RESULTS = "results";
+  private static final String PARAGRAPHS = "paragraphs";
+  private static final Gson gson = new Gson();
+
+  private final String noteJson;
+  // result file name -> result json
+  private final Map<String, String> results;
+
+  private SplitNote(String noteJson, Map<String, String> results) {
+    this.noteJson = noteJson;
+    this.results = results;
+  }
+
+  /**
+   * Reads result files of a note
+   */
+  public interface ResultReader {
+    String read(String fileName) throws IOException;
+  }
+
+  public static SplitNote split(Note note) {
+    JsonObject tree = Note.getGson().toJsonTree(note).getAsJsonObject();
+    Map<String, String> results = new LinkedHashMap<>();
+    JsonElement paragraphs = tree.get(PARAGRAPHS);
+    if (paragraphs != null && paragraphs.isJsonArray()) {
+      for (JsonElement p : paragraphs.getAsJsonArray()) {
+        JsonObject paragraph = p.getAsJsonObject();
+        JsonElement result = paragraph.remove(RESULTS);
+        if (result == null || result.isJsonNull()) {
+          continue;
+        }
+        String resultJson = gson.toJson(result);
+        String ref = Hashing.sha1().hashString(resultJson, Charsets.UTF_8).toString();
+        paragraph.addProperty(RESULTS_REF, ref);
+        results.put(fileName(ref), resultJson);
+      }
+    }
+    return new SplitNote(Note.getGson().toJson(tree), results);
+  }
+
+  /**
+   * Assemble the note from note.json, reading the results it refers to.
+   */
+  public static Note join(String noteJson, ResultReader reader) throws IOException {
+    if (!noteJson.contains(RESULTS_REF)) {
+      // single file layout
+      return Note.fromJson(noteJson);
+    }
+    JsonObject tree;
+    try {
+      tree = new JsonParser().parse(noteJson).getAsJsonObject();
+    } catch (JsonParseException | IllegalStateException e) {
+      throw new IOException("Invalid note.json", e);
+    }
+    JsonElement paragraphs = tree.get(PARAGRAPHS);
+    if (paragraphs != null && paragraphs.isJsonArray()) {
+      JsonArray array = paragraphs.getAsJsonArray();
+      for (JsonElement p : array) {
+        JsonObject paragraph = p.getAsJsonObject();
+        JsonElement ref = paragraph.remove(RESULTS_REF);
+        if (ref == null || ref.isJsonNull()) {
+          continue;
+        }
+        String resultJson = reader.read(fileName(ref.getAsString()));
+        try {
+          paragraph.add(RESULTS, new JsonParser().parse(resultJson));
+        } catch (JsonParseException e) {
+          throw new IOException("Invalid result " + ref.getAsString(), e);
+        }
+      }
+    }
+    return Note.fromJson(Note.getGson().toJson(tree));
+  }
+
+  public static String fileName(String ref) {
+    return ref + ".json";
+  }
+
+  public String getNoteJson() {
+    return noteJson;
+  }
+
+  /**
+   * Result json of the note by file name, in the results directory
+   */
+  public Map<String, String> getResults() {
+    return Collections.unmodifiableMap(results);
+  }
+}
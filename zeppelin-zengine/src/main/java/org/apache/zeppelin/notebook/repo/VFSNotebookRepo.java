@@ -20,14 +20,21 @@ package org.apache.zeppelin.notebook.repo;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang.StringUtils;
@@ -44,25 +51,37 @@ import org.apache.zeppelin.notebook.ApplicationState;
 import org.apache.zeppelin.notebook.Note;
 import org.apache.zeppelin.notebook.NoteInfo;
 import org.apache.zeppelin.notebook.Paragraph;
+import org.apache.zeppelin.scheduler.ExecutorFactory;
 import org.apache.zeppelin.scheduler.Job.Status;
 import org.apache.zeppelin.user.AuthenticationInfo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.collect.Lists;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
 
 /**
 *
 */
 public class VFSNotebookRepo implements NotebookRepo {
   private static final Logger LOG = LoggerFactory.getLogger(VFSNotebookRepo.class);
+  // metadata of the note next to note.json, so notes can be listed without reading note.json.
+  // hidden, it isn't part of the note and changes on every save
+  static final String NOTE_INFO_FILE = ".note.info";
+  // name it had before
+  private static final String LEGACY_NOTE_INFO_FILE = "note.info";
+  private static final Gson gson = new Gson();
 
   private FileSystemManager fsManager;
   private URI filesystemRoot;
   private ZeppelinConfiguration conf;
+  // store paragraph results apart from note.json, see SplitNote
+  private boolean splitResults;
 
   public VFSNotebookRepo(ZeppelinConfiguration conf) throws IOException {
     this.conf = conf;
+    this.splitResults = conf.getBoolean(ConfVars.ZEPPELIN_NOTEBOOK_STORAGE_SPLIT_RESULTS);
     setNotebookDirectory(conf.getNotebookDir());
   }
 
@@ -120,8 +139,9 @@ public class VFSNotebookRepo implements NotebookRepo {
 
     FileObject[] children = rootDir.getChildren();
 
-    List<NoteInfo> infos = new LinkedList<>();
-    for (FileObject f : children) {
+    List<FileObject> noteDirs = new ArrayList<>(children.length);
+    List<Callable<NoteInfo>> tasks = new ArrayList<>(children.length);
+    for (final FileObject f : children) {
       String fileName = f.getName().getBaseName();
       if (f.isHidden()
           || fileName.startsWith(".")
@@ -137,22 +157,44 @@ public class VFSNotebookRepo implements NotebookRepo {
         continue;
       }
 
-      NoteInfo info = null;
+      noteDirs.add(f);
+      tasks.add(new Callable<NoteInfo>() {
+        @Override
+        public NoteInfo call() throws Exception {
+          return getNoteInfo(f);
+        }
+      });
+    }
 
+    ExecutorService executor = ExecutorFactory.singleton().createOrGetJobExecutor(
+        "VFSNotebookRepo.list", Math.max(1, conf.getInt(ConfVars.ZEPPELIN_NOTEBOOK_LOAD_THREADS)));
+    List<Future<NoteInfo>> futures;
+    try {
+      futures = executor.invokeAll(tasks);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while listing notes");
+    }
+
+    List<NoteInfo> infos = new LinkedList<>();
+    for (int i = 0; i < futures.size(); i++) {
       try {
-        info = getNoteInfo(f);
+        NoteInfo info = futures.get(i).get();
         if (info != null) {
           infos.add(info);
         }
-      } catch (Exception e) {
-        LOG.error("Can't read note " + f.getName().toString(), e);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while listing notes");
+      } catch (ExecutionException e) {
+        LOG.error("Can't read note " + noteDirs.get(i).getName().toString(), e.getCause());
       }
     }
 
     return infos;
   }
 
-  private Note getNote(FileObject noteDir) throws IOException {
+  private Note getNote(final FileObject noteDir) throws IOException {
     if (!isDirectory(noteDir)) {
       throw new IOException(noteDir.getName().toString() + " is not a directory");
     }
@@ -162,13 +204,25 @@ public class VFSNotebookRepo implements NotebookRepo {
       throw new IOException(noteJson.getName().toString() + " not found");
     }
     
-    FileContent content = noteJson.getContent();
-    InputStream ins = content.getInputStream();
-    String json = IOUtils.toString(ins, conf.getString(ConfVars.ZEPPELIN_ENCODING));
-    ins.close();
-
-    Note note = Note.fromJson(json);
+    Note note = SplitNote.join(readFile(noteJson), new SplitNote.ResultReader() {
+      @Override
+      public String read(String fileName) throws IOException {
+        FileObject result = noteDir.resolveFile(SplitNote.RESULTS_DIR, NameScope.CHILD)
+            .resolveFile(fileName, NameScope.CHILD);
+        if (!result.exists()) {
+          throw new IOException(result.getName().toString() + " not found");
+        }
+        return readFile(result);
+      }
+    });
+    resetStatus(note);
+    return note;
+  }
 
+  /**
+   * Abort paragraphs that were running when the note was saved, and unload its applications
+   */
+  static void resetStatus(Note note) {
     for (Paragraph p : note.getParagraphs()) {
       if (p.getStatus() == Status.PENDING || p.getStatus() == Status.RUNNING) {
         p.setStatus(Status.ABORT);
@@ -183,13 +237,82 @@ public class VFSNotebookRepo implements NotebookRepo {
         }
       }
     }
+  }
 
-    return note;
+  private String readFile(FileObject file) throws IOException {
+    InputStream ins = file.getContent().getInputStream();
+    try {
+      return IOUtils.toString(ins, conf.getString(ConfVars.ZEPPELIN_ENCODING));
+    } finally {
+      ins.close();
+    }
   }
 
+  /**
+   * Read NoteInfo from [NOTE_ID]/.note.info, which is written next to note.json on save.
+   * When it is missing or note.json has been modified since, only id, name and config are
+   * read from note.json, skipping paragraphs, and .note.info is written again.
+   */
   private NoteInfo getNoteInfo(FileObject noteDir) throws IOException {
-    Note note = getNote(noteDir);
-    return new NoteInfo(note);
+    if (!isDirectory(noteDir)) {
+      throw new IOException(noteDir.getName().toString() + " is not a directory");
+    }
+
+    FileObject noteJson = noteDir.resolveFile("note.json", NameScope.CHILD);
+    if (!noteJson.exists()) {
+      throw new IOException(noteJson.getName().toString() + " not found");
+    }
+    FileContent content = noteJson.getContent();
+    long lastModified = content.getLastModifiedTime();
+    long size = content.getSize();
+
+    NoteInfo info = readNoteInfoFile(noteDir);
+    if (info != null && info.getLastModified() == lastModified && info.getSize() == size) {
+      return info;
+    }
+
+    info = parseNoteInfo(content);
+    info.setLastModified(lastModified);
+    info.setSize(size);
+    try {
+      writeNoteInfoFile(noteDir, info);
+    } catch (IOException e) {
+      LOG.warn("Can't write " + NOTE_INFO_FILE + " of note " + info.getId(), e);
+    }
+    return info;
+  }
+
+  private NoteInfo readNoteInfoFile(FileObject noteDir) {
+    try {
+      FileObject noteInfo = noteDir.resolveFile(NOTE_INFO_FILE, NameScope.CHILD);
+      if (!noteInfo.exists()) {
+        return null;
+      }
+      InputStream ins = noteInfo.getContent().getInputStream();
+      try {
+        return gson.fromJson(
+            IOUtils.toString(ins, conf.getString(ConfVars.ZEPPELIN_ENCODING)), NoteInfo.class);
+      } finally {
+        ins.close();
+      }
+    } catch (IOException | JsonParseException e) {
+      LOG.warn("Can't read " + NOTE_INFO_FILE + " of " + noteDir.getName().toString(), e);
+      return null;
+    }
+  }
+
+  private void writeNoteInfoFile(FileObject noteDir, NoteInfo info) throws IOException {
+    FileObject noteInfo = noteDir.resolveFile(NOTE_INFO_FILE + ".tmp", NameScope.CHILD);
+    OutputStream out = noteInfo.getContent().getOutputStream(false);
+    out.write(gson.toJson(info).getBytes(conf.getString(ConfVars.ZEPPELIN_ENCODING)));
+    out.close();
+    noteInfo.moveTo(noteDir.resolveFile(NOTE_INFO_FILE, NameScope.CHILD));
+    noteDir.resolveFile(LEGACY_NOTE_INFO_FILE, NameScope.CHILD).delete();
+  }
+
+  private NoteInfo parseNoteInfo(FileContent content) throws IOException {
+    return NoteInfo.readHeader(new InputStreamReader(
+        content.getInputStream(), conf.getString(ConfVars.ZEPPELIN_ENCODING)));
   }
 
   @Override
@@ -217,7 +340,14 @@ public class VFSNotebookRepo implements NotebookRepo {
   @Override
   public synchronized void save(Note note, AuthenticationInfo subject) throws IOException {
     LOG.info("Saving note:" + note.getId());
-    String json = note.toJson();
+    SplitNote split = null;
+    String json;
+    if (splitResults) {
+      split = SplitNote.split(note);
+      json = split.getNoteJson();
+    } else {
+      json = note.toJson();
+    }
 
     FileObject rootDir = getRootDir();
 
@@ -230,12 +360,71 @@ public class VFSNotebookRepo implements NotebookRepo {
       throw new IOException(noteDir.getName().toString() + " is not a directory");
     }
 
+    FileObject resultsDir = noteDir.resolveFile(SplitNote.RESULTS_DIR, NameScope.CHILD);
+    if (split != null) {
+      // results first, note.json must not refer to a result that is not there
+      for (Map.Entry<String, String> result : split.getResults().entrySet()) {
+        FileObject resultFile = resultsDir.resolveFile(result.getKey(), NameScope.CHILD);
+        if (!resultFile.exists()) {
+          writeFile(resultsDir, result.getKey(), result.getValue());
+        }
+      }
+    }
+
     FileObject noteJson = noteDir.resolveFile(".note.json", NameScope.CHILD);
     // false means not appending. creates file if not exists
     OutputStream out = noteJson.getContent().getOutputStream(false);
     out.write(json.getBytes(conf.getString(ConfVars.ZEPPELIN_ENCODING)));
     out.close();
-    noteJson.moveTo(noteDir.resolveFile("note.json", NameScope.CHILD));
+    FileObject savedNoteJson = noteDir.resolveFile("note.json", NameScope.CHILD);
+    noteJson.moveTo(savedNoteJson);
+
+    removeUnusedResults(resultsDir, split);
+
+    try {
+      savedNoteJson.refresh();
+      NoteInfo info = new NoteInfo(note);
+      info.setLastModified(savedNoteJson.getContent().getLastModifiedTime());
+      info.setSize(savedNoteJson.getContent().getSize());
+      writeNoteInfoFile(noteDir, info);
+    } catch (IOException e) {
+      // list() writes it again from note.json
+      LOG.warn("Can't write " + NOTE_INFO_FILE + " of note " + note.getId(), e);
+    }
+  }
+
+  private void writeFile(FileObject dir, String name, String content) throws IOException {
+    FileObject tmp = dir.resolveFile("." + name, NameScope.CHILD);
+    OutputStream out = tmp.getContent().getOutputStream(false);
+    try {
+      out.write(content.getBytes(conf.getString(ConfVars.ZEPPELIN_ENCODING)));
+    } finally {
+      out.close();
+    }
+    tmp.moveTo(dir.resolveFile(name, NameScope.CHILD));
+  }
+
+  /**
+   * Remove result files the saved note.json doesn't refer to, all of them when results are
+   * saved in note.json.
+   */
+  private void removeUnusedResults(FileObject resultsDir, SplitNote split) {
+    try {
+      if (!resultsDir.exists()) {
+        return;
+      }
+      for (FileObject result : resultsDir.getChildren()) {
+        if (split == null || !split.getResults().containsKey(result.getName().getBaseName())) {
+          result.delete();
+        }
+      }
+      if (split == null) {
+        resultsDir.delete();
+      }
+    } catch (IOException e) {
+      // removed on next save
+      LOG.warn("Can't remove unused results in " + resultsDir.getName().toString(), e);
+    }
   }
 
   @Override
@@ -25,19 +25,33 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Collection;
-import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * RemoteScheduler runs in ZeppelinServer and proxies Scheduler running on RemoteInterpreter
  *
+ * Status and progress of running jobs are pushed by the interpreter process through its event
+ * channel, see {@link #onJobStatusUpdate(String, String, int)}.
  */
 public class RemoteScheduler implements Scheduler {
+  private static final String STATUS_CHECK_TIMER = "RemoteScheduler.statusCheck";
+  // getStatus() calls run here, not on the timer, so a hanging process can't stall the others
+  private static final String STATUS_CHECK_EXECUTOR = "RemoteScheduler.statusCheckRpc";
+  private static final int STATUS_CHECK_THREADS = 10;
+  private static final long STATUS_CHECK_DELAY_MS = 1500;
+  private static final long STATUS_CHECK_INTERVAL_MS = 500;
+
   Logger logger = LoggerFactory.getLogger(RemoteScheduler.class);
 
-  List<Job> queue = new LinkedList<>();
+  final JobQueue queue;
   List<Job> running = new LinkedList<>();
   private ExecutorService executor;
   private SchedulerListener listener;
@@ -46,10 +60,22 @@ public class RemoteScheduler implements Scheduler {
   private int maxConcurrency;
   private final String sessionId;
   private RemoteInterpreter remoteInterpreter;
+  private final ConcurrentMap<String, JobRunner> jobRunners = new ConcurrentHashMap<>();
+  // one status check of the interpreter process at a time, checks of a process that doesn't
+  // answer are skipped instead of piling up
+  private final AtomicBoolean statusCheckInFlight = new AtomicBoolean();
 
   public RemoteScheduler(String name, ExecutorService executor, String sessionId,
                          RemoteInterpreter remoteInterpreter, SchedulerListener listener,
                          int maxConcurrency) {
+    this(name, executor, sessionId, remoteInterpreter, listener, maxConcurrency,
+        new FifoJobQueue());
+  }
+
+  public RemoteScheduler(String name, ExecutorService executor, String sessionId,
+                         RemoteInterpreter remoteInterpreter, SchedulerListener listener,
+                         int maxConcurrency, JobQueue queue) {
+    this.queue = queue;
     this.name = name;
     this.executor = executor;
     this.listener = listener;
@@ -64,7 +90,7 @@ public class RemoteScheduler implements Scheduler {
       Job job = null;
 
       synchronized (queue) {
-        if (running.size() >= maxConcurrency || queue.isEmpty() == true) {
+        if (running.size() >= maxConcurrency || !queue.hasReady()) {
           try {
             queue.wait(500);
           } catch (InterruptedException e) {
@@ -73,7 +99,7 @@ public class RemoteScheduler implements Scheduler {
           continue;
         }
 
-        job = queue.remove(0);
+        job = queue.poll();
         running.add(job);
       }
 
@@ -103,28 +129,17 @@ public class RemoteScheduler implements Scheduler {
 
   @Override
   public Collection<Job> getJobsWaiting() {
-    List<Job> ret = new LinkedList<>();
-    synchronized (queue) {
-      for (Job job : queue) {
-        ret.add(job);
-      }
-    }
-    return ret;
+    return queue.getJobs();
   }
 
   @Override
   public Job removeFromWaitingQueue(String jobId) {
-    synchronized (queue) {
-      Iterator<Job> it = queue.iterator();
-      while (it.hasNext()) {
-        Job job = it.next();
-        if (job.getId().equals(jobId)) {
-          it.remove();
-          return job;
-        }
-      }
-    }
-    return null;
+    return queue.remove(jobId);
+  }
+
+  @Override
+  public JobQueue getQueue() {
+    return queue;
   }
 
   @Override
@@ -159,107 +174,91 @@ public class RemoteScheduler implements Scheduler {
   }
 
   /**
-   * Role of the class is get status info from remote process from PENDING to
-   * RUNNING status.
+   * Status or progress of a job, pushed by the interpreter process
+   * @param status null when only progress changed
+   * @param progress -1 when only status changed
    */
-  private class JobStatusPoller extends Thread {
-    private long initialPeriodMsec;
-    private long initialPeriodCheckIntervalMsec;
-    private long checkIntervalMsec;
-    private volatile boolean terminate;
-    private JobListener listener;
-    private Job job;
-    volatile Status lastStatus;
-
-    public JobStatusPoller(long initialPeriodMsec,
-        long initialPeriodCheckIntervalMsec, long checkIntervalMsec, Job job,
-        JobListener listener) {
-      setName("JobStatusPoller-" + job.getId());
-      this.initialPeriodMsec = initialPeriodMsec;
-      this.initialPeriodCheckIntervalMsec = initialPeriodCheckIntervalMsec;
-      this.checkIntervalMsec = checkIntervalMsec;
-      this.job = job;
-      this.listener = listener;
-      this.terminate = false;
+  public void onJobStatusUpdate(String jobId, String status, int progress) {
+    JobRunner jobRunner = jobRunners.get(jobId);
+    if (jobRunner != null) {
+      jobRunner.onStatusPushed(status == null ? null : Status.valueOf(status), progress);
     }
+  }
 
-    @Override
-    public void run() {
-      long started = System.currentTimeMillis();
-      while (terminate == false) {
-        long current = System.currentTimeMillis();
-        long interval;
-        if (current - started < initialPeriodMsec) {
-          interval = initialPeriodCheckIntervalMsec;
-        } else {
-          interval = checkIntervalMsec;
-        }
-
-        synchronized (this) {
-          try {
-            this.wait(interval);
-          } catch (InterruptedException e) {
-            logger.error("Exception in RemoteScheduler while run this.wait", e);
-          }
-        }
-
-        if (terminate) {
-          // terminated by shutdown
-          break;
-        }
+  /**
+   * Gets status of a job from the interpreter process until it's not PENDING anymore, in case
+   * the process doesn't push it. Checks of all jobs share one timer, and stop as soon as
+   * the process pushes a status. The timer only hands the check over to a job executor, where
+   * it waits for the process.
+   */
+  private class JobStatusCheck implements Runnable {
+    private final JobRunner jobRunner;
+    private volatile ScheduledFuture<?> future;
 
-        Status newStatus = getStatus();
-        if (newStatus == Status.UNKNOWN) { // unknown
-          continue;
-        }
+    JobStatusCheck(JobRunner jobRunner) {
+      this.jobRunner = jobRunner;
+    }
 
-        if (newStatus != Status.READY && newStatus != Status.PENDING) {
-          // we don't need more
-          break;
-        }
-      }
-      terminate = true;
+    void start() {
+      future = ExecutorFactory.singleton().createOrGetTimer(STATUS_CHECK_TIMER, 1)
+          .scheduleWithFixedDelay(this, STATUS_CHECK_DELAY_MS, STATUS_CHECK_INTERVAL_MS,
+              TimeUnit.MILLISECONDS);
     }
 
-    public void shutdown() {
-      terminate = true;
-      synchronized (this) {
-        this.notify();
+    void stop() {
+      if (future != null) {
+        future.cancel(false);
       }
     }
 
-
-    private Status getLastStatus() {
-      if (terminate == true) {
-        if (job.getErrorMessage() != null) {
-          return Status.ERROR;
-        } else if (lastStatus != Status.FINISHED &&
-            lastStatus != Status.ERROR &&
-            lastStatus != Status.ABORT) {
-          return Status.FINISHED;
-        } else {
-          return (lastStatus == null) ? Status.FINISHED : lastStatus;
-        }
-      } else {
-        return (lastStatus == null) ? Status.UNKNOWN : lastStatus;
+    @Override
+    public void run() {
+      if (jobRunner.statusPushed || jobRunner.isJobSubmittedInRemote()) {
+        stop();
+        return;
+      }
+      if (!remoteInterpreter.isOpened() || !statusCheckInFlight.compareAndSet(false, true)) {
+        return;
+      }
+      try {
+        ExecutorFactory.singleton()
+            .createOrGetJobExecutor(STATUS_CHECK_EXECUTOR, STATUS_CHECK_THREADS)
+            .execute(new Runnable() {
+              @Override
+              public void run() {
+                try {
+                  checkStatus();
+                } finally {
+                  statusCheckInFlight.set(false);
+                }
+              }
+            });
+      } catch (RejectedExecutionException e) {
+        statusCheckInFlight.set(false);
+        logger.warn("Can't check status of job " + jobRunner.job.getId(), e);
       }
     }
 
-    public synchronized Status getStatus() {
-      if (!remoteInterpreter.isOpened()) {
-        return getLastStatus();
+    private void checkStatus() {
+      if (jobRunner.statusPushed || jobRunner.isJobSubmittedInRemote()) {
+        return;
       }
-      Status status = Status.valueOf(remoteInterpreter.getStatus(job.getId()));
-      if (status == Status.UNKNOWN) {
-        // not found this job in the remote schedulers.
-        // maybe not submitted, maybe already finished
-        //Status status = getLastStatus();
-        listener.afterStatusChange(job, null, null);
-        return job.getStatus();
+      try {
+        Job job = jobRunner.job;
+        Status status = Status.valueOf(remoteInterpreter.getStatus(job.getId()));
+        if (status == Status.UNKNOWN) {
+          // not found this job in the remote schedulers.
+          // maybe not submitted, maybe already finished
+          jobRunner.afterStatusChange(job, null, null);
+          return;
+        }
+        jobRunner.afterStatusChange(job, null, status);
+        if (status != Status.READY && status != Status.PENDING) {
+          stop();
+        }
+      } catch (Exception e) {
+        logger.error("Can't get status of job " + jobRunner.job.getId(), e);
       }
-      lastStatus = status;
-      listener.afterStatusChange(job, null, status);
-      return status;
     }
   }
 
@@ -270,6 +269,7 @@ public class RemoteScheduler implements Scheduler {
     private Job job;
     private volatile boolean jobExecuted;
     volatile boolean jobSubmittedRemotely;
+    volatile boolean statusPushed;
 
     public JobRunner(Scheduler scheduler, Job job) {
       this.scheduler = scheduler;
@@ -290,6 +290,7 @@ public class RemoteScheduler implements Scheduler {
           job.aborted = false;
 
           running.remove(job);
+          queue.finished(job);
           queue.notify();
         }
         jobSubmittedRemotely = true;
@@ -297,9 +298,10 @@ public class RemoteScheduler implements Scheduler {
         return;
       }
 
-      JobStatusPoller jobStatusPoller = new JobStatusPoller(1500, 100, 500,
-          job, this);
-      jobStatusPoller.start();
+      jobRunners.put(job.getId(), this);
+      job.setProgressPushed(false);
+      JobStatusCheck jobStatusCheck = new JobStatusCheck(this);
+      jobStatusCheck.start();
 
       if (listener != null) {
         listener.jobStarted(scheduler, job);
@@ -309,12 +311,8 @@ public class RemoteScheduler implements Scheduler {
       jobExecuted = true;
       jobSubmittedRemotely = true;
 
-      jobStatusPoller.shutdown();
-      try {
-        jobStatusPoller.join();
-      } catch (InterruptedException e) {
-        logger.error("JobStatusPoller interrupted", e);
-      }
+      jobStatusCheck.stop();
+      jobRunners.remove(job.getId(), this);
 
       // set job status based on result.
       Object jobResult = job.getReturn();
@@ -341,10 +339,26 @@ public class RemoteScheduler implements Scheduler {
         job.aborted = false;
 
         running.remove(job);
+        queue.finished(job);
         queue.notify();
       }
     }
 
+    void onStatusPushed(Status status, int progress) {
+      if (!jobExecuted && isTerminal(status)) {
+        // status of the last run of the same job, pushed late. leave the checks of this run
+        return;
+      }
+      statusPushed = true;
+      job.setProgressPushed(true);
+      if (status != null) {
+        afterStatusChange(job, null, status);
+      }
+      if (progress >= 0) {
+        job.updateProgress(progress);
+      }
+    }
+
     @Override
     public void onProgressUpdate(Job job, int progress) {
     }
@@ -357,8 +371,7 @@ public class RemoteScheduler implements Scheduler {
     public void afterStatusChange(Job job, Status before, Status after) {
       // Update remoteStatus
       if (jobExecuted == false) {
-        if (after == Status.FINISHED || after == Status.ABORT
-            || after == Status.ERROR) {
+        if (isTerminal(after)) {
           // it can be status of last run.
           // so not updating the remoteStatus
           return;
@@ -375,9 +388,20 @@ public class RemoteScheduler implements Scheduler {
       if (after == Status.RUNNING) {
         job.setStatus(Status.RUNNING);
       }
+
+      if (jobSubmittedRemotely) {
+        // wake up run() waiting for the job to be submitted
+        synchronized (queue) {
+          queue.notify();
+        }
+      }
     }
   }
 
+  private static boolean isTerminal(Status status) {
+    return status == Status.FINISHED || status == Status.ABORT || status == Status.ERROR;
+  }
+
   @Override
   public void stop() {
     terminate = true;
@@ -17,12 +17,22 @@
 package org.apache.zeppelin.search;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.analysis.TokenStream;
@@ -32,16 +42,20 @@ import org.apache.lucene.document.Field;
 import org.apache.lucene.document.LongField;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.document.TextField;
-import org.apache.lucene.index.DirectoryReader;
-import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.CorruptIndexException;
+import org.apache.lucene.index.IndexFormatTooNewException;
+import org.apache.lucene.index.IndexFormatTooOldException;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.IndexWriterConfig.OpenMode;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
 import org.apache.lucene.queryparser.classic.ParseException;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.WildcardQuery;
 import org.apache.lucene.search.highlight.Highlighter;
 import org.apache.lucene.search.highlight.InvalidTokenOffsetsException;
@@ -50,7 +64,11 @@ import org.apache.lucene.search.highlight.SimpleHTMLFormatter;
 import org.apache.lucene.search.highlight.TextFragment;
 import org.apache.lucene.search.highlight.TokenSources;
 import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.LockObtainFailedException;
+import org.apache.lucene.store.MMapDirectory;
 import org.apache.lucene.store.RAMDirectory;
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars;
 import org.apache.zeppelin.notebook.Note;
 import org.apache.zeppelin.notebook.Paragraph;
 import org.slf4j.Logger;
@@ -59,12 +77,23 @@ import org.slf4j.LoggerFactory;
 import com.google.common.base.Joiner;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 
 /**
  * Search (both, indexing and query) the notebooks using Lucene.
  *
- * Query is thread-safe, as creates new IndexReader every time.
+ * Query is thread-safe, searchers are shared through a near-real-time SearcherManager.
  * Index is thread-safe, as re-uses single IndexWriter, which is thread-safe.
+ *
+ * Changes are visible to the next query without being committed. A background task refreshes
+ * the searcher every REFRESH_INTERVAL_MS and commits every COMMIT_INTERVAL_MS, a query refreshes
+ * it only when changes were made since.
+ *
+ * With zeppelin.search.use.disk the index is kept in zeppelin.search.index.path across restarts.
+ * Each note has a fingerprint doc holding a hash of its indexed content, so on startup
+ * addIndexDocs() only reindexes the notes changed since, and updateIndexDoc() skips notes
+ * saved without a change to their name, paragraph titles or text.
  */
 public class LuceneSearch implements SearchService {
   private static final Logger LOG = LoggerFactory.getLogger(LuceneSearch.class);
@@ -73,35 +102,115 @@ public class LuceneSearch implements SearchService {
   private static final String SEARCH_FIELD_TITLE = "header";
   static final String PARAGRAPH = "paragraph";
   static final String ID_FIELD = "id";
+  // <noteId>/fingerprint doc
+  static final String FINGERPRINT = "fingerprint";
+  private static final String TYPE_FIELD = "type";
+
+  static final long REFRESH_INTERVAL_MS = 1000;
+  static final long COMMIT_INTERVAL_MS = 10 * 1000;
 
-  Directory ramDirectory;
+  Directory directory;
   Analyzer analyzer;
   IndexWriterConfig iwc;
   IndexWriter writer;
+  SearcherManager searcherManager;
 
+  // fingerprint of the indexed content of each note
+  private final Map<String, String> indexedNotes = new ConcurrentHashMap<>();
+  // number of changes made to the index, and made before the searcher was last refreshed
+  private final AtomicLong changes = new AtomicLong();
+  private volatile long refreshedChanges;
+  private ScheduledExecutorService maintenance;
+
+  /**
+   * In-memory index
+   */
   public LuceneSearch() {
-    ramDirectory = new RAMDirectory();
+    this(new RAMDirectory());
+  }
+
+  /**
+   * Index in zeppelin.search.index.path, in-memory when zeppelin.search.use.disk is false
+   */
+  public LuceneSearch(ZeppelinConfiguration conf) {
+    this(openDirectory(conf));
+  }
+
+  LuceneSearch(Directory directory) {
+    this.directory = directory;
     analyzer = new StandardAnalyzer();
-    iwc = new IndexWriterConfig(analyzer);
     try {
-      writer = new IndexWriter(ramDirectory, iwc);
+      try {
+        openWriter(OpenMode.CREATE_OR_APPEND);
+      } catch (CorruptIndexException | IndexFormatTooOldException | IndexFormatTooNewException e) {
+        LOG.error("Index in {} can't be read, creating a new one", directory, e);
+        openWriter(OpenMode.CREATE);
+      } catch (LockObtainFailedException e) {
+        LOG.error("Index in {} is used by another process, using an in-memory index",
+            directory, e);
+        this.directory = new RAMDirectory();
+        openWriter(OpenMode.CREATE);
+      }
     } catch (IOException e) {
       LOG.error("Failed to create new IndexWriter", e);
     }
   }
 
+  private static Directory openDirectory(ZeppelinConfiguration conf) {
+    if (!conf.getBoolean(ConfVars.ZEPPELIN_SEARCH_USE_DISK)) {
+      return new RAMDirectory();
+    }
+    String path = conf.getRelativeDir(ConfVars.ZEPPELIN_SEARCH_INDEX_PATH);
+    try {
+      Files.createDirectories(Paths.get(path));
+      return new MMapDirectory(Paths.get(path));
+    } catch (IOException e) {
+      LOG.error("Failed to open index dir {}, using an in-memory index", path, e);
+      return new RAMDirectory();
+    }
+  }
+
+  private void openWriter(OpenMode openMode) throws IOException {
+    iwc = new IndexWriterConfig(analyzer);
+    iwc.setOpenMode(openMode);
+    writer = new IndexWriter(directory, iwc);
+    searcherManager = new SearcherManager(writer, true, null);
+    loadFingerprints();
+  }
+
+  private void loadFingerprints() throws IOException {
+    IndexSearcher searcher = searcherManager.acquire();
+    try {
+      int maxDoc = Math.max(1, searcher.getIndexReader().maxDoc());
+      ScoreDoc[] hits =
+          searcher.search(new TermQuery(new Term(TYPE_FIELD, FINGERPRINT)), maxDoc).scoreDocs;
+      for (ScoreDoc hit : hits) {
+        Document doc = searcher.doc(hit.doc);
+        String id = doc.get(ID_FIELD);
+        indexedNotes.put(id.substring(0, id.lastIndexOf('/')), doc.get(FINGERPRINT));
+      }
+    } finally {
+      searcherManager.release(searcher);
+    }
+    if (!indexedNotes.isEmpty()) {
+      LOG.info("Index in {} contains {} notes", directory, indexedNotes.size());
+    }
+  }
+
   /* (non-Javadoc)
    * @see org.apache.zeppelin.search.Search#query(java.lang.String)
    */
   @Override
   public List<Map<String, String>> query(String queryStr) {
-    if (null == ramDirectory) {
+    if (null == searcherManager) {
       throw new IllegalStateException(
-          "Something went wrong on instance creation time, index dir is null");
+          "Something went wrong on instance creation time, index writer is null");
     }
     List<Map<String, String>> result = Collections.emptyList();
-    try (IndexReader indexReader = DirectoryReader.open(ramDirectory)) {
-      IndexSearcher indexSearcher = new IndexSearcher(indexReader);
+    IndexSearcher indexSearcher = null;
+    try {
+      refreshSearcher();
+      indexSearcher = searcherManager.acquire();
       Analyzer analyzer = new StandardAnalyzer();
       MultiFieldQueryParser parser = new MultiFieldQueryParser(
           new String[] {SEARCH_FIELD_TEXT, SEARCH_FIELD_TITLE},
@@ -114,15 +223,75 @@ public class LuceneSearch implements SearchService {
       Highlighter highlighter = new Highlighter(htmlFormatter, new QueryScorer(query));
 
       result = doSearch(indexSearcher, query, analyzer, highlighter);
-      indexReader.close();
     } catch (IOException e) {
-      LOG.error("Failed to open index dir {}, make sure indexing finished OK", ramDirectory, e);
+      LOG.error("Failed to search index {}, make sure indexing finished OK", directory, e);
     } catch (ParseException e) {
       LOG.error("Failed to parse query " + queryStr, e);
+    } finally {
+      if (indexSearcher != null) {
+        try {
+          searcherManager.release(indexSearcher);
+        } catch (IOException e) {
+          LOG.error("Failed to release searcher", e);
+        }
+      }
     }
     return result;
   }
 
+  /**
+   * Open a new searcher when the index changed since the current one was opened
+   */
+  private void refreshSearcher() throws IOException {
+    long pendingChanges = changes.get();
+    if (pendingChanges != refreshedChanges) {
+      searcherManager.maybeRefreshBlocking();
+      refreshedChanges = pendingChanges;
+    }
+  }
+
+  private void changed() {
+    changes.incrementAndGet();
+    synchronized (this) {
+      if (maintenance == null) {
+        maintenance = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+          @Override
+          public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "LuceneSearch");
+            thread.setDaemon(true);
+            return thread;
+          }
+        });
+        maintenance.scheduleWithFixedDelay(new Runnable() {
+          @Override
+          public void run() {
+            try {
+              refreshSearcher();
+            } catch (IOException | RuntimeException e) {
+              LOG.error("Failed to refresh index searcher", e);
+            }
+          }
+        }, REFRESH_INTERVAL_MS, REFRESH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        maintenance.scheduleWithFixedDelay(new Runnable() {
+          @Override
+          public void run() {
+            commit();
+          }
+        }, COMMIT_INTERVAL_MS, COMMIT_INTERVAL_MS, TimeUnit.MILLISECONDS);
+      }
+    }
+  }
+
+  private void commit() {
+    try {
+      if (writer.hasUncommittedChanges()) {
+        writer.commit();
+      }
+    } catch (IOException | RuntimeException e) {
+      LOG.error("Failed to commit index", e);
+    }
+  }
+
   private List<Map<String, String>> doSearch(IndexSearcher searcher, Query query,
       Analyzer analyzer, Highlighter highlighter) {
     List<Map<String, String>> matchingParagraphs = Lists.newArrayList();
@@ -184,10 +353,53 @@ public class LuceneSearch implements SearchService {
    */
   @Override
   public void updateIndexDoc(Note note) throws IOException {
+    String fingerprint = fingerprint(note);
+    if (fingerprint.equals(indexedNotes.get(note.getId()))) {
+      LOG.debug("Note {} not changed since indexed", note.getId());
+      return;
+    }
     updateIndexNoteName(note);
     for (Paragraph p: note.getParagraphs()) {
       updateIndexParagraph(note, p);
     }
+    updateFingerprint(note.getId(), fingerprint);
+  }
+
+  /**
+   * Hash of the indexed content of the note
+   */
+  static String fingerprint(Note note) {
+    Hasher hasher = Hashing.murmur3_128().newHasher();
+    putString(hasher, note.getName());
+    for (Paragraph p : note.getParagraphs()) {
+      putString(hasher, p.getId());
+      putString(hasher, p.getTitle());
+      putString(hasher, p.getText());
+    }
+    return hasher.hash().toString();
+  }
+
+  private static void putString(Hasher hasher, String value) {
+    if (value == null) {
+      hasher.putByte((byte) 0);
+    } else {
+      hasher.putByte((byte) 1).putString(value, StandardCharsets.UTF_8).putInt(value.length());
+    }
+  }
+
+  private void updateFingerprint(String noteId, String fingerprint) {
+    String id = Joiner.on('/').join(noteId, FINGERPRINT);
+    Document doc = new Document();
+    doc.add(new StringField(ID_FIELD, id, Field.Store.YES));
+    doc.add(new StringField(TYPE_FIELD, FINGERPRINT, Field.Store.NO));
+    doc.add(new StringField(FINGERPRINT, fingerprint, Field.Store.YES));
+    try {
+      writer.updateDocument(new Term(ID_FIELD, id), doc);
+      indexedNotes.put(noteId, fingerprint);
+      changed();
+    } catch (IOException e) {
+      LOG.error("Failed to update index of notebook {}", noteId, e);
+    }
   }
 
   private void updateIndexNoteName(Note note) throws IOException {
@@ -223,7 +435,7 @@ public class LuceneSearch implements SearchService {
     Document doc = newDocument(id, noteName, p);
     try {
       writer.updateDocument(new Term(ID_FIELD, id), doc);
-      writer.commit();
+      changed();
     } catch (IOException e) {
       LOG.error("Failed to updaet index of notebook {}", noteId, e);
     }
@@ -282,50 +494,89 @@ public class LuceneSearch implements SearchService {
 
   /* (non-Javadoc)
    * @see org.apache.zeppelin.search.Search#addIndexDocs(java.util.Collection)
+   *
+   * Reindexes notes changed since they were indexed, and removes the notes not in the collection.
    */
   @Override
   public void addIndexDocs(Collection<Note> collection) {
     int docsIndexed = 0;
+    int docsRemoved = 0;
     long start = System.nanoTime();
     try {
+      Set<String> noteIds = new HashSet<>();
       for (Note note : collection) {
-        addIndexDocAsync(note);
-        docsIndexed++;
+        noteIds.add(note.getId());
+        String fingerprint = fingerprint(note);
+        if (!fingerprint.equals(indexedNotes.get(note.getId()))) {
+          reindexNote(note, fingerprint);
+          docsIndexed++;
+        }
       }
+      docsRemoved = deleteOtherNotes(noteIds);
     } catch (IOException e) {
       LOG.error("Failed to index all Notebooks", e);
     } finally {
-      try { // save what's been indexed, even if not full collection
-        writer.commit();
-      } catch (IOException e) {
-        LOG.error("Failed to save index", e);
-      }
+      changed();
+      // save what's been indexed, even if not full collection
+      commit();
       long end = System.nanoTime();
-      LOG.info("Indexing {} notebooks took {}ms", docsIndexed,
-          TimeUnit.NANOSECONDS.toMillis(end - start));
+      LOG.info("Indexing {} notebooks, {} of them changed, {} removed, took {}ms",
+          collection.size(), docsIndexed, docsRemoved, TimeUnit.NANOSECONDS.toMillis(end - start));
+    }
+  }
+
+  @Override
+  public void retainIndexDocs(Collection<String> noteIds) {
+    try {
+      int docsRemoved = deleteOtherNotes(new HashSet<>(noteIds));
+      if (docsRemoved > 0) {
+        changed();
+        commit();
+        LOG.info("Removed {} notes no longer in the notebook from index", docsRemoved);
+      }
+    } catch (IOException e) {
+      LOG.error("Failed to remove deleted notes from index", e);
     }
   }
 
+  /**
+   * Deletes docs of indexed notes not in noteIds, but does not commit changes.
+   * @return number of notes deleted
+   */
+  private int deleteOtherNotes(Set<String> noteIds) throws IOException {
+    int removed = 0;
+    for (String noteId : indexedNotes.keySet()) {
+      if (!noteIds.contains(noteId)) {
+        writer.deleteDocuments(new WildcardQuery(new Term(ID_FIELD, noteId + "*")));
+        indexedNotes.remove(noteId);
+        removed++;
+      }
+    }
+    return removed;
+  }
+
   /* (non-Javadoc)
    * @see org.apache.zeppelin.search.Search#addIndexDoc(org.apache.zeppelin.notebook.Note)
    */
   @Override
   public void addIndexDoc(Note note) {
     try {
-      addIndexDocAsync(note);
-      writer.commit();
+      reindexNote(note, fingerprint(note));
     } catch (IOException e) {
       LOG.error("Failed to add note {} to index", note, e);
     }
   }
 
   /**
-   * Indexes the given notebook, but does not commit changes.
+   * Replaces all docs of the given notebook, but does not commit changes.
    *
    * @param note
    * @throws IOException
    */
-  private void addIndexDocAsync(Note note) throws IOException {
+  private void reindexNote(Note note, String fingerprint) throws IOException {
+    if (indexedNotes.containsKey(note.getId())) {
+      writer.deleteDocuments(new WildcardQuery(new Term(ID_FIELD, note.getId() + "*")));
+    }
     indexNoteName(writer, note.getId(), note.getName());
     for (Paragraph doc : note.getParagraphs()) {
       if (doc.getText() == null) {
@@ -334,6 +585,7 @@ public class LuceneSearch implements SearchService {
       }
       indexDoc(writer, note.getId(), note.getName(), doc);
     }
+    updateFingerprint(note.getId(), fingerprint);
   }
 
   /* (non-Javadoc)
@@ -362,7 +614,9 @@ public class LuceneSearch implements SearchService {
     LOG.debug("Deleting note {}, out of: {}", note.getId(), writer.numDocs());
     try {
       writer.deleteDocuments(new WildcardQuery(new Term(ID_FIELD, fullNoteOrJustParagraph)));
-      writer.commit();
+      // a note with a deleted paragraph is reindexed on next update
+      indexedNotes.remove(note.getId());
+      changed();
     } catch (IOException e) {
       LOG.error("Failed to delete {} from index by '{}'", note, fullNoteOrJustParagraph, e);
     }
@@ -374,8 +628,27 @@ public class LuceneSearch implements SearchService {
    */
   @Override
   public void close() {
+    ScheduledExecutorService maintenanceToStop;
+    synchronized (this) {
+      maintenanceToStop = maintenance;
+    }
+    if (maintenanceToStop != null) {
+      // not interrupted, so a running commit completes
+      maintenanceToStop.shutdown();
+      try {
+        maintenanceToStop.awaitTermination(1, TimeUnit.MINUTES);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    if (searcherManager == null) {
+      return;
+    }
     try {
+      searcherManager.close();
+      // commits pending changes
       writer.close();
+      directory.close();
     } catch (IOException e) {
       LOG.error("Failed to .close() the notebook index", e);
     }
@@ -58,6 +58,14 @@ public interface SearchService {
    */
   public void addIndexDocs(Collection<Note> collection);
 
+  /**
+   * Deletes docs of the notes not in the given ids, like notes removed while the index
+   * wasn't updated
+   *
+   * @param noteIds ids of all the notes
+   */
+  public void retainIndexDocs(Collection<String> noteIds);
+
   /**
    * Indexes the given note.
    *
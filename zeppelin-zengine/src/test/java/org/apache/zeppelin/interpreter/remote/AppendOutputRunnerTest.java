@@ -33,6 +33,9 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
@@ -142,26 +145,133 @@ public class AppendOutputRunnerTest {
     Logger.getLogger(RemoteInterpreterEventPoller.class);
 
     runner.run();
-    List<LoggingEvent> log;
 
-    int warnLogCounter;
     LoggingEvent sizeWarnLogEntry = null;
-    do {
-      warnLogCounter = 0;
-      log = appender.getLog();
-      for (LoggingEvent logEntry: log) {
-        if (Level.WARN.equals(logEntry.getLevel())) {
-          sizeWarnLogEntry = logEntry;
-          warnLogCounter += 1;
-        }
+    for (LoggingEvent logEntry: appender.getLog()) {
+      if (Level.WARN.equals(logEntry.getLevel())
+          && logEntry.getMessage().toString().startsWith("Processing size")) {
+        sizeWarnLogEntry = logEntry;
       }
-    } while(warnLogCounter != 2);
-
+    }
+    assertNotNull(sizeWarnLogEntry);
     String loggerString = "Processing size for buffered append-output is high: " +
         (data.length() * numEvents) + " characters.";
     assertTrue(loggerString.equals(sizeWarnLogEntry.getMessage()));
   }
 
+  @Test
+  public void testOutputsOfSameParagraphAreKeptApart() {
+    RemoteInterpreterProcessListener listener = mock(RemoteInterpreterProcessListener.class);
+    AppendOutputRunner runner = new AppendOutputRunner(listener);
+    runner.appendBuffer("note:1", "para", 0, "a");
+    runner.appendBuffer("note", "1:para", 0, "b");
+    runner.appendBuffer("note:1", "para", 1, "c");
+    runner.appendBuffer("note:1", "para", 0, "d");
+
+    runner.run();
+    verify(listener, times(1)).onOutputAppend("note:1", "para", 0, "ad");
+    verify(listener, times(1)).onOutputAppend("note", "1:para", 0, "b");
+    verify(listener, times(1)).onOutputAppend("note:1", "para", 1, "c");
+  }
+
+  @Test
+  public void testParagraphBudgetFlushesEarly() {
+    RemoteInterpreterProcessListener listener = mock(RemoteInterpreterProcessListener.class);
+    AppendOutputRunner runner = new AppendOutputRunner(listener, 10, 1000, 1000);
+    runner.appendBuffer("note", "para", 0, "0123456789");
+
+    long startTime = System.currentTimeMillis();
+    runner.run();
+    assertTrue(System.currentTimeMillis() - startTime < AppendOutputRunner.BUFFER_TIME_MS);
+    verify(listener, times(1)).onOutputAppend("note", "para", 0, "0123456789");
+    // flushed on budget, so the runner coalesces more from now on
+    assertTrue(runner.getFlushIntervalMs() > AppendOutputRunner.BUFFER_TIME_MS);
+  }
+
+  @Test
+  public void testFlushIntervalShortensWhenIdle() {
+    RemoteInterpreterProcessListener listener = mock(RemoteInterpreterProcessListener.class);
+    AppendOutputRunner runner = new AppendOutputRunner(listener);
+    for (int i = 0; i < 10; i++) {
+      runner.appendBuffer("note", "para", 0, "data\n");
+      runner.run();
+    }
+    assertEquals(AppendOutputRunner.MIN_BUFFER_TIME_MS, runner.getFlushIntervalMs());
+  }
+
+  @Test
+  public void testAppendBlocksWhileBufferIsFull() throws InterruptedException {
+    RemoteInterpreterProcessListener listener = mock(RemoteInterpreterProcessListener.class);
+    final AppendOutputRunner runner = new AppendOutputRunner(listener, 100, 10, 10000);
+    runner.appendBuffer("note", "para1", 0, "0123456789");
+
+    Thread appender = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        runner.appendBuffer("note", "para2", 0, "abc");
+      }
+    });
+    appender.start();
+    appender.join(200);
+    assertTrue(appender.isAlive());
+
+    runner.run();
+    appender.join(2000);
+    assertFalse(appender.isAlive());
+    runner.run();
+    verify(listener, times(1)).onOutputAppend("note", "para1", 0, "0123456789");
+    verify(listener, times(1)).onOutputAppend("note", "para2", 0, "abc");
+    assertEquals(0L, runner.getMetrics().get("droppedChars"));
+  }
+
+  @Test
+  public void testDropWhenBufferStaysFull() {
+    RemoteInterpreterProcessListener listener = mock(RemoteInterpreterProcessListener.class);
+    AppendOutputRunner runner = new AppendOutputRunner(listener, 100, 10, 50);
+    runner.appendBuffer("note", "para", 0, "01234567");
+    runner.appendBuffer("note", "para", 0, "89abcd");
+
+    runner.run();
+    verify(listener, times(1)).onOutputAppend("note", "para", 0, "0123456789");
+    assertEquals(4L, runner.getMetrics().get("droppedChars"));
+  }
+
+  @Test
+  public void testDropDoesNotSplitSurrogatePair() {
+    RemoteInterpreterProcessListener listener = mock(RemoteInterpreterProcessListener.class);
+    AppendOutputRunner runner = new AppendOutputRunner(listener, 100, 10, 50);
+    runner.appendBuffer("note", "para", 0, "01234567");
+    runner.appendBuffer("note", "para", 0, "8\uD83D\uDE00cd");
+
+    runner.run();
+    verify(listener, times(1)).onOutputAppend("note", "para", 0, "012345678");
+    assertEquals(4L, runner.getMetrics().get("droppedChars"));
+  }
+
+  @Test
+  public void testOutputHeldBackWhileConnectionsLag() {
+    RemoteInterpreterProcessListener listener = mock(RemoteInterpreterProcessListener.class,
+        withSettings().extraInterfaces(RemoteInterpreterProcessListener.OutputBacklog.class));
+    final long lagUntil = System.currentTimeMillis() + 300;
+    when(((RemoteInterpreterProcessListener.OutputBacklog) listener).getOutputBacklog("note"))
+        .thenAnswer(new Answer<Integer>() {
+          @Override
+          public Integer answer(InvocationOnMock invocation) {
+            return System.currentTimeMillis() < lagUntil ?
+                AppendOutputRunner.MAX_OUTPUT_BACKLOG + 1 : 0;
+          }
+        });
+    AppendOutputRunner runner = new AppendOutputRunner(listener);
+    runner.appendBuffer("note", "para", 0, "data");
+
+    runner.run();
+    assertTrue(System.currentTimeMillis() >= lagUntil);
+    verify(listener, times(1)).onOutputAppend("note", "para", 0, "data");
+    assertTrue((Long) runner.getMetrics().get("heldBackMs") > 0);
+    // held back, so the runner coalesces more from now on
+    assertTrue(runner.getFlushIntervalMs() > AppendOutputRunner.BUFFER_TIME_MS);
+  }
+
   private class BombardEvents implements Runnable {
 
     private final AppendOutputRunner runner;
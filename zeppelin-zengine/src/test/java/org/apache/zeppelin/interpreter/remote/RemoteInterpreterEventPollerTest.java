@@ -21,8 +21,12 @@ import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterEvent;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterService;
 import org.junit.Test;
 
-import static org.apache.zeppelin.interpreter.thrift.RemoteInterpreterEventType.NO_OP;
-import static org.junit.Assert.assertEquals;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -38,16 +42,17 @@ public class RemoteInterpreterEventPollerTest {
 		eventPoller.start();
 		eventPoller.join();
 
-		assertEquals(NO_OP, interpreterProc.getClient().getEvent().getType());
+		assertTrue(interpreterProc.getClient().getEvents(1000, 0).isEmpty());
 	}
 
 	private RemoteInterpreterProcess getMockEventsInterpreterProcess() throws Exception {
 		RemoteInterpreterEvent fakeEvent = new RemoteInterpreterEvent();
-		RemoteInterpreterEvent noMoreEvents = new RemoteInterpreterEvent(NO_OP, "");
+		List<RemoteInterpreterEvent> events = Arrays.asList(fakeEvent, fakeEvent);
+		List<RemoteInterpreterEvent> noMoreEvents = Collections.emptyList();
 		RemoteInterpreterService.Client client = mock(RemoteInterpreterService.Client.class);
 		RemoteInterpreterProcess intProc = mock(RemoteInterpreterProcess.class);
 
-		when(client.getEvent()).thenReturn(fakeEvent, fakeEvent, noMoreEvents);
+		when(client.getEvents(anyInt(), anyInt())).thenReturn(events, noMoreEvents);
 		when(intProc.getClient()).thenReturn(client);
 
 		return intProc;
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook;
+
+import org.apache.commons.lang.StringUtils;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class NoteCacheTest {
+
+  @Test
+  public void testEstimateSize() {
+    Note note = createNote(1000);
+    assertEquals(1024 + 2000, NoteCache.estimateSize(note));
+    assertEquals(0, NoteCache.estimateSize(new Note()));
+  }
+
+  @Test
+  public void testEvictionCandidatesInAccessOrder() {
+    long size = NoteCache.estimateSize(createNote(1000));
+    NoteCache cache = new NoteCache(size * 2, 100);
+    Note n1 = createNote(1000);
+    Note n2 = createNote(1000);
+    Note n3 = createNote(1000);
+
+    cache.touch(n1, 1000);
+    cache.touch(n2, 1000);
+    assertFalse(cache.isFull());
+    cache.touch(n3, 1000);
+    assertTrue(cache.isFull());
+    assertEquals(3 * size, cache.getLoadedBytes());
+
+    // n1 used again, n2 is the least recently used now
+    cache.touch(n1, 1050);
+    assertEquals(Arrays.asList(n2, n3), cache.evictionCandidates(1100));
+    assertEquals(Arrays.asList(n2, n3, n1), cache.evictionCandidates(1150));
+
+    cache.remove(n2.getId());
+    assertFalse(cache.isFull());
+    assertEquals(2, cache.getLoadedCount());
+  }
+
+  @Test
+  public void testNotesLoadedOnStartupAreIdle() {
+    NoteCache cache = new NoteCache(1, NoteCache.DEFAULT_MIN_IDLE_MS);
+    Note note = createNote(10);
+    cache.touch(note, 0);
+    assertEquals(Collections.singletonList(note),
+        cache.evictionCandidates(System.currentTimeMillis()));
+
+    cache.touch(note, System.currentTimeMillis());
+    assertTrue(cache.evictionCandidates(System.currentTimeMillis()).isEmpty());
+  }
+
+  @Test
+  public void testSizeUpdatedOnTouch() {
+    NoteCache cache = new NoteCache(Long.MAX_VALUE, 0);
+    Note note = createNote(10);
+    cache.touch(note, 1);
+    long size = cache.getLoadedBytes();
+
+    note.getLastParagraph().setText(StringUtils.repeat("a", 100));
+    cache.touch(note, 2);
+    assertEquals(size + 180, cache.getLoadedBytes());
+
+    cache.clear();
+    assertEquals(0, cache.getLoadedBytes());
+  }
+
+  private Note createNote(int textLength) {
+    Note note = new Note();
+    Paragraph p = new Paragraph(note, null, null);
+    p.setText(StringUtils.repeat("a", textLength));
+    note.addParagraph(p);
+    return note;
+  }
+}
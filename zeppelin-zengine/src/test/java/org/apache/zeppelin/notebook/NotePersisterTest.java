@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook;
+
+import org.apache.zeppelin.user.AuthenticationInfo;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class NotePersisterTest {
+  private final AuthenticationInfo subject = AuthenticationInfo.ANONYMOUS;
+
+  @Test
+  public void testSyncWritesOnCallerThread() throws IOException {
+    NotePersister persister = new NotePersister(NotePersister.Mode.SYNC);
+    SavedNote note = new SavedNote();
+    persister.persist(note, subject);
+    persister.persist(note, subject);
+
+    assertEquals(2, note.saves.size());
+    assertSame(Thread.currentThread(), note.saves.get(0));
+    assertEquals(2L, persister.getMetrics().get("writes"));
+    persister.close();
+  }
+
+  @Test
+  public void testAsyncCoalescesQueuedWrites() throws Exception {
+    NotePersister persister = new NotePersister(NotePersister.Mode.ASYNC);
+    SavedNote note = new SavedNote();
+    SavedNote other = new SavedNote();
+    // hold the writer on the first note, so the next persists are queued
+    note.block = new CountDownLatch(1);
+    persister.persist(note, subject);
+    note.saving.await(10, TimeUnit.SECONDS);
+
+    for (int i = 0; i < 10; i++) {
+      persister.persist(note, subject);
+      persister.persist(other, subject);
+    }
+    assertEquals(2, persister.getMetrics().get("queueDepth"));
+    note.block.countDown();
+    persister.close();
+
+    assertEquals(2, note.saves.size());
+    assertEquals(1, other.saves.size());
+    assertNotSame(Thread.currentThread(), note.saves.get(0));
+    assertEquals(18L, persister.getMetrics().get("coalesced"));
+    assertEquals(0, persister.getMetrics().get("queueDepth"));
+  }
+
+  @Test
+  public void testBatchWaitsForWrite() throws Exception {
+    NotePersister persister = new NotePersister(NotePersister.Mode.BATCH);
+    SavedNote note = new SavedNote();
+    persister.persist(note, subject);
+    assertEquals(1, note.saves.size());
+    assertNotSame(Thread.currentThread(), note.saves.get(0));
+
+    note.failure = new IOException("disk full");
+    try {
+      persister.persist(note, subject);
+      fail("write failure should be thrown to the caller");
+    } catch (IOException e) {
+      assertEquals("disk full", e.getMessage());
+    }
+    assertEquals(1L, persister.getMetrics().get("failures"));
+    persister.close();
+  }
+
+  @Test
+  public void testPersistLater() throws Exception {
+    NotePersister persister = new NotePersister(NotePersister.Mode.SYNC);
+    SavedNote note = new SavedNote();
+    persister.persistLater(note, subject, 60 * 1000);
+    persister.persistLater(note, subject, 60 * 1000);
+    assertEquals(0, note.saves.size());
+
+    // written now on flush
+    persister.flush(note);
+    assertEquals(1, note.saves.size());
+    persister.flush(note);
+    assertEquals(1, note.saves.size());
+
+    // an earlier delay replaces the queued one
+    persister.persistLater(note, subject, 60 * 1000);
+    persister.persistLater(note, subject, 10);
+    long start = System.currentTimeMillis();
+    while (note.saves.size() < 2 && System.currentTimeMillis() - start < 10000) {
+      Thread.sleep(10);
+    }
+    assertEquals(2, note.saves.size());
+    persister.close();
+  }
+
+  @Test
+  public void testCloseWritesQueuedNotes() throws IOException {
+    NotePersister persister = new NotePersister(NotePersister.Mode.ASYNC);
+    SavedNote delayed = new SavedNote();
+    SavedNote discarded = new SavedNote();
+    persister.persistLater(delayed, subject, 60 * 1000);
+    persister.persistLater(discarded, subject, 60 * 1000);
+    persister.discard(discarded);
+    persister.close();
+    assertEquals(1, delayed.saves.size());
+    assertEquals(0, discarded.saves.size());
+
+    // written right away once closed
+    persister.persist(delayed, subject);
+    assertEquals(2, delayed.saves.size());
+  }
+
+  /**
+   * Records the thread of each save instead of writing to a repo
+   */
+  private static class SavedNote extends Note {
+    final List<Thread> saves = new CopyOnWriteArrayList<>();
+    final CountDownLatch saving = new CountDownLatch(1);
+    volatile CountDownLatch block;
+    volatile IOException failure;
+
+    @Override
+    void save(AuthenticationInfo subject) throws IOException {
+      saving.countDown();
+      if (block != null) {
+        try {
+          block.await();
+        } catch (InterruptedException e) {
+          throw new IOException(e);
+        }
+      }
+      if (failure != null) {
+        throw failure;
+      }
+      saves.add(Thread.currentThread());
+    }
+  }
+}
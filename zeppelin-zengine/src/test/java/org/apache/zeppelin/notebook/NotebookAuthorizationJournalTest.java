@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.Sets;
+
+public class NotebookAuthorizationJournalTest {
+  private File dir;
+  private File snapshot;
+  private File journalFile;
+
+  @Before
+  public void setUp() throws IOException {
+    dir = Files.createTempDirectory("NotebookAuthorizationJournalTest").toFile();
+    snapshot = new File(dir, "notebook-authorization.json");
+    journalFile = new File(dir, "notebook-authorization.json.journal");
+  }
+
+  @After
+  public void tearDown() {
+    FileUtils.deleteQuietly(dir);
+  }
+
+  @Test
+  public void testReplayJournal() throws IOException {
+    NotebookAuthorizationJournal journal = new NotebookAuthorizationJournal(snapshot, 100);
+    assertTrue(journal.load().isEmpty());
+
+    assertFalse(journal.append("note1", permissions("user1", "user2")));
+    journal.append("note2", permissions("user1", "user3"));
+    journal.append("note1", permissions("user1", "user4"));
+    journal.append("note2", null);
+    journal.close();
+    assertFalse(snapshot.exists());
+
+    journal = new NotebookAuthorizationJournal(snapshot, 100);
+    Map<String, Map<String, Set<String>>> authInfo = journal.load();
+    assertEquals(4, journal.size());
+    assertEquals(1, authInfo.size());
+    assertEquals(Sets.newHashSet("user4"), authInfo.get("note1").get("readers"));
+    journal.close();
+  }
+
+  @Test
+  public void testCompact() throws IOException {
+    NotebookAuthorizationJournal journal = new NotebookAuthorizationJournal(snapshot, 2);
+    Map<String, Map<String, Set<String>>> authInfo = journal.load();
+    authInfo.put("note1", permissions("user1", "user2"));
+    assertFalse(journal.append("note1", authInfo.get("note1")));
+    authInfo.put("note2", permissions("user1", "user3"));
+    assertTrue(journal.append("note2", authInfo.get("note2")));
+
+    journal.compact(authInfo);
+    assertEquals(0, journal.size());
+    assertEquals(0, journalFile.length());
+    assertTrue(snapshot.exists());
+    assertFalse(new File(dir, "notebook-authorization.json.tmp").exists());
+
+    // changes after compaction go on top of the snapshot
+    journal.append("note1", null);
+    journal.close();
+    authInfo = new NotebookAuthorizationJournal(snapshot, 2).load();
+    assertEquals(1, authInfo.size());
+    assertEquals(Sets.newHashSet("user3"), authInfo.get("note2").get("readers"));
+  }
+
+  @Test
+  public void testIgnoreTruncatedEntry() throws IOException {
+    NotebookAuthorizationJournal journal = new NotebookAuthorizationJournal(snapshot, 100);
+    journal.append("note1", permissions("user1", "user2"));
+    journal.close();
+    FileUtils.writeStringToFile(journalFile, "{\"noteId\":\"note2\",\"authInfo\":{\"own", true);
+
+    journal = new NotebookAuthorizationJournal(snapshot, 100);
+    Map<String, Map<String, Set<String>>> authInfo = journal.load();
+    assertEquals(1, journal.size());
+    assertEquals(Sets.newHashSet("note1"), authInfo.keySet());
+  }
+
+  private Map<String, Set<String>> permissions(String owner, String reader) {
+    Map<String, Set<String>> permissions = new LinkedHashMap<>();
+    permissions.put("owners", Sets.newLinkedHashSet(Sets.newHashSet(owner)));
+    permissions.put("readers", Sets.newLinkedHashSet(Sets.newHashSet(reader)));
+    permissions.put("runners", Sets.<String>newLinkedHashSet());
+    permissions.put("writers", Sets.<String>newLinkedHashSet());
+    return permissions;
+  }
+}
@@ -69,7 +69,10 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.mockito.Matchers.anyCollectionOf;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 public class NotebookTest extends AbstractInterpreterTest implements JobListenerFactory {
   private static final Logger logger = LoggerFactory.getLogger(NotebookTest.class);
@@ -242,9 +245,67 @@ public class NotebookTest extends AbstractInterpreterTest implements JobListener
     Notebook notebook2 = new Notebook(
         conf, notebookRepo, schedulerFactory,
         new InterpreterFactory(interpreterSettingManager),
-        interpreterSettingManager, null, null, null, null);
+        interpreterSettingManager, null, mock(SearchService.class), null, null);
 
-    assertEquals(1, notebook2.getAllNotes().size());
+    try {
+      assertEquals(1, notebook2.getAllNotes().size());
+    } finally {
+      notebook2.close();
+      Notebook.CronJob.notebook = notebook;
+    }
+    notebook.removeNote(note.getId(), anonymous);
+  }
+
+  @Test
+  public void testUnloadIdleNotes() throws IOException, SchedulerException {
+    Note note = notebook.createNote(anonymous);
+    Paragraph p1 = note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+    p1.setText("hello world");
+    note.persist(anonymous);
+
+    // notes loaded on startup are idle, none of them fits in the cache
+    System.setProperty(ConfVars.ZEPPELIN_NOTEBOOK_CACHE_MAX_BYTES.getVarName(), "1");
+    Notebook notebook2 = null;
+    try {
+      SearchService search = mock(SearchService.class);
+      notebook2 = new Notebook(new ZeppelinConfiguration(), notebookRepo,
+          schedulerFactory, interpreterFactory, interpreterSettingManager, this,
+          search, notebookAuthorization, credentials);
+
+      // notes aren't reindexed, but docs of notes deleted meanwhile are purged
+      verify(search, never()).addIndexDocs(anyCollectionOf(Note.class));
+      verify(search).retainIndexDocs(Arrays.asList(note.getId()));
+
+      Note unloaded = notebook2.getAllNotes().get(0);
+      assertEquals(note.getId(), unloaded.getId());
+      assertFalse(unloaded.isLoaded());
+      assertEquals(0, unloaded.getParagraphs().size());
+
+      // job manager lists paragraphs of the unloaded note
+      List<Map<String, Object>> jobs = notebook2.getJobListByUnixTime(false, 0, anonymous);
+      assertEquals(1, jobs.size());
+      assertEquals(1, ((List) jobs.get(0).get("paragraphs")).size());
+
+      // persisting an unloaded note keeps its paragraphs
+      unloaded.setName("renamed");
+      unloaded.persist(anonymous);
+      Note stored = notebookRepo.get(note.getId(), anonymous);
+      assertEquals("renamed", stored.getName());
+      assertEquals(1, stored.getParagraphs().size());
+
+      // loaded back on access
+      Note loaded = notebook2.getNote(note.getId());
+      assertTrue(loaded == unloaded);
+      assertTrue(loaded.isLoaded());
+      assertEquals("hello world", loaded.getParagraph(p1.getId()).getText());
+      assertEquals(loaded, loaded.getParagraph(p1.getId()).getNote());
+    } finally {
+      System.clearProperty(ConfVars.ZEPPELIN_NOTEBOOK_CACHE_MAX_BYTES.getVarName());
+      if (notebook2 != null) {
+        notebook2.close();
+      }
+      Notebook.CronJob.notebook = notebook;
+    }
     notebook.removeNote(note.getId(), anonymous);
   }
 
@@ -328,6 +389,48 @@ public class NotebookTest extends AbstractInterpreterTest implements JobListener
     notebook.removeNote(note.getId(), anonymous);
   }
 
+  @Test
+  public void testRunAllByDependencies() throws IOException {
+    Note note = notebook.createNote(anonymous);
+    interpreterSettingManager.setInterpreterBinding("user", note.getId(), interpreterSettingManager.getInterpreterSettingIds());
+
+    Paragraph p1 = note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+    p1.setText("%mock1 p1");
+    // p2 and p3 are branches after p1, p3 fails
+    Paragraph p2 = note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+    p2.setText("%mock1 p2");
+    p2.getConfig().put("dependsOn", Arrays.asList(p1.getId()));
+    Paragraph p3 = note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+    p3.setText("%mock1 sleep forever");
+    p3.getConfig().put("dependsOn", Arrays.asList(p1.getId()));
+    // p4 is skipped as p3 failed
+    Paragraph p4 = note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+    p4.setText("%mock1 p4");
+    p4.getConfig().put("dependsOn", Arrays.asList(p3.getId()));
+    // dependencies on itself, and back on a paragraph waiting for it, are ignored
+    Paragraph p5 = note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+    p5.setText("%mock1 p5");
+    Paragraph p6 = note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+    p6.setText("%mock1 p6");
+    p5.getConfig().put("dependsOn", Arrays.asList(p5.getId(), p6.getId(), "unknown"));
+    p6.getConfig().put("dependsOn", Arrays.asList(p2.getId(), p5.getId()));
+
+    note.runAll();
+
+    assertEquals(Status.FINISHED, p1.getStatus());
+    assertEquals(Status.FINISHED, p2.getStatus());
+    assertEquals("repl1: p2", p2.getResult().message().get(0).getData());
+    assertFalse(p2.getDateStarted().before(p1.getDateFinished()));
+    assertEquals(Status.ERROR, p3.getStatus());
+    assertNull(p4.getResult());
+    assertNull(p4.getDateStarted());
+    assertEquals(Status.FINISHED, p6.getStatus());
+    assertEquals(Status.FINISHED, p5.getStatus());
+    assertFalse(p5.getDateStarted().before(p6.getDateFinished()));
+
+    notebook.removeNote(note.getId(), anonymous);
+  }
+
   @Test
   public void testSchedule() throws InterruptedException, IOException {
     // create a note and a paragraph
@@ -24,6 +24,10 @@ import java.io.File;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang.StringUtils;
@@ -45,6 +49,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.base.Joiner;
+import com.google.common.collect.Lists;
 
 public class GitNotebookRepoTest {
   private static final Logger LOG = LoggerFactory.getLogger(GitNotebookRepoTest.class);
@@ -202,6 +207,84 @@ public class GitNotebookRepoTest {
     assertThat(notebookHistoryAfter.size()).isEqualTo(initialCount + 1);
   }
   
+  @Test
+  public void checkpointUnchangedNoteTest() throws IOException {
+    notebookRepo = new GitNotebookRepo(conf);
+    Note note = notebookRepo.get(TEST_NOTE_ID, null);
+    notebookRepo.save(note, null);
+    notebookRepo.checkpoint(TEST_NOTE_ID, "first commit", null);
+    int count = notebookRepo.revisionHistory(TEST_NOTE_ID, null).size();
+
+    // .note.info is written again on save, but isn't part of the revision
+    notebookRepo.save(note, null);
+    assertThat(new File(Joiner.on(File.separator).join(notebooksDir, TEST_NOTE_ID,
+        VFSNotebookRepo.NOTE_INFO_FILE)).exists()).isTrue();
+    notebookRepo.checkpoint(TEST_NOTE_ID, "nothing changed", null);
+    assertThat(notebookRepo.revisionHistory(TEST_NOTE_ID, null).size()).isEqualTo(count);
+  }
+
+  @Test
+  public void groupCheckpointsTest() throws Exception {
+    System.setProperty(ConfVars.ZEPPELIN_NOTEBOOK_GIT_CHECKPOINT_WINDOW.getVarName(), "1000");
+    try {
+      notebookRepo = new GitNotebookRepo(conf);
+    } finally {
+      System.clearProperty(ConfVars.ZEPPELIN_NOTEBOOK_GIT_CHECKPOINT_WINDOW.getVarName());
+    }
+
+    // checkpoint both notes at the same time
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    Future<Revision> revision1 = executor.submit(checkpointTask(TEST_NOTE_ID, "note1 commit"));
+    Future<Revision> revision2 = executor.submit(checkpointTask(TEST_NOTE_ID2, "note2 commit"));
+    executor.shutdown();
+
+    // one commit, each note keeps its own message
+    assertThat(revision1.get()).isNotEqualTo(Revision.EMPTY);
+    assertThat(revision2.get().id).isEqualTo(revision1.get().id);
+    assertThat(revision1.get().message).isEqualTo("note1 commit");
+    assertThat(revision2.get().message).isEqualTo("note2 commit");
+    assertThat(Lists.newArrayList(notebookRepo.getGit().log().call()).size()).isEqualTo(1);
+
+    List<Revision> history1 = notebookRepo.revisionHistory(TEST_NOTE_ID, null);
+    assertThat(history1.size()).isEqualTo(1);
+    assertThat(history1.get(0).message).isEqualTo("note1 commit");
+    List<Revision> history2 = notebookRepo.revisionHistory(TEST_NOTE_ID2, null);
+    assertThat(history2.size()).isEqualTo(1);
+    assertThat(history2.get(0).message).isEqualTo("note2 commit");
+  }
+
+  private Callable<Revision> checkpointTask(final String noteId, final String message) {
+    return new Callable<Revision>() {
+      @Override
+      public Revision call() throws Exception {
+        return notebookRepo.checkpoint(noteId, message, null);
+      }
+    };
+  }
+
+  @Test
+  public void historyOfExternalCommitTest() throws IOException, GitAPIException {
+    notebookRepo = new GitNotebookRepo(conf);
+    notebookRepo.checkpoint(TEST_NOTE_ID, "first commit", null);
+    assertThat(notebookRepo.revisionHistory(TEST_NOTE_ID, null).size()).isEqualTo(1);
+
+    // commit made outside of the repo
+    Note note = notebookRepo.get(TEST_NOTE_ID, null);
+    note.setInterpreterFactory(mock(InterpreterFactory.class));
+    note.addNewParagraph(AuthenticationInfo.ANONYMOUS).setText("%md external");
+    notebookRepo.save(note, null);
+    Git git = notebookRepo.getGit();
+    git.add().addFilepattern(TEST_NOTE_ID).call();
+    git.commit().setMessage("external commit").call();
+
+    List<Revision> history = notebookRepo.revisionHistory(TEST_NOTE_ID, null);
+    assertThat(history.size()).isEqualTo(2);
+    assertThat(history.get(0).message).isEqualTo("external commit");
+    assertThat(notebookRepo.get(TEST_NOTE_ID, history.get(0).id, null).getParagraphs().size())
+        .isEqualTo(note.getParagraphs().size());
+    assertThat(notebookRepo.revisionHistory(TEST_NOTE_ID2, null)).isEmpty();
+  }
+
   private boolean containsNote(List<NoteInfo> notes, String noteId) {
     for (NoteInfo note: notes) {
       if (note.getId().equals(noteId)) {
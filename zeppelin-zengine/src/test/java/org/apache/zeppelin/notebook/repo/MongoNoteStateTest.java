@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook.repo;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.junit.Test;
+
+import com.mongodb.MongoClient;
+import com.mongodb.client.model.Updates;
+
+public class MongoNoteStateTest {
+  private static final String NOTE =
+      "{\"_id\":\"2A94M5J1Z\",\"id\":\"2A94M5J1Z\",\"name\":\"note\",\"config\":{},"
+      + "\"paragraphs\":[{\"id\":\"p1\",\"text\":\"%md one\"},{\"id\":\"p2\",\"text\":\"%md two\"}]}";
+
+  @Test
+  public void testNothingChanged() {
+    Document doc = Document.parse(NOTE);
+    MongoNoteState saved = MongoNoteState.of(doc);
+    assertTrue(saved.updates(doc, MongoNoteState.of(Document.parse(NOTE))).isEmpty());
+  }
+
+  @Test
+  public void testSetChangedParagraphOnly() {
+    MongoNoteState saved = MongoNoteState.of(Document.parse(NOTE));
+    Document doc = Document.parse(NOTE.replace("%md two", "%md changed"));
+    MongoNoteState state = MongoNoteState.of(doc);
+
+    BsonDocument update = render(Updates.combine(saved.updates(doc, state)));
+    assertEquals(1, update.size());
+    BsonDocument set = update.getDocument("$set");
+    assertEquals(1, set.size());
+    assertEquals("%md changed",
+        set.getDocument("paragraphs.1").getString("text").getValue());
+
+    // doesn't match when paragraph p2 has been moved since
+    BsonDocument filter = render(saved.filter("2A94M5J1Z", state));
+    assertTrue(filter.toJson().contains("paragraphs.1.id"));
+  }
+
+  @Test
+  public void testSetAllParagraphsWhenMoved() {
+    MongoNoteState saved = MongoNoteState.of(Document.parse(NOTE));
+    Document doc = Document.parse(NOTE.replace("{\"id\":\"p1\",\"text\":\"%md one\"},", "")
+        .replace("\"name\":\"note\",", ""));
+    MongoNoteState state = MongoNoteState.of(doc);
+
+    List<Bson> updates = saved.updates(doc, state);
+    BsonDocument update = render(Updates.combine(updates));
+    assertEquals(1, update.getDocument("$set").getArray("paragraphs").size());
+    assertTrue(update.getDocument("$unset").containsKey("name"));
+    BsonDocument filter = render(saved.filter("2A94M5J1Z", state));
+    assertEquals(1, filter.size());
+    assertEquals("2A94M5J1Z", filter.getString("_id").getValue());
+  }
+
+  private BsonDocument render(Bson bson) {
+    return bson.toBsonDocument(BsonDocument.class, MongoClient.getDefaultCodecRegistry());
+  }
+}
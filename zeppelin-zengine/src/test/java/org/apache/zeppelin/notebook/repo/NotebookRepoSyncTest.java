@@ -19,6 +19,7 @@ package org.apache.zeppelin.notebook.repo;
 
 import static com.google.common.truth.Truth.assertThat;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
@@ -386,6 +387,51 @@ public class NotebookRepoSyncTest implements JobListenerFactory {
     assertEquals(true, authInfo.isWriter(note.getId(), entity));
   }
 
+  @Test
+  public void testSyncCheckpoint() throws IOException {
+    Note note = notebookSync.createNote(anonymous);
+    File checkpointFile = new File(conf.getNotebookSyncCheckpointPath());
+
+    /* notes just saved aren't recorded, a save within the same second could keep the metadata */
+    notebookRepoSync.sync(anonymous);
+    assertTrue(checkpointFile.exists());
+    assertFalse(FileUtils.readFileToString(checkpointFile).contains(note.getId()));
+
+    /* recorded once settled */
+    ageNoteFiles(note.getId());
+    notebookRepoSync.sync(anonymous);
+    assertTrue(FileUtils.readFileToString(checkpointFile).contains(note.getId()));
+
+    /* changed in secondary storage only since the last sync - pulled */
+    Paragraph p1 = note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+    p1.setText("hello world");
+    notebookRepoSync.save(1, note, anonymous);
+    notebookRepoSync.sync(anonymous);
+    assertEquals(1, notebookRepoSync.get(0, note.getId(), anonymous).getParagraphs().size());
+
+    /* changed in main storage only - pushed */
+    ageNoteFiles(note.getId());
+    notebookRepoSync.sync(anonymous);
+    note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+    notebookRepoSync.save(0, note, anonymous);
+    notebookRepoSync.sync(anonymous);
+    assertEquals(2, notebookRepoSync.get(1, note.getId(), anonymous).getParagraphs().size());
+
+    /* removed notes are dropped from the checkpoint */
+    ageNoteFiles(note.getId());
+    notebookRepoSync.sync(anonymous);
+    assertTrue(FileUtils.readFileToString(checkpointFile).contains(note.getId()));
+    notebookSync.removeNote(note.getId(), anonymous);
+    notebookRepoSync.sync(anonymous);
+    assertFalse(FileUtils.readFileToString(checkpointFile).contains(note.getId()));
+  }
+
+  private void ageNoteFiles(String noteId) {
+    long lastModified = System.currentTimeMillis() - 60 * 1000;
+    new File(mainNotebookDir, noteId + "/note.json").setLastModified(lastModified);
+    new File(secNotebookDir, noteId + "/note.json").setLastModified(lastModified);
+  }
+
   static void delete(File file){
     if(file.isFile()) file.delete();
       else if(file.isDirectory()){
@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.notebook.repo;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars;
+import org.apache.zeppelin.notebook.Note;
+import org.apache.zeppelin.notebook.NoteInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup time of VFSNotebookRepo over a generated notebook dir.
+ *
+ * listByParsingNotes and loadByParsingNotesTwice are what startup did before note.info:
+ * list() parsed every note.json, then every note was parsed again to load it, one by one.
+ * list and load read .note.info and load notes with 'threads' threads, as Notebook does.
+ *
+ * Run with
+ *   mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=org.apache.zeppelin.notebook.repo.NotebookStartupBenchmark
+ * Add e.g. '-p notes=8000' to the options in main() for a larger notebook dir.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class NotebookStartupBenchmark {
+  @Param({"2000"})
+  public int notes;
+
+  @Param({"10"})
+  public int paragraphs;
+
+  // output size of each paragraph
+  @Param({"8"})
+  public int outputKb;
+
+  @Param({"1", "8"})
+  public int threads;
+
+  private File notebookDir;
+  private VFSNotebookRepo repo;
+  private ExecutorService loader;
+
+  @Setup(Level.Trial)
+  public void createNotes() throws IOException {
+    notebookDir = Files.createTempDirectory("notebook-benchmark").toFile();
+    System.setProperty(ConfVars.ZEPPELIN_NOTEBOOK_DIR.getVarName(),
+        notebookDir.getAbsolutePath());
+    System.setProperty(ConfVars.ZEPPELIN_NOTEBOOK_LOAD_THREADS.getVarName(),
+        Integer.toString(threads));
+
+    StringBuilder output = new StringBuilder();
+    while (output.length() < outputKb * 1024) {
+      output.append("row ").append(output.length()).append("\\t0.12345\\tsome text\\n");
+    }
+    for (int n = 0; n < notes; n++) {
+      String id = String.format("2BENCH%04d", n);
+      StringBuilder json = new StringBuilder();
+      json.append("{\"paragraphs\":[");
+      for (int p = 0; p < paragraphs; p++) {
+        json.append(p == 0 ? "" : ",")
+            .append("{\"id\":\"paragraph_").append(p).append("\",")
+            .append("\"text\":\"%sh echo ").append(p).append("\",")
+            .append("\"status\":\"FINISHED\",")
+            .append("\"config\":{\"enabled\":true},")
+            .append("\"settings\":{\"params\":{},\"forms\":{}},")
+            .append("\"results\":{\"code\":\"SUCCESS\",\"msg\":[{\"type\":\"TABLE\",\"data\":\"")
+            .append(output).append("\"}]}}");
+      }
+      json.append("],\"name\":\"folder").append(n % 100).append("/note ").append(n).append("\",")
+          .append("\"id\":\"").append(id).append("\",")
+          .append("\"angularObjects\":{},")
+          .append("\"config\":{\"cron\":\"0 0 * * * ?\"},\"info\":{}}");
+      File noteDir = new File(notebookDir, id);
+      noteDir.mkdirs();
+      FileUtils.writeStringToFile(new File(noteDir, "note.json"), json.toString());
+    }
+
+    repo = new VFSNotebookRepo(ZeppelinConfiguration.create());
+    // write .note.info of all notes
+    repo.list(null);
+    loader = Executors.newFixedThreadPool(threads);
+  }
+
+  @TearDown(Level.Trial)
+  public void deleteNotes() throws IOException {
+    loader.shutdown();
+    FileUtils.deleteDirectory(notebookDir);
+  }
+
+  @Benchmark
+  public int list() throws IOException {
+    return repo.list(null).size();
+  }
+
+  @Benchmark
+  public int listByParsingNotes() throws IOException {
+    int count = 0;
+    for (File noteDir : notebookDir.listFiles()) {
+      if (new NoteInfo(repo.get(noteDir.getName(), null)).getId() != null) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int load() throws Exception {
+    List<Callable<Note>> tasks = new ArrayList<>();
+    for (final NoteInfo info : repo.list(null)) {
+      tasks.add(new Callable<Note>() {
+        @Override
+        public Note call() throws Exception {
+          return repo.get(info.getId(), null);
+        }
+      });
+    }
+    int count = 0;
+    for (Future<Note> note : loader.invokeAll(tasks)) {
+      if (note.get() != null) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int loadByParsingNotesTwice() throws IOException {
+    int count = listByParsingNotes();
+    for (File noteDir : notebookDir.listFiles()) {
+      repo.get(noteDir.getName(), null);
+    }
+    return count;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+        .include(NotebookStartupBenchmark.class.getSimpleName())
+        .build();
+    new Runner(opt).run();
+  }
+}
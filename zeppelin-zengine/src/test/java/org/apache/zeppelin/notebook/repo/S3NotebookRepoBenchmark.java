@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook.repo;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars;
+import org.apache.zeppelin.notebook.Note;
+import org.apache.zeppelin.notebook.NoteInfo;
+import org.apache.zeppelin.notebook.repo.mock.InMemoryS3;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup time of S3NotebookRepo over a bucket of generated notes, served by InMemoryS3
+ * with 'latencyMs' per request.
+ *
+ * list lists the bucket and reads id, name and config of every note, load also gets every
+ * note with 'threads' threads, as Notebook does. Each invocation uses a new repo, like
+ * a restarted server: with an empty local cache when 'cache' is cold, with the cache left
+ * by the previous invocation when it is warm. threads=1 is how list() read notes before.
+ *
+ * Run with
+ *   mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=org.apache.zeppelin.notebook.repo.S3NotebookRepoBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class S3NotebookRepoBenchmark {
+  @Param({"2000"})
+  public int notes;
+
+  @Param({"10"})
+  public int paragraphs;
+
+  @Param({"5"})
+  public int latencyMs;
+
+  @Param({"1", "8"})
+  public int threads;
+
+  @Param({"cold", "warm"})
+  public String cache;
+
+  private File cacheDir;
+  private ZeppelinConfiguration conf;
+  private InMemoryS3 s3;
+  private S3NotebookRepo repo;
+  private ExecutorService loader;
+
+  @Setup(Level.Trial)
+  public void createNotes() throws IOException {
+    cacheDir = Files.createTempDirectory("s3-cache-benchmark").toFile();
+    System.setProperty(ConfVars.ZEPPELIN_NOTEBOOK_S3_CACHE_DIR.getVarName(),
+        cacheDir.getAbsolutePath());
+    System.setProperty(ConfVars.ZEPPELIN_NOTEBOOK_LOAD_THREADS.getVarName(),
+        Integer.toString(threads));
+    conf = ZeppelinConfiguration.create();
+
+    s3 = new InMemoryS3(latencyMs);
+    StringBuilder output = new StringBuilder();
+    while (output.length() < 8 * 1024) {
+      output.append("row ").append(output.length()).append("\\t0.12345\\tsome text\\n");
+    }
+    for (int n = 0; n < notes; n++) {
+      String id = String.format("2BENCH%04d", n);
+      StringBuilder json = new StringBuilder();
+      json.append("{\"paragraphs\":[");
+      for (int p = 0; p < paragraphs; p++) {
+        json.append(p == 0 ? "" : ",")
+            .append("{\"id\":\"paragraph_").append(p).append("\",")
+            .append("\"text\":\"%sh echo ").append(p).append("\",")
+            .append("\"status\":\"FINISHED\",")
+            .append("\"config\":{\"enabled\":true},")
+            .append("\"settings\":{\"params\":{},\"forms\":{}},")
+            .append("\"results\":{\"code\":\"SUCCESS\",\"msg\":[{\"type\":\"TABLE\",\"data\":\"")
+            .append(output).append("\"}]}}");
+      }
+      json.append("],\"name\":\"folder").append(n % 100).append("/note ").append(n).append("\",")
+          .append("\"id\":\"").append(id).append("\",")
+          .append("\"angularObjects\":{},")
+          .append("\"config\":{\"cron\":\"0 0 * * * ?\"},\"info\":{}}");
+      s3.put(conf.getUser() + "/notebook/" + id + "/note.json",
+          json.toString().getBytes("UTF-8"));
+    }
+    loader = Executors.newFixedThreadPool(threads);
+  }
+
+  @Setup(Level.Invocation)
+  public void restart() throws IOException {
+    if ("cold".equals(cache)) {
+      FileUtils.cleanDirectory(cacheDir);
+    }
+    repo = new S3NotebookRepo(conf, s3.client());
+  }
+
+  @TearDown(Level.Trial)
+  public void deleteCache() throws IOException {
+    loader.shutdown();
+    FileUtils.deleteDirectory(cacheDir);
+  }
+
+  @Benchmark
+  public int list() throws IOException {
+    return repo.list(null).size();
+  }
+
+  @Benchmark
+  public int load() throws Exception {
+    List<Callable<Note>> tasks = new ArrayList<>();
+    for (final NoteInfo info : repo.list(null)) {
+      tasks.add(new Callable<Note>() {
+        @Override
+        public Note call() throws Exception {
+          return repo.get(info.getId(), null);
+        }
+      });
+    }
+    int count = 0;
+    for (Future<Note> note : loader.invokeAll(tasks)) {
+      if (note.get() != null) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+        .include(S3NotebookRepoBenchmark.class.getSimpleName())
+        .build();
+    new Runner(opt).run();
+  }
+}
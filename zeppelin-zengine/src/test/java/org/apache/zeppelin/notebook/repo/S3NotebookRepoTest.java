@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook.repo;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars;
+import org.apache.zeppelin.notebook.Note;
+import org.apache.zeppelin.notebook.NoteInfo;
+import org.apache.zeppelin.notebook.repo.mock.InMemoryS3;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class S3NotebookRepoTest {
+  private File cacheDir;
+  private ZeppelinConfiguration conf;
+  private InMemoryS3 s3;
+  private S3NotebookRepo repo;
+
+  @Before
+  public void setUp() throws IOException {
+    cacheDir = Files.createTempDirectory("s3-cache").toFile();
+    System.setProperty(ConfVars.ZEPPELIN_NOTEBOOK_S3_CACHE_DIR.getVarName(),
+        cacheDir.getAbsolutePath());
+    conf = new ZeppelinConfiguration();
+    s3 = new InMemoryS3();
+    repo = new S3NotebookRepo(conf, s3.client());
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    repo.close();
+    System.clearProperty(ConfVars.ZEPPELIN_NOTEBOOK_S3_CACHE_DIR.getVarName());
+    FileUtils.deleteDirectory(cacheDir);
+  }
+
+  @Test
+  public void testSaveListAndGet() throws IOException {
+    Note note = createNote("folder/note");
+    repo.save(note, null);
+    assertTrue(s3.contains(key(note)));
+
+    List<NoteInfo> infos = repo.list(null);
+    assertEquals(1, infos.size());
+    assertEquals(note.getId(), infos.get(0).getId());
+    assertEquals("folder/note", infos.get(0).getName());
+    assertEquals("0 0 * * * ?", infos.get(0).getConfig().get("cron"));
+    assertEquals(note.toJson().getBytes("UTF-8").length, infos.get(0).getSize());
+    assertTrue(infos.get(0).getLastModified() > 0);
+
+    Note loaded = repo.get(note.getId(), null);
+    assertEquals("folder/note", loaded.getName());
+
+    repo.remove(note.getId(), null);
+    assertFalse(s3.contains(key(note)));
+    assertEquals(0, repo.list(null).size());
+  }
+
+  @Test
+  public void testListDownloadsChangedNotesOnly() throws IOException {
+    // more than one page of listing
+    List<Note> notes = new ArrayList<>();
+    for (int i = 0; i < 1500; i++) {
+      Note note = createNote("note " + i);
+      s3.put(key(note), note.toJson().getBytes("UTF-8"));
+      notes.add(note);
+    }
+    assertEquals(1500, repo.list(null).size());
+    assertEquals(1500, s3.getDownloads());
+
+    // read from the cache, even by another instance
+    repo.list(null);
+    new S3NotebookRepo(conf, s3.client()).list(null);
+    assertEquals(1500, s3.getDownloads());
+
+    // modified by another server
+    Note note = notes.get(7);
+    note.setName("modified");
+    s3.put(key(note), note.toJson().getBytes("UTF-8"));
+    assertEquals("modified", findNoteInfo(note.getId()).getName());
+    assertEquals(1501, s3.getDownloads());
+  }
+
+  @Test
+  public void testGetRevalidatesCachedNote() throws IOException {
+    Note note = createNote("cached");
+    repo.save(note, null);
+    assertTrue(new File(cacheDir, "zeppelin/user/" + note.getId() + ".json").exists());
+
+    // conditional GET, not modified
+    int requests = s3.getRequests();
+    assertEquals("cached", repo.get(note.getId(), null).getName());
+    assertEquals(requests + 1, s3.getRequests());
+    assertEquals(0, s3.getDownloads());
+
+    note.setName("modified");
+    s3.put(key(note), note.toJson().getBytes("UTF-8"));
+    assertEquals("modified", repo.get(note.getId(), null).getName());
+    assertEquals(1, s3.getDownloads());
+  }
+
+  @Test
+  public void testCacheDisabled() throws IOException {
+    System.setProperty(ConfVars.ZEPPELIN_NOTEBOOK_S3_CACHE_DIR.getVarName(), "");
+    S3NotebookRepo uncached = new S3NotebookRepo(conf, s3.client());
+
+    Note note = createNote("uncached");
+    uncached.save(note, null);
+    assertNotNull(uncached.get(note.getId(), null));
+    assertNotNull(uncached.get(note.getId(), null));
+    assertEquals(2, s3.getDownloads());
+  }
+
+  private Note createNote(String name) {
+    Note note = new Note();
+    note.setName(name);
+    Map<String, Object> config = new HashMap<>();
+    config.put("cron", "0 0 * * * ?");
+    note.setConfig(config);
+    return note;
+  }
+
+  private String key(Note note) {
+    return "user/notebook/" + note.getId() + "/note.json";
+  }
+
+  private NoteInfo findNoteInfo(String noteId) throws IOException {
+    for (NoteInfo info : repo.list(null)) {
+      if (info.getId().equals(noteId)) {
+        return info;
+      }
+    }
+    return null;
+  }
+}
@@ -18,6 +18,8 @@
 package org.apache.zeppelin.notebook.repo;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
 import java.io.File;
@@ -26,12 +28,15 @@ import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.io.FileUtils;
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars;
 
 import org.apache.zeppelin.interpreter.AbstractInterpreterTest;
+import org.apache.zeppelin.interpreter.InterpreterResult;
 
 import org.apache.zeppelin.notebook.JobListenerFactory;
 import org.apache.zeppelin.notebook.Note;
+import org.apache.zeppelin.notebook.NoteInfo;
 import org.apache.zeppelin.notebook.Notebook;
 import org.apache.zeppelin.notebook.NotebookAuthorization;
 import org.apache.zeppelin.notebook.Paragraph;
@@ -90,6 +95,102 @@ public class VFSNotebookRepoTest extends AbstractInterpreterTest implements JobL
     assertEquals(numNotes, notebookRepo.list(null).size());
   }
 
+  @Test
+  public void testListReadsNoteInfo() throws IOException {
+    Note note = notebook.createNote(AuthenticationInfo.ANONYMOUS);
+    note.setName("folder/noteInfo");
+    notebookRepo.save(note, null);
+
+    File noteDir = new File(notebookDir, note.getId());
+    File noteInfoFile = new File(noteDir, VFSNotebookRepo.NOTE_INFO_FILE);
+    assertTrue(noteInfoFile.exists());
+    assertEquals("folder/noteInfo", findNoteInfo(note.getId()).getName());
+
+    // note.json modified outside of zeppelin
+    note.setName("folder/modified");
+    FileUtils.writeStringToFile(new File(noteDir, "note.json"), note.toJson());
+    assertEquals("folder/modified", findNoteInfo(note.getId()).getName());
+
+    // .note.info is written again when it's missing
+    noteInfoFile.delete();
+    assertEquals("folder/modified", findNoteInfo(note.getId()).getName());
+    assertTrue(noteInfoFile.exists());
+
+    notebookRepo.remove(note.getId(), null);
+  }
+
+  @Test
+  public void testListWithoutParsingParagraphs() throws IOException {
+    File noteDir = new File(notebookDir, "2AAAAAAAA");
+    noteDir.mkdir();
+    // paragraphs are skipped, so they don't have to be valid paragraphs
+    FileUtils.writeStringToFile(new File(noteDir, "note.json"),
+        "{\"paragraphs\":[{\"unknown\":[1,{\"a\":null}]}],\"name\":\"header only\","
+            + "\"id\":\"2AAAAAAAA\",\"config\":{\"cron\":\"0 0 * * * ?\"},\"info\":{}}");
+
+    NoteInfo info = findNoteInfo("2AAAAAAAA");
+    assertEquals("header only", info.getName());
+    assertEquals("0 0 * * * ?", info.getConfig().get("cron"));
+    assertEquals(new File(noteDir, "note.json").length(), info.getSize());
+
+    notebookRepo.remove("2AAAAAAAA", null);
+  }
+
+  @Test
+  public void testSplitResults() throws IOException {
+    System.setProperty(ConfVars.ZEPPELIN_NOTEBOOK_STORAGE_SPLIT_RESULTS.getVarName(), "true");
+    NotebookRepo splitRepo;
+    try {
+      splitRepo = new VFSNotebookRepo(new ZeppelinConfiguration());
+    } finally {
+      System.clearProperty(ConfVars.ZEPPELIN_NOTEBOOK_STORAGE_SPLIT_RESULTS.getVarName());
+    }
+
+    Note note = notebook.createNote(AuthenticationInfo.ANONYMOUS);
+    Paragraph p1 = note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+    p1.setResult(new InterpreterResult(InterpreterResult.Code.SUCCESS, "result of p1"));
+    Paragraph p2 = note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+    p2.setResult(new InterpreterResult(InterpreterResult.Code.SUCCESS, "result of p2"));
+    splitRepo.save(note, null);
+
+    File noteDir = new File(notebookDir, note.getId());
+    File resultsDir = new File(noteDir, SplitNote.RESULTS_DIR);
+    assertEquals(2, resultsDir.list().length);
+    assertFalse(FileUtils.readFileToString(new File(noteDir, "note.json")).contains("result of"));
+    Note saved = splitRepo.get(note.getId(), null);
+    assertEquals(Note.getGson().toJson(p1.getReturn()),
+        Note.getGson().toJson(saved.getParagraph(p1.getId()).getReturn()));
+
+    // only the new result is written, the replaced one is removed
+    File p1Result = new File(resultsDir, SplitNote.split(note).getResults().keySet().iterator().next());
+    long p1LastModified = p1Result.lastModified();
+    p2.setResult(new InterpreterResult(InterpreterResult.Code.SUCCESS, "result of p2, again"));
+    splitRepo.save(note, null);
+    assertEquals(2, resultsDir.list().length);
+    assertEquals(p1LastModified, p1Result.lastModified());
+    saved = splitRepo.get(note.getId(), null);
+    assertEquals(Note.getGson().toJson(p2.getReturn()),
+        Note.getGson().toJson(saved.getParagraph(p2.getId()).getReturn()));
+
+    // back to the single file layout, and read from it
+    notebookRepo.save(note, null);
+    assertFalse(resultsDir.exists());
+    saved = splitRepo.get(note.getId(), null);
+    assertEquals(Note.getGson().toJson(p2.getReturn()),
+        Note.getGson().toJson(saved.getParagraph(p2.getId()).getReturn()));
+
+    notebookRepo.remove(note.getId(), null);
+  }
+
+  private NoteInfo findNoteInfo(String noteId) throws IOException {
+    for (NoteInfo info : notebookRepo.list(null)) {
+      if (info.getId().equals(noteId)) {
+        return info;
+      }
+    }
+    return null;
+  }
+
   @Test
   public void testSaveNotebook() throws IOException, InterruptedException {
     AuthenticationInfo anonymous = new AuthenticationInfo("anonymous");
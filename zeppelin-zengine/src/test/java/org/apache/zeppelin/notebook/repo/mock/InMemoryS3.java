@@ -0,0 +1,242 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook.repo.mock;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ListObjectsRequest;
+import com.amazonaws.services.s3.model.ObjectListing;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.google.common.hash.Hashing;
+
+/**
+ * In-memory stand-in of a single S3 bucket, for testing S3NotebookRepo without S3.
+ * client() answers listObjects, listNextBatchOfObjects, getObject (with ETag constraints),
+ * putObject and deleteObject. Every request waits 'latencyMs' to simulate a round trip.
+ */
+public class InMemoryS3 {
+  private final Map<String, StoredObject> objects = new ConcurrentSkipListMap<>();
+  private final long latencyMs;
+  private final AtomicInteger requests = new AtomicInteger();
+  private final AtomicInteger downloads = new AtomicInteger();
+
+  public InMemoryS3() {
+    this(0);
+  }
+
+  public InMemoryS3(long latencyMs) {
+    this.latencyMs = latencyMs;
+  }
+
+  public AmazonS3 client() {
+    AmazonS3 s3 = mock(AmazonS3.class);
+    when(s3.listObjects(any(ListObjectsRequest.class))).thenAnswer(new Answer<ObjectListing>() {
+      @Override
+      public ObjectListing answer(InvocationOnMock invocation) throws Throwable {
+        return list((ListObjectsRequest) invocation.getArguments()[0]);
+      }
+    });
+    when(s3.listNextBatchOfObjects(any(ObjectListing.class))).thenAnswer(
+        new Answer<ObjectListing>() {
+          @Override
+          public ObjectListing answer(InvocationOnMock invocation) throws Throwable {
+            ObjectListing previous = (ObjectListing) invocation.getArguments()[0];
+            if (!previous.isTruncated()) {
+              ObjectListing empty = new ObjectListing();
+              empty.setBucketName(previous.getBucketName());
+              empty.setPrefix(previous.getPrefix());
+              return empty;
+            }
+            return list(new ListObjectsRequest(previous.getBucketName(), previous.getPrefix(),
+                previous.getNextMarker(), null, previous.getMaxKeys()));
+          }
+        });
+    when(s3.getObject(any(GetObjectRequest.class))).thenAnswer(new Answer<S3Object>() {
+      @Override
+      public S3Object answer(InvocationOnMock invocation) throws Throwable {
+        return get((GetObjectRequest) invocation.getArguments()[0]);
+      }
+    });
+    when(s3.putObject(any(PutObjectRequest.class))).thenAnswer(new Answer<PutObjectResult>() {
+      @Override
+      public PutObjectResult answer(InvocationOnMock invocation) throws Throwable {
+        PutObjectRequest request = (PutObjectRequest) invocation.getArguments()[0];
+        byte[] data;
+        try {
+          if (request.getFile() != null) {
+            data = FileUtils.readFileToByteArray(request.getFile());
+          } else {
+            try (InputStream ins = request.getInputStream()) {
+              data = IOUtils.toByteArray(ins);
+            }
+          }
+        } catch (IOException e) {
+          throw new AmazonClientException("Unable to read object to put", e);
+        }
+        PutObjectResult result = new PutObjectResult();
+        result.setETag(put(request.getKey(), data));
+        return result;
+      }
+    });
+    doAnswer(new Answer<Void>() {
+      @Override
+      public Void answer(InvocationOnMock invocation) throws Throwable {
+        roundTrip();
+        objects.remove((String) invocation.getArguments()[1]);
+        return null;
+      }
+    }).when(s3).deleteObject(anyString(), anyString());
+    return s3;
+  }
+
+  /**
+   * Store an object, as another client would
+   * @return ETag of the object
+   */
+  public String put(String key, byte[] data) {
+    roundTrip();
+    StoredObject object = new StoredObject(data);
+    objects.put(key, object);
+    return object.etag;
+  }
+
+  public boolean contains(String key) {
+    return objects.containsKey(key);
+  }
+
+  /**
+   * Number of requests made to this bucket
+   */
+  public int getRequests() {
+    return requests.get();
+  }
+
+  /**
+   * Number of objects downloaded, not counting GETs answered by not modified
+   */
+  public int getDownloads() {
+    return downloads.get();
+  }
+
+  private ObjectListing list(ListObjectsRequest request) {
+    roundTrip();
+    String prefix = request.getPrefix() == null ? "" : request.getPrefix();
+    int maxKeys = request.getMaxKeys() == null ? 1000 : request.getMaxKeys();
+
+    ObjectListing listing = new ObjectListing();
+    listing.setBucketName(request.getBucketName());
+    listing.setPrefix(request.getPrefix());
+    listing.setMaxKeys(maxKeys);
+    for (Map.Entry<String, StoredObject> e : objects.entrySet()) {
+      String key = e.getKey();
+      if (!key.startsWith(prefix)
+          || (request.getMarker() != null && key.compareTo(request.getMarker()) <= 0)) {
+        continue;
+      }
+      if (listing.getObjectSummaries().size() == maxKeys) {
+        listing.setTruncated(true);
+        break;
+      }
+      S3ObjectSummary summary = new S3ObjectSummary();
+      summary.setBucketName(request.getBucketName());
+      summary.setKey(key);
+      summary.setETag(e.getValue().etag);
+      summary.setSize(e.getValue().data.length);
+      summary.setLastModified(e.getValue().lastModified);
+      listing.getObjectSummaries().add(summary);
+      listing.setNextMarker(key);
+    }
+    return listing;
+  }
+
+  private S3Object get(GetObjectRequest request) {
+    roundTrip();
+    StoredObject object = objects.get(request.getKey());
+    if (object == null) {
+      AmazonS3Exception e = new AmazonS3Exception("The specified key does not exist.");
+      e.setStatusCode(404);
+      e.setErrorCode("NoSuchKey");
+      throw e;
+    }
+    if (request.getNonmatchingETagConstraints().contains(object.etag)) {
+      // 304 Not Modified
+      return null;
+    }
+    downloads.incrementAndGet();
+
+    ObjectMetadata metadata = new ObjectMetadata();
+    metadata.setContentLength(object.data.length);
+    metadata.setLastModified(object.lastModified);
+    metadata.setHeader(Headers.ETAG, object.etag);
+    S3Object s3object = new S3Object();
+    s3object.setBucketName(request.getBucketName());
+    s3object.setKey(request.getKey());
+    s3object.setObjectMetadata(metadata);
+    s3object.setObjectContent(new ByteArrayInputStream(object.data));
+    return s3object;
+  }
+
+  private void roundTrip() {
+    requests.incrementAndGet();
+    if (latencyMs > 0) {
+      try {
+        Thread.sleep(latencyMs);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new AmazonClientException("Interrupted", e);
+      }
+    }
+  }
+
+  private static class StoredObject {
+    final byte[] data;
+    final String etag;
+    final Date lastModified = new Date();
+
+    StoredObject(byte[] data) {
+      this.data = data;
+      this.etag = Hashing.md5().hashBytes(data).toString();
+    }
+  }
+}
@@ -120,6 +120,25 @@ public class DistributedResourcePoolTest extends AbstractInterpreterTest {
         return remoteSet;
       }
 
+      @Override
+      public ResourceSet findResources(String name) {
+        return getAllResources().filterByName(name);
+      }
+
+      @Override
+      public ResourceSet findResources(String noteId, String paragraphId, String name) {
+        return getAllResources().filterByNoteId(noteId).filterByParagraphId(paragraphId)
+            .filterByName(name);
+      }
+
+      @Override
+      public void onResourcePut(Resource resource) {
+      }
+
+      @Override
+      public void onResourceRemove(ResourceId id) {
+      }
+
       @Override
       public Object readResource(ResourceId id) {
         if (id.getResourcePoolId().equals(pool2.id())) {
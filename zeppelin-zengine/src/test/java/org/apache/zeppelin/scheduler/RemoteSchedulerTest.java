@@ -35,17 +35,28 @@ import org.apache.zeppelin.user.AuthenticationInfo;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class RemoteSchedulerTest implements RemoteInterpreterProcessListener {
 
@@ -314,6 +325,257 @@ public class RemoteSchedulerTest implements RemoteInterpreterProcessListener {
     schedulerSvc.removeScheduler("test");
   }
 
+  @Test
+  public void testPushedStatusAndProgress() throws Exception {
+    RemoteInterpreter intp = mock(RemoteInterpreter.class);
+    // opened, so the status check would ask for the status if it wasn't pushed
+    when(intp.isOpened()).thenReturn(true);
+    when(intp.getStatus("pushedJob")).thenReturn(Status.PENDING.name());
+    RemoteScheduler scheduler = (RemoteScheduler) schedulerSvc.createOrGetScheduler(
+        new RemoteScheduler("pushed", schedulerSvc.getExecutor(), "session1", intp,
+            null, 10));
+
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch finish = new CountDownLatch(1);
+    final List<Integer> progress = new LinkedList<>();
+    Job job = new Job("pushedJob", "jobName", null, 200) {
+      @Override
+      public Object getReturn() {
+        return null;
+      }
+
+      @Override
+      public int progress() {
+        return -1;
+      }
+
+      @Override
+      public Map<String, Object> info() {
+        return null;
+      }
+
+      @Override
+      protected Object jobRun() throws Throwable {
+        started.countDown();
+        finish.await();
+        return null;
+      }
+
+      @Override
+      protected boolean jobAbort() {
+        return false;
+      }
+
+      @Override
+      public void setResult(Object results) {
+      }
+    };
+    job.setListener(new JobListener() {
+      @Override
+      public void onProgressUpdate(Job job, int p) {
+        synchronized (progress) {
+          progress.add(p);
+        }
+      }
+
+      @Override
+      public void beforeStatusChange(Job job, Status before, Status after) {
+      }
+
+      @Override
+      public void afterStatusChange(Job job, Status before, Status after) {
+      }
+    });
+    scheduler.submit(job);
+
+    assertTrue(started.await(MAX_WAIT_CYCLES * TICK_WAIT, TimeUnit.MILLISECONDS));
+    assertFalse(job.isProgressPushed());
+
+    // late status of the last run of the same job is ignored
+    scheduler.onJobStatusUpdate("pushedJob", Status.FINISHED.name(), -1);
+    assertFalse(job.isProgressPushed());
+    assertFalse(job.isTerminated());
+
+    // the interpreter process starts the job and reports its progress
+    scheduler.onJobStatusUpdate("pushedJob", Status.RUNNING.name(), -1);
+    assertEquals(Status.RUNNING, job.getStatus());
+    assertTrue(job.isProgressPushed());
+    scheduler.onJobStatusUpdate("pushedJob", null, 40);
+    synchronized (progress) {
+      assertEquals(1, progress.size());
+      assertEquals(40, (int) progress.get(0));
+    }
+
+    // the pushed progress isn't polled from the job. wait past the first status check too
+    Thread.sleep(25 * TICK_WAIT);
+    synchronized (progress) {
+      assertEquals(1, progress.size());
+    }
+
+    finish.countDown();
+    int cycles = 0;
+    while (!job.isTerminated() && cycles++ < MAX_WAIT_CYCLES) {
+      Thread.sleep(TICK_WAIT);
+    }
+    assertEquals(Status.FINISHED, job.getStatus());
+    // status was pushed, the status check didn't have to ask for it
+    verify(intp, never()).getStatus("pushedJob");
+    schedulerSvc.removeScheduler("pushed");
+  }
+
+  @Test
+  public void testFairQueueReleasesShareOfFinishedJobs() throws Exception {
+    RemoteInterpreter intp = mock(RemoteInterpreter.class);
+    when(intp.isOpened()).thenReturn(false);
+    RemoteScheduler scheduler = (RemoteScheduler) schedulerSvc.createOrGetScheduler(
+        new RemoteScheduler("fair", schedulerSvc.getExecutor(), "session1", intp, null, 10,
+            new FairJobQueue("user", FairJobQueue.parseWeights(""), 1)));
+
+    List<Job> jobs = new LinkedList<>();
+    for (int i = 0; i < 3; i++) {
+      // like Paragraph, hashCode of the job changes when the result is set
+      Job job = new Job("fairJob" + i, "jobName", null, 200) {
+        private Object result;
+
+        @Override
+        public String getUser() {
+          return "user1";
+        }
+
+        @Override
+        public Object getReturn() {
+          return result;
+        }
+
+        @Override
+        public int progress() {
+          return 0;
+        }
+
+        @Override
+        public Map<String, Object> info() {
+          return null;
+        }
+
+        @Override
+        protected Object jobRun() throws Throwable {
+          return "result of " + getId();
+        }
+
+        @Override
+        protected boolean jobAbort() {
+          return false;
+        }
+
+        @Override
+        public void setResult(Object results) {
+          this.result = results;
+        }
+
+        @Override
+        public int hashCode() {
+          return result == null ? 0 : result.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+          return o == this;
+        }
+      };
+      jobs.add(job);
+      scheduler.submit(job);
+    }
+
+    for (Job job : jobs) {
+      int cycles = 0;
+      while (!job.isTerminated() && cycles++ < MAX_WAIT_CYCLES) {
+        Thread.sleep(TICK_WAIT);
+      }
+      assertEquals(Status.FINISHED, job.getStatus());
+    }
+    assertTrue(((Map<String, Object>) scheduler.getQueue().getMetrics().get("runningPerShare"))
+        .isEmpty());
+    schedulerSvc.removeScheduler("fair");
+  }
+
+  @Test
+  public void testHangingStatusCheckDoesNotBlockOtherProcesses() throws Exception {
+    final CountDownLatch hang = new CountDownLatch(1);
+    RemoteInterpreter hanging = mock(RemoteInterpreter.class);
+    when(hanging.isOpened()).thenReturn(true);
+    when(hanging.getStatus("hangingJob")).thenAnswer(new Answer<String>() {
+      @Override
+      public String answer(InvocationOnMock invocation) throws Throwable {
+        hang.await();
+        return Status.PENDING.name();
+      }
+    });
+    RemoteInterpreter intp = mock(RemoteInterpreter.class);
+    when(intp.isOpened()).thenReturn(true);
+    when(intp.getStatus("otherJob")).thenReturn(Status.PENDING.name());
+
+    Scheduler s1 = schedulerSvc.createOrGetScheduler(
+        new RemoteScheduler("hanging", schedulerSvc.getExecutor(), "session1", hanging, null, 10));
+    Scheduler s2 = schedulerSvc.createOrGetScheduler(
+        new RemoteScheduler("other", schedulerSvc.getExecutor(), "session2", intp, null, 10));
+    CountDownLatch finish = new CountDownLatch(1);
+    Job hangingJob = blockingJob("hangingJob", finish);
+    Job otherJob = blockingJob("otherJob", finish);
+    s1.submit(hangingJob);
+    s2.submit(otherJob);
+
+    try {
+      // status of the other process is still checked, again and again
+      verify(intp, timeout(MAX_WAIT_CYCLES * TICK_WAIT).atLeast(3)).getStatus("otherJob");
+      // checks of the hanging process are skipped while one is in flight
+      verify(hanging, times(1)).getStatus("hangingJob");
+    } finally {
+      hang.countDown();
+      finish.countDown();
+    }
+    int cycles = 0;
+    while ((!hangingJob.isTerminated() || !otherJob.isTerminated())
+        && cycles++ < MAX_WAIT_CYCLES) {
+      Thread.sleep(TICK_WAIT);
+    }
+    schedulerSvc.removeScheduler("hanging");
+    schedulerSvc.removeScheduler("other");
+  }
+
+  private Job blockingJob(String id, final CountDownLatch finish) {
+    return new Job(id, "jobName", null, 200) {
+      @Override
+      public Object getReturn() {
+        return null;
+      }
+
+      @Override
+      public int progress() {
+        return 0;
+      }
+
+      @Override
+      public Map<String, Object> info() {
+        return null;
+      }
+
+      @Override
+      protected Object jobRun() throws Throwable {
+        finish.await();
+        return null;
+      }
+
+      @Override
+      protected boolean jobAbort() {
+        return false;
+      }
+
+      @Override
+      public void setResult(Object results) {
+      }
+    };
+  }
+
   @Override
   public void onOutputAppend(String noteId, String paragraphId, int index, String output) {
 
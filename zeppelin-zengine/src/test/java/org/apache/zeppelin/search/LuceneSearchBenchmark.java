@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.search;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.zeppelin.notebook.Note;
+import org.apache.zeppelin.notebook.Paragraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query latency of LuceneSearch while notes are saved concurrently.
+ *
+ * In the searchWhileSaving group one thread queries while two threads save notes,
+ * each save changing the text of a paragraph and updating the index of its note as
+ * Note.persist() does. Compare its query score with the query-only searchIdle group.
+ * saveUnchanged updates the index of a note saved without a change to its text,
+ * e.g. after a paragraph run.
+ *
+ * Run with
+ *   mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=org.apache.zeppelin.search.LuceneSearchBenchmark
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class LuceneSearchBenchmark {
+  private static final String[] WORDS = {"select", "count", "from", "table", "where", "group",
+      "order", "spark", "read", "parquet", "filter", "join", "plot", "show", "limit", "sum"};
+
+  @Param({"memory", "disk"})
+  public String index;
+
+  @Param({"1000"})
+  public int notes;
+
+  @Param({"10"})
+  public int paragraphs;
+
+  private File indexDir;
+  private LuceneSearch search;
+  private List<Note> noteList;
+
+  @Setup(Level.Trial)
+  public void createIndex() throws IOException {
+    if ("disk".equals(index)) {
+      indexDir = Files.createTempDirectory("LuceneSearchBenchmark").toFile();
+      search = new LuceneSearch(new MMapDirectory(indexDir.toPath()));
+    } else {
+      search = new LuceneSearch();
+    }
+    noteList = new ArrayList<>();
+    for (int n = 0; n < notes; n++) {
+      Note note = new Note();
+      note.setName("note " + n + " " + randomText(2));
+      for (int p = 0; p < paragraphs; p++) {
+        Paragraph paragraph = new Paragraph(note, note, null);
+        paragraph.setText(randomText(20));
+        note.addParagraph(paragraph);
+      }
+      noteList.add(note);
+    }
+    search.addIndexDocs(noteList);
+  }
+
+  @TearDown(Level.Trial)
+  public void closeIndex() throws IOException {
+    search.close();
+    if (indexDir != null) {
+      FileUtils.deleteDirectory(indexDir);
+    }
+  }
+
+  private static String randomText(int words) {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < words; i++) {
+      sb.append(WORDS[ThreadLocalRandom.current().nextInt(WORDS.length)]).append(' ');
+    }
+    return sb.toString();
+  }
+
+  private Note randomNote() {
+    return noteList.get(ThreadLocalRandom.current().nextInt(noteList.size()));
+  }
+
+  private List<Map<String, String>> randomQuery() {
+    return search.query(WORDS[ThreadLocalRandom.current().nextInt(WORDS.length)] + " "
+        + WORDS[ThreadLocalRandom.current().nextInt(WORDS.length)]);
+  }
+
+  @Benchmark
+  @Group("searchIdle")
+  public List<Map<String, String>> queryIdle() {
+    return randomQuery();
+  }
+
+  @Benchmark
+  @Group("searchWhileSaving")
+  @GroupThreads(1)
+  public List<Map<String, String>> queryWhileSaving() {
+    return randomQuery();
+  }
+
+  @Benchmark
+  @Group("searchWhileSaving")
+  @GroupThreads(2)
+  public void save() throws IOException {
+    Note note = randomNote();
+    List<Paragraph> noteParagraphs = note.getParagraphs();
+    noteParagraphs.get(ThreadLocalRandom.current().nextInt(noteParagraphs.size()))
+        .setText(randomText(20));
+    search.updateIndexDoc(note);
+  }
+
+  @Benchmark
+  @Group("saveUnchanged")
+  public void saveUnchanged() throws IOException {
+    search.updateIndexDoc(randomNote());
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+        .include(LuceneSearchBenchmark.class.getSimpleName())
+        .build();
+    new Runner(opt).run();
+  }
+}
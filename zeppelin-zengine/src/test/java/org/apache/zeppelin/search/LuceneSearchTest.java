@@ -20,11 +20,16 @@ import static com.google.common.truth.Truth.assertThat;
 import static org.mockito.Mockito.*;
 import static org.apache.zeppelin.search.LuceneSearch.formatId;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.commons.io.FileUtils;
+import org.apache.lucene.store.MMapDirectory;
 import org.apache.zeppelin.interpreter.InterpreterFactory;
 import org.apache.zeppelin.interpreter.InterpreterSettingManager;
 import org.apache.zeppelin.notebook.Note;
@@ -241,6 +246,48 @@ public class LuceneSearchTest {
     assertThat(resultForQuery("NotebookN").size()).isEqualTo(1);
   }
 
+  @Test public void indexKeptOnDisk() throws IOException {
+    File indexDir = Files.createTempDirectory("LuceneSearchTest").toFile();
+    try {
+      //given: notes indexed on disk
+      LuceneSearch onDisk = new LuceneSearch(new MMapDirectory(indexDir.toPath()));
+      Note note1 = newNoteWithParagraph("Notebook1", "test");
+      Note note2 = newNoteWithParagraphs("Notebook2", "not test", "not test at all");
+      onDisk.addIndexDocs(Arrays.asList(note1, note2));
+      onDisk.close();
+
+      //when: opened again
+      onDisk = new LuceneSearch(new MMapDirectory(indexDir.toPath()));
+
+      //then: searchable before indexing
+      assertThat(onDisk.query("all").size()).isEqualTo(1);
+
+      //when: reconciled with note1 changed and note2 removed
+      note1.getLastParagraph().setText("changed while stopped");
+      onDisk.addIndexDocs(Arrays.asList(note1));
+
+      //then
+      assertThat(onDisk.query("all")).isEmpty();
+      assertThat(onDisk.query("Notebook2")).isEmpty();
+      assertThat(onDisk.query("stopped").size()).isEqualTo(1);
+      assertThat(onDisk.query("test")).isEmpty();
+      onDisk.close();
+    } finally {
+      FileUtils.deleteDirectory(indexDir);
+    }
+  }
+
+  @Test public void fingerprintOfIndexedContent() {
+    Note note = newNoteWithParagraph("Notebook1", "test");
+    String fingerprint = LuceneSearch.fingerprint(note);
+
+    note.getLastParagraph().setConfig(new HashMap<String, Object>());
+    assertThat(LuceneSearch.fingerprint(note)).isEqualTo(fingerprint);
+
+    note.getLastParagraph().setText("test2");
+    assertThat(LuceneSearch.fingerprint(note)).isNotEqualTo(fingerprint);
+  }
+
   private List<Map<String, String>> resultForQuery(String q) {
     return noteSearchService.query(q);
   }